@@ -31,11 +31,13 @@ import org.eclipse.core.databinding.property.value.SimpleValueProperty;
  */
 public class BeanValueProperty<S, T> extends SimpleValueProperty<S, T> {
 	private final PropertyDescriptor propertyDescriptor;
+	private final PropertyAccessor accessor;
 	private final Class<T> valueType;
 
 	@SuppressWarnings("unchecked")
 	public BeanValueProperty(PropertyDescriptor propertyDescriptor, Class<T> valueType) {
 		this.propertyDescriptor = propertyDescriptor;
+		this.accessor = new PropertyAccessor(propertyDescriptor);
 		this.valueType = valueType == null ? (Class<T>) propertyDescriptor.getPropertyType() : valueType;
 	}
 
@@ -47,12 +49,12 @@ public class BeanValueProperty<S, T> extends SimpleValueProperty<S, T> {
 	@SuppressWarnings("unchecked")
 	@Override
 	protected T doGetValue(S source) {
-		return (T) BeanPropertyHelper.readProperty(source, propertyDescriptor);
+		return (T) accessor.read(source);
 	}
 
 	@Override
 	protected void doSetValue(S source, T value) {
-		BeanPropertyHelper.writeProperty(source, propertyDescriptor, value);
+		accessor.write(source, value);
 	}
 
 	@Override
@@ -35,11 +35,13 @@ import org.eclipse.core.databinding.property.list.SimpleListProperty;
  */
 public class PojoListProperty<S, E> extends SimpleListProperty<S, E> {
 	private final PropertyDescriptor propertyDescriptor;
+	private final PropertyAccessor accessor;
 	private final Class<E> elementType;
 
 	@SuppressWarnings("unchecked")
 	public PojoListProperty(PropertyDescriptor propertyDescriptor, Class<E> elementType) {
 		this.propertyDescriptor = propertyDescriptor;
+		this.accessor = new PropertyAccessor(propertyDescriptor);
 		this.elementType = elementType == null
 				? (Class<E>) BeanPropertyHelper.getCollectionPropertyElementType(propertyDescriptor)
 				: elementType;
@@ -52,7 +54,7 @@ public class PojoListProperty<S, E> extends SimpleListProperty<S, E> {
 
 	@Override
 	protected List<E> doGetList(S source) {
-		return asList(BeanPropertyHelper.readProperty(source, propertyDescriptor));
+		return asList(accessor.read(source));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -71,7 +73,7 @@ public class PojoListProperty<S, E> extends SimpleListProperty<S, E> {
 
 	@Override
 	protected void doSetList(S source, List<E> list) {
-		BeanPropertyHelper.writeProperty(source, propertyDescriptor, convertListToBeanPropertyType(list));
+		accessor.write(source, convertListToBeanPropertyType(list));
 	}
 
 	private Object convertListToBeanPropertyType(List<E> list) {
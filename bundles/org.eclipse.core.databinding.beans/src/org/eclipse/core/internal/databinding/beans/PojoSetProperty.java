@@ -35,11 +35,13 @@ import org.eclipse.core.databinding.property.set.SimpleSetProperty;
  */
 public class PojoSetProperty<S, E> extends SimpleSetProperty<S, E> {
 	private final PropertyDescriptor propertyDescriptor;
+	private final PropertyAccessor accessor;
 	private final Class<E> elementType;
 
 	@SuppressWarnings("unchecked")
 	public PojoSetProperty(PropertyDescriptor propertyDescriptor, Class<E> elementType) {
 		this.propertyDescriptor = propertyDescriptor;
+		this.accessor = new PropertyAccessor(propertyDescriptor);
 		this.elementType = elementType == null
 				? (Class<E>) BeanPropertyHelper.getCollectionPropertyElementType(propertyDescriptor)
 				: elementType;
@@ -52,7 +54,7 @@ public class PojoSetProperty<S, E> extends SimpleSetProperty<S, E> {
 
 	@Override
 	protected Set<E> doGetSet(S source) {
-		return asSet(BeanPropertyHelper.readProperty(source, propertyDescriptor));
+		return asSet(accessor.read(source));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -71,7 +73,7 @@ public class PojoSetProperty<S, E> extends SimpleSetProperty<S, E> {
 
 	@Override
 	protected void doSetSet(S source, Set<E> set) {
-		BeanPropertyHelper.writeProperty(source, propertyDescriptor, convertSetToBeanPropertyType(set));
+		accessor.write(source, convertSetToBeanPropertyType(set));
 	}
 
 	private Object convertSetToBeanPropertyType(Set<E> set) {
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.beans;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and writes a bean property through method handles instead of
+ * reflective method invocations.
+ * <p>
+ * The handles of the read and write methods are resolved on first access and
+ * shared by all accessors of the same method. Accesses which the handles
+ * cannot perform with the semantics of {@link Method#invoke}, such as a value
+ * of a different type than the parameter of the write method, are delegated
+ * to {@link BeanPropertyHelper}, which also reports missing or inaccessible
+ * methods.
+ * </p>
+ */
+public final class PropertyAccessor {
+
+	private static final MethodType READ_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final MethodType WRITE_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * The handles of the accessor methods declared by a class.
+	 */
+	private static final ClassValue<Map<Method, MethodHandle>> HANDLES = new ClassValue<>() {
+		@Override
+		protected Map<Method, MethodHandle> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * A resolved accessor method. Immutable, so it may be published without
+	 * synchronization.
+	 */
+	private static final class Handle {
+		static final Handle UNRESOLVED = new Handle(null, null, null, false);
+
+		final MethodHandle handle;
+		final Class<?> declaringClass;
+		/** The boxed parameter type of a write method. */
+		final Class<?> valueType;
+		final boolean primitive;
+
+		Handle(MethodHandle handle, Class<?> declaringClass, Class<?> valueType, boolean primitive) {
+			this.handle = handle;
+			this.declaringClass = declaringClass;
+			this.valueType = valueType;
+			this.primitive = primitive;
+		}
+	}
+
+	private final PropertyDescriptor propertyDescriptor;
+
+	private Handle reader;
+
+	private Handle writer;
+
+	/**
+	 * @param propertyDescriptor
+	 *            the property to access
+	 */
+	public PropertyAccessor(PropertyDescriptor propertyDescriptor) {
+		this.propertyDescriptor = propertyDescriptor;
+	}
+
+	/**
+	 * Returns the contents of the property for the given bean.
+	 *
+	 * @param source
+	 *            the source bean
+	 * @return the contents of the property
+	 * @see BeanPropertyHelper#readProperty(Object, PropertyDescriptor)
+	 */
+	public Object read(Object source) {
+		Handle read = reader;
+		if (read == null) {
+			reader = read = resolve(propertyDescriptor.getReadMethod(), READ_TYPE);
+		}
+		if (read.handle == null || !read.declaringClass.isInstance(source)) {
+			return BeanPropertyHelper.readProperty(source, propertyDescriptor);
+		}
+		try {
+			return read.handle.invokeExact(source);
+		} catch (Throwable e) {
+			// thrown by the read method
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Sets the contents of the property on the given bean.
+	 *
+	 * @param source
+	 *            the source bean
+	 * @param value
+	 *            the new value of the property
+	 * @see BeanPropertyHelper#writeProperty(Object, PropertyDescriptor,
+	 *      Object)
+	 */
+	public void write(Object source, Object value) {
+		Handle write = writer;
+		if (write == null) {
+			writer = write = resolve(propertyDescriptor.getWriteMethod(), WRITE_TYPE);
+		}
+		if (write.handle == null || !write.declaringClass.isInstance(source)
+				|| (value == null ? write.primitive : !write.valueType.isInstance(value))) {
+			BeanPropertyHelper.writeProperty(source, propertyDescriptor, value);
+			return;
+		}
+		try {
+			write.handle.invokeExact(source, value);
+		} catch (Throwable e) {
+			// thrown by the write method
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static Handle resolve(Method method, MethodType type) {
+		if (method == null || method.getParameterCount() != type.parameterCount() - 1) {
+			return Handle.UNRESOLVED;
+		}
+		Map<Method, MethodHandle> handles = HANDLES.get(method.getDeclaringClass());
+		MethodHandle handle = handles.get(method);
+		if (handle == null) {
+			try {
+				BeanPropertyHelper.setAccessible(method);
+				handle = MethodHandles.lookup().unreflect(method).asType(type);
+			} catch (IllegalAccessException | RuntimeException e) {
+				return Handle.UNRESOLVED;
+			}
+			handles.put(method, handle);
+		}
+		if (method.getParameterCount() == 0) {
+			return new Handle(handle, method.getDeclaringClass(), null, false);
+		}
+		Class<?> parameterType = method.getParameterTypes()[0];
+		return new Handle(handle, method.getDeclaringClass(), MethodType.methodType(parameterType).wrap().returnType(),
+				parameterType.isPrimitive());
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A {@link Realm} whose runnables are run one after the other by a dedicated
+ * background thread. Observables in such a realm, for example expensive
+ * computed values or lists, are updated off the UI thread. Use
+ * {@link Observables#bridgeObservableValue(Realm, org.eclipse.core.databinding.observable.value.IObservableValue)}
+ * or
+ * {@link Observables#bridgeObservableList(Realm, org.eclipse.core.databinding.observable.list.IObservableList)}
+ * to observe their results from the UI realm.
+ * <p>
+ * The thread is started when the first runnable is executed. This realm is the
+ * default realm while runnables are run, so observables created by them
+ * without an explicit realm belong to this realm. The thread is not kept alive
+ * for a disposed realm; runnables executed after {@link #dispose()} are
+ * dropped.
+ * </p>
+ *
+ * @since 1.14
+ */
+public class BackgroundRealm extends Realm {
+
+	private final ExecutorService executor;
+
+	private volatile Thread thread;
+
+	/**
+	 * Creates a realm which runs its runnables in a daemon thread of the given
+	 * name.
+	 *
+	 * @param name
+	 *            the name of the thread
+	 */
+	public BackgroundRealm(String name) {
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread newThread = new Thread(() -> runWithDefault(this, runnable), name);
+			newThread.setDaemon(true);
+			thread = newThread;
+			return newThread;
+		});
+	}
+
+	@Override
+	public boolean isCurrent() {
+		return Thread.currentThread() == thread;
+	}
+
+	@Override
+	public void asyncExec(Runnable runnable) {
+		try {
+			executor.execute(() -> safeRun(runnable));
+		} catch (RejectedExecutionException e) {
+			// the realm has been disposed
+		}
+	}
+
+	@Override
+	protected void syncExec(Runnable runnable) {
+		Future<?> future;
+		try {
+			future = executor.submit(() -> safeRun(runnable));
+		} catch (RejectedExecutionException e) {
+			// the realm has been disposed
+			return;
+		}
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// not thrown, safeRun handles all exceptions
+		}
+	}
+
+	/**
+	 * Stops the thread of this realm once the runnables which have already
+	 * been queued have been run.
+	 */
+	public void dispose() {
+		executor.shutdown();
+	}
+}
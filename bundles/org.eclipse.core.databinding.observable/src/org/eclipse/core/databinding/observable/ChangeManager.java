@@ -18,17 +18,24 @@
 package org.eclipse.core.databinding.observable;
 
 import org.eclipse.core.runtime.Assert;
-import org.eclipse.core.runtime.ListenerList;
 
 /**
  * Listener management implementation. Exposed to subclasses in form of
  * {@link AbstractObservable} and {@link ChangeSupport}.
+ * <p>
+ * The listeners of each type are kept in an array which is replaced rather
+ * than modified when listeners are added or removed. Firing an event thus
+ * iterates over a snapshot of the listeners without allocating, and listeners
+ * may be added or removed while an event is being dispatched.
+ * </p>
  *
  * @since 1.0
  */
 /* package */class ChangeManager {
 
-	ListenerList<IObservablesListener>[] listenerLists = null;
+	private static final IObservablesListener[] NO_LISTENERS = new IObservablesListener[0];
+
+	IObservablesListener[][] listenerLists = null;
 	Object listenerTypes[] = null;
 	private final Realm realm;
 
@@ -44,29 +51,38 @@ import org.eclipse.core.runtime.ListenerList;
 	 * @param listenerType arbitrary object to identify a type of the listener
 	 * @param listener     the listener to add; not <code>null</code>
 	 */
-	@SuppressWarnings("unchecked")
 	protected void addListener(Object listenerType,
 			IObservablesListener listener) {
+		Assert.isNotNull(listener);
 		int listenerTypeIndex = findListenerTypeIndex(listenerType);
 		if (listenerTypeIndex == -1) {
 			int length;
 			if (listenerTypes == null) {
 				length = 0;
 				listenerTypes = new Object[1];
-				listenerLists = new ListenerList[1];
+				listenerLists = new IObservablesListener[1][];
 			} else {
 				length = listenerTypes.length;
 				System.arraycopy(listenerTypes, 0,
 						listenerTypes = new Object[length + 1], 0, length);
 				System.arraycopy(listenerLists, 0,
-						listenerLists = new ListenerList[length + 1], 0, length);
+						listenerLists = new IObservablesListener[length + 1][], 0, length);
 			}
 			listenerTypes[length] = listenerType;
-			listenerLists[length] = new ListenerList<>();
+			listenerLists[length] = NO_LISTENERS;
 			listenerTypeIndex = length;
 		}
+		IObservablesListener[] listeners = listenerLists[listenerTypeIndex];
+		for (IObservablesListener existing : listeners) {
+			if (existing.equals(listener)) {
+				return;
+			}
+		}
 		boolean hadListeners = hasListeners();
-		listenerLists[listenerTypeIndex].add(listener);
+		IObservablesListener[] newListeners = new IObservablesListener[listeners.length + 1];
+		System.arraycopy(listeners, 0, newListeners, 0, listeners.length);
+		newListeners[listeners.length] = listener;
+		listenerLists[listenerTypeIndex] = newListeners;
 		if (!hadListeners && hasListeners()) {
 			firstListenerAdded();
 		}
@@ -78,13 +94,25 @@ import org.eclipse.core.runtime.ListenerList;
 	 */
 	protected void removeListener(Object listenerType,
 			IObservablesListener listener) {
+		Assert.isNotNull(listener);
 		int listenerTypeIndex = findListenerTypeIndex(listenerType);
 		if (listenerTypeIndex != -1) {
-			boolean hadListeners = hasListeners();
-			listenerLists[listenerTypeIndex].remove(listener);
-			if (listenerLists[listenerTypeIndex].isEmpty()) {
-				if (hadListeners && !hasListeners()) {
-					this.lastListenerRemoved();
+			IObservablesListener[] listeners = listenerLists[listenerTypeIndex];
+			for (int i = 0; i < listeners.length; i++) {
+				if (listeners[i].equals(listener)) {
+					boolean hadListeners = hasListeners();
+					if (listeners.length == 1) {
+						listenerLists[listenerTypeIndex] = NO_LISTENERS;
+					} else {
+						IObservablesListener[] newListeners = new IObservablesListener[listeners.length - 1];
+						System.arraycopy(listeners, 0, newListeners, 0, i);
+						System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+						listenerLists[listenerTypeIndex] = newListeners;
+					}
+					if (listeners.length == 1 && hadListeners && !hasListeners()) {
+						this.lastListenerRemoved();
+					}
+					return;
 				}
 			}
 		}
@@ -94,11 +122,24 @@ import org.eclipse.core.runtime.ListenerList;
 		if (listenerTypes != null)
 			for (int i = 0; i < listenerTypes.length; i++)
 				if (listenerTypes[i] != DisposeEvent.TYPE)
-					if (listenerLists[i].size() > 0)
+					if (listenerLists[i].length > 0)
 						return true;
 		return false;
 	}
 
+	/**
+	 * Returns whether there are listeners of the given type. Events of a type
+	 * without listeners, and the diffs they would carry, need not be created.
+	 *
+	 * @param listenerType arbitrary object to identify a type of the listener
+	 * @return <code>true</code> if listeners of the given type have been added
+	 * @since 1.14
+	 */
+	protected boolean hasListeners(Object listenerType) {
+		int listenerTypeIndex = findListenerTypeIndex(listenerType);
+		return listenerTypeIndex != -1 && listenerLists[listenerTypeIndex].length > 0;
+	}
+
 	private int findListenerTypeIndex(Object listenerType) {
 		if (listenerTypes != null) {
 			for (int i = 0; i < listenerTypes.length; i++) {
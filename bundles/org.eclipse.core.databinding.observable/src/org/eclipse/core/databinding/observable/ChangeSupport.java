@@ -44,6 +44,14 @@ public abstract class ChangeSupport extends ChangeManager {
 		super.fireEvent(event);
 	}
 
+	/**
+	 * @since 1.14
+	 */
+	@Override
+	public boolean hasListeners(Object listenerType) {
+		return super.hasListeners(listenerType);
+	}
+
 	@Override
 	protected abstract void firstListenerAdded();
 
@@ -18,6 +18,7 @@
 package org.eclipse.core.databinding.observable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -37,6 +38,22 @@ import org.eclipse.core.databinding.observable.value.ValueDiff;
  * @since 1.0
  */
 public class Diffs {
+	/**
+	 * The maximum product of the sizes of the differing ranges of two lists for
+	 * which {@link #computeListDiff(List, List)} searches for moved elements.
+	 * Larger differences are computed by {@link #createLargeListDiffs}.
+	 */
+	private static final int SMALL_DIFF_LIMIT = 10000;
+
+	/**
+	 * Bounds the element comparisons of {@link #bisect}: the number of steps
+	 * it searches in each direction is limited to this value divided by the
+	 * total size of the compared lists. Ranges whose common elements are not
+	 * found within these steps, which only happens for lists with many
+	 * duplicates, are replaced as a whole.
+	 */
+	private static final int BISECT_WORK_LIMIT = 10_000_000;
+
 	private static final class UnmodifiableListDiff<E> extends ListDiff<E> {
 		private ListDiff<? extends E> toWrap;
 
@@ -215,6 +232,12 @@ public class Diffs {
 	/**
 	 * Returns a {@link ListDiff} describing the change between the specified
 	 * old and new list states.
+	 * <p>
+	 * Elements moved within small lists are reported as a removal immediately
+	 * followed by an addition of the element. Larger differences are reported
+	 * as removals and additions only, which are computed in O(n log n) time
+	 * for lists without duplicate elements.
+	 * </p>
 	 *
 	 * @param <E>
 	 *            the list element type
@@ -228,7 +251,34 @@ public class Diffs {
 	 */
 	public static <E> ListDiff<E> computeListDiff(List<? extends E> oldList, List<? extends E> newList) {
 		List<ListDiffEntry<E>> diffEntries = new ArrayList<>();
-		createListDiffs(new ArrayList<>(oldList), newList, diffEntries);
+		Object[] oldElements = oldList.toArray();
+		Object[] newElements = newList.toArray();
+		int oldSize = oldElements.length;
+		int newSize = newElements.length;
+
+		// skip the common prefix and suffix, Objects.equals checks identity
+		// first
+		int prefix = 0;
+		while (prefix < oldSize && prefix < newSize && Objects.equals(oldElements[prefix], newElements[prefix])) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < oldSize - prefix && suffix < newSize - prefix
+				&& Objects.equals(oldElements[oldSize - 1 - suffix], newElements[newSize - 1 - suffix])) {
+			suffix++;
+		}
+
+		Object[] oldRange = Arrays.copyOfRange(oldElements, prefix, oldSize - suffix);
+		Object[] newRange = Arrays.copyOfRange(newElements, prefix, newSize - suffix);
+		if ((long) oldRange.length * newRange.length <= SMALL_DIFF_LIMIT) {
+			@SuppressWarnings("unchecked")
+			List<E> oldRangeList = (List<E>) new ArrayList<>(Arrays.asList(oldRange));
+			@SuppressWarnings("unchecked")
+			List<E> newRangeList = (List<E>) Arrays.asList(newRange);
+			createListDiffs(oldRangeList, newRangeList, prefix, diffEntries);
+		} else {
+			createLargeListDiffs(oldRange, newRange, prefix, diffEntries);
+		}
 		return createListDiff(diffEntries);
 	}
 
@@ -264,14 +314,17 @@ public class Diffs {
 
 	/**
 	 * adapted from EMF's ListDifferenceAnalyzer
+	 *
+	 * @param offset
+	 *            the position of the given lists in the lists being compared
 	 */
-	private static <E> void createListDiffs(List<E> oldList, List<? extends E> newList,
+	private static <E> void createListDiffs(List<E> oldList, List<? extends E> newList, int offset,
 			List<ListDiffEntry<E>> listDiffs) {
 		int index = 0;
 		for (E newValue : newList) {
 			if (oldList.size() <= index) {
 				// append newValue to newList
-				listDiffs.add(createListDiffEntry(index, true, newValue));
+				listDiffs.add(createListDiffEntry(offset + index, true, newValue));
 			} else {
 				boolean done;
 				do {
@@ -286,7 +339,7 @@ public class Diffs {
 									oldValue, index);
 							if (newIndexOfOldValue == -1) {
 								// removing oldValue from list[index]
-								listDiffs.add(createListDiffEntry(index, false,
+								listDiffs.add(createListDiffEntry(offset + index, false,
 										oldValue));
 								oldList.remove(index);
 								done = false;
@@ -303,27 +356,27 @@ public class Diffs {
 									// correct spot.
 									newIndexOfOldValue = oldList.size() - 1;
 								}
-								listDiffs.add(createListDiffEntry(index, false,
+								listDiffs.add(createListDiffEntry(offset + index, false,
 										oldValue));
 								oldList.remove(index);
 								listDiffs.add(createListDiffEntry(
-										newIndexOfOldValue, true, oldValue));
+										offset + newIndexOfOldValue, true, oldValue));
 								oldList.add(newIndexOfOldValue, oldValue);
 								done = false;
 							} else {
 								// move newValue from list[oldIndexOfNewValue]
 								// to [index]
 								listDiffs.add(createListDiffEntry(
-										oldIndexOfNewValue, false, newValue));
+										offset + oldIndexOfNewValue, false, newValue));
 								oldList.remove(oldIndexOfNewValue);
-								listDiffs.add(createListDiffEntry(index, true,
+								listDiffs.add(createListDiffEntry(offset + index, true,
 										newValue));
 								oldList.add(index, newValue);
 							}
 						} else {
 							// add newValue at list[index]
 							oldList.add(index, newValue);
-							listDiffs.add(createListDiffEntry(index, true,
+							listDiffs.add(createListDiffEntry(offset + index, true,
 									newValue));
 						}
 					}
@@ -333,8 +386,252 @@ public class Diffs {
 		}
 		for (int i = oldList.size(); i > index;) {
 			// remove excess trailing elements not present in newList
-			listDiffs.add(createListDiffEntry(--i, false, oldList.get(i)));
+			listDiffs.add(createListDiffEntry(offset + --i, false, oldList.get(i)));
+		}
+	}
+
+	/**
+	 * Computes the removals and additions transforming the old elements into
+	 * the new ones, keeping the common subsequence found by
+	 * {@link #markCommonElements}.
+	 *
+	 * @param offset
+	 *            the position of the given elements in the lists being compared
+	 */
+	@SuppressWarnings("unchecked")
+	private static <E> void createLargeListDiffs(Object[] oldElements, Object[] newElements, int offset,
+			List<ListDiffEntry<E>> listDiffs) {
+		boolean[] oldKept = new boolean[oldElements.length];
+		boolean[] newKept = new boolean[newElements.length];
+		// bisect costs O((n + m) * d) for an edit distance of 2 * d
+		int maxEditDistance = Math.max(1, BISECT_WORK_LIMIT / (oldElements.length + newElements.length));
+		markCommonElements(oldElements, 0, oldElements.length, oldKept, newElements, 0, newElements.length, newKept,
+				maxEditDistance);
+
+		int oldIndex = 0;
+		int newIndex = 0;
+		int position = offset;
+		while (oldIndex < oldElements.length || newIndex < newElements.length) {
+			if (oldIndex < oldElements.length && !oldKept[oldIndex]) {
+				listDiffs.add(createListDiffEntry(position, false, (E) oldElements[oldIndex++]));
+			} else if (newIndex < newElements.length && !newKept[newIndex]) {
+				listDiffs.add(createListDiffEntry(position++, true, (E) newElements[newIndex++]));
+			} else {
+				// kept elements of both lists correspond in order
+				oldIndex++;
+				newIndex++;
+				position++;
+			}
+		}
+	}
+
+	/**
+	 * Marks the elements of a common subsequence of the given ranges as kept.
+	 * <p>
+	 * Elements occurring exactly once in both ranges are matched first: the
+	 * longest increasing sequence of their positions is kept and the gaps
+	 * between them are compared recursively. This finds the longest common
+	 * subsequence of lists without duplicates in O(n log n) time, including
+	 * reorderings, which are the worst case of Myers' algorithm. Ranges
+	 * without such elements are compared with {@link #bisect}.
+	 * </p>
+	 *
+	 * @param maxEditDistance
+	 *            the maximum number of steps {@link #bisect} searches in each
+	 *            direction
+	 */
+	private static void markCommonElements(Object[] a, int aStart, int aEnd, boolean[] aKept, Object[] b, int bStart,
+			int bEnd, boolean[] bKept, int maxEditDistance) {
+		while (aStart < aEnd && bStart < bEnd && Objects.equals(a[aStart], b[bStart])) {
+			aKept[aStart++] = true;
+			bKept[bStart++] = true;
+		}
+		while (aStart < aEnd && bStart < bEnd && Objects.equals(a[aEnd - 1], b[bEnd - 1])) {
+			aKept[--aEnd] = true;
+			bKept[--bEnd] = true;
+		}
+		if (aStart == aEnd || bStart == bEnd) {
+			// only removals or only additions left
+			return;
+		}
+
+		// the position in a and b of elements occurring once in each range,
+		// -1 if an element occurs more than once
+		Map<Object, int[]> occurrences = new HashMap<>();
+		for (int i = aStart; i < aEnd; i++) {
+			int[] positions = occurrences.get(a[i]);
+			if (positions == null) {
+				occurrences.put(a[i], new int[] { i, -2 });
+			} else {
+				positions[0] = -1;
+			}
+		}
+		int uniqueCount = 0;
+		for (int j = bStart; j < bEnd; j++) {
+			int[] positions = occurrences.get(b[j]);
+			if (positions != null && positions[0] >= 0) {
+				if (positions[1] == -2) {
+					positions[1] = j;
+					uniqueCount++;
+				} else if (positions[1] >= 0) {
+					positions[1] = -1;
+					uniqueCount--;
+				}
+			}
+		}
+		if (uniqueCount == 0) {
+			bisect(a, aStart, aEnd, aKept, b, bStart, bEnd, bKept, maxEditDistance);
+			return;
+		}
+
+		// the positions of the unique elements in the order of a
+		int[] aPositions = new int[uniqueCount];
+		int[] bPositions = new int[uniqueCount];
+		int count = 0;
+		for (int i = aStart; i < aEnd; i++) {
+			int[] positions = occurrences.get(a[i]);
+			if (positions[0] >= 0 && positions[1] >= 0) {
+				aPositions[count] = i;
+				bPositions[count++] = positions[1];
+			}
+		}
+
+		// patience sorting: tails[l] is the index of the smallest last element
+		// of an increasing sequence of length l + 1
+		int[] tails = new int[uniqueCount];
+		int[] predecessors = new int[uniqueCount];
+		int length = 0;
+		for (int i = 0; i < uniqueCount; i++) {
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (bPositions[tails[mid]] < bPositions[i]) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			predecessors[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		int[] anchors = new int[length];
+		for (int i = tails[length - 1], l = length - 1; i >= 0; i = predecessors[i], l--) {
+			anchors[l] = i;
+		}
+
+		int aGapStart = aStart;
+		int bGapStart = bStart;
+		for (int anchor : anchors) {
+			int aAnchor = aPositions[anchor];
+			int bAnchor = bPositions[anchor];
+			markCommonElements(a, aGapStart, aAnchor, aKept, b, bGapStart, bAnchor, bKept, maxEditDistance);
+			aKept[aAnchor] = true;
+			bKept[bAnchor] = true;
+			aGapStart = aAnchor + 1;
+			bGapStart = bAnchor + 1;
+		}
+		markCommonElements(a, aGapStart, aEnd, aKept, b, bGapStart, bEnd, bKept, maxEditDistance);
+	}
+
+	/**
+	 * Marks the elements of a longest common subsequence of the given ranges
+	 * as kept. Splits the ranges at the middle snake of a shortest edit script
+	 * as described by Myers and recurses into both halves. If no middle snake
+	 * is found within the given number of steps in each direction, no element
+	 * is marked, so that the ranges are replaced as a whole.
+	 */
+	private static void bisect(Object[] a, int aStart, int aEnd, boolean[] aKept, Object[] b, int bStart, int bEnd,
+			boolean[] bKept, int maxEditDistance) {
+		int n = aEnd - aStart;
+		int m = bEnd - bStart;
+		int maxD = Math.min((n + m + 1) / 2, maxEditDistance);
+		int vOffset = maxD;
+		int vLength = 2 * maxD + 2;
+		// furthest reaching x on each diagonal k, forward and backward
+		int[] forward = new int[vLength];
+		int[] backward = new int[vLength];
+		Arrays.fill(forward, -1);
+		Arrays.fill(backward, -1);
+		forward[vOffset + 1] = 0;
+		backward[vOffset + 1] = 0;
+		int delta = n - m;
+		// the paths overlap in a forward step if delta is odd
+		boolean front = (delta & 1) != 0;
+		// diagonals leaving the edit graph are excluded from later rounds
+		int k1Start = 0;
+		int k1End = 0;
+		int k2Start = 0;
+		int k2End = 0;
+		for (int d = 0; d < maxD; d++) {
+			for (int k1 = -d + k1Start; k1 <= d - k1End; k1 += 2) {
+				int k1Offset = vOffset + k1;
+				int x1;
+				if (k1 == -d || (k1 != d && forward[k1Offset - 1] < forward[k1Offset + 1])) {
+					x1 = forward[k1Offset + 1];
+				} else {
+					x1 = forward[k1Offset - 1] + 1;
+				}
+				int y1 = x1 - k1;
+				while (x1 < n && y1 < m && Objects.equals(a[aStart + x1], b[bStart + y1])) {
+					x1++;
+					y1++;
+				}
+				forward[k1Offset] = x1;
+				if (x1 > n) {
+					k1End += 2;
+				} else if (y1 > m) {
+					k1Start += 2;
+				} else if (front) {
+					int k2Offset = vOffset + delta - k1;
+					if (k2Offset >= 0 && k2Offset < vLength && backward[k2Offset] != -1
+							&& x1 >= n - backward[k2Offset]) {
+						markCommonElements(a, aStart, aStart + x1, aKept, b, bStart, bStart + y1, bKept,
+								maxEditDistance);
+						markCommonElements(a, aStart + x1, aEnd, aKept, b, bStart + y1, bEnd, bKept,
+								maxEditDistance);
+						return;
+					}
+				}
+			}
+			for (int k2 = -d + k2Start; k2 <= d - k2End; k2 += 2) {
+				int k2Offset = vOffset + k2;
+				int x2;
+				if (k2 == -d || (k2 != d && backward[k2Offset - 1] < backward[k2Offset + 1])) {
+					x2 = backward[k2Offset + 1];
+				} else {
+					x2 = backward[k2Offset - 1] + 1;
+				}
+				int y2 = x2 - k2;
+				while (x2 < n && y2 < m && Objects.equals(a[aEnd - x2 - 1], b[bEnd - y2 - 1])) {
+					x2++;
+					y2++;
+				}
+				backward[k2Offset] = x2;
+				if (x2 > n) {
+					k2End += 2;
+				} else if (y2 > m) {
+					k2Start += 2;
+				} else if (!front) {
+					int k1Offset = vOffset + delta - k2;
+					if (k1Offset >= 0 && k1Offset < vLength && forward[k1Offset] != -1) {
+						int x1 = forward[k1Offset];
+						int y1 = vOffset + x1 - k1Offset;
+						if (x1 >= n - x2) {
+							markCommonElements(a, aStart, aStart + x1, aKept, b, bStart, bStart + y1, bKept,
+									maxEditDistance);
+							markCommonElements(a, aStart + x1, aEnd, aKept, b, bStart + y1, bEnd, bKept,
+									maxEditDistance);
+							return;
+						}
+					}
+				}
+			}
 		}
+		// no common elements, or too many differences to search for them
 	}
 
 	/**
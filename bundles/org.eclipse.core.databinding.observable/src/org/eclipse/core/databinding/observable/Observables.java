@@ -39,6 +39,8 @@ import org.eclipse.core.databinding.observable.value.DecoratingObservableValue;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.IVetoableValue;
 import org.eclipse.core.databinding.observable.value.ValueChangingEvent;
+import org.eclipse.core.internal.databinding.observable.BridgedObservableList;
+import org.eclipse.core.internal.databinding.observable.BridgedObservableValue;
 import org.eclipse.core.internal.databinding.observable.ConstantObservableValue;
 import org.eclipse.core.internal.databinding.observable.DelayedObservableValue;
 import org.eclipse.core.internal.databinding.observable.EmptyObservableList;
@@ -105,6 +107,56 @@ public class Observables {
 		return new DelayedObservableValue<>(delay, observable);
 	}
 
+	/**
+	 * Returns a read-only observable value in the given realm which follows
+	 * the value of an observable value in another realm, such as a
+	 * {@link BackgroundRealm}. The values of the source are handed off to the
+	 * given realm asynchronously, and values which are superseded before they
+	 * have been handed off are skipped. The returned observable is stale until
+	 * it has received the first value of the source, and is disposed when the
+	 * source is disposed.
+	 *
+	 * @param <T>
+	 *            the value type
+	 * @param realm
+	 *            the realm of the returned observable
+	 * @param source
+	 *            the observable value to follow
+	 * @return an observable value in the given realm which follows the value
+	 *         of the source
+	 * @since 1.14
+	 */
+	public static <T> IObservableValue<T> bridgeObservableValue(Realm realm, IObservableValue<T> source) {
+		Assert.isNotNull(realm, "Realm cannot be null"); //$NON-NLS-1$
+		Assert.isNotNull(source, "Source cannot be null"); //$NON-NLS-1$
+		return new BridgedObservableValue<>(realm, source);
+	}
+
+	/**
+	 * Returns a read-only observable list in the given realm which follows the
+	 * contents of an observable list in another realm, such as a
+	 * {@link BackgroundRealm}. Snapshots of the source are handed off to the
+	 * given realm asynchronously, and a burst of changes of the source results
+	 * in a single list change event. The returned observable is stale until it
+	 * has received the first snapshot of the source, and is disposed when the
+	 * source is disposed.
+	 *
+	 * @param <E>
+	 *            the element type
+	 * @param realm
+	 *            the realm of the returned observable
+	 * @param source
+	 *            the observable list to follow
+	 * @return an observable list in the given realm which follows the contents
+	 *         of the source
+	 * @since 1.14
+	 */
+	public static <E> IObservableList<E> bridgeObservableList(Realm realm, IObservableList<E> source) {
+		Assert.isNotNull(realm, "Realm cannot be null"); //$NON-NLS-1$
+		Assert.isNotNull(source, "Source cannot be null"); //$NON-NLS-1$
+		return new BridgedObservableList<>(realm, source);
+	}
+
 	/**
 	 * Returns an unmodifiable observable value backed by the given observable
 	 * value.
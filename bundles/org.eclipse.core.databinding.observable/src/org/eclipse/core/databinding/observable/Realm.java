@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,9 @@ import java.util.Timer;
 import java.util.TimerTask;
 
 import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.internal.databinding.observable.Batch;
 import org.eclipse.core.internal.databinding.observable.Queue;
+import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.SafeRunner;
@@ -324,6 +326,41 @@ public abstract class Realm {
 		}
 	}
 
+	/**
+	 * Runs the given runnable as a batch of changes. The change notifications
+	 * of computed observables in this realm, such as
+	 * {@link org.eclipse.core.databinding.observable.value.ComputedValue
+	 * ComputedValue},
+	 * {@link org.eclipse.core.databinding.observable.list.ComputedList
+	 * ComputedList} and
+	 * {@link org.eclipse.core.databinding.observable.set.ComputedSet
+	 * ComputedSet}, whose dependencies change
+	 * while the runnable runs are deferred until it has completed. They are
+	 * then fired in the order of the dependencies between the computed
+	 * observables, so that each of them is notified and recomputed once and
+	 * no listener sees a value computed from an intermediate state.
+	 * <p>
+	 * Observables which are not computed, such as writable values, notify
+	 * their listeners right away. While the runnable runs, observables
+	 * depending on a computed observable with a deferred notification may
+	 * return values computed before the batch. Batches may be nested, the
+	 * notifications are deferred until the outermost batch has completed.
+	 * </p>
+	 * <p>
+	 * The deferred notifications are fired even if the runnable fails. An
+	 * exception thrown by a listener is then added as suppressed exception to
+	 * the one of the runnable.
+	 * </p>
+	 *
+	 * @param runnable
+	 *            the changes to apply
+	 * @since 1.14
+	 */
+	public void batch(Runnable runnable) {
+		Assert.isTrue(isCurrent(), "This operation must be run within the realm"); //$NON-NLS-1$
+		Batch.run(this, runnable);
+	}
+
 	/**
 	 * Sets the provided <code>realm</code> as the default for the duration of
 	 * {@link Runnable#run()} and resets the previous realm after completion.
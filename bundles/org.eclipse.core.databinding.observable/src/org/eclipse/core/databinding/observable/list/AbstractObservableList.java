@@ -125,7 +125,9 @@ public abstract class AbstractObservableList<E> extends AbstractList<E>
 	protected void fireListChange(ListDiff<E> diff) {
 		// fire general change event first
 		fireChange();
-		changeSupport.fireEvent(new ListChangeEvent<>(this, diff));
+		if (changeSupport.hasListeners(ListChangeEvent.TYPE)) {
+			changeSupport.fireEvent(new ListChangeEvent<>(this, diff));
+		}
 	}
 
 	@Override
@@ -32,6 +32,7 @@ import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.internal.databinding.observable.Batch;
 
 /**
  * A lazily calculated list that automatically computes and registers listeners
@@ -273,13 +274,14 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 
 			makeStale();
 
+			IObservable[] oldDependencies = dependencies;
 			stopListening();
 
 			// copy the old list
 			final List<E> oldList = new ArrayList<>(cachedList);
 			// Fire the "dirty" event. This implementation recomputes the new
 			// list lazily.
-			fireListChange(new ListDiff<E>() {
+			ListDiff<E> diff = new ListDiff<>() {
 				ListDiffEntry<E>[] differences;
 
 				@Override
@@ -289,7 +291,10 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 					}
 					return differences;
 				}
-			});
+			};
+			if (!Batch.defer(this, oldDependencies, () -> fireListChange(diff))) {
+				fireListChange(diff);
+			}
 		}
 	}
 
@@ -69,7 +69,9 @@ public class DecoratingObservableList<E> extends
 	protected void fireListChange(ListDiff<E> diff) {
 		// fire general change event first
 		super.fireChange();
-		fireEvent(new ListChangeEvent<>(this, diff));
+		if (hasListeners(ListChangeEvent.TYPE)) {
+			fireEvent(new ListChangeEvent<>(this, diff));
+		}
 	}
 
 	@Override
@@ -24,7 +24,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.Realm;
@@ -195,28 +194,18 @@ public class WritableList<E> extends ObservableList<E> {
 	@Override
 	public boolean addAll(Collection<? extends E> c) {
 		checkRealm();
-		List<ListDiffEntry<E>> entries = new ArrayList<>(
-				c.size());
-		int addIndex = wrappedList.size();
-		for (E element : c) {
-			entries.add(Diffs.createListDiffEntry(addIndex++, true, element));
-		}
+		ListDiff<E> diff = new RangeListDiff<>(wrappedList.size(), true, c.toArray());
 		boolean added = wrappedList.addAll(c);
-		fireListChange(Diffs.createListDiff(entries));
+		fireListChange(diff);
 		return added;
 	}
 
 	@Override
 	public boolean addAll(int index, Collection<? extends E> c) {
 		checkRealm();
-		List<ListDiffEntry<E>> entries = new ArrayList<>(
-				c.size());
-		int addIndex = index;
-		for (E element : c) {
-			entries.add(Diffs.createListDiffEntry(addIndex++, true, element));
-		}
+		ListDiff<E> diff = new RangeListDiff<>(index, true, c.toArray());
 		boolean added = wrappedList.addAll(index, c);
-		fireListChange(Diffs.createListDiff(entries));
+		fireListChange(diff);
 		return added;
 	}
 
@@ -279,18 +268,49 @@ public class WritableList<E> extends ObservableList<E> {
 	@Override
 	public void clear() {
 		checkRealm();
-		// We remove the elements from back to front which is typically much
-		// faster on common list implementations like ArrayList.
-		List<ListDiffEntry<E>> entries = new ArrayList<>(
-				wrappedList.size());
-		for (ListIterator<E> it = wrappedList.listIterator(wrappedList.size()); it
-				.hasPrevious();) {
-			int elementIndex = it.previousIndex();
-			E element = it.previous();
-			entries.add(Diffs.createListDiffEntry(elementIndex, false, element));
-		}
+		ListDiff<E> diff = new RangeListDiff<>(0, false, wrappedList.toArray());
 		wrappedList.clear();
-		fireListChange(Diffs.createListDiff(entries));
+		fireListChange(diff);
+	}
+
+	/**
+	 * Describes the addition or removal of a range of elements. The entries
+	 * are only created if the differences are requested, so bulk changes of a
+	 * list which nobody listens to do not allocate an entry per element.
+	 * Removals are described from back to front, which is typically much
+	 * faster to replay on common list implementations like ArrayList.
+	 */
+	private static final class RangeListDiff<E> extends ListDiff<E> {
+		private final int index;
+		private final boolean addition;
+		private final Object[] elements;
+		private ListDiffEntry<E>[] differences;
+
+		RangeListDiff(int index, boolean addition, Object[] elements) {
+			this.index = index;
+			this.addition = addition;
+			this.elements = elements;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public ListDiffEntry<E>[] getDifferences() {
+			if (differences == null) {
+				ListDiffEntry<E>[] entries = new ListDiffEntry[elements.length];
+				for (int i = 0; i < elements.length; i++) {
+					int elementIndex = addition ? i : elements.length - 1 - i;
+					entries[i] = Diffs.createListDiffEntry(index + elementIndex, addition,
+							(E) elements[elementIndex]);
+				}
+				differences = entries;
+			}
+			return differences;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return elements.length == 0;
+		}
 	}
 
 	/**
@@ -251,7 +251,9 @@ public abstract class AbstractObservableMap<K, V> extends AbstractMap<K, V>
 	protected void fireMapChange(MapDiff<K, V> diff) {
 		checkRealm();
 		fireChange();
-		changeSupport.fireEvent(new MapChangeEvent<>(this, diff));
+		if (changeSupport.hasListeners(MapChangeEvent.TYPE)) {
+			changeSupport.fireEvent(new MapChangeEvent<>(this, diff));
+		}
 	}
 
 	/**
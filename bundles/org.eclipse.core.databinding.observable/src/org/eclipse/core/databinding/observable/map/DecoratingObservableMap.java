@@ -79,7 +79,9 @@ public class DecoratingObservableMap<K, V> extends DecoratingObservable
 	protected void fireMapChange(MapDiff<K, V> diff) {
 		// fire general change event first
 		super.fireChange();
-		fireEvent(new MapChangeEvent<>(this, diff));
+		if (hasListeners(MapChangeEvent.TYPE)) {
+			fireEvent(new MapChangeEvent<>(this, diff));
+		}
 	}
 
 	@Override
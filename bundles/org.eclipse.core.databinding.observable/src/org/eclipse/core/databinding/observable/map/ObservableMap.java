@@ -101,7 +101,9 @@ public class ObservableMap<K, V> extends AbstractObservable implements IObservab
 		// fire general change event first
 		super.fireChange();
 
-		fireEvent(new MapChangeEvent<>(this, diff));
+		if (hasListeners(MapChangeEvent.TYPE)) {
+			fireEvent(new MapChangeEvent<>(this, diff));
+		}
 	}
 
 	@Override
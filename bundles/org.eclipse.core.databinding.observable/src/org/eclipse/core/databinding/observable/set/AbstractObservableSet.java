@@ -73,7 +73,9 @@ public abstract class AbstractObservableSet<E> extends AbstractObservable
 		// fire general change event first
 		super.fireChange();
 
-		fireEvent(new SetChangeEvent<>(this, diff));
+		if (hasListeners(SetChangeEvent.TYPE)) {
+			fireEvent(new SetChangeEvent<>(this, diff));
+		}
 	}
 
 	@Override
@@ -31,6 +31,7 @@ import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.internal.databinding.observable.Batch;
 
 /**
  * A lazily calculated set that automatically computes and registers listeners
@@ -268,11 +269,12 @@ privateInterface, privateInterface, null);
 			final Set<E> oldSet = new HashSet<>(cachedSet);
 			makeStale();
 
+			IObservable[] oldDependencies = dependencies;
 			stopListening();
 
 			// Fire the "dirty" event. This implementation recomputes the new
 			// set lazily.
-			fireSetChange(new SetDiff<E>() {
+			SetDiff<E> diff = new SetDiff<>() {
 				SetDiff<E> delegate;
 
 				private SetDiff<E> getDelegate() {
@@ -290,7 +292,10 @@ privateInterface, privateInterface, null);
 				public Set<E> getRemovals() {
 					return getDelegate().getRemovals();
 				}
-			});
+			};
+			if (!Batch.defer(this, oldDependencies, () -> fireSetChange(diff))) {
+				fireSetChange(diff);
+			}
 		}
 	}
 
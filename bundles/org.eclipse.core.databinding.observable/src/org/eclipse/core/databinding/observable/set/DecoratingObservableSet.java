@@ -71,7 +71,9 @@ public class DecoratingObservableSet<E> extends
 	protected void fireSetChange(SetDiff<E> diff) {
 		// fire general change event first
 		super.fireChange();
-		fireEvent(new SetChangeEvent<>(this, diff));
+		if (hasListeners(SetChangeEvent.TYPE)) {
+			fireEvent(new SetChangeEvent<>(this, diff));
+		}
 	}
 
 	@Override
@@ -73,7 +73,9 @@ public abstract class ObservableSet<E> extends AbstractObservable implements
 		// fire general change event first
 		super.fireChange();
 
-		fireEvent(new SetChangeEvent<>(this, diff));
+		if (hasListeners(SetChangeEvent.TYPE)) {
+			fireEvent(new SetChangeEvent<>(this, diff));
+		}
 	}
 
 	@Override
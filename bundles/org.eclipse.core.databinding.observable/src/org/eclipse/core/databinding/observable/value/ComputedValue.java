@@ -28,6 +28,7 @@ import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.internal.databinding.observable.Batch;
 
 /**
  * A Lazily calculated value that automatically computes and registers listeners
@@ -228,13 +229,14 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 		if (!dirty) {
 			dirty = true;
 
+			IObservable[] oldDependencies = dependencies;
 			stopListening();
 
 			// copy the old value
 			final T oldValue = cachedValue;
 			// Fire the "dirty" event. This implementation recomputes the new
 			// value lazily.
-			fireValueChange(new ValueDiff<T>() {
+			ValueDiff<T> diff = new ValueDiff<>() {
 
 				@Override
 				public T getOldValue() {
@@ -245,7 +247,10 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 				public T getNewValue() {
 					return getValue();
 				}
-			});
+			};
+			if (!Batch.defer(this, oldDependencies, () -> fireValueChange(diff))) {
+				fireValueChange(diff);
+			}
 		}
 	}
 
@@ -65,7 +65,9 @@ public class DecoratingObservableValue<T> extends DecoratingObservable
 	protected void fireValueChange(ValueDiff<T> diff) {
 		// fire general change event first
 		super.fireChange();
-		fireEvent(new ValueChangeEvent<>(this, diff));
+		if (hasListeners(ValueChangeEvent.TYPE)) {
+			fireEvent(new ValueChangeEvent<>(this, diff));
+		}
 	}
 
 	@Override
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Collects the change notifications of computed observables while a batch is
+ * running in a realm and fires them once the batch has completed.
+ * <p>
+ * A computed observable whose dependencies change during a batch is marked
+ * dirty right away, but its change event is deferred. Therefore its dependents
+ * neither recompute nor get dirty until the batch ends, no matter how many of
+ * their dependencies change. The deferred notifications are then fired in
+ * topological order: a notification is only fired after the notifications of
+ * all dependencies of the observable, so listeners always see the values
+ * computed from the final state and every dependent is notified once.
+ * </p>
+ */
+public final class Batch {
+
+	private static final ThreadLocal<Batch> current = new ThreadLocal<>();
+
+	private static final class Entry implements Comparable<Entry> {
+		final IObservable observable;
+		final IObservable[] dependencies;
+		final Runnable notification;
+		final int sequence;
+		int rank;
+
+		Entry(IObservable observable, IObservable[] dependencies, Runnable notification, int sequence) {
+			this.observable = observable;
+			this.dependencies = dependencies;
+			this.notification = notification;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public int compareTo(Entry other) {
+			if (rank != other.rank) {
+				return Integer.compare(rank, other.rank);
+			}
+			return Integer.compare(sequence, other.sequence);
+		}
+	}
+
+	private final Realm realm;
+
+	/**
+	 * The observables whose notification is pending, mapped to their entries.
+	 */
+	private final Map<IObservable, Entry> pending = new IdentityHashMap<>();
+
+	private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+
+	private int sequence;
+
+	private Batch(Realm realm) {
+		this.realm = realm;
+	}
+
+	/**
+	 * Runs the given runnable as a batch in the given realm. Nested batches
+	 * are part of the outermost batch.
+	 *
+	 * @param realm
+	 *            the realm, must be the current realm
+	 * @param runnable
+	 *            the runnable to run
+	 */
+	public static void run(Realm realm, Runnable runnable) {
+		Batch outer = current.get();
+		if (outer != null && outer.realm == realm) {
+			runnable.run();
+			return;
+		}
+		Batch batch = new Batch(realm);
+		current.set(batch);
+		try {
+			try {
+				runnable.run();
+			} catch (RuntimeException | Error e) {
+				// the deferred notifications are fired anyway, but a failure
+				// of the runnable must not be masked by one of a listener
+				try {
+					batch.flush();
+				} catch (RuntimeException flushFailure) {
+					e.addSuppressed(flushFailure);
+				}
+				throw e;
+			}
+			batch.flush();
+		} finally {
+			if (outer == null) {
+				current.remove();
+			} else {
+				current.set(outer);
+			}
+		}
+	}
+
+	/**
+	 * Defers the change notification of the given observable until the batch
+	 * running in its realm has completed. Further notifications of the
+	 * observable before the deferred one has been fired are dropped.
+	 *
+	 * @param observable
+	 *            the observable whose notification is to be deferred
+	 * @param dependencies
+	 *            the observables the value of the observable was computed
+	 *            from, may be <code>null</code>
+	 * @param notification
+	 *            fires the change notification of the observable
+	 * @return <code>true</code> if the notification has been deferred,
+	 *         <code>false</code> if no batch is running in the realm of the
+	 *         observable and the notification must be fired right away
+	 */
+	public static boolean defer(IObservable observable, IObservable[] dependencies, Runnable notification) {
+		Batch batch = current.get();
+		if (batch == null || batch.realm != observable.getRealm()) {
+			return false;
+		}
+		if (!batch.pending.containsKey(observable)) {
+			Entry entry = new Entry(observable, dependencies == null ? new IObservable[0] : dependencies,
+					notification, batch.sequence++);
+			entry.rank = batch.rankOf(entry);
+			batch.pending.put(observable, entry);
+			batch.queue.add(entry);
+		}
+		return true;
+	}
+
+	/**
+	 * @return one more than the highest rank of the dependencies of the entry
+	 *         whose notification is pending
+	 */
+	private int rankOf(Entry entry) {
+		int rank = 0;
+		for (IObservable dependency : entry.dependencies) {
+			Entry dependencyEntry = pending.get(dependency);
+			if (dependencyEntry != null) {
+				rank = Math.max(rank, dependencyEntry.rank + 1);
+			}
+		}
+		return rank;
+	}
+
+	/**
+	 * Fires the deferred notifications. Notifications deferred while flushing
+	 * are fired as well.
+	 */
+	private void flush() {
+		RuntimeException failure = null;
+		Entry entry;
+		while ((entry = queue.poll()) != null) {
+			// a dependency may have been deferred after the entry
+			int rank = rankOf(entry);
+			if (rank > entry.rank) {
+				entry.rank = rank;
+				queue.add(entry);
+				continue;
+			}
+			pending.remove(entry.observable);
+			if (entry.observable.isDisposed()) {
+				continue;
+			}
+			try {
+				entry.notification.run();
+			} catch (RuntimeException e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+}
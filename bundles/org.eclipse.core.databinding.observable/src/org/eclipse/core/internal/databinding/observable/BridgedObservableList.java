@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IDisposeListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.AbstractObservableList;
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+
+/**
+ * A read-only observable list which follows the contents of an observable list
+ * in another realm.
+ * <p>
+ * Changes of the source are not forwarded one by one. After the source has
+ * changed, a snapshot of its contents is taken once the runnables already
+ * queued in its realm have run, and handed off to the realm of this
+ * observable. Snapshots which are taken before the previous one has been
+ * handed off replace that one. This observable then fires a single diff
+ * between its contents and the latest snapshot. This observable is stale until
+ * it has received the first snapshot of the source.
+ * </p>
+ * <p>
+ * Every hand-off between the realms is asynchronous, including adding and
+ * removing the listeners of the source and disposing this observable when the
+ * source is disposed, so neither realm ever waits for the other.
+ * </p>
+ *
+ * @param <E>
+ *            the type of the elements in the list
+ */
+public class BridgedObservableList<E> extends AbstractObservableList<E> {
+
+	private final IObservableList<E> source;
+
+	private final Object elementType;
+
+	private final IListChangeListener<E> sourceListener = event -> sourceChanged();
+
+	private final IDisposeListener sourceDisposeListener = event -> getRealm().asyncExec(this::dispose);
+
+	/** Accessed in the realm of the source only. */
+	private boolean snapshotPending;
+
+	/** Guards {@link #pendingElements}. */
+	private final Object lock = new Object();
+
+	private List<E> pendingElements;
+
+	private List<E> elements = Collections.emptyList();
+
+	private boolean stale = true;
+
+	/**
+	 * @param realm
+	 *            the realm of this observable
+	 * @param source
+	 *            the observable list to follow
+	 */
+	public BridgedObservableList(Realm realm, IObservableList<E> source) {
+		super(realm);
+		this.source = source;
+		this.elementType = source.getElementType();
+		source.getRealm().asyncExec(() -> {
+			if (!isDisposed() && !source.isDisposed()) {
+				source.addListChangeListener(sourceListener);
+				source.addDisposeListener(sourceDisposeListener);
+				handOff(new ArrayList<>(source));
+			}
+		});
+	}
+
+	private void sourceChanged() {
+		if (!snapshotPending) {
+			snapshotPending = true;
+			source.getRealm().asyncExec(() -> {
+				snapshotPending = false;
+				if (!isDisposed() && !source.isDisposed()) {
+					handOff(new ArrayList<>(source));
+				}
+			});
+		}
+	}
+
+	/**
+	 * Called in the realm of the source.
+	 */
+	private void handOff(List<E> snapshot) {
+		boolean handOffPending;
+		synchronized (lock) {
+			handOffPending = pendingElements != null;
+			pendingElements = snapshot;
+		}
+		if (!handOffPending) {
+			getRealm().asyncExec(this::update);
+		}
+	}
+
+	private void update() {
+		List<E> newElements;
+		synchronized (lock) {
+			newElements = pendingElements;
+			pendingElements = null;
+		}
+		if (isDisposed()) {
+			return;
+		}
+		ListDiff<E> diff = Diffs.computeListDiff(elements, newElements);
+		boolean wasStale = stale;
+		elements = newElements;
+		stale = false;
+		if (wasStale || !diff.isEmpty()) {
+			fireListChange(diff);
+		}
+	}
+
+	@Override
+	protected int doGetSize() {
+		return elements.size();
+	}
+
+	@Override
+	public E get(int index) {
+		ObservableTracker.getterCalled(this);
+		return elements.get(index);
+	}
+
+	@Override
+	public Object getElementType() {
+		return elementType;
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return stale;
+	}
+
+	@Override
+	public void dispose() {
+		if (!isDisposed()) {
+			source.getRealm().asyncExec(() -> {
+				source.removeListChangeListener(sourceListener);
+				source.removeDisposeListener(sourceDisposeListener);
+			});
+		}
+		super.dispose();
+	}
+}
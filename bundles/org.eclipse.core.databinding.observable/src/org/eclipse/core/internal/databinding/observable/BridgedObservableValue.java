@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.Objects;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IDisposeListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+
+/**
+ * A read-only observable value which follows the value of an observable value
+ * in another realm.
+ * <p>
+ * The values of the source are handed off to the realm of this observable.
+ * Values which the source takes before the previous one has been handed off
+ * replace that one, so a burst of changes in the source results in a single
+ * change of this observable. This observable is stale until it has received
+ * the first value of the source.
+ * </p>
+ * <p>
+ * Every hand-off between the realms is asynchronous, including adding and
+ * removing the listeners of the source and disposing this observable when the
+ * source is disposed, so neither realm ever waits for the other.
+ * </p>
+ *
+ * @param <T>
+ *            the type of the value
+ */
+public class BridgedObservableValue<T> extends AbstractObservableValue<T> {
+
+	private final IObservableValue<T> source;
+
+	private final Object valueType;
+
+	private final IValueChangeListener<T> sourceListener = event -> handOff(event.diff.getNewValue());
+
+	private final IDisposeListener sourceDisposeListener = event -> getRealm().asyncExec(this::dispose);
+
+	/** Guards {@link #pendingValue} and {@link #handOffPending}. */
+	private final Object lock = new Object();
+
+	private T pendingValue;
+
+	private boolean handOffPending;
+
+	private T value;
+
+	private boolean stale = true;
+
+	/**
+	 * @param realm
+	 *            the realm of this observable
+	 * @param source
+	 *            the observable value to follow
+	 */
+	public BridgedObservableValue(Realm realm, IObservableValue<T> source) {
+		super(realm);
+		this.source = source;
+		this.valueType = source.getValueType();
+		source.getRealm().asyncExec(() -> {
+			if (!isDisposed() && !source.isDisposed()) {
+				source.addValueChangeListener(sourceListener);
+				source.addDisposeListener(sourceDisposeListener);
+				handOff(source.getValue());
+			}
+		});
+	}
+
+	/**
+	 * Called in the realm of the source.
+	 */
+	private void handOff(T newValue) {
+		synchronized (lock) {
+			pendingValue = newValue;
+			if (handOffPending) {
+				return;
+			}
+			handOffPending = true;
+		}
+		getRealm().asyncExec(this::update);
+	}
+
+	private void update() {
+		T newValue;
+		synchronized (lock) {
+			newValue = pendingValue;
+			pendingValue = null;
+			handOffPending = false;
+		}
+		if (isDisposed()) {
+			return;
+		}
+		T oldValue = value;
+		boolean wasStale = stale;
+		value = newValue;
+		stale = false;
+		if (wasStale || !Objects.equals(oldValue, newValue)) {
+			fireValueChange(Diffs.createValueDiff(oldValue, newValue));
+		}
+	}
+
+	@Override
+	protected T doGetValue() {
+		return value;
+	}
+
+	@Override
+	public Object getValueType() {
+		return valueType;
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return stale;
+	}
+
+	@Override
+	public void dispose() {
+		if (!isDisposed()) {
+			source.getRealm().asyncExec(() -> {
+				source.removeValueChangeListener(sourceListener);
+				source.removeDisposeListener(sourceDisposeListener);
+			});
+		}
+		super.dispose();
+	}
+}
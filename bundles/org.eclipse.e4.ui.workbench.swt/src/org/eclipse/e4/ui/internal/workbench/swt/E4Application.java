@@ -357,6 +357,10 @@ public class E4Application implements IApplication {
 				.map(Boolean::parseBoolean).orElse(Boolean.FALSE);
 		eclipseContext.set(IWorkbench.CLEAR_PERSISTED_STATE, clearPersistedState);
 
+		Boolean binaryModelFormat = getArgValue(E4Workbench.BINARY_MODEL_FORMAT, appContext, false)
+				.map(Boolean::parseBoolean).orElse(Boolean.FALSE);
+		eclipseContext.set(E4Workbench.BINARY_MODEL_FORMAT, binaryModelFormat);
+
 		String resourceHandler = getArgValue(IWorkbench.MODEL_RESOURCE_HANDLER, appContext, false)
 				.orElse("bundleclass://org.eclipse.e4.ui.workbench/" + ResourceHandler.class.getName());
 
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import org.eclipse.emf.ecore.InternalEObject;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.util.BasicInternalEList;
+import org.eclipse.emf.ecore.util.InternalEList;
+
+/**
+ * Custom binary save for the e4 workbench model. Like {@link E4XMISave}, it
+ * can filter elements that shall not be persisted without changing the
+ * underlying model. References to filtered elements are not saved either.
+ */
+public class E4BinarySave extends BinaryResourceImpl.EObjectOutputStream {
+
+	private final boolean filter;
+
+	/**
+	 * @param outputStream the stream to write to
+	 * @param options      the save options
+	 * @param filter       whether to filter elements that shall not be
+	 *                     persisted
+	 * @throws IOException if the stream cannot be written
+	 */
+	public E4BinarySave(OutputStream outputStream, Map<?, ?> options, boolean filter) throws IOException {
+		super(outputStream, options);
+		this.filter = filter;
+	}
+
+	@Override
+	public void saveEObjects(InternalEList<? extends InternalEObject> internalEObjects, Check check)
+			throws IOException {
+		if (filter) {
+			BasicInternalEList<InternalEObject> persisted = null;
+			for (int i = 0; i < internalEObjects.size(); i++) {
+				InternalEObject internalEObject = internalEObjects.basicGet(i);
+				if (persisted == null && !E4XMISave.isPersisted(internalEObject)) {
+					persisted = new BasicInternalEList<>(InternalEObject.class, internalEObjects.size());
+					for (int j = 0; j < i; j++) {
+						persisted.add(internalEObjects.basicGet(j));
+					}
+				} else if (persisted != null && E4XMISave.isPersisted(internalEObject)) {
+					persisted.add(internalEObject);
+				}
+			}
+			if (persisted != null) {
+				super.saveEObjects(persisted, check);
+				return;
+			}
+		}
+		super.saveEObjects(internalEObjects, check);
+	}
+
+	@Override
+	public void saveEObject(InternalEObject internalEObject, Check check) throws IOException {
+		if (filter && internalEObject != null && !E4XMISave.isPersisted(internalEObject)) {
+			super.saveEObject(null, check);
+			return;
+		}
+		super.saveEObject(internalEObject, check);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,13 +15,22 @@
 
 package org.eclipse.e4.ui.internal.workbench;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.WeakHashMap;
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.xmi.XMLSave;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
@@ -30,6 +39,22 @@ public class E4XMIResource extends XMIResourceImpl {
 
 	public static final String OPTION_FILTER_PERSIST_STATE = "E4_FILTER_PERSISTED_STATE"; //$NON-NLS-1$
 
+	/**
+	 * Save option to write the model in the binary format of
+	 * {@link BinaryResourceImpl} instead of XMI. The ids of the elements are
+	 * saved as well, together with the type of their element, so that a model
+	 * whose ids do not match its elements fails to load. Loading detects the
+	 * format, so models saved in either format can be loaded regardless of
+	 * this option.
+	 */
+	public static final String OPTION_BINARY_FORMAT = "E4_BINARY_FORMAT"; //$NON-NLS-1$
+
+	/**
+	 * The first bytes of the binary format, see
+	 * {@link BinaryResourceImpl.EObjectOutputStream}.
+	 */
+	private static final byte[] BINARY_SIGNATURE = { (byte) 0x89, 'e', 'm', 'f' };
+
 	private Map<EObject, String> objectMap = new WeakHashMap<>();
 	private Set<String> knownIds = new HashSet<>();
 
@@ -111,4 +136,80 @@ public class E4XMIResource extends XMIResourceImpl {
 		}
 		return super.createXMLSave(options);
 	}
+
+	@Override
+	public void doSave(OutputStream outputStream, Map<?, ?> options) throws IOException {
+		if (options == null || !Boolean.TRUE.equals(options.get(OPTION_BINARY_FORMAT))) {
+			super.doSave(outputStream, options);
+			return;
+		}
+		boolean filter = Boolean.TRUE.equals(options.get(OPTION_FILTER_PERSIST_STATE));
+		E4BinarySave binarySave = new E4BinarySave(outputStream, options, filter);
+		binarySave.saveResource(this);
+
+		// the binary format has no ids, append them in containment order
+		List<EObject> saved = new ArrayList<>();
+		for (TreeIterator<EObject> it = getAllContents(); it.hasNext();) {
+			EObject eObject = it.next();
+			EReference containment = eObject.eContainmentFeature();
+			if (filter && !E4XMISave.isPersisted(eObject) || containment != null && containment.isTransient()) {
+				it.prune();
+			} else {
+				saved.add(eObject);
+			}
+		}
+		binarySave.writeCompressedInt(saved.size());
+		for (EObject eObject : saved) {
+			String id = getID(eObject);
+			binarySave.writeString(eObject.eClass().getName());
+			binarySave.writeString(id == null ? "" : id); //$NON-NLS-1$
+		}
+		binarySave.flush();
+	}
+
+	@Override
+	public void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException {
+		InputStream in = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+		if (!isBinary(in)) {
+			super.doLoad(in, options);
+			return;
+		}
+		BinaryResourceImpl.EObjectInputStream binaryLoad = new BinaryResourceImpl.EObjectInputStream(in, options);
+		binaryLoad.loadResource(this);
+
+		int size = binaryLoad.readCompressedInt();
+		TreeIterator<EObject> it = getAllContents();
+		for (int i = 0; i < size; i++) {
+			String eClassName = binaryLoad.readString();
+			String id = binaryLoad.readString();
+			if (!it.hasNext()) {
+				throw new IOException("The binary model has fewer elements than ids: " + i + " < " + size); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			EObject eObject = it.next();
+			if (!eObject.eClass().getName().equals(eClassName)) {
+				throw new IOException("The id " + id + " of a " + eClassName //$NON-NLS-1$ //$NON-NLS-2$
+						+ " does not match the element " + eObject); //$NON-NLS-1$
+			}
+			if (!id.isEmpty()) {
+				setID(eObject, id);
+			}
+		}
+		if (it.hasNext()) {
+			throw new IOException("The binary model has more elements than ids: " + size); //$NON-NLS-1$
+		}
+	}
+
+	private static boolean isBinary(InputStream in) throws IOException {
+		in.mark(BINARY_SIGNATURE.length);
+		try {
+			for (byte b : BINARY_SIGNATURE) {
+				if (in.read() != (b & 0xFF)) {
+					return false;
+				}
+			}
+			return true;
+		} finally {
+			in.reset();
+		}
+	}
 }
@@ -17,6 +17,7 @@ package org.eclipse.e4.ui.internal.workbench;
 import org.eclipse.e4.ui.model.application.MApplicationElement;
 import org.eclipse.e4.ui.model.application.ui.MUIElement;
 import org.eclipse.e4.ui.workbench.IWorkbench;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.xmi.XMLHelper;
@@ -37,20 +38,30 @@ public class E4XMISave extends XMISaveImpl {
 	 */
 	@Override
 	protected void saveElement(InternalEObject o, EStructuralFeature f) {
+		if (!isPersisted(o)) {
+			return;
+		}
+
+		super.saveElement(o, f);
+	}
+
+	/**
+	 * @return <code>false</code> if the given element shall not be persisted
+	 */
+	static boolean isPersisted(EObject o) {
 		if (o instanceof MApplicationElement) {
 			MApplicationElement appElement = (MApplicationElement) o;
 			String persists = appElement.getPersistedState().get(IWorkbench.PERSIST_STATE);
 			if (persists != null && !Boolean.parseBoolean(persists)) {
-				return;
+				return false;
 			}
 		}
 		if (o instanceof MUIElement) {
 			MUIElement uiElement = (MUIElement) o;
 			if (OpaqueElementUtil.isOpaqueElement(uiElement) || RenderedElementUtil.isRenderedElement(uiElement)) {
-				return;
+				return false;
 			}
 		}
-
-		super.saveElement(o, f);
+		return true;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2021 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,7 +37,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
@@ -63,8 +68,10 @@ import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.Diagnostician;
 import org.eclipse.emf.ecore.util.EContentsEList;
 import org.eclipse.emf.ecore.util.EcoreUtil;
@@ -104,6 +111,25 @@ public class ModelAssembler {
 			List<MApplicationElement> elements) {
 	}
 
+	/**
+	 * Parses fragments in parallel daemon threads, which terminate when idle.
+	 */
+	private static final class FragmentLoader {
+		static final ExecutorService INSTANCE;
+
+		static {
+			int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, "Model Fragment Loader"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			INSTANCE = executor;
+		}
+	}
+
 	private class ModelFragmentBundleTracker implements BundleTrackerCustomizer<List<FragmentWrapperElementMapping>> {
 
 		@Override
@@ -155,25 +181,9 @@ public class ModelAssembler {
 					String fragmentHeader = bundle.getHeaders(Util.ZERO_LENGTH_STRING).get(MODEL_FRAGMENT_HEADER);
 					String[] fr = fragmentHeader.split(";"); //$NON-NLS-1$
 					if (fr.length > 0) {
-						String attrURI = fr[0];
-						E4XMIResource applicationResource = (E4XMIResource) ((EObject) application).eResource();
-						ResourceSet resourceSet = applicationResource.getResourceSet();
-						if (attrURI == null) {
-							warn("Unable to find location for the model extension {}", bundleName); //$NON-NLS-1$
-							return;
-						}
-
-						URI uri;
-						try {
-							// check if the attrURI is already a platform URI
-							if (URIHelper.isPlatformURI(attrURI)) {
-								uri = URI.createURI(attrURI);
-							} else {
-								String path = bundleName + '/' + attrURI;
-								uri = URI.createPlatformPluginURI(path, false);
-							}
-						} catch (RuntimeException e) {
-							warn("Invalid location {} of model extension {}", attrURI, bundleName, e); //$NON-NLS-1$
+						ResourceSet resourceSet = ((EObject) application).eResource().getResourceSet();
+						URI uri = getFragmentsURI(fr[0], bundleName);
+						if (uri == null) {
 							return;
 						}
 
@@ -331,27 +341,38 @@ public class ModelAssembler {
 	 * @param initial    <code>true</code> if running from a non-persisted state
 	 */
 	private void processFragments(IExtension[] extensions, boolean initial) {
-		List<ModelFragmentWrapper> wrappers = new ArrayList<>();
+		Map<IConfigurationElement, URI> fragmentElements = new LinkedHashMap<>();
+		Map<URI, String> locations = new LinkedHashMap<>();
 		for (IExtension extension : extensions) {
 			IConfigurationElement[] ces = extension.getConfigurationElements();
 			for (IConfigurationElement ce : ces) {
 				if ("fragment".equals(ce.getName()) //$NON-NLS-1$
 						&& (initial || !INITIAL.equals(ce.getAttribute(APPLY_PROPERTY_KEY)))) {
-					MModelFragments fragmentsContainer = getFragmentsContainer(ce.getAttribute("uri"), //$NON-NLS-1$
-							ce.getContributor().getName());
-					if (fragmentsContainer == null) {
-						continue;
-					}
-					for (MModelFragment fragment : fragmentsContainer.getFragments()) {
-						boolean checkExist = !initial && NOTEXISTS.equals(ce.getAttribute(APPLY_PROPERTY_KEY));
-						wrappers.add(
-								new ModelFragmentWrapper(fragmentsContainer, fragment, ce.getContributor().getName(),
-										URIHelper.constructPlatformURI(ce.getContributor()), checkExist)); // $NON-NLS-1$
+					String bundleName = ce.getContributor().getName();
+					URI uri = getFragmentsURI(ce.getAttribute("uri"), bundleName); //$NON-NLS-1$
+					if (uri != null) {
+						fragmentElements.put(ce, uri);
+						locations.putIfAbsent(uri, bundleName);
 					}
 				}
 			}
 		}
 
+		Map<URI, Resource> resources = loadFragmentsResources(locations);
+		List<ModelFragmentWrapper> wrappers = new ArrayList<>();
+		fragmentElements.forEach((ce, uri) -> {
+			MModelFragments fragmentsContainer = getFragmentsContainer(resources.get(uri),
+					ce.getContributor().getName());
+			if (fragmentsContainer == null) {
+				return;
+			}
+			for (MModelFragment fragment : fragmentsContainer.getFragments()) {
+				boolean checkExist = !initial && NOTEXISTS.equals(ce.getAttribute(APPLY_PROPERTY_KEY));
+				wrappers.add(new ModelFragmentWrapper(fragmentsContainer, fragment, ce.getContributor().getName(),
+						URIHelper.constructPlatformURI(ce.getContributor()), checkExist)); // $NON-NLS-1$
+			}
+		});
+
 		if (this.tracker != null) {
 			// this triggers initial bundle tracking in the current thread
 			// for startup reasons we do not process each fragment on initial tracking by
@@ -515,34 +536,112 @@ public class ModelAssembler {
 	}
 
 	private MModelFragments getFragmentsContainer(String attrURI, String bundleName) {
-		E4XMIResource applicationResource = (E4XMIResource) ((EObject) application).eResource();
-		ResourceSet resourceSet = applicationResource.getResourceSet();
+		URI uri = getFragmentsURI(attrURI, bundleName);
+		if (uri == null) {
+			return null;
+		}
+		ResourceSet resourceSet = ((EObject) application).eResource().getResourceSet();
+		return getFragmentsContainer(loadFragmentsResource(resourceSet, uri, bundleName), bundleName);
+	}
+
+	private URI getFragmentsURI(String attrURI, String bundleName) {
 		if (attrURI == null) {
 			warn("Unable to find location for the model extension {}", bundleName); //$NON-NLS-1$
 			return null;
 		}
 
-		URI uri;
 		try {
 			// check if the attrURI is already a platform URI
 			if (URIHelper.isPlatformURI(attrURI)) {
-				uri = URI.createURI(attrURI);
-			} else {
-				String path = bundleName + '/' + attrURI;
-				uri = URI.createPlatformPluginURI(path, false);
+				return URI.createURI(attrURI);
 			}
+			String path = bundleName + '/' + attrURI;
+			return URI.createPlatformPluginURI(path, false);
 		} catch (RuntimeException e) {
 			warn("Invalid location {} of model extension {}", attrURI, bundleName, e); //$NON-NLS-1$
 			return null;
 		}
+	}
+
+	/**
+	 * Loads the resources at the given locations. Resources which are not yet
+	 * known to the resource set of the application are parsed in parallel, each
+	 * into a resource set of its own, and are then added to the resource set of
+	 * the application in the order of the given locations.
+	 * <p>
+	 * The resource set of the application is the only cache of parsed
+	 * fragments: a fragment is parsed once per session, and again only after its
+	 * bundle has been removed. Parsed fragments are not kept across sessions, as
+	 * the fragments of bundles in the workspace change without a change of the
+	 * bundle version.
+	 * </p>
+	 *
+	 * @param locations the locations mapped to the name of the bundle
+	 *                  contributing them
+	 * @return the loaded resources, without the ones that could not be read
+	 */
+	private Map<URI, Resource> loadFragmentsResources(Map<URI, String> locations) {
+		ResourceSet resourceSet = ((EObject) application).eResource().getResourceSet();
+		Map<URI, Resource> resources = new HashMap<>();
+		List<URI> unknown = new ArrayList<>();
+		locations.forEach((uri, bundleName) -> {
+			if (resourceSet.getResource(uri, false) != null) {
+				resources.put(uri, loadFragmentsResource(resourceSet, uri, bundleName));
+			} else {
+				unknown.add(uri);
+			}
+		});
 
-		Resource resource;
+		if (unknown.isEmpty()) {
+			return resources;
+		}
+		// the first one is parsed by the calling thread while the others are parsed
+		// in the background
+		List<CompletableFuture<Resource>> loading = new ArrayList<>();
+		for (URI uri : unknown.subList(1, unknown.size())) {
+			loading.add(CompletableFuture.supplyAsync(() -> loadFragmentsResource(
+					createIsolatedResourceSet(resourceSet), uri, locations.get(uri)), FragmentLoader.INSTANCE));
+		}
+		List<Resource> loaded = new ArrayList<>();
+		loaded.add(loadFragmentsResource(createIsolatedResourceSet(resourceSet), unknown.get(0),
+				locations.get(unknown.get(0))));
+		loading.forEach(future -> loaded.add(future.join()));
+		for (int i = 0; i < loaded.size(); i++) {
+			Resource resource = loaded.get(i);
+			if (resource != null) {
+				resourceSet.getResources().add(resource);
+				resources.put(unknown.get(i), resource);
+			}
+		}
+		return resources;
+	}
+
+	private Resource loadFragmentsResource(ResourceSet resourceSet, URI uri, String bundleName) {
 		try {
-			resource = resourceSet.getResource(uri, true);
+			return resourceSet.getResource(uri, true);
 		} catch (RuntimeException e) {
 			warn("Unable to read model extension from {} of {}", uri, bundleName); //$NON-NLS-1$
 			return null;
 		}
+	}
+
+	/**
+	 * Creates a resource set which loads resources like the given one, but
+	 * which can load them concurrently to it.
+	 */
+	private static ResourceSet createIsolatedResourceSet(ResourceSet resourceSet) {
+		ResourceSetImpl isolated = new ResourceSetImpl();
+		isolated.setResourceFactoryRegistry(resourceSet.getResourceFactoryRegistry());
+		isolated.setPackageRegistry(new EPackageRegistryImpl(resourceSet.getPackageRegistry()));
+		isolated.setURIConverter(resourceSet.getURIConverter());
+		isolated.getLoadOptions().putAll(resourceSet.getLoadOptions());
+		return isolated;
+	}
+
+	private MModelFragments getFragmentsContainer(Resource resource, String bundleName) {
+		if (resource == null) {
+			return null;
+		}
 
 		List<?> contents = resource.getContents();
 		if (contents.isEmpty()) {
@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.impl.ApplicationPackageImpl;
+import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
+import org.eclipse.e4.ui.model.application.ui.advanced.impl.AdvancedPackageImpl;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Indexes the elements of an application model by element id, and counts them
+ * by tag and type. The index is maintained from the notifications of the
+ * model, so that searches for elements which do not exist in the application
+ * can be answered without walking the model, and searches by id only have to
+ * walk the containers of the elements with that id.
+ * <p>
+ * The index only covers the elements contained in the application. Searches
+ * reach other elements through placeholders whose reference is not contained
+ * in the application, so the index does not answer any query while such a
+ * placeholder exists.
+ * </p>
+ */
+final class ModelElementIndex extends EContentAdapter {
+
+	private final EObject application;
+
+	private final Map<String, List<MApplicationElement>> elementsById = new HashMap<>();
+
+	private final Map<String, Integer> tagCounts = new HashMap<>();
+
+	private final Map<Class<?>, Integer> typeCounts = new HashMap<>();
+
+	private final Map<Object, List<MPlaceholder>> placeholdersByRef = new IdentityHashMap<>();
+
+	/**
+	 * Whether the placeholders have to be checked for references which are
+	 * not contained in the application.
+	 */
+	private boolean placeholdersChanged;
+
+	private boolean complete;
+
+	/**
+	 * Whether this index has been removed from an element which is still
+	 * contained in the application, for example by clearing its adapters, so
+	 * that changes below that element are no longer tracked.
+	 */
+	private boolean detached;
+
+	private ModelElementIndex(EObject application) {
+		this.application = application;
+	}
+
+	/**
+	 * Returns the index of the application which contains the given element,
+	 * creating it on first use.
+	 *
+	 * @param element the element
+	 * @return the index, or <code>null</code> if the element is not contained
+	 *         in an application
+	 */
+	static ModelElementIndex of(MApplicationElement element) {
+		if (!(element instanceof EObject)) {
+			return null;
+		}
+		EObject root = EcoreUtil.getRootContainer((EObject) element);
+		if (!(root instanceof MApplication)) {
+			return null;
+		}
+		for (Adapter adapter : root.eAdapters()) {
+			if (adapter instanceof ModelElementIndex) {
+				return (ModelElementIndex) adapter;
+			}
+		}
+		ModelElementIndex index = new ModelElementIndex(root);
+		root.eAdapters().add(index);
+		return index;
+	}
+
+	/**
+	 * Returns whether the application may contain an element with the given
+	 * id, type and tags.
+	 *
+	 * @param id          the element id, or <code>null</code> to match any id
+	 * @param clazz       the type, or <code>null</code> to match any type
+	 * @param tagsToMatch the tags the element must have, or <code>null</code>
+	 * @return <code>false</code> if the application does not contain a
+	 *         matching element
+	 */
+	boolean mayContain(String id, Class<?> clazz, List<String> tagsToMatch) {
+		if (!isUsable()) {
+			return true;
+		}
+		if (id != null && !elementsById.containsKey(id)) {
+			return false;
+		}
+		if (tagsToMatch != null) {
+			for (String tag : tagsToMatch) {
+				if (!tagCounts.containsKey(tag)) {
+					return false;
+				}
+			}
+		}
+		if (clazz != null && clazz != MApplicationElement.class) {
+			for (Class<?> type : typeCounts.keySet()) {
+				if (clazz.isAssignableFrom(type)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the elements a search for the given id has to visit: the elements
+	 * with that id, their containers, and the placeholders referencing any of
+	 * these along with their containers. Whether the search actually reaches
+	 * the elements still depends on its search root and flags.
+	 *
+	 * @param id the element id
+	 * @return the elements to visit, or <code>null</code> if the whole model
+	 *         has to be searched
+	 */
+	Set<Object> scopeOf(String id) {
+		if (!isUsable()) {
+			return null;
+		}
+		List<MApplicationElement> elements = elementsById.get(id);
+		if (elements == null) {
+			return Collections.emptySet();
+		}
+		Set<Object> scope = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<Object> pending = new ArrayDeque<>(elements);
+		while (!pending.isEmpty()) {
+			// stop at an element already in the scope, its containers are too
+			for (EObject element = (EObject) pending.pop(); element != null
+					&& scope.add(element); element = element.eContainer()) {
+				List<MPlaceholder> placeholders = placeholdersByRef.get(element);
+				if (placeholders != null) {
+					pending.addAll(placeholders);
+				}
+			}
+		}
+		return scope;
+	}
+
+	/**
+	 * Removes this index from the application. Searches afterwards create a
+	 * new index.
+	 */
+	void dispose() {
+		application.eAdapters().remove(this);
+	}
+
+	private boolean isUsable() {
+		if (detached) {
+			// the next search creates a new index
+			dispose();
+			return false;
+		}
+		return isComplete();
+	}
+
+	private boolean isComplete() {
+		if (placeholdersChanged) {
+			placeholdersChanged = false;
+			complete = true;
+			for (Object ref : placeholdersByRef.keySet()) {
+				if (ref instanceof EObject && EcoreUtil.getRootContainer((EObject) ref) != application) {
+					complete = false;
+					break;
+				}
+			}
+		}
+		return complete;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch() || !(notification.getNotifier() instanceof MApplicationElement)) {
+			return;
+		}
+		Object feature = notification.getFeature();
+		if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__ELEMENT_ID) {
+			MApplicationElement element = (MApplicationElement) notification.getNotifier();
+			remove(elementsById, notification.getOldValue(), element);
+			add(elementsById, notification.getNewValue(), element);
+		} else if (feature == ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__TAGS) {
+			switch (notification.getEventType()) {
+			case Notification.ADD:
+			case Notification.ADD_MANY:
+			case Notification.REMOVE:
+			case Notification.REMOVE_MANY:
+			case Notification.SET:
+			case Notification.UNSET:
+				decrementAll(tagCounts, notification.getOldValue());
+				incrementAll(tagCounts, notification.getNewValue());
+				break;
+			default:
+				break;
+			}
+		} else if (feature == AdvancedPackageImpl.Literals.PLACEHOLDER__REF) {
+			MPlaceholder placeholder = (MPlaceholder) notification.getNotifier();
+			remove(placeholdersByRef, notification.getOldValue(), placeholder);
+			add(placeholdersByRef, notification.getNewValue(), placeholder);
+			placeholdersChanged = true;
+		}
+	}
+
+	@Override
+	protected void setTarget(EObject target) {
+		super.setTarget(target);
+		if (target instanceof MApplicationElement) {
+			MApplicationElement element = (MApplicationElement) target;
+			add(elementsById, element.getElementId(), element);
+			incrementAll(tagCounts, element.getTags());
+			increment(typeCounts, element.getClass());
+			if (element instanceof MPlaceholder) {
+				MPlaceholder placeholder = (MPlaceholder) element;
+				add(placeholdersByRef, placeholder.getRef(), placeholder);
+			}
+		}
+		placeholdersChanged = true;
+	}
+
+	@Override
+	protected void unsetTarget(EObject target) {
+		super.unsetTarget(target);
+		if (!detached && EcoreUtil.getRootContainer(target) == application) {
+			detached = true;
+		}
+		if (target instanceof MApplicationElement) {
+			MApplicationElement element = (MApplicationElement) target;
+			remove(elementsById, element.getElementId(), element);
+			decrementAll(tagCounts, element.getTags());
+			decrement(typeCounts, element.getClass());
+			if (element instanceof MPlaceholder) {
+				MPlaceholder placeholder = (MPlaceholder) element;
+				remove(placeholdersByRef, placeholder.getRef(), placeholder);
+			}
+		}
+		placeholdersChanged = true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, V> void add(Map<K, List<V>> elements, Object key, V element) {
+		if (key != null) {
+			elements.computeIfAbsent((K) key, k -> new ArrayList<>(1)).add(element);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, V> void remove(Map<K, List<V>> elements, Object key, V element) {
+		if (key != null) {
+			elements.computeIfPresent((K) key, (k, list) -> list.remove(element) && list.isEmpty() ? null : list);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K> void increment(Map<K, Integer> counts, Object key) {
+		if (key != null) {
+			counts.merge((K) key, 1, Integer::sum);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K> void decrement(Map<K, Integer> counts, Object key) {
+		if (key != null) {
+			counts.computeIfPresent((K) key, (k, count) -> count == 1 ? null : count - 1);
+		}
+	}
+
+	private static void incrementAll(Map<String, Integer> counts, Object keys) {
+		if (keys instanceof Collection<?>) {
+			for (Object key : (Collection<?>) keys) {
+				increment(counts, key);
+			}
+		} else {
+			increment(counts, keys);
+		}
+	}
+
+	private static void decrementAll(Map<String, Integer> counts, Object keys) {
+		if (keys instanceof Collection<?>) {
+			for (Object key : (Collection<?>) keys) {
+				decrement(counts, key);
+			}
+		} else {
+			decrement(counts, keys);
+		}
+	}
+}
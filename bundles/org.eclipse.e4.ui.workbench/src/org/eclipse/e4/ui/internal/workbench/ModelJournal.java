@@ -0,0 +1,445 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.e4.ui.internal.workbench;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import org.eclipse.e4.ui.model.application.MApplicationElement;
+import org.eclipse.e4.ui.model.application.impl.ApplicationPackageImpl;
+import org.eclipse.e4.ui.workbench.IWorkbench;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Records the changes of the application model since it was last saved
+ * completely, so that they can be saved to a journal file instead of saving
+ * the whole model again, and replays that journal when the model is restored
+ * after a crash.
+ * <p>
+ * Only changes of attributes, of single-valued references and of the
+ * persisted state of elements which are saved are journaled. An entry stores
+ * the current value of a feature of an element identified by its id, so
+ * replaying an entry more than once is harmless. Other changes, for example
+ * adding or removing elements, require the model to be saved completely,
+ * which empties the journal.
+ * </p>
+ */
+final class ModelJournal extends EContentAdapter {
+
+	/**
+	 * Once the journal is larger, the model has to be saved completely.
+	 */
+	private static final long MAX_JOURNAL_SIZE = 1024 * 1024;
+
+	private static final int ATTRIBUTE = 1;
+
+	private static final int REFERENCE = 2;
+
+	private static final int PERSISTED_STATE = 3;
+
+	private static final EReference PERSISTED_STATE_FEATURE = ApplicationPackageImpl.Literals.APPLICATION_ELEMENT__PERSISTED_STATE;
+
+	private final File file;
+
+	/**
+	 * The journal of the changes which are saved by a complete save in
+	 * progress.
+	 */
+	private final File snapshotFile;
+
+	private final Map<EObject, Set<EStructuralFeature>> changes = new LinkedHashMap<>();
+
+	private boolean snapshotRequired;
+
+	/**
+	 * @param file the journal file
+	 */
+	ModelJournal(File file) {
+		this.file = file;
+		this.snapshotFile = new File(file.getPath() + ".snapshot"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Applies the journal to the model restored from the last complete save.
+	 *
+	 * @param resource the resource of the restored model
+	 * @return whether any journal entries were applied
+	 * @throws IOException if the journal cannot be read
+	 */
+	synchronized boolean replay(E4XMIResource resource) throws IOException {
+		boolean replayed = false;
+		for (File journal : new File[] { snapshotFile, file }) {
+			if (!journal.exists()) {
+				continue;
+			}
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journal)))) {
+				for (int kind = in.read(); kind != -1; kind = in.read()) {
+					replay(resource, kind, in);
+					replayed = true;
+				}
+			} catch (EOFException e) {
+				// the last entry has not been written completely
+			}
+		}
+		return replayed;
+	}
+
+	private void replay(E4XMIResource resource, int kind, DataInputStream in) throws IOException {
+		EObject element = resource.getIDToEObjectMap().get(in.readUTF());
+		switch (kind) {
+		case ATTRIBUTE: {
+			EStructuralFeature feature = getFeature(element, in.readUTF());
+			int size = in.readInt();
+			List<String> literals = new ArrayList<>();
+			for (int i = 0; i < (size < 0 ? 1 : size); i++) {
+				literals.add(readString(in));
+			}
+			if (feature instanceof EAttribute && feature.isMany() == (size >= 0)) {
+				EDataType type = ((EAttribute) feature).getEAttributeType();
+				if (size >= 0) {
+					List<Object> values = new ArrayList<>();
+					for (String literal : literals) {
+						values.add(EcoreUtil.createFromString(type, literal));
+					}
+					element.eSet(feature, values);
+				} else if (literals.get(0) == null) {
+					element.eUnset(feature);
+				} else {
+					element.eSet(feature, EcoreUtil.createFromString(type, literals.get(0)));
+				}
+			}
+			break;
+		}
+		case REFERENCE: {
+			EStructuralFeature feature = getFeature(element, in.readUTF());
+			String targetId = readString(in);
+			EObject target = targetId == null ? null : resource.getIDToEObjectMap().get(targetId);
+			if (feature instanceof EReference && (targetId == null || feature.getEType().isInstance(target))) {
+				element.eSet(feature, target);
+			}
+			break;
+		}
+		case PERSISTED_STATE: {
+			int size = in.readInt();
+			Map<String, String> state = new LinkedHashMap<>();
+			for (int i = 0; i < size; i++) {
+				state.put(readString(in), readString(in));
+			}
+			if (element instanceof MApplicationElement) {
+				Map<String, String> persistedState = ((MApplicationElement) element).getPersistedState();
+				if (!persistedState.equals(state)) {
+					persistedState.clear();
+					persistedState.putAll(state);
+				}
+			}
+			break;
+		}
+		default:
+			throw new IOException("Unknown journal entry " + kind + " in " + file); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private static EStructuralFeature getFeature(EObject element, String name) {
+		return element == null ? null : element.eClass().getEStructuralFeature(name);
+	}
+
+	/**
+	 * Appends the changes since the last call to the journal.
+	 *
+	 * @param resource the resource of the model
+	 * @return <code>false</code> if the model has to be saved completely
+	 *         instead
+	 * @throws IOException if the journal cannot be written
+	 */
+	synchronized boolean append(E4XMIResource resource) throws IOException {
+		if (snapshotRequired || file.length() > MAX_JOURNAL_SIZE) {
+			return false;
+		}
+		if (!write(resource, file, false)) {
+			snapshotRequired = true;
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Called when a copy of the model is taken to save it completely. The
+	 * journal is kept until {@link #snapshotSaved()} is called, in case the
+	 * copy is never saved.
+	 *
+	 * @param resource the resource of the model
+	 * @throws IOException if the journal cannot be written
+	 */
+	synchronized void snapshotStarted(E4XMIResource resource) throws IOException {
+		write(resource, file, true);
+		if (file.exists()) {
+			if (snapshotFile.exists()) {
+				// an earlier copy has not been saved
+				try (OutputStream out = new FileOutputStream(snapshotFile, true)) {
+					Files.copy(file.toPath(), out);
+				}
+				Files.delete(file.toPath());
+			} else if (!file.renameTo(snapshotFile)) {
+				throw new IOException("Unable to rename " + file); //$NON-NLS-1$
+			}
+		}
+		snapshotRequired = false;
+	}
+
+	/**
+	 * Called when the copy of the model taken by
+	 * {@link #snapshotStarted(E4XMIResource)} has been saved.
+	 */
+	synchronized void snapshotSaved() {
+		snapshotFile.delete();
+	}
+
+	/**
+	 * Called when the model has been saved completely.
+	 */
+	synchronized void reset() {
+		changes.clear();
+		snapshotRequired = false;
+		snapshotFile.delete();
+		file.delete();
+	}
+
+	/**
+	 * Called when the model has to be saved completely before changes can be
+	 * journaled, for example because it has not been restored from a complete
+	 * save.
+	 */
+	synchronized void requireSnapshot() {
+		changes.clear();
+		snapshotRequired = true;
+	}
+
+	/**
+	 * Writes the recorded changes to the given journal file.
+	 *
+	 * @param skipUnsupported whether to skip changes which cannot be
+	 *                        journaled instead of failing
+	 * @return <code>false</code> if a change cannot be journaled
+	 */
+	private boolean write(E4XMIResource resource, File journal, boolean skipUnsupported) throws IOException {
+		if (changes.isEmpty()) {
+			return true;
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		for (Entry<EObject, Set<EStructuralFeature>> change : changes.entrySet()) {
+			EObject element = change.getKey();
+			if (element.eResource() != resource || !isSaved(element)) {
+				// the element has been removed or is no longer saved
+				continue;
+			}
+			for (EStructuralFeature feature : change.getValue()) {
+				if (!write(out, resource, element, feature) && !skipUnsupported) {
+					return false;
+				}
+			}
+		}
+		journal.getParentFile().mkdirs();
+		try (OutputStream os = new FileOutputStream(journal, true)) {
+			bytes.writeTo(os);
+		}
+		changes.clear();
+		return true;
+	}
+
+	private boolean write(DataOutputStream out, E4XMIResource resource, EObject element, EStructuralFeature feature)
+			throws IOException {
+		if (feature == PERSISTED_STATE_FEATURE) {
+			Map<String, String> state = ((MApplicationElement) element).getPersistedState();
+			out.writeByte(PERSISTED_STATE);
+			out.writeUTF(resource.getID(element));
+			out.writeInt(state.size());
+			for (Entry<String, String> stateEntry : state.entrySet()) {
+				writeString(out, stateEntry.getKey());
+				writeString(out, stateEntry.getValue());
+			}
+		} else if (feature instanceof EAttribute) {
+			EDataType type = ((EAttribute) feature).getEAttributeType();
+			out.writeByte(ATTRIBUTE);
+			out.writeUTF(resource.getID(element));
+			out.writeUTF(feature.getName());
+			if (feature.isMany()) {
+				List<?> values = (List<?>) element.eGet(feature);
+				out.writeInt(values.size());
+				for (Object value : values) {
+					writeString(out, EcoreUtil.convertToString(type, value));
+				}
+			} else {
+				Object value = element.eGet(feature);
+				out.writeInt(-1);
+				writeString(out, value == null ? null : EcoreUtil.convertToString(type, value));
+			}
+		} else {
+			EObject target = (EObject) element.eGet(feature, false);
+			String targetId = null;
+			if (target != null && isSaved(target)) {
+				if (target.eResource() != resource) {
+					return false;
+				}
+				targetId = resource.getID(target);
+			}
+			out.writeByte(REFERENCE);
+			out.writeUTF(resource.getID(element));
+			out.writeUTF(feature.getName());
+			writeString(out, targetId);
+		}
+		return true;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+		} else {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch() || notification.getEventType() == Notification.REMOVING_ADAPTER
+				|| !(notification.getNotifier() instanceof EObject)
+				|| !(notification.getFeature() instanceof EStructuralFeature)) {
+			return;
+		}
+		EObject notifier = (EObject) notification.getNotifier();
+		EStructuralFeature feature = (EStructuralFeature) notification.getFeature();
+		if (feature.isTransient()) {
+			return;
+		}
+		if (notifier instanceof Entry<?, ?>) {
+			// an entry of a map has changed
+			EObject element = notifier.eContainer();
+			EReference map = notifier.eContainmentFeature();
+			if (element == null || map.isTransient()) {
+				return;
+			}
+			if (map == PERSISTED_STATE_FEATURE
+					&& !IWorkbench.PERSIST_STATE.equals(((Entry<?, ?>) notifier).getKey())) {
+				changed(element, PERSISTED_STATE_FEATURE);
+			} else {
+				changedStructure(element, null);
+			}
+		} else if (!(notifier instanceof MApplicationElement)) {
+			changedStructure(notifier, null);
+		} else if (feature == PERSISTED_STATE_FEATURE) {
+			if (containsPersistState(notification.getOldValue()) || containsPersistState(notification.getNewValue())) {
+				changedStructure(notifier, null);
+			} else {
+				changed(notifier, feature);
+			}
+		} else if (feature instanceof EAttribute
+				|| !((EReference) feature).isContainment() && !feature.isMany()) {
+			changed(notifier, feature);
+		} else {
+			changedStructure(notifier, notification);
+		}
+	}
+
+	private synchronized void changed(EObject element, EStructuralFeature feature) {
+		if (!snapshotRequired && isSaved(element)) {
+			changes.computeIfAbsent(element, e -> new LinkedHashSet<>()).add(feature);
+		}
+	}
+
+	private synchronized void changedStructure(EObject element, Notification notification) {
+		if (snapshotRequired || !isSaved(element)) {
+			return;
+		}
+		if (notification != null && ((EReference) notification.getFeature()).isContainment()
+				&& !containsSaved(notification.getOldValue()) && !containsSaved(notification.getNewValue())) {
+			// only elements which are not saved have been added or removed
+			return;
+		}
+		requireSnapshot();
+	}
+
+	private static boolean containsPersistState(Object value) {
+		if (value instanceof Collection<?>) {
+			for (Object element : (Collection<?>) value) {
+				if (containsPersistState(element)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return value instanceof Entry<?, ?> && IWorkbench.PERSIST_STATE.equals(((Entry<?, ?>) value).getKey());
+	}
+
+	private static boolean containsSaved(Object value) {
+		if (value instanceof Collection<?>) {
+			for (Object element : (Collection<?>) value) {
+				if (containsSaved(element)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return value instanceof EObject && E4XMISave.isPersisted((EObject) value);
+	}
+
+	/**
+	 * @return whether the element and its containers are saved
+	 */
+	private static boolean isSaved(EObject element) {
+		for (EObject e = element; e != null; e = e.eContainer()) {
+			if (!E4XMISave.isPersisted(e)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
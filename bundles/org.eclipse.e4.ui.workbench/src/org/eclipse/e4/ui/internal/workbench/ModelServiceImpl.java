@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2020 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,11 +22,14 @@ import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Dictionary;
 import java.util.Hashtable;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IExtensionRegistry;
@@ -96,6 +99,9 @@ public class ModelServiceImpl implements EModelService {
 
 	private ServiceRegistration<?> handlerRegistration;
 
+	/** The indexes attached to applications by searches of this service. */
+	private final Set<ModelElementIndex> indexes = Collections.newSetFromMap(new IdentityHashMap<>());
+
 	/**
 	 * This is a singleton service. One instance is used throughout the running
 	 * application
@@ -142,6 +148,10 @@ public class ModelServiceImpl implements EModelService {
 		if (handlerRegistration != null) {
 			handlerRegistration.unregister();
 		}
+		for (ModelElementIndex index : indexes) {
+			index.dispose();
+		}
+		indexes.clear();
 	}
 
 	@Override
@@ -171,9 +181,9 @@ public class ModelServiceImpl implements EModelService {
 	}
 
 	private <T> void findElementsRecursive(MApplicationElement searchRoot, Class<T> clazz,
-			Selector matcher, LinkedHashSet<T> elements, int searchFlags) {
+			Selector matcher, LinkedHashSet<T> elements, int searchFlags, Set<Object> scope, int limit) {
 		Assert.isLegal(searchRoot != null);
-		if (searchFlags == 0) {
+		if (searchFlags == 0 || elements.size() >= limit || (scope != null && !scope.contains(searchRoot))) {
 			return;
 		}
 
@@ -208,21 +218,21 @@ public class ModelServiceImpl implements EModelService {
 			}
 
 			for (MApplicationElement child : children) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope, limit);
 			}
 		}
 
 		if (searchRoot instanceof MBindingContext && (searchFlags == ANYWHERE)) {
 			MBindingContext bindingContext = (MBindingContext) searchRoot;
 			for (MBindingContext child : bindingContext.getChildren()) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope, limit);
 			}
 		}
 
 		if (searchRoot instanceof MBindingTable) {
 			MBindingTable bindingTable = (MBindingTable) searchRoot;
 			for (MKeyBinding child : bindingTable.getBindings()) {
-				findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope, limit);
 			}
 		}
 
@@ -242,7 +252,7 @@ public class ModelServiceImpl implements EModelService {
 				if((searchFlags & IN_SHARED_ELEMENTS) != 0) {
 					List<MUIElement> sharedElements = ((MWindow) searchRoot).getSharedElements();
 					for (MUIElement muiElement : sharedElements) {
-						findElementsRecursive(muiElement, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(muiElement, clazz, matcher, elements, searchFlags, scope, limit);
 					}
 				}
 
@@ -257,19 +267,19 @@ public class ModelServiceImpl implements EModelService {
 					MElementContainer<? extends MUIElement> container = searchContainer;
 					List<? extends MUIElement> children = container.getChildren();
 					for (MUIElement child : children) {
-						findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope, limit);
 					}
 				} else if ((searchFlags & IN_ACTIVE_PERSPECTIVE) != 0) {
 					// Only search the currently active perspective, if any
 					MPerspective active = ((MPerspectiveStack) searchContainer).getSelectedElement();
 					if (active != null) {
-						findElementsRecursive(active, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(active, clazz, matcher, elements, searchFlags, scope, limit);
 					}
 				} else if ((searchFlags & IN_SHARED_AREA) != 0) {
 					// Only recurse through the shared areas
 					List<MArea> areas = findElements(searchContainer, null, MArea.class);
 					for (MArea area : areas) {
-						findElementsRecursive(area, clazz, matcher, elements, searchFlags);
+						findElementsRecursive(area, clazz, matcher, elements, searchFlags, scope, limit);
 					}
 				}
 			} else {
@@ -277,7 +287,7 @@ public class ModelServiceImpl implements EModelService {
 				MElementContainer<MUIElement> container = (MElementContainer<MUIElement>) searchRoot;
 				List<MUIElement> children = container.getChildren();
 				for (MUIElement child : children) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope, limit);
 				}
 			}
 		}
@@ -287,7 +297,7 @@ public class ModelServiceImpl implements EModelService {
 			MTrimmedWindow tw = (MTrimmedWindow) searchRoot;
 			List<MTrimBar> bars = tw.getTrimBars();
 			for (MTrimBar bar : bars) {
-				findElementsRecursive(bar, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(bar, clazz, matcher, elements, searchFlags, scope, limit);
 			}
 		}
 
@@ -295,17 +305,17 @@ public class ModelServiceImpl implements EModelService {
 		if (searchRoot instanceof MWindow) {
 			MWindow window = (MWindow) searchRoot;
 			for (MWindow dw : window.getWindows()) {
-				findElementsRecursive(dw, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(dw, clazz, matcher, elements, searchFlags, scope, limit);
 			}
 
 			MMenu menu = window.getMainMenu();
 			if (menu != null && (searchFlags & IN_MAIN_MENU) != 0) {
-				findElementsRecursive(menu, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(menu, clazz, matcher, elements, searchFlags, scope, limit);
 			}
 			// Check for Handlers
 			if (searchFlags == ANYWHERE && MHandler.class.equals(clazz)) {
 				for (MHandler child : window.getHandlers()) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope, limit);
 				}
 			}
 		}
@@ -313,7 +323,7 @@ public class ModelServiceImpl implements EModelService {
 		if (searchRoot instanceof MPerspective) {
 			MPerspective persp = (MPerspective) searchRoot;
 			for (MWindow dw : persp.getWindows()) {
-				findElementsRecursive(dw, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(dw, clazz, matcher, elements, searchFlags, scope, limit);
 			}
 		}
 		// Search shared elements
@@ -323,7 +333,7 @@ public class ModelServiceImpl implements EModelService {
 			// Don't search in shared areas unless the flag is set
 			if (ph.getRef() != null
 					&& (!(ph.getRef() instanceof MArea) || (searchFlags & IN_SHARED_AREA) != 0)) {
-				findElementsRecursive(ph.getRef(), clazz, matcher, elements, searchFlags);
+				findElementsRecursive(ph.getRef(), clazz, matcher, elements, searchFlags, scope, limit);
 			}
 		}
 
@@ -331,16 +341,16 @@ public class ModelServiceImpl implements EModelService {
 			MPart part = (MPart) searchRoot;
 
 			for (MMenu menu : part.getMenus()) {
-				findElementsRecursive(menu, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(menu, clazz, matcher, elements, searchFlags, scope, limit);
 			}
 
 			MToolBar toolBar = part.getToolbar();
 			if (toolBar != null) {
-				findElementsRecursive(toolBar, clazz, matcher, elements, searchFlags);
+				findElementsRecursive(toolBar, clazz, matcher, elements, searchFlags, scope, limit);
 			}
 			if (MHandler.class.equals(clazz)) {
 				for (MHandler child : part.getHandlers()) {
-					findElementsRecursive(child, clazz, matcher, elements, searchFlags);
+					findElementsRecursive(child, clazz, matcher, elements, searchFlags, scope, limit);
 				}
 			}
 		}
@@ -412,8 +422,7 @@ public class ModelServiceImpl implements EModelService {
 
 	@Override
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz, List<String> tagsToMatch) {
-		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		return findElements(searchRoot, clazz, ANYWHERE, matcher);
+		return findElements(searchRoot, id, clazz, tagsToMatch, ANYWHERE);
 	}
 
 	@Override
@@ -424,18 +433,54 @@ public class ModelServiceImpl implements EModelService {
 	@Override
 	public <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz,
 			List<String> tagsToMatch, int searchFlags) {
+		return findElements(searchRoot, id, clazz, tagsToMatch, searchFlags, Integer.MAX_VALUE);
+	}
+
+	private <T> List<T> findElements(MUIElement searchRoot, String id, Class<T> clazz, List<String> tagsToMatch,
+			int searchFlags, int limit) {
+		ModelElementIndex index = getIndex(searchRoot);
+		Set<Object> scope = null;
+		if (index != null) {
+			if (!index.mayContain(id, clazz, tagsToMatch)) {
+				return new ArrayList<>();
+			}
+			if (id != null) {
+				// only descend towards the elements with the id, the search
+				// flags are still checked on the way down
+				scope = index.scopeOf(id);
+			}
+		}
 		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		return findElements(searchRoot, clazz, searchFlags, matcher);
+		LinkedHashSet<T> elements = new LinkedHashSet<>();
+		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags, scope, limit);
+		return new ArrayList<>(elements);
 	}
 
 	@Override
 	public <T> List<T> findElements(MApplicationElement searchRoot, Class<T> clazz,
 			int searchFlags, Selector matcher) {
+		// the selector only ever narrows down the elements of the given type
+		ModelElementIndex index = getIndex(searchRoot);
+		if (index != null && !index.mayContain(null, clazz, null)) {
+			return new ArrayList<>();
+		}
 		LinkedHashSet<T> elements = new LinkedHashSet<>();
-		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags);
+		findElementsRecursive(searchRoot, clazz, matcher, elements, searchFlags, null, Integer.MAX_VALUE);
 		return new ArrayList<>(elements);
 	}
 
+	/**
+	 * Returns the index of the application containing the search root, so that
+	 * searches do not have to walk the whole model.
+	 */
+	private ModelElementIndex getIndex(MApplicationElement searchRoot) {
+		ModelElementIndex index = ModelElementIndex.of(searchRoot);
+		if (index != null) {
+			indexes.add(index);
+		}
+		return index;
+	}
+
 	@Override
 	public <T> Stream<T> findMatchingElements(MApplicationElement searchRoot, String xPath, Class<T> clazz) {
 		return ModelXPathEvaluator.findMatchingElements(searchRoot, xPath, clazz);
@@ -446,7 +491,7 @@ public class ModelServiceImpl implements EModelService {
 			List<String> tagsToMatch) {
 		LinkedHashSet<T> elements = new LinkedHashSet<>();
 		ElementMatcher matcher = new ElementMatcher(id, clazz, tagsToMatch);
-		findElementsRecursive(searchRoot, clazz, matcher, elements, PRESENTATION);
+		findElementsRecursive(searchRoot, clazz, matcher, elements, PRESENTATION, null, Integer.MAX_VALUE);
 		return elements;
 	}
 
@@ -456,7 +501,8 @@ public class ModelServiceImpl implements EModelService {
 			return null;
 		}
 
-		List<MUIElement> elements = findElements(searchRoot, id, MUIElement.class);
+		// only the first element in search order is needed
+		List<MUIElement> elements = findElements(searchRoot, id, MUIElement.class, null, ANYWHERE, 1);
 		if (!elements.isEmpty()) {
 			return elements.get(0);
 		}
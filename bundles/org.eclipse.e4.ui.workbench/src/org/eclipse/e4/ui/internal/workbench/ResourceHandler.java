@@ -54,6 +54,7 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.osgi.service.datalocation.Location;
 import org.osgi.framework.Bundle;
 
@@ -64,6 +65,7 @@ public class ResourceHandler implements IModelResourceHandler {
 
 	private ResourceSet resourceSet;
 	private Resource resource;
+	private ModelJournal journal;
 
 	@Inject
 	private Logger logger;
@@ -90,6 +92,11 @@ public class ResourceHandler implements IModelResourceHandler {
 	@Named(IWorkbench.CLEAR_PERSISTED_STATE)
 	private boolean clearPersistedState;
 
+	@Inject
+	@Optional
+	@Named(E4Workbench.BINARY_MODEL_FORMAT)
+	private boolean binaryModelFormat;
+
 	/**
 	 * Constructor.
 	 */
@@ -147,8 +154,13 @@ public class ResourceHandler implements IModelResourceHandler {
 			restoreLocation = URI.createFileURI(workbenchData.getAbsolutePath());
 		}
 
+		if (saveAndRestore) {
+			journal = new ModelJournal(new File(getBaseLocation(), "workbench.journal")); //$NON-NLS-1$
+		}
+
 		if (clearPersistedState && workbenchData != null && workbenchData.exists()) {
 			workbenchData.delete();
+			journal.reset();
 		}
 
 		// last stored time-stamp
@@ -172,6 +184,8 @@ public class ResourceHandler implements IModelResourceHandler {
 							"The persisted application model has no top-level window. Reinitializing with the default application model."); //$NON-NLS-1$
 				}
 				resource = null;
+			} else {
+				replayJournal();
 			}
 		}
 		if (resource == null) {
@@ -180,6 +194,11 @@ public class ResourceHandler implements IModelResourceHandler {
 			resource = createResourceWithApp(theApp);
 			context.set(E4Workbench.NO_SAVED_MODEL_FOUND, Boolean.TRUE);
 			initialModel = true;
+			if (journal != null) {
+				// the journal only applies to the saved model
+				journal.reset();
+				journal.requireSnapshot();
+			}
 		} else {
 			initialModel = false;
 		}
@@ -206,15 +225,91 @@ public class ResourceHandler implements IModelResourceHandler {
 		CommandLineOptionModelProcessor processor = ContextInjectionFactory.make(CommandLineOptionModelProcessor.class, context);
 		processor.process();
 
+		if (journal != null) {
+			((EObject) appElement).eAdapters().add(journal);
+		}
+
 		return resource;
 	}
 
+	private void replayJournal() {
+		if (journal != null && resource instanceof E4XMIResource) {
+			try {
+				journal.replay((E4XMIResource) resource);
+			} catch (IOException | RuntimeException e) {
+				if (logger != null) {
+					logger.error(e, "Unable to replay the changes journaled since the model was saved"); //$NON-NLS-1$
+				}
+			}
+		}
+	}
+
 	@Override
 	public void save() throws IOException {
 		if (saveAndRestore) {
 			Map<String, Object> options = new HashMap<>();
 			options.put(E4XMIResource.OPTION_FILTER_PERSIST_STATE, Boolean.TRUE);
+			options.put(E4XMIResource.OPTION_BINARY_FORMAT, Boolean.valueOf(binaryModelFormat));
 			resource.save(options);
+			if (journal != null) {
+				journal.reset();
+			}
+		}
+	}
+
+	/**
+	 * Saves the changes of the model since it was last saved completely to a
+	 * journal, which is applied when the model is restored. Changes which
+	 * cannot be journaled, for example added or removed elements, require the
+	 * model to be saved completely instead.
+	 *
+	 * @return <code>false</code> if the model has to be saved completely
+	 * @throws IOException if storing fails
+	 */
+	public boolean saveChanges() throws IOException {
+		return saveAndRestore && journal != null && resource instanceof E4XMIResource
+				&& journal.append((E4XMIResource) resource);
+	}
+
+	/**
+	 * Called when a copy of the model is taken to save it completely in the
+	 * background, see {@link #createResourceWithApp(MApplication)}. The copies
+	 * have to keep the ids of the original elements, so that changes journaled
+	 * by {@link #saveChanges()} apply to them.
+	 *
+	 * @param copies the copied elements, keyed by the original elements
+	 * @return the ids of the copied elements
+	 */
+	public Map<EObject, String> snapshotStarted(Map<EObject, EObject> copies) {
+		Map<EObject, String> ids = new HashMap<>();
+		if (resource instanceof E4XMIResource) {
+			E4XMIResource xmiResource = (E4XMIResource) resource;
+			for (Map.Entry<EObject, EObject> copy : copies.entrySet()) {
+				if (copy.getKey().eResource() == resource) {
+					String id = xmiResource.getID(copy.getKey());
+					if (id != null) {
+						ids.put(copy.getValue(), id);
+					}
+				}
+			}
+			if (journal != null) {
+				try {
+					journal.snapshotStarted(xmiResource);
+				} catch (IOException e) {
+					logger.error(e, "Unable to save the journaled changes of the model"); //$NON-NLS-1$
+				}
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * Called when the copy of the model passed to
+	 * {@link #snapshotStarted(Map)} has been saved.
+	 */
+	public void snapshotSaved() {
+		if (journal != null) {
+			journal.snapshotSaved();
 		}
 	}
 
@@ -235,7 +330,12 @@ public class ResourceHandler implements IModelResourceHandler {
 	private Resource createResource() {
 		if (saveAndRestore) {
 			URI saveLocation = URI.createFileURI(getWorkbenchSaveLocation().getAbsolutePath());
-			return resourceSet.createResource(saveLocation);
+			Resource res = resourceSet.createResource(saveLocation);
+			if (binaryModelFormat && res instanceof XMLResource) {
+				// copies of the model are saved in the same format
+				((XMLResource) res).getDefaultSaveOptions().put(E4XMIResource.OPTION_BINARY_FORMAT, Boolean.TRUE);
+			}
+			return res;
 		}
 		return resourceSet.createResource(URI.createURI("workbench.xmi")); //$NON-NLS-1$
 	}
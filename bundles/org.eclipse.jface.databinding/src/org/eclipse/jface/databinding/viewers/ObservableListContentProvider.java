@@ -23,6 +23,8 @@ import org.eclipse.core.databinding.observable.IObservableCollection;
 import org.eclipse.core.databinding.observable.list.IListChangeListener;
 import org.eclipse.core.databinding.observable.list.IObservableList;
 import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.observable.list.ListDiffVisitor;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.runtime.Assert;
@@ -38,7 +40,10 @@ import org.eclipse.jface.viewers.Viewer;
  * {@link AbstractTableViewer} or {@link AbstractListViewer} that provides
  * elements of an {@link IObservableList} when set as the viewer's input.
  * Objects of this class listen for changes to the observable list, and will
- * insert and remove viewer elements to reflect observed changes.
+ * insert and remove viewer elements to reflect observed changes. Large changes
+ * are applied with bulk viewer operations, and the viewer control is then not
+ * redrawn until the display has processed its pending events, so that
+ * successive changes are painted at once.
  *
  * @param <E> type of the values that are provided by this object TODO: Probably
  *            remove this!
@@ -118,10 +123,58 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 				realizedElements.removeAll(knownElementRemovals);
 			}
 
-			if (suspendRedraw[0])
+			if (event.diff.getDifferences().length > BULK_UPDATE_THRESHOLD) {
+				suspendRedraw();
+				updateViewerInBulk(event.diff, event.getObservableList(), knownElementRemovals);
+			} else {
+				updateViewer(event.diff, suspendRedraw[0]);
+			}
+
+			if (realizedElements != null) {
+				realizedElements.addAll(knownElementAdditions);
+			}
+			knownElements.removeAll(knownElementRemovals);
+		}
+
+		/**
+		 * Applies a large diff with a single bulk operation: elements appended
+		 * to the list are added at once, elements which are no longer in the
+		 * list are removed at once, and the viewer is refreshed for any other
+		 * diff.
+		 */
+		@SuppressWarnings("unchecked")
+		private void updateViewerInBulk(ListDiff<? extends E> diff, IObservableList<? extends E> list,
+				Set<E> knownElementRemovals) {
+			ListDiffEntry<? extends E>[] differences = diff.getDifferences();
+			boolean appended = true;
+			boolean removed = knownElementRemovals.size() == differences.length;
+			int firstPosition = list.size() - differences.length;
+			for (int i = 0; i < differences.length && (appended || removed); i++) {
+				appended &= differences[i].isAddition() && differences[i].getPosition() == firstPosition + i;
+				removed &= !differences[i].isAddition();
+			}
+			if (appended || removed) {
+				E[] elements = (E[]) new Object[differences.length];
+				for (int i = 0; i < differences.length; i++) {
+					elements[i] = differences[i].getElement();
+				}
+				if (appended) {
+					viewerUpdater.add(elements);
+				} else {
+					viewerUpdater.remove(elements);
+				}
+			} else if (canRefreshViewer()) {
+				viewer.refresh();
+			} else {
+				updateViewer(diff, false);
+			}
+		}
+
+		private void updateViewer(ListDiff<? extends E> diff, boolean suspendRedraw) {
+			if (suspendRedraw)
 				viewer.getControl().setRedraw(false);
 			try {
-				event.diff.accept(new ListDiffVisitor<E>() {
+				diff.accept(new ListDiffVisitor<E>() {
 					@Override
 					public void handleAdd(int index, E element) {
 						viewerUpdater.insert(element, index);
@@ -143,14 +196,9 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 					}
 				});
 			} finally {
-				if (suspendRedraw[0])
+				if (suspendRedraw)
 					viewer.getControl().setRedraw(true);
 			}
-
-			if (realizedElements != null) {
-				realizedElements.addAll(knownElementAdditions);
-			}
-			knownElements.removeAll(knownElementRemovals);
 		}
 	}
 
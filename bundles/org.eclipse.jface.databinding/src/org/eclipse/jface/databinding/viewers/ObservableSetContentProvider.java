@@ -33,7 +33,9 @@ import org.eclipse.jface.viewers.Viewer;
  * {@link AbstractTableViewer} or {@link AbstractListViewer} that provides
  * elements of an {@link IObservableSet} when set as the viewer's input. Objects
  * of this class listen for changes to the observable set, and will insert and
- * remove viewer elements to reflect observed changes.
+ * remove viewer elements to reflect observed changes. After large changes, the
+ * viewer control is not redrawn until the display has processed its pending
+ * events, so that successive changes are painted at once.
  *
  * @param <E> type of the values that are provided by this object
  *
@@ -77,6 +79,8 @@ public class ObservableSetContentProvider<E> implements IStructuredContentProvid
 			if (realizedElements != null)
 				realizedElements.removeAll(removals);
 
+			if (removals.size() + additions.size() > BULK_UPDATE_THRESHOLD)
+				suspendRedraw();
 			viewerUpdater.remove((E[]) removals.toArray());
 			viewerUpdater.add((E[]) additions.toArray());
 
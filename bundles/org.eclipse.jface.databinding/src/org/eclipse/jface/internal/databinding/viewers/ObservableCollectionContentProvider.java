@@ -34,6 +34,7 @@ import org.eclipse.jface.viewers.IElementComparer;
 import org.eclipse.jface.viewers.IStructuredContentProvider;
 import org.eclipse.jface.viewers.StructuredViewer;
 import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 
 /**
@@ -45,6 +46,12 @@ import org.eclipse.swt.widgets.Display;
  * @since 1.2
  */
 public abstract class ObservableCollectionContentProvider<E> implements IStructuredContentProvider {
+	/**
+	 * Diffs with more entries than this are applied to the viewer with bulk
+	 * operations rather than one viewer update per entry.
+	 */
+	protected static final int BULK_UPDATE_THRESHOLD = 100;
+
 	private Display display;
 
 	private IObservableValue<Viewer> viewerObservable;
@@ -83,6 +90,12 @@ public abstract class ObservableCollectionContentProvider<E> implements IStructu
 
 	private IObservableCollection<E> observableCollection;
 
+	/**
+	 * The control whose redraw has been suspended until the display has
+	 * processed the pending events, or <code>null</code>.
+	 */
+	private Control suspendedControl;
+
 	/**
 	 * Constructs an ObservableCollectionContentProvider
 	 */
@@ -131,6 +144,7 @@ public abstract class ObservableCollectionContentProvider<E> implements IStructu
 
 	@Override
 	public void dispose() {
+		resumeRedraw();
 		if (observableCollection != null)
 			removeCollectionChangeListener(observableCollection);
 
@@ -153,6 +167,7 @@ public abstract class ObservableCollectionContentProvider<E> implements IStructu
 	}
 
 	private void setViewer(Viewer viewer) {
+		resumeRedraw();
 		viewerUpdater = createViewerUpdater(viewer);
 		comparer = getElementComparer(viewer);
 		viewerObservable.setValue(viewer); // (clears knownElements)
@@ -235,6 +250,42 @@ public abstract class ObservableCollectionContentProvider<E> implements IStructu
 				|| viewer.getControl().isDisposed();
 	}
 
+	/**
+	 * Suspends redrawing of the viewer control until the display has processed
+	 * the pending events. Large updates of the viewer, and all further updates
+	 * which happen before the display processes its events, are then painted
+	 * at once.
+	 */
+	protected final void suspendRedraw() {
+		if (suspendedControl != null || isViewerDisposed())
+			return;
+		Control control = viewerObservable.getValue().getControl();
+		control.setRedraw(false);
+		suspendedControl = control;
+		display.asyncExec(() -> {
+			if (suspendedControl == control)
+				resumeRedraw();
+		});
+	}
+
+	private void resumeRedraw() {
+		Control control = suspendedControl;
+		suspendedControl = null;
+		if (control != null && !control.isDisposed())
+			control.setRedraw(true);
+	}
+
+	/**
+	 * Returns whether the viewer may be refreshed instead of being updated
+	 * through the {@link #viewerUpdater viewer updater}. This is not the case
+	 * if the viewer updater has been provided by the client.
+	 *
+	 * @return whether the viewer may be refreshed
+	 */
+	protected final boolean canRefreshViewer() {
+		return explicitViewerUpdater == null;
+	}
+
 	/**
 	 * Returns the set of elements known to this content provider. Label
 	 * providers may track this set if they need to be notified about additions
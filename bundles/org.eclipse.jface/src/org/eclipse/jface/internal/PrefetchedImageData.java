@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.internal;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.swt.graphics.ImageData;
+
+/**
+ * Image data decoded in advance in background threads, keyed by the location
+ * and zoom of the image. An entry is removed once it is taken. Beyond
+ * {@link #MAX_PREFETCHED} entries, the least recently used ones are dropped to
+ * make room for new ones.
+ *
+ * @since 3.37
+ */
+public final class PrefetchedImageData {
+
+	/**
+	 * Upper bound of the prefetched image data not yet taken.
+	 */
+	public static final int MAX_PREFETCHED = 512;
+
+	private static final Map<String, CompletableFuture<ImageData>> prefetched = Collections
+			.synchronizedMap(new LinkedHashMap<String, CompletableFuture<ImageData>>(16, 0.75f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<ImageData>> eldest) {
+					if (size() <= MAX_PREFETCHED) {
+						return false;
+					}
+					eldest.getValue().cancel(false);
+					return true;
+				}
+			});
+
+	/**
+	 * Decodes prefetched images in parallel daemon threads, which terminate when
+	 * idle.
+	 */
+	private static final class PrefetchExecutor {
+		static final ExecutorService INSTANCE;
+
+		static {
+			int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, "Image Prefetch"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						thread.setPriority(Thread.NORM_PRIORITY - 1);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			INSTANCE = executor;
+		}
+	}
+
+	private PrefetchedImageData() {
+	}
+
+	/**
+	 * Returns the key of the image data of the given location and zoom.
+	 *
+	 * @param location the location of the image
+	 * @param zoom     the zoom
+	 * @return the key
+	 */
+	public static String getKey(String location, int zoom) {
+		return zoom + ":" + location; //$NON-NLS-1$
+	}
+
+	/**
+	 * Starts decoding image data in the background, unless it has been
+	 * prefetched already.
+	 *
+	 * @param key    the key of the image data
+	 * @param loader decodes the image data
+	 */
+	public static void prefetch(String key, Supplier<ImageData> loader) {
+		prefetched.computeIfAbsent(key, k -> CompletableFuture.supplyAsync(loader, PrefetchExecutor.INSTANCE));
+	}
+
+	/**
+	 * Removes the image data prefetched for the given key. Decoding that has
+	 * not completed yet is cancelled rather than waited for, as the caller can
+	 * decode the image data itself at least as fast.
+	 *
+	 * @param key the key of the image data
+	 * @return the decoded image data, or <code>null</code> if it has not been
+	 *         prefetched, has not been decoded yet or could not be decoded
+	 */
+	public static ImageData take(String key) {
+		CompletableFuture<ImageData> prefetch = prefetched.remove(key);
+		if (prefetch == null) {
+			return null;
+		}
+		if (!prefetch.isDone()) {
+			prefetch.cancel(false);
+			return null;
+		}
+		return prefetch.isCompletedExceptionally() ? null : prefetch.join();
+	}
+
+	/**
+	 * Returns whether image data has been prefetched for the given key and not
+	 * been taken yet.
+	 *
+	 * @param key the key of the image data
+	 * @return whether the image data is prefetched
+	 */
+	public static boolean contains(String key) {
+		return prefetched.containsKey(key);
+	}
+
+	/**
+	 * Returns the image data decoded for the given key without taking it.
+	 *
+	 * @param key the key of the image data
+	 * @return the decoded image data, or <code>null</code> if it has not been
+	 *         decoded yet
+	 */
+	public static ImageData peek(String key) {
+		CompletableFuture<ImageData> prefetch = prefetched.get(key);
+		if (prefetch == null || !prefetch.isDone() || prefetch.isCompletedExceptionally()) {
+			return null;
+		}
+		return prefetch.join();
+	}
+
+	/**
+	 * Returns the number of entries not taken yet, including the ones still
+	 * being decoded.
+	 *
+	 * @return the number of entries
+	 */
+	public static int size() {
+		return prefetched.size();
+	}
+}
@@ -171,6 +171,39 @@ public abstract class CompositeImageDescriptor extends ImageDescriptor {
 	protected CompositeImageDescriptor() {
 	}
 
+	/**
+	 * Constructs an uninitialized composite image.
+	 *
+	 * @param shouldBeCached whether the composed image should be kept by the
+	 *                       resource manager after its last reference has been
+	 *                       destroyed, see
+	 *                       {@link DeviceResourceDescriptor#DeviceResourceDescriptor(boolean)}
+	 * @since 3.37
+	 */
+	protected CompositeImageDescriptor(boolean shouldBeCached) {
+		super(shouldBeCached);
+	}
+
+	/**
+	 * Returns whether an image composed of the given image descriptors may be
+	 * kept by the resource manager, which is only the case if each of them may
+	 * be kept.
+	 *
+	 * @param descriptors the image descriptors the image is composed of,
+	 *                    <code>null</code> values are ignored
+	 * @return whether all given image descriptors should be cached
+	 * @see #CompositeImageDescriptor(boolean)
+	 * @since 3.37
+	 */
+	protected static boolean allShouldBeCached(ImageDescriptor... descriptors) {
+		for (ImageDescriptor descriptor : descriptors) {
+			if (descriptor != null && !descriptor.shouldBeCached()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Draw the composite images.
 	 * <p>
@@ -79,6 +79,17 @@ public abstract class ImageDescriptor extends DeviceResourceDescriptor<Image> {
 		super(shouldBeCached);
 	}
 
+	/**
+	 * Starts decoding the image data for the given zoom in a background thread,
+	 * so that a later call of {@link #getImageData(int)} does not have to wait
+	 * for it. Does nothing by default.
+	 *
+	 * @param zoom the zoom level in % of the standard resolution
+	 */
+	void prefetchImageData(int zoom) {
+		// only supported by descriptors which load their data
+	}
+
 	private static final ImageDescriptor NULL_IMAGE = createFromImageDataProvider(z -> null);
 
 	/**
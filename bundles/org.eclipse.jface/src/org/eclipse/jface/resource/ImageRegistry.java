@@ -254,6 +254,32 @@ public class ImageRegistry {
 		entry.descriptor = descriptor;
 	}
 
+	/**
+	 * Starts decoding the images of the given keys in background threads, for the
+	 * standard resolution and the zoom of the primary monitor. Clients call this
+	 * for images which are about to be used, so that only the creation of the
+	 * images is left to the UI thread. Keys without a descriptor or whose image
+	 * has already been created are ignored.
+	 *
+	 * @param keys the keys of the images to prefetch
+	 * @since 3.37
+	 */
+	public void prefetch(String... keys) {
+		int zoom = 100;
+		if (manager.getDevice() instanceof Display d && !d.isDisposed()) {
+			zoom = d.getPrimaryMonitor().getZoom();
+		}
+		for (String key : keys) {
+			Entry entry = getEntry(key);
+			if (entry != null && entry.image == null && entry.descriptor != null) {
+				entry.descriptor.prefetchImageData(100);
+				if (zoom != 100) {
+					entry.descriptor.prefetchImageData(zoom);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Adds an image to this registry.  This method fails if there
 	 * is already an image or descriptor for the given key.
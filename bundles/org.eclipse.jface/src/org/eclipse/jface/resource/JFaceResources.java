@@ -202,6 +202,13 @@ public class JFaceResources {
 	 */
 	private static final int CACHE_SIZE = Integer.getInteger("org.eclipse.jface.resource.cacheSize", 300).intValue(); //$NON-NLS-1$
 
+	/**
+	 * Upper bound of the estimated size of the cached images, so that a few large
+	 * images do not occupy the cache. 0 disables the limit.
+	 */
+	private static final long CACHE_BYTES = Long.getLong("org.eclipse.jface.resource.cacheBytes", 16L * 1024 * 1024) //$NON-NLS-1$
+			.longValue();
+
 	/**
 	 * Returns the global resource manager for the given display
 	 *
@@ -218,7 +225,7 @@ public class JFaceResources {
 			if (CACHE_SIZE == 0) {
 				reg = new DeviceResourceManager(toQuery);
 			} else {
-				reg = new LazyResourceManager(CACHE_SIZE, new DeviceResourceManager(toQuery));
+				reg = new LazyResourceManager(CACHE_SIZE, CACHE_BYTES, new DeviceResourceManager(toQuery));
 			}
 			registries.put(toQuery, reg);
 			final ResourceManager mgr = reg;
@@ -14,54 +14,62 @@
 package org.eclipse.jface.resource;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.pde.api.tools.annotations.NoReference;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
 
 /**
  * A LRU based ResourceManager Wrapper. Not to be used by clients.
+ * <p>
+ * Unreferenced resources are kept up to a number of resources and, for images,
+ * up to an estimated number of bytes. The number of cache hits and misses is
+ * counted to allow tuning the cache size.
+ * </p>
  */
 @NoReference
 public class LazyResourceManager extends ResourceManager {
+	private final ResourceManager parent;
+	private final int cacheSize;
+	private final long cacheBytes;
+
 	/**
 	 * This LRU Map only holds the DeviceResourceDescriptors which are not
-	 * referenced otherwise anymore. The Resources itself are only cached by the
-	 * parent ResourceManager.
+	 * referenced otherwise anymore, mapped to the estimated size of their
+	 * resource in bytes. The Resources itself are only cached by the parent
+	 * ResourceManager.
 	 */
-	private static class LruMap extends LinkedHashMap<DeviceResourceDescriptor<?>, ResourceManager> {
-		private static final long serialVersionUID = 1L;
-		int cacheSize;
-
-		LruMap(int cacheSize) {
-			super(cacheSize, 0.75f, true); // last access-order
-			this.cacheSize = cacheSize;
-		}
-
-		@Override
-		protected boolean removeEldestEntry(java.util.Map.Entry<DeviceResourceDescriptor<?>, ResourceManager> eldest) {
-			boolean remove = size() > cacheSize;
-			if (remove) {
-				// destroy resource which was not used recently:
-				eldest.getValue().destroy(eldest.getKey());
-			}
-			return remove;
-		}
-	}
-
-	private final ResourceManager parent;
-	private final LruMap unreferenced;
+	private final LinkedHashMap<DeviceResourceDescriptor<?>, Long> unreferenced;
 	private final Map<DeviceResourceDescriptor<?>, Integer> refCount;
 
+	private long unreferencedBytes;
+	private long hits;
+	private long misses;
+
 	/**
 	 * @param cacheSize the lru cache size
 	 * @param parent    ResourceManager
 	 */
 	public LazyResourceManager(int cacheSize, ResourceManager parent) {
+		this(cacheSize, 0, parent);
+	}
+
+	/**
+	 * @param cacheSize  the lru cache size
+	 * @param cacheBytes the maximum estimated size in bytes of the cached images
+	 *                   or 0 if only the number of cached resources is limited
+	 * @param parent     ResourceManager
+	 * @since 3.37
+	 */
+	public LazyResourceManager(int cacheSize, long cacheBytes, ResourceManager parent) {
 		this.parent = parent;
-		this.unreferenced = new LruMap(cacheSize);
+		this.cacheSize = cacheSize;
+		this.cacheBytes = cacheBytes;
+		this.unreferenced = new LinkedHashMap<>(cacheSize, 0.75f, true); // last access-order
 		this.refCount = new HashMap<>();
 	}
 
@@ -90,12 +98,16 @@ public class LazyResourceManager extends ResourceManager {
 		@SuppressWarnings("boxing")
 		int updatedRefs = refCount.compute(descriptor, (k, refs) -> refs == null ? 1 : refs + 1);
 		if (updatedRefs == 1) {
-			ResourceManager cached = unreferenced.remove(descriptor);
+			Long cached = unreferenced.remove(descriptor);
 			if (cached == null) {
+				misses++;
 				return parent.create(descriptor);
 			}
 			// referenced again
+			hits++;
+			unreferencedBytes -= cached.longValue();
 		} else {
+			hits++;
 			assert !unreferenced.containsKey(descriptor);
 		}
 		return parent.find(descriptor);
@@ -111,11 +123,82 @@ public class LazyResourceManager extends ResourceManager {
 		Integer refsLeft = refCount.computeIfPresent(descriptor, (k, refs) -> refs == 1 ? null : (refs - 1));
 		if (refsLeft == null) {
 			// defer destroy:
-			ResourceManager old = unreferenced.put(descriptor, parent);
+			long bytes = estimateBytes(parent.find(descriptor));
+			Long old = unreferenced.put(descriptor, Long.valueOf(bytes));
 			assert old == null;
+			unreferencedBytes += bytes;
+			trim();
 		}
 	}
 
+	/**
+	 * Destroys the least recently used unreferenced resources until the cache
+	 * fits into its limits.
+	 */
+	private void trim() {
+		Iterator<Map.Entry<DeviceResourceDescriptor<?>, Long>> iterator = unreferenced.entrySet().iterator();
+		while (iterator.hasNext() && (unreferenced.size() > cacheSize
+				|| (cacheBytes > 0 && unreferencedBytes > cacheBytes))) {
+			Map.Entry<DeviceResourceDescriptor<?>, Long> eldest = iterator.next();
+			iterator.remove();
+			unreferencedBytes -= eldest.getValue().longValue();
+			// destroy resource which was not used recently:
+			parent.destroy(eldest.getKey());
+		}
+	}
+
+	private static long estimateBytes(Object resource) {
+		if (resource instanceof Image image && !image.isDisposed()) {
+			Rectangle bounds = image.getBounds();
+			return 4L * bounds.width * bounds.height;
+		}
+		return 0;
+	}
+
+	/**
+	 * @return the number of resources requested by {@link #create} which were
+	 *         already allocated, either referenced or cached
+	 * @since 3.37
+	 */
+	public long getHitCount() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of cachable resources requested by {@link #create}
+	 *         which had to be allocated by the parent
+	 * @since 3.37
+	 */
+	public long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * @return the number of cachable resources which are currently allocated,
+	 *         either referenced or cached
+	 * @since 3.37
+	 */
+	public int getAllocatedCount() {
+		return refCount.size() + unreferenced.size();
+	}
+
+	/**
+	 * @return the number of unreferenced resources which are kept by the cache
+	 * @since 3.37
+	 */
+	public int getCachedCount() {
+		return unreferenced.size();
+	}
+
+	/**
+	 * @return the estimated size in bytes of the unreferenced images which are
+	 *         kept by the cache
+	 * @since 3.37
+	 */
+	public long getCachedBytes() {
+		return unreferencedBytes;
+	}
+
 	@Override
 	public <R> R find(DeviceResourceDescriptor<R> descriptor) {
 		if (!shouldBeCached(descriptor)) {
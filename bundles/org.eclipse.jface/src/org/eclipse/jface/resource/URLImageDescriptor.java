@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,7 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.internal.InternalPolicy;
+import org.eclipse.jface.internal.PrefetchedImageData;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
@@ -103,6 +104,21 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 
 	@Override
 	public ImageData getImageData(int zoom) {
+		ImageData prefetched = PrefetchedImageData.take(PrefetchedImageData.getKey(url, zoom));
+		if (prefetched != null) {
+			return prefetched;
+		}
+		// not prefetched, still being decoded or failed, in which case loading
+		// it in this thread reports the failure to the caller
+		return loadImageData(zoom);
+	}
+
+	@Override
+	void prefetchImageData(int zoom) {
+		PrefetchedImageData.prefetch(PrefetchedImageData.getKey(url, zoom), () -> loadImageData(zoom));
+	}
+
+	private ImageData loadImageData(int zoom) {
 		URL tempURL = getURL(url);
 		if (tempURL != null) {
 			if (zoom == 100 || canLoadAtZoom(tempURL, zoom)) {
@@ -291,7 +307,9 @@ class URLImageDescriptor extends ImageDescriptor implements IAdaptable {
 		}
 		try {
 			if (InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_2x) {
-				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY) {
+				// Prefetched image data is only used by the data provider
+				if (!InternalPolicy.DEBUG_LOAD_URL_IMAGE_DESCRIPTOR_DIRECTLY
+						&& !PrefetchedImageData.contains(PrefetchedImageData.getKey(url, 100))) {
 					try {
 						// We really want a fresh ImageFileNameProvider instance to make
 						// sure the code that uses created images can use equals(),
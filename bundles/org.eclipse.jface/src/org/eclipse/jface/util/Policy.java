@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2025 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,10 @@
 package org.eclipse.jface.util;
 
 import java.util.Comparator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -76,6 +80,8 @@ public class Policy {
 
 	private static StatusHandler statusHandler;
 
+	private static volatile Executor backgroundExecutor;
+
 	/**
 	 * Returns the dummy log to use if none has been set
 	 */
@@ -252,6 +258,54 @@ public class Policy {
 		return errorSupportProvider;
 	}
 
+	/**
+	 * Runs the background work of JFace in daemon threads of JFace, which
+	 * terminate when idle.
+	 */
+	private static final class DefaultBackgroundExecutor {
+		static final Executor INSTANCE;
+
+		static {
+			int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, "JFace Background Worker"); //$NON-NLS-1$
+						thread.setDaemon(true);
+						thread.setPriority(Thread.NORM_PRIORITY - 1);
+						return thread;
+					});
+			executor.allowCoreThreadTimeOut(true);
+			INSTANCE = executor;
+		}
+	}
+
+	/**
+	 * Sets the executor used by JFace to run work outside the UI thread, for
+	 * example to filter and sort the elements of a viewer or to compute labels
+	 * in the background. Applications may set an executor that integrates with
+	 * their own scheduling, for example one running the tasks in jobs.
+	 *
+	 * @param executor
+	 *            the executor to use, or <code>null</code> to use the default
+	 *            executor of JFace
+	 * @since 3.37
+	 */
+	public static void setBackgroundExecutor(Executor executor) {
+		backgroundExecutor = executor;
+	}
+
+	/**
+	 * Returns the executor used by JFace to run work outside the UI thread. By
+	 * default, the tasks run in a small pool of daemon threads.
+	 *
+	 * @return the executor used to run work outside the UI thread
+	 * @since 3.37
+	 */
+	public static Executor getBackgroundExecutor() {
+		Executor executor = backgroundExecutor;
+		return executor != null ? executor : DefaultBackgroundExecutor.INSTANCE;
+	}
+
 	/**
 	 * Log the Exception to the logger.
 	 *
@@ -354,6 +354,7 @@ public abstract class AbstractListViewer extends StructuredViewer {
 				listRemoveAll();
 
 				children = getSortedChildren(getRoot());
+				reserveElementMap(children.length);
 				String[] items = new String[children.length];
 
 				ILabelProvider labelProvider = (ILabelProvider) getLabelProvider();
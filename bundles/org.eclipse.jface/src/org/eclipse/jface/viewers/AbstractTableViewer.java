@@ -669,6 +669,7 @@ public abstract class AbstractTableViewer extends ColumnViewer {
 		if (children == null) {
 			children = getSortedChildren(getRoot());
 		}
+		reserveElementMap(children.length - items.length);
 		int min = Math.min(children.length, items.length);
 		for (int i = 0; i < min; ++i) {
 
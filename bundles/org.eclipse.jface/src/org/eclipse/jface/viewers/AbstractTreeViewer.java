@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.util.SafeRunnable;
+import org.eclipse.jface.viewers.internal.CustomHashtable;
 import org.eclipse.jface.viewers.internal.ExpandableNode;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.BusyIndicator;
@@ -662,27 +663,68 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		return comparator.compare(this, e1, e2);
 	}
 
+	@Override
+	void collectChildrenSnapshots(Object element, List<ChildrenSnapshot> snapshots) {
+		Widget[] widgets = element == null ? new Widget[] { getControl() } : findItems(element);
+		for (Widget widget : widgets) {
+			collectChildrenSnapshots(widget, snapshots);
+		}
+	}
+
+	/**
+	 * Takes the snapshots of the children of the given widget and of its
+	 * descendants whose children have been created.
+	 */
+	private void collectChildrenSnapshots(Widget widget, List<ChildrenSnapshot> snapshots) {
+		Object data = widget.getData();
+		if (data == null) {
+			return;
+		}
+		Object parentElementOrTreePath = data;
+		TreePath sorterPath = null;
+		if (widget instanceof Item item) {
+			if (isTreePathContentProvider) {
+				parentElementOrTreePath = getTreePathFromItem(item);
+			}
+			if (getComparator() instanceof TreePathViewerSorter) {
+				sorterPath = isTreePathContentProvider ? (TreePath) parentElementOrTreePath
+						: getTreePathFromItem(item);
+			}
+		}
+		snapshots.add(new ChildrenSnapshot(parentElementOrTreePath, getRawChildren(parentElementOrTreePath), true,
+				sorterPath));
+		for (Item child : getChildren(widget)) {
+			Item[] grandChildren = getChildren(child);
+			if (grandChildren.length > 0 && grandChildren[0].getData() != null) {
+				collectChildrenSnapshots(child, snapshots);
+			}
+		}
+	}
+
 	@Override
 	protected Object[] getSortedChildren(Object parentElementOrTreePath) {
 		Object[] result = null;
 		ViewerComparator comparator = getComparator();
 		if (parentElementOrTreePath != null
 				&& comparator instanceof TreePathViewerSorter tpvs) {
-			result = getFilteredChildren(parentElementOrTreePath);
-			// be sure we're not modifying the original array from the model
-			result = result.clone();
-
-			TreePath path = null;
-			if (parentElementOrTreePath instanceof TreePath) {
-				path = (TreePath) parentElementOrTreePath;
-			} else {
-				Object parent = parentElementOrTreePath;
-				Widget w = internalGetWidgetToSelect(parent);
-				if (w != null) {
-					path = internalGetSorterParentPath(w, comparator);
+			result = getBackgroundSortedChildren(parentElementOrTreePath);
+			if (result == null) {
+				result = getFilteredChildren(parentElementOrTreePath);
+				// be sure we're not modifying the original array from the model
+				result = result.clone();
+
+				TreePath path = null;
+				if (parentElementOrTreePath instanceof TreePath) {
+					path = (TreePath) parentElementOrTreePath;
+				} else {
+					Object parent = parentElementOrTreePath;
+					Widget w = internalGetWidgetToSelect(parent);
+					if (w != null) {
+						path = internalGetSorterParentPath(w, comparator);
+					}
 				}
+				tpvs.sort(this, path, result);
 			}
-			tpvs.sort(this, path, result);
 			result = applyItemsLimit(parentElementOrTreePath, result);
 		} else {
 			return super.getSortedChildren(parentElementOrTreePath);
@@ -865,6 +907,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 				} else {
 					children = getSortedChildren(parentElement);
 				}
+				reserveElementMap(children.length);
 				// For performance insert every item at index 0 (in reverse order):
 				for (int i = children.length - 1; i >= 0; i--) {
 					createTreeItem(widget, children[i], 0);
@@ -1030,7 +1073,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			return false;
 		}
 
-		CustomHashtable itemSet = newHashtable(n * 2 + 1);
+		CustomHashtable itemSet = newHashtable(n);
 		for (Item item : items) {
 			Object element = item.getData();
 			itemSet.put(element, element);
@@ -1252,6 +1295,24 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 	 */
 	protected abstract Item[] getChildren(Widget widget);
 
+	@Override
+	void invalidateSortKeysBelow(Object element) {
+		super.invalidateSortKeysBelow(element);
+		for (Widget item : findItems(element)) {
+			invalidateSortKeysOfChildren(item);
+		}
+	}
+
+	private void invalidateSortKeysOfChildren(Widget widget) {
+		for (Item child : getChildren(widget)) {
+			Object data = child.getData();
+			if (data != null) {
+				super.invalidateSortKeysBelow(data);
+				invalidateSortKeysOfChildren(child);
+			}
+		}
+	}
+
 	/**
 	 * Get the child for the widget at index. Note that the default
 	 * implementation is not very efficient and should be overridden if this
@@ -1503,7 +1564,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 
 		if (InternalPolicy.DEBUG_LOG_EQUAL_VIEWER_ELEMENTS
 				&& elements.length > 1) {
-			CustomHashtable elementSet = newHashtable(elements.length * 2);
+			CustomHashtable elementSet = newHashtable(elements.length);
 			for (Object element : elements) {
 				Object old = elementSet.put(element, element);
 				if (old != null) {
@@ -2605,7 +2666,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		if (checkBusy()) {
 			return;
 		}
-		CustomHashtable expandedElements = newHashtable(elements.length * 2 + 1);
+		CustomHashtable expandedElements = newHashtable(elements.length);
 		for (Object element : elements) {
 			// Ensure item exists for element. This will materialize items for
 			// each element and their parents, if possible. This is important
@@ -2654,8 +2715,7 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 				return ((TreePath) element).hashCode(comparer);
 			}
 		};
-		CustomHashtable expandedTreePaths = new CustomHashtable(
-				treePaths.length * 2 + 1, treePathComparer);
+		CustomHashtable expandedTreePaths = new CustomHashtable(treePaths.length, treePathComparer);
 		for (TreePath treePath : treePaths) {
 			// Ensure item exists for element. This will materialize items for
 			// each element and their parents, if possible. This is important
@@ -2928,13 +2988,17 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 			}
 		}
 
+		if (reconcileChildren(widget, items, elementChildren, expanded, updateLabels)) {
+			return;
+		}
+
 		int min = Math.min(elementChildren.length, items.length);
 
 		// dispose of surplus items, optimizing for the case where elements have
 		// been deleted but not reordered, or all elements have been removed.
 		int numItemsToDispose = items.length - min;
 		if (numItemsToDispose > 0) {
-			CustomHashtable children = newHashtable(elementChildren.length * 2);
+			CustomHashtable children = newHashtable(elementChildren.length);
 			for (Object elementChild : elementChildren) {
 				children.put(elementChild, elementChild);
 			}
@@ -3063,6 +3127,167 @@ public abstract class AbstractTreeViewer extends ColumnViewer {
 		}
 	}
 
+	/**
+	 * Updates the child items of the given widget by keeping the items whose
+	 * elements are still children, in their relative order, and by only
+	 * disposing and creating items for the elements that were removed, added
+	 * or moved. Inserting one element at the top of a large parent therefore
+	 * creates one item instead of updating all items behind it. Labels of kept
+	 * items are only updated if <code>updateLabels</code> is <code>true</code>.
+	 * <p>
+	 * Does nothing and returns <code>false</code> if there are no items or
+	 * elements, if an item has no element, or if an element occurs more than
+	 * once; the positional comparison of {@link #updateChildren(Widget, Object, Object[], boolean)}
+	 * handles these cases.
+	 * </p>
+	 */
+	private boolean reconcileChildren(Widget widget, Item[] items, Object[] elementChildren,
+			CustomHashtable expanded, boolean updateLabels) {
+		int oldLength = items.length;
+		int newLength = elementChildren.length;
+		if (oldLength == 0 || newLength == 0) {
+			return false;
+		}
+		for (Item item : items) {
+			if (item.getData() == null) {
+				return false;
+			}
+		}
+
+		// the items of the common prefix and suffix are kept in place
+		int start = 0;
+		while (start < oldLength && start < newLength && equals(items[start].getData(), elementChildren[start])) {
+			start++;
+		}
+		int oldEnd = oldLength;
+		int newEnd = newLength;
+		while (oldEnd > start && newEnd > start
+				&& equals(items[oldEnd - 1].getData(), elementChildren[newEnd - 1])) {
+			oldEnd--;
+			newEnd--;
+		}
+
+		Item[] keptItems = new Item[newLength];
+		boolean[] kept = new boolean[oldLength];
+		for (int i = 0; i < start; i++) {
+			keptItems[i] = items[i];
+			kept[i] = true;
+		}
+		for (int i = oldEnd, j = newEnd; i < oldLength; i++, j++) {
+			keptItems[j] = items[i];
+			kept[i] = true;
+		}
+
+		// in between, keep the longest sequence of items whose elements are in
+		// the same order as before
+		if (start < oldEnd && start < newEnd) {
+			CustomHashtable newIndices = newHashtable(newEnd - start);
+			for (int j = start; j < newEnd; j++) {
+				if (newIndices.put(elementChildren[j], Integer.valueOf(j)) != null) {
+					return false;
+				}
+			}
+			int[] targets = new int[oldEnd - start];
+			for (int i = start; i < oldEnd; i++) {
+				// remove, so that equal old elements are only matched once
+				Object target = newIndices.remove(items[i].getData());
+				targets[i - start] = target == null ? -1 : ((Integer) target).intValue();
+			}
+			for (int i : longestIncreasingSubsequence(targets)) {
+				keptItems[targets[i]] = items[start + i];
+				kept[start + i] = true;
+			}
+		}
+
+		// dispose of all other items before associating any element, otherwise
+		// a later disassociate could remove a mapping made for an earlier
+		// associate
+		for (int i = 0; i < oldLength; i++) {
+			if (!kept[i]) {
+				disassociate(items[i]);
+				items[i].dispose();
+			}
+		}
+		for (int j = 0; j < newLength; j++) {
+			Item item = keptItems[j];
+			if (item != null && item.getData() != elementChildren[j]) {
+				// the elements are equal, but may still have different labels
+				// or children
+				unmapElement(item.getData(), item);
+				item.setData(elementChildren[j]);
+				mapElement(elementChildren[j], item);
+			}
+		}
+
+		boolean created = false;
+		for (int j = 0; j < newLength; j++) {
+			Item item = keptItems[j];
+			Object newElement = elementChildren[j];
+			if (item == null) {
+				createTreeItem(widget, newElement, j);
+				created = true;
+			} else {
+				updatePlus(item, newElement);
+				if (updateLabels) {
+					updateItem(item, newElement);
+				} else {
+					associate(newElement, item);
+				}
+			}
+		}
+
+		// Restore the expanded state after updatePlus, since setExpanded(false)
+		// fails if the item has no children, see bug 148025. Items are created
+		// collapsed, kept items only need to be expanded again.
+		if (expanded.size() > 0) {
+			Item[] newItems = created ? getChildren(widget) : keptItems;
+			for (int j = 0; j < newLength; j++) {
+				if (expanded.containsKey(elementChildren[j])) {
+					setExpanded(newItems[j], true);
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the indices of a longest strictly increasing subsequence of the
+	 * given values, ignoring negative values.
+	 */
+	private static int[] longestIncreasingSubsequence(int[] values) {
+		int[] tails = new int[values.length];
+		int[] previous = new int[values.length];
+		int length = 0;
+		for (int i = 0; i < values.length; i++) {
+			int value = values[i];
+			if (value < 0) {
+				continue;
+			}
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (values[tails[mid]] < value) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			previous[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				length++;
+			}
+		}
+		int[] result = new int[length];
+		int index = length > 0 ? tails[length - 1] : -1;
+		for (int k = length - 1; k >= 0; k--) {
+			result[k] = index;
+			index = previous[index];
+		}
+		return result;
+	}
+
 	/** Returns true if children were pruned */
 	/*package*/ boolean optionallyPruneChildren(Item item, Object element) {
 		// need a dummy node if element is expandable;
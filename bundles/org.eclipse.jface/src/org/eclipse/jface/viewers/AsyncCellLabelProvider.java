@@ -0,0 +1,472 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.viewers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.util.Policy;
+import org.eclipse.jface.viewers.internal.CustomHashtable;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.ScrollBar;
+import org.eclipse.swt.widgets.Scrollable;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * A cell label provider which computes the label data of elements in the
+ * background, using the {@link Policy#getBackgroundExecutor() background
+ * executor} of JFace.
+ * <p>
+ * When a cell is updated, the provider requests the label data of the cell's
+ * element. The data is computed by {@link #computeLabelData(Object)} outside
+ * the UI thread, the rows that are visible in the viewer first. Completed
+ * requests are applied in batches by updating the cells of the columns using
+ * this provider, which calls {@link #update(ViewerCell, Object)} with the
+ * computed data. Requests for rows that have been scrolled out of view are
+ * cancelled and requested again once the rows become visible.
+ * </p>
+ * <p>
+ * The data last applied to a row is kept with the row's item. While the data
+ * of the row's element is computed again, for example after a refresh of the
+ * viewer, the cell keeps showing the previous data; a placeholder is only
+ * rendered for rows which have not shown data of their element yet. Elements
+ * are compared using the viewer's {@link IElementComparer}, if any.
+ * </p>
+ *
+ * @param <T>
+ *            the type of the label data computed for an element
+ *
+ * @since 3.37
+ */
+public abstract class AsyncCellLabelProvider<T> extends CellLabelProvider {
+
+	private static final AtomicInteger instanceCount = new AtomicInteger();
+
+	/**
+	 * A request for the label data of an element.
+	 */
+	private static final class Request<T> {
+		final Object element;
+
+		/**
+		 * Whether the request has been dropped; guarded by the queue.
+		 */
+		boolean cancelled;
+
+		/**
+		 * Whether the computation failed; guarded by the queue.
+		 */
+		boolean failed;
+
+		T data;
+
+		Request(Object element) {
+			this.element = element;
+		}
+	}
+
+	/**
+	 * What the cells of a row using this provider show, kept as data of the
+	 * row's item.
+	 */
+	private static final class Shown<T> {
+		final Object element;
+
+		/**
+		 * Whether the cells show label data rather than a placeholder.
+		 */
+		final boolean hasData;
+
+		final T data;
+
+		/**
+		 * Whether the data has been computed for the current request of the
+		 * element.
+		 */
+		final boolean current;
+
+		Shown(Object element, boolean hasData, T data, boolean current) {
+			this.element = element;
+			this.hasData = hasData;
+			this.data = data;
+			this.current = current;
+		}
+	}
+
+	/**
+	 * The key of the {@link Shown} data of the items.
+	 */
+	private final String shownKey = AsyncCellLabelProvider.class.getName() + '.' + instanceCount.incrementAndGet();
+
+	private ColumnViewer viewer;
+
+	/**
+	 * The columns of the viewer using this provider. Only accessed in the UI
+	 * thread.
+	 */
+	private final Set<ViewerColumn> columns = new HashSet<>();
+
+	private Display display;
+
+	private Listener visibilityListener;
+
+	/**
+	 * The pending requests by element, compared with the viewer's comparer,
+	 * or <code>null</code>. Only accessed in the UI thread; requests are
+	 * removed once they have been applied or cancelled.
+	 */
+	private CustomHashtable requests;
+
+	/**
+	 * The requests in the order they have been made, possibly including
+	 * cancelled ones; guarded by itself.
+	 */
+	private final Deque<Request<T>> queue = new ArrayDeque<>();
+
+	/**
+	 * The requests computed but not yet applied; guarded by {@link #queue}.
+	 */
+	private final List<Request<T>> completed = new ArrayList<>();
+
+	/**
+	 * The requests being applied by element, only set while the viewer is
+	 * updated.
+	 */
+	private CustomHashtable applying;
+
+	private final BackgroundTask task = new BackgroundTask(this::computeRequested);
+
+	/**
+	 * Whether applying the completed requests has been scheduled; guarded by
+	 * {@link #queue}.
+	 */
+	private boolean flushScheduled;
+
+	private boolean reconcileScheduled;
+
+	/**
+	 * Creates a new asynchronous cell label provider.
+	 */
+	protected AsyncCellLabelProvider() {
+	}
+
+	/**
+	 * Computes the label data of the given element. Called in a background
+	 * thread; implementations must not access any widgets.
+	 *
+	 * @param element
+	 *            the element
+	 * @return the label data
+	 */
+	protected abstract T computeLabelData(Object element);
+
+	/**
+	 * Updates the given cell with the label data computed for its element.
+	 * Called in the UI thread.
+	 *
+	 * @param cell
+	 *            the cell to update
+	 * @param data
+	 *            the label data computed by {@link #computeLabelData(Object)}
+	 */
+	protected abstract void update(ViewerCell cell, T data);
+
+	/**
+	 * Updates the given cell while the label data of its element is being
+	 * computed.
+	 * <p>
+	 * The default implementation clears the text and image of the cell.
+	 * Subclasses may override.
+	 * </p>
+	 *
+	 * @param cell
+	 *            the cell to update
+	 */
+	protected void updatePlaceholder(ViewerCell cell) {
+		cell.setText(""); //$NON-NLS-1$
+		cell.setImage(null);
+	}
+
+	@Override
+	public final void update(ViewerCell cell) {
+		Object element = cell.getElement();
+		Widget item = cell.getItem();
+		if (applying != null) {
+			@SuppressWarnings("unchecked")
+			Request<T> request = (Request<T>) applying.get(element);
+			if (request != null) {
+				item.setData(shownKey, new Shown<>(element, true, request.data, true));
+				update(cell, request.data);
+				return;
+			}
+		}
+		Shown<T> shown = getShown(item);
+		if (shown != null && shown.hasData && viewer != null && viewer.equals(shown.element, element)) {
+			// keep the previous label until the data has been computed again,
+			// rather than flickering through the placeholder
+			item.setData(shownKey, new Shown<>(element, true, shown.data, false));
+			update(cell, shown.data);
+		} else {
+			item.setData(shownKey, new Shown<>(element, false, null, false));
+			updatePlaceholder(cell);
+		}
+		request(element);
+		scheduleReconcile();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Shown<T> getShown(Widget item) {
+		return (Shown<T>) item.getData(shownKey);
+	}
+
+	@Override
+	protected void initialize(ColumnViewer viewer, ViewerColumn column) {
+		if (this.viewer != viewer) {
+			if (this.viewer != null) {
+				release(this.viewer);
+			}
+			attach(viewer);
+		}
+		columns.add(column);
+	}
+
+	private void attach(ColumnViewer viewer) {
+		this.viewer = viewer;
+		Control control = viewer.getControl();
+		display = control.getDisplay();
+		// rows may become visible by scrolling, resizing or collapsing
+		visibilityListener = event -> scheduleReconcile();
+		control.addListener(SWT.Resize, visibilityListener);
+		control.addListener(SWT.Collapse, visibilityListener);
+		if (control instanceof Scrollable scrollable) {
+			ScrollBar bar = scrollable.getVerticalBar();
+			if (bar != null) {
+				bar.addListener(SWT.Selection, visibilityListener);
+			}
+		}
+	}
+
+	@Override
+	public void dispose(ColumnViewer viewer, ViewerColumn column) {
+		if (this.viewer == viewer) {
+			columns.remove(column);
+			if (!columns.isEmpty()) {
+				// still used by other columns of the viewer
+				return;
+			}
+			release(viewer);
+		}
+		super.dispose(viewer, column);
+	}
+
+	/**
+	 * Detaches this provider from the given viewer and drops all requests. The
+	 * provider may be initialized for a viewer again afterwards.
+	 */
+	private void release(ColumnViewer viewer) {
+		Control control = viewer.getControl();
+		if (visibilityListener != null && !control.isDisposed()) {
+			control.removeListener(SWT.Resize, visibilityListener);
+			control.removeListener(SWT.Collapse, visibilityListener);
+			if (control instanceof Scrollable scrollable) {
+				ScrollBar bar = scrollable.getVerticalBar();
+				if (bar != null && !bar.isDisposed()) {
+					bar.removeListener(SWT.Selection, visibilityListener);
+				}
+			}
+		}
+		visibilityListener = null;
+		synchronized (queue) {
+			if (requests != null) {
+				for (Enumeration<?> e = requests.elements(); e.hasMoreElements();) {
+					((Request<?>) e.nextElement()).cancelled = true;
+				}
+			}
+			queue.clear();
+			completed.clear();
+		}
+		requests = null;
+		columns.clear();
+		this.viewer = null;
+	}
+
+	private void request(Object element) {
+		if (viewer == null) {
+			return;
+		}
+		IElementComparer comparer = viewer.getComparer();
+		if (requests == null) {
+			requests = new CustomHashtable(comparer);
+		} else if (requests.getComparer() != comparer) {
+			requests = new CustomHashtable(requests, comparer);
+		}
+		if (requests.containsKey(element)) {
+			return;
+		}
+		Request<T> request = new Request<>(element);
+		requests.put(element, request);
+		synchronized (queue) {
+			queue.addLast(request);
+		}
+		// if the task is still running, it runs again once it has stopped
+		task.schedule();
+	}
+
+	/**
+	 * Computes the requested label data, the most recent requests first, until
+	 * no requests are left. Runs in the background task.
+	 */
+	private void computeRequested() {
+		while (true) {
+			Request<T> request;
+			synchronized (queue) {
+				request = queue.pollLast();
+				if (request == null) {
+					return;
+				}
+				if (request.cancelled) {
+					continue;
+				}
+			}
+			T data = null;
+			boolean failed = false;
+			try {
+				data = computeLabelData(request.element);
+			} catch (RuntimeException e) {
+				Policy.getLog().log(Status.error("Exception while computing label data", e)); //$NON-NLS-1$
+				failed = true;
+			}
+			synchronized (queue) {
+				if (request.cancelled) {
+					continue;
+				}
+				request.data = data;
+				request.failed = failed;
+				// failed requests are completed as well, so that the element
+				// is requested again by its next update
+				completed.add(request);
+				if (!flushScheduled && !display.isDisposed()) {
+					flushScheduled = true;
+					display.asyncExec(this::applyComputed);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Applies the computed label data in one batch. Runs in the UI thread.
+	 */
+	private void applyComputed() {
+		List<Request<T>> results;
+		synchronized (queue) {
+			flushScheduled = false;
+			if (completed.isEmpty()) {
+				return;
+			}
+			results = new ArrayList<>(completed);
+			completed.clear();
+		}
+		if (viewer == null || viewer.getControl().isDisposed() || requests == null) {
+			return;
+		}
+		CustomHashtable toApply = new CustomHashtable(results.size(), requests.getComparer());
+		List<Object> elements = new ArrayList<>(results.size());
+		for (Request<T> request : results) {
+			if (requests.get(request.element) != request) {
+				// cancelled in the meantime
+				continue;
+			}
+			requests.remove(request.element);
+			if (!request.failed) {
+				toApply.put(request.element, request);
+				elements.add(request.element);
+			}
+		}
+		if (elements.isEmpty()) {
+			return;
+		}
+		applying = toApply;
+		try {
+			// other columns may use asynchronous providers as well, which
+			// would request their data again if their cells were updated
+			viewer.updateCells(elements.toArray(), this);
+		} finally {
+			applying = null;
+		}
+	}
+
+	private void scheduleReconcile() {
+		if (reconcileScheduled || display == null || display.isDisposed()) {
+			return;
+		}
+		reconcileScheduled = true;
+		display.asyncExec(this::reconcile);
+	}
+
+	/**
+	 * Cancels the requests for rows which are not visible and requests the
+	 * label data of visible rows which don't show the current data of their
+	 * element. Runs in the UI thread.
+	 */
+	private void reconcile() {
+		reconcileScheduled = false;
+		if (viewer == null || viewer.getControl().isDisposed()) {
+			return;
+		}
+		List<Item> visible = viewer.getVisibleItems();
+		if (visible == null) {
+			return;
+		}
+		if (requests != null && requests.size() > 0) {
+			CustomHashtable visibleElements = new CustomHashtable(visible.size(), requests.getComparer());
+			for (Item item : visible) {
+				Object element = item.getData();
+				visibleElements.put(element, element);
+			}
+			List<Object> invisible = new ArrayList<>();
+			for (Enumeration<?> e = requests.keys(); e.hasMoreElements();) {
+				Object element = e.nextElement();
+				if (!visibleElements.containsKey(element)) {
+					invisible.add(element);
+				}
+			}
+			if (!invisible.isEmpty()) {
+				synchronized (queue) {
+					for (Object element : invisible) {
+						((Request<?>) requests.remove(element)).cancelled = true;
+					}
+					queue.removeIf(request -> request.cancelled);
+				}
+			}
+		}
+		for (Item item : visible) {
+			Shown<T> shown = getShown(item);
+			if (shown != null && !shown.current) {
+				request(item.getData());
+			}
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.viewers;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.util.Policy;
+
+/**
+ * Runs a task on the {@link Policy#getBackgroundExecutor() background
+ * executor} whenever it is scheduled, but never concurrently with itself.
+ * Scheduling the task while it runs makes it run once more afterwards.
+ * <p>
+ * There is no cancellation; the task stops early by checking its own state,
+ * for example whether its request has been superseded.
+ * </p>
+ */
+final class BackgroundTask {
+
+	private final Runnable task;
+
+	/**
+	 * Whether the task has been scheduled and not yet started; guarded by
+	 * <code>this</code>.
+	 */
+	private boolean pending;
+
+	/**
+	 * Whether the task has been handed to the executor and not yet found
+	 * nothing pending; guarded by <code>this</code>.
+	 */
+	private boolean running;
+
+	BackgroundTask(Runnable task) {
+		this.task = task;
+	}
+
+	/**
+	 * Makes the task run in the background, once it has finished if it is
+	 * running already.
+	 */
+	void schedule() {
+		synchronized (this) {
+			if (pending) {
+				return;
+			}
+			pending = true;
+			if (running) {
+				return;
+			}
+			running = true;
+		}
+		try {
+			Policy.getBackgroundExecutor().execute(this::run);
+		} catch (RejectedExecutionException e) {
+			synchronized (this) {
+				pending = false;
+				running = false;
+			}
+			Policy.getLog().log(Status.error("Background task rejected", e)); //$NON-NLS-1$
+		}
+	}
+
+	private void run() {
+		while (true) {
+			synchronized (this) {
+				if (!pending) {
+					running = false;
+					return;
+				}
+				pending = false;
+			}
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				Policy.getLog().log(Status.error("Exception in background task", e)); //$NON-NLS-1$
+			}
+		}
+	}
+}
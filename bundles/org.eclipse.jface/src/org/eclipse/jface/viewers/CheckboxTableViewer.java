@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.List;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.jface.util.SafeRunnable;
+import org.eclipse.jface.viewers.internal.CustomHashtable;
 import org.eclipse.pde.api.tools.annotations.NoExtend;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionEvent;
@@ -326,8 +327,8 @@ public class CheckboxTableViewer extends TableViewer implements ICheckable {
 
 		//Preserve checked items
 		TableItem[] children = getTable().getItems();
-		CustomHashtable checked = newHashtable(children.length * 2 + 1);
-		CustomHashtable grayed = newHashtable(children.length * 2 + 1);
+		CustomHashtable checked = newHashtable(children.length);
+		CustomHashtable grayed = newHashtable(children.length);
 
 		for (TableItem item : children) {
 			Object data = item.getData();
@@ -419,7 +420,7 @@ public class CheckboxTableViewer extends TableViewer implements ICheckable {
 	 */
 	public void setCheckedElements(Object[] elements) {
 		assertElementsNotNull(elements);
-		CustomHashtable set = newHashtable(elements.length * 2 + 1);
+		CustomHashtable set = newHashtable(elements.length);
 		for (Object element : elements) {
 			set.put(element, element);
 		}
@@ -472,7 +473,7 @@ public class CheckboxTableViewer extends TableViewer implements ICheckable {
 	 */
 	public void setGrayedElements(Object... elements) {
 		assertElementsNotNull(elements);
-		CustomHashtable set = newHashtable(elements.length * 2 + 1);
+		CustomHashtable set = newHashtable(elements.length);
 		for (Object element : elements) {
 			set.put(element, element);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.util.List;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.jface.util.SafeRunnable;
+import org.eclipse.jface.viewers.internal.CustomHashtable;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.widgets.Composite;
@@ -399,8 +400,8 @@ public class CheckboxTreeViewer extends TreeViewer implements ICheckable {
 
 		//Preserve checked items
 		int n = getItemCount(getControl());
-		CustomHashtable checkedNodes = newHashtable(n * 2 + 1);
-		CustomHashtable grayedNodes = newHashtable(n * 2 + 1);
+		CustomHashtable checkedNodes = newHashtable(n);
+		CustomHashtable grayedNodes = newHashtable(n);
 
 		gatherState(checkedNodes, grayedNodes, getControl());
 
@@ -464,7 +465,7 @@ public class CheckboxTreeViewer extends TreeViewer implements ICheckable {
 	 */
 	public void setCheckedElements(Object[] elements) {
 		assertElementsNotNull(elements);
-		CustomHashtable checkedElements = newHashtable(elements.length * 2 + 1);
+		CustomHashtable checkedElements = newHashtable(elements.length);
 		for (Object element : elements) {
 			// Ensure item exists for element
 			internalExpand(element, false);
@@ -530,7 +531,7 @@ public class CheckboxTreeViewer extends TreeViewer implements ICheckable {
 	 */
 	public void setGrayedElements(Object... elements) {
 		assertElementsNotNull(elements);
-		CustomHashtable grayedElements = newHashtable(elements.length * 2 + 1);
+		CustomHashtable grayedElements = newHashtable(elements.length);
 		for (Object element : elements) {
 			// Ensure item exists for element
 			internalExpand(element, false);
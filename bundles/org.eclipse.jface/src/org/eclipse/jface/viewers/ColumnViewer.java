@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,8 +35,10 @@ import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.MouseListener;
 import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Item;
+import org.eclipse.swt.widgets.Scrollable;
 import org.eclipse.swt.widgets.Widget;
 
 /**
@@ -311,6 +313,77 @@ public abstract class ColumnViewer extends StructuredViewer {
 	 */
 	protected abstract Item getItemAt(Point point);
 
+	/**
+	 * Returns the item at the top of the visible area of the control.
+	 *
+	 * @return the top item, or <code>null</code> if there is none or if it
+	 *         cannot be determined
+	 */
+	Item getTopItem() {
+		return null;
+	}
+
+	/**
+	 * Returns the items of the rows currently visible in the control, omitting
+	 * rows that have not been materialized yet.
+	 *
+	 * @return the visible items, or <code>null</code> if they cannot be
+	 *         determined
+	 */
+	List<Item> getVisibleItems() {
+		Control control = getControl();
+		Item top = getTopItem();
+		if (top == null || !(control instanceof Scrollable scrollable)) {
+			return null;
+		}
+		Rectangle area = scrollable.getClientArea();
+		int bottom = area.y + area.height;
+		List<Item> items = new ArrayList<>();
+		ViewerRow row = getViewerRowFromItem(top);
+		while (row != null && row.getBounds().y < bottom) {
+			if (row.getElement() != null) {
+				items.add((Item) row.getItem());
+			}
+			row = row.getNeighbor(ViewerRow.BELOW, false);
+		}
+		return items;
+	}
+
+	/**
+	 * Updates the cells of the given elements in the columns which use the
+	 * given label provider, leaving the cells of other columns untouched.
+	 *
+	 * @param elements
+	 *            the elements to update
+	 * @param labelProvider
+	 *            the label provider of the columns to update
+	 */
+	void updateCells(Object[] elements, CellLabelProvider labelProvider) {
+		int columnCount = Math.max(1, doGetColumnCount());
+		int[] columns = new int[columnCount];
+		int count = 0;
+		for (int i = 0; i < columnCount; i++) {
+			ViewerColumn column = getViewerColumn(i);
+			if (column != null && column.getLabelProvider() == labelProvider) {
+				columns[count++] = i;
+			}
+		}
+		if (count == 0) {
+			return;
+		}
+		for (Object element : elements) {
+			for (Widget item : findItems(element)) {
+				ViewerRow row = getViewerRowFromItem(item);
+				if (row == null) {
+					continue;
+				}
+				for (int i = 0; i < count; i++) {
+					labelProvider.update(row.getCell(columns[i]));
+				}
+			}
+		}
+	}
+
 	@Override
 	protected Item getItem(int x, int y) {
 		return getItemAt(getControl().toControl(x, y));
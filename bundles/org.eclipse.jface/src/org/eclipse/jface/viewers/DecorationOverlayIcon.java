@@ -116,6 +116,9 @@ public class DecorationOverlayIcon extends CompositeImageDescriptor {
 	 */
 	public DecorationOverlayIcon(ImageDescriptor baseImageDescriptor, ImageDescriptor overlayImageDescriptor,
 			int quadrant) {
+		// composed from descriptors only, so equal icons can share a cached
+		// image unless one of the parts must not be cached
+		super(allShouldBeCached(baseImageDescriptor, overlayImageDescriptor));
 		this.referenceImageOrDescriptor = baseImageDescriptor;
 		this.overlays = createArrayFrom(overlayImageDescriptor, quadrant);
 		this.baseImageDataProvider = createCachedImageDataProvider(baseImageDescriptor);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ListenerList;
@@ -32,6 +33,7 @@ import org.eclipse.jface.internal.InternalPolicy;
 import org.eclipse.jface.util.OpenStrategy;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.util.SafeRunnable;
+import org.eclipse.jface.viewers.internal.CustomHashtable;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.dnd.DragSource;
 import org.eclipse.swt.dnd.DragSourceListener;
@@ -44,6 +46,7 @@ import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.TreeItem;
@@ -156,6 +159,94 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	private static Widget[] NO_WIDGETS = new Widget[0];
 
+	/**
+	 * The children filtered and sorted in the background, keyed by parent
+	 * element. Only set while the result of a background refresh is applied.
+	 *
+	 * @see #refreshInBackground(Object, boolean)
+	 */
+	private CustomHashtable backgroundSortedChildren;
+
+	/**
+	 * Counts the background refreshes; used to discard the results of
+	 * refreshes that have been superseded.
+	 */
+	private volatile int backgroundRefreshCount;
+
+	/**
+	 * The latest background refresh request that has not been taken by the
+	 * background task yet.
+	 *
+	 * @see #refreshInBackground(Object, boolean)
+	 */
+	private final AtomicReference<BackgroundRefresh> pendingBackgroundRefresh = new AtomicReference<>();
+
+	/**
+	 * The task filtering and sorting for background refreshes, created on
+	 * first use.
+	 *
+	 * @see #refreshInBackground(Object, boolean)
+	 */
+	private BackgroundTask backgroundRefreshTask;
+
+	/**
+	 * A request of {@link StructuredViewer#refreshInBackground(Object, boolean)}.
+	 */
+	private static final class BackgroundRefresh {
+		final Object element;
+		final boolean updateLabels;
+		final ViewerFilter[] filters;
+		final ViewerComparator sorter;
+		final List<ChildrenSnapshot> snapshots;
+		final int refreshCount;
+		final Display display;
+
+		BackgroundRefresh(Object element, boolean updateLabels, ViewerFilter[] filters, ViewerComparator sorter,
+				List<ChildrenSnapshot> snapshots, int refreshCount, Display display) {
+			this.element = element;
+			this.updateLabels = updateLabels;
+			this.filters = filters;
+			this.sorter = sorter;
+			this.snapshots = snapshots;
+			this.refreshCount = refreshCount;
+			this.display = display;
+		}
+	}
+
+	/**
+	 * Immutable copy of the children of one parent element, taken in the UI
+	 * thread and filtered and sorted in the background.
+	 */
+	static final class ChildrenSnapshot {
+		final Object parentElementOrTreePath;
+
+		/**
+		 * The parent path to pass to a {@link TreePathViewerSorter}, or
+		 * <code>null</code> to sort without path.
+		 */
+		final TreePath sorterPath;
+
+		final boolean sortWithPath;
+
+		final Object[] rawChildren;
+
+		Object[] filteredChildren;
+
+		Object[] sortedChildren;
+
+		ChildrenSnapshot(Object parentElementOrTreePath, Object[] rawChildren) {
+			this(parentElementOrTreePath, rawChildren, false, null);
+		}
+
+		ChildrenSnapshot(Object parentElementOrTreePath, Object[] rawChildren, boolean sortWithPath,
+				TreePath sorterPath) {
+			this.parentElementOrTreePath = parentElementOrTreePath;
+			this.rawChildren = rawChildren.clone();
+			this.sortWithPath = sortWithPath;
+			this.sorterPath = sorterPath;
+		}
+	}
+
 	/**
 	 * The ColorAndFontCollector is a helper class for viewers
 	 * that have color and font support ad optionally decorators.
@@ -541,7 +632,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 
 		if (InternalPolicy.DEBUG_LOG_EQUAL_VIEWER_ELEMENTS
 				&& elements.length > 1) {
-			CustomHashtable elementSet = newHashtable(elements.length * 2);
+			CustomHashtable elementSet = newHashtable(elements.length);
 			for (Object element : elements) {
 				Object old = elementSet.put(element, element);
 				if (old != null) {
@@ -1021,7 +1112,11 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @return a sorted and filtered array of child elements
 	 */
 	protected Object[] getSortedChildren(Object parent) {
-		Object[] result = getFilteredChildren(parent);
+		Object[] result = getBackgroundSortedChildren(parent);
+		if (result != null) {
+			return result;
+		}
+		result = getFilteredChildren(parent);
 		if (sorter != null) {
 			// be sure we're not modifying the original array from the model
 			result = result.clone();
@@ -1145,6 +1240,15 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	@Override
 	protected void handleLabelProviderChanged(LabelProviderChangedEvent event) {
 		Object[] elements = event.getElements();
+		if (sorter != null) {
+			if (elements == null) {
+				sorter.invalidateSortKeys(this, null);
+			} else {
+				for (Object element : elements) {
+					sorter.invalidateSortKeys(this, element);
+				}
+			}
+		}
 		if (elements != null) {
 			update(elements, null);
 		} else {
@@ -1285,6 +1389,19 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		}
 	}
 
+	/**
+	 * Makes sure the element map can take the given number of additional
+	 * elements without growing. Does nothing if mapping is disabled.
+	 *
+	 * @param count
+	 *            the number of elements about to be mapped
+	 */
+	void reserveElementMap(int count) {
+		if (elementMap != null && count > 0) {
+			elementMap.ensureCapacity(elementMap.size() + count);
+		}
+	}
+
 	/**
 	 * Determines whether a change to the given property of the given element
 	 * would require refiltering and/or resorting.
@@ -1315,10 +1432,68 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 		return false;
 	}
 
+	/**
+	 * Discards the sort keys cached by the comparator for the given element if
+	 * a change to the given properties may affect sorting.
+	 *
+	 * @param element
+	 *            the element
+	 * @param properties
+	 *            the changed properties, or <code>null</code> if unknown
+	 */
+	private void invalidateSortKeys(Object element, String[] properties) {
+		if (sorter == null) {
+			return;
+		}
+		boolean affected = properties == null;
+		if (!affected) {
+			for (String property : properties) {
+				if (sorter.isSorterProperty(element, property)) {
+					affected = true;
+					break;
+				}
+			}
+		}
+		if (affected) {
+			sorter.invalidateSortKeys(this, element);
+		}
+	}
+
+	/**
+	 * Discards the sort keys cached by the comparator for the elements whose
+	 * labels are updated by refreshing the given element. Refreshing the root
+	 * updates the labels of all elements.
+	 *
+	 * @param element
+	 *            the refreshed element
+	 */
+	void invalidateRefreshedSortKeys(Object element) {
+		if (sorter == null) {
+			return;
+		}
+		if (element == null || equals(element, getRoot())) {
+			sorter.invalidateSortKeys(this, null);
+		} else {
+			invalidateSortKeysBelow(element);
+		}
+	}
+
+	/**
+	 * Discards the sort keys cached by the comparator for the given element and
+	 * the elements shown below it. Viewers showing elements below others must
+	 * extend this method.
+	 *
+	 * @param element
+	 *            the element, not the root
+	 */
+	void invalidateSortKeysBelow(Object element) {
+		sorter.invalidateSortKeys(this, element);
+	}
+
 	/**
 	 * Returns a new hashtable using the given capacity and this viewer's element comparer.
 	 *
-	 * @param capacity the initial capacity of the hashtable
+	 * @param capacity the number of elements the hashtable can hold without growing
 	 * @return a new hashtable
 	 *
 	 * @since 3.0
@@ -1459,6 +1634,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 *            the element
 	 */
 	public void refresh(final Object element) {
+		invalidateRefreshedSortKeys(element);
 		preservingSelection(() -> internalRefresh(element));
 	}
 
@@ -1482,9 +1658,211 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 * @since 2.0
 	 */
 	public void refresh(final Object element, final boolean updateLabels) {
+		if (updateLabels) {
+			invalidateRefreshedSortKeys(element);
+		}
 		preservingSelection(() -> internalRefresh(element, updateLabels));
 	}
 
+	/**
+	 * Refreshes this viewer starting with the given element like
+	 * {@link #refresh(Object, boolean)}, but runs this viewer's filters and
+	 * comparator in a background job.
+	 * <p>
+	 * The children of the given element, and for tree viewers those of its
+	 * descendants shown in the viewer, are obtained from the content provider
+	 * right away. They are then filtered and sorted in a background job, and
+	 * the widget is updated in one batch in the UI thread once the result is
+	 * ready. A later call to this method supersedes the pending result of an
+	 * earlier one. Children which have changed in the meantime, or which were
+	 * not known when this method was called, are filtered and sorted in the UI
+	 * thread as usual.
+	 * </p>
+	 * <p>
+	 * Clients calling this method must ensure that the filters and the
+	 * comparator of this viewer, as well as the label provider they consult,
+	 * may be called from a thread other than the UI thread. If the viewer has
+	 * neither filters nor a comparator, this method refreshes the viewer
+	 * synchronously.
+	 * </p>
+	 *
+	 * @param element
+	 *            the element
+	 * @param updateLabels
+	 *            <code>true</code> to update labels for existing elements,
+	 *            <code>false</code> to only update labels as needed, assuming
+	 *            that labels for existing elements are unchanged.
+	 * @since 3.37
+	 */
+	public void refreshInBackground(final Object element, final boolean updateLabels) {
+		Control control = getControl();
+		if (control == null || control.isDisposed()) {
+			return;
+		}
+		if (filters == null && sorter == null) {
+			refresh(element, updateLabels);
+			return;
+		}
+		if (updateLabels) {
+			invalidateRefreshedSortKeys(element);
+		}
+		final ViewerFilter[] snapshotFilters = getFilters();
+		final ViewerComparator snapshotSorter = sorter;
+		final List<ChildrenSnapshot> snapshots = new ArrayList<>();
+		collectChildrenSnapshots(element, snapshots);
+		// supersedes the request being computed, which stops between two parents
+		pendingBackgroundRefresh.set(new BackgroundRefresh(element, updateLabels, snapshotFilters, snapshotSorter,
+				snapshots, ++backgroundRefreshCount, control.getDisplay()));
+		if (backgroundRefreshTask == null) {
+			backgroundRefreshTask = new BackgroundTask(this::computeBackgroundRefresh);
+		}
+		backgroundRefreshTask.schedule();
+	}
+
+	/**
+	 * Filters and sorts the children of the latest background refresh request
+	 * and passes the result to the UI thread. Runs in the background task.
+	 */
+	private void computeBackgroundRefresh() {
+		BackgroundRefresh refresh = pendingBackgroundRefresh.getAndSet(null);
+		if (refresh == null) {
+			return;
+		}
+		boolean sorted = false;
+		try {
+			for (ChildrenSnapshot snapshot : refresh.snapshots) {
+				if (refresh.refreshCount != backgroundRefreshCount) {
+					return;
+				}
+				filterAndSort(snapshot, refresh.filters, refresh.sorter);
+			}
+			sorted = true;
+		} catch (RuntimeException e) {
+			Policy.getLog().log(Status.error("Background sorting failed, refreshing in the UI thread", e)); //$NON-NLS-1$
+		}
+		if (refresh.refreshCount != backgroundRefreshCount || refresh.display.isDisposed()) {
+			return;
+		}
+		final boolean done = sorted;
+		refresh.display.asyncExec(() -> applyBackgroundRefresh(refresh, done));
+	}
+
+	/**
+	 * Applies the result of a background refresh in the UI thread, unless the
+	 * viewer has been disposed or the refresh has been superseded.
+	 *
+	 * @param refresh
+	 *            the background refresh
+	 * @param sorted
+	 *            whether the children have been filtered and sorted
+	 */
+	private void applyBackgroundRefresh(BackgroundRefresh refresh, boolean sorted) {
+		Control c = getControl();
+		if (c == null || c.isDisposed() || refresh.refreshCount != backgroundRefreshCount) {
+			return;
+		}
+		boolean unchanged = refresh.sorter == sorter && Arrays.equals(refresh.filters, getFilters());
+		if (sorted && unchanged) {
+			CustomHashtable table = newHashtable(refresh.snapshots.size());
+			for (ChildrenSnapshot snapshot : refresh.snapshots) {
+				Object parent = snapshot.parentElementOrTreePath instanceof TreePath path
+						? path.getLastSegment()
+						: snapshot.parentElementOrTreePath;
+				if (parent != null && !table.containsKey(parent)) {
+					table.put(parent, snapshot);
+				}
+			}
+			backgroundSortedChildren = table;
+		}
+		c.setRedraw(false);
+		try {
+			refresh(refresh.element, refresh.updateLabels);
+		} finally {
+			backgroundSortedChildren = null;
+			c.setRedraw(true);
+		}
+	}
+
+	/**
+	 * Takes the snapshots of the children to be filtered and sorted by
+	 * {@link #refreshInBackground(Object, boolean)}. Called in the UI thread.
+	 *
+	 * @param element
+	 *            the element to refresh
+	 * @param snapshots
+	 *            the list to add the snapshots to
+	 */
+	void collectChildrenSnapshots(Object element, List<ChildrenSnapshot> snapshots) {
+		Object parent = element == null ? getRoot() : element;
+		if (parent != null && equals(parent, getRoot())) {
+			snapshots.add(new ChildrenSnapshot(parent, getRawChildren(parent)));
+		}
+	}
+
+	/**
+	 * Filters and sorts the children of the given snapshot the same way
+	 * {@link #getSortedChildren(Object)} does. Called in a background thread.
+	 */
+	private void filterAndSort(ChildrenSnapshot snapshot, ViewerFilter[] snapshotFilters,
+			ViewerComparator snapshotSorter) {
+		Object[] result = snapshot.rawChildren;
+		for (ViewerFilter f : snapshotFilters) {
+			if (result.length == 0) {
+				break;
+			}
+			result = f.filter(this, snapshot.parentElementOrTreePath, result);
+		}
+		snapshot.filteredChildren = result;
+		if (snapshotSorter != null && result.length > 1) {
+			result = result.clone();
+			if (snapshot.sortWithPath && snapshotSorter instanceof TreePathViewerSorter tpvs) {
+				tpvs.sort(this, snapshot.sorterPath, result);
+			} else {
+				snapshotSorter.sort(this, result);
+			}
+		}
+		snapshot.sortedChildren = result;
+	}
+
+	/**
+	 * Returns the children of the given parent as filtered and sorted by the
+	 * background refresh that is currently applied, provided that the content
+	 * provider still returns the same children.
+	 *
+	 * @param parentElementOrTreePath
+	 *            the parent element or path
+	 * @return the filtered and sorted children, or <code>null</code> if they
+	 *         have to be computed
+	 */
+	Object[] getBackgroundSortedChildren(Object parentElementOrTreePath) {
+		if (backgroundSortedChildren == null || parentElementOrTreePath == null) {
+			return null;
+		}
+		boolean isPath = parentElementOrTreePath instanceof TreePath;
+		Object parent = isPath ? ((TreePath) parentElementOrTreePath).getLastSegment() : parentElementOrTreePath;
+		ChildrenSnapshot snapshot = (ChildrenSnapshot) backgroundSortedChildren.get(parent);
+		if (snapshot == null || isPath != (snapshot.parentElementOrTreePath instanceof TreePath)) {
+			return null;
+		}
+		if (isPath && !((TreePath) parentElementOrTreePath).equals((TreePath) snapshot.parentElementOrTreePath,
+				getComparer())) {
+			return null;
+		}
+		Object[] rawChildren = getRawChildren(parentElementOrTreePath);
+		if (rawChildren.length != snapshot.rawChildren.length) {
+			return null;
+		}
+		for (int i = 0; i < rawChildren.length; i++) {
+			if (rawChildren[i] != snapshot.rawChildren[i]) {
+				return null;
+			}
+		}
+		if (associateListener != null && snapshot.filteredChildren.length != rawChildren.length) {
+			notifyFilteredOut(rawChildren, snapshot.filteredChildren);
+		}
+		return snapshot.sortedChildren;
+	}
+
 	/**
 	 *
 	 * Refreshes the given item with the given element. Calls
@@ -1632,6 +2010,10 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 							"(Has the widget been disposed?)"); //$NON-NLS-1$
 		}
 		unmapAllElements();
+		if (sorter != null) {
+			// labels may have changed even if the input is the same
+			sorter.invalidateSortKeys(this, null);
+		}
 		super.setInput(input);
 	}
 
@@ -1743,6 +2125,9 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	public void setComparator(ViewerComparator comparator){
 		if (this.sorter != comparator){
 			this.sorter = comparator;
+			if (comparator != null) {
+				comparator.invalidateSortKeys(this, null);
+			}
 			refresh();
 		}
 	}
@@ -1971,6 +2356,9 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 *            indicate unknown
 	 */
 	public void update(Object[] elements, String[] properties) {
+		for (Object element : elements) {
+			invalidateSortKeys(element, properties);
+		}
 		boolean previousValue = refreshOccurred;
 		refreshOccurred = false;
 		try {
@@ -2027,6 +2415,7 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	 */
 	public void update(Object element, String[] properties) {
 		Assert.isNotNull(element);
+		invalidateSortKeys(element, properties);
 		Widget[] items = findItems(element);
 
 		boolean mayExitEarly = !refreshOccurred;
@@ -2268,6 +2657,9 @@ public abstract class StructuredViewer extends ContentViewer implements IPostSel
 	@Override
 	protected void handleDispose(DisposeEvent event) {
 		super.handleDispose(event);
+		// stops the background refresh and discards its pending result
+		backgroundRefreshCount++;
+		pendingBackgroundRefresh.set(null);
 		sorter = null;
 		comparer = null;
 		if (filters != null)
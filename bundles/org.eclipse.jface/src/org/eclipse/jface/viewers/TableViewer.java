@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@
 package org.eclipse.jface.viewers;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.viewers.internal.CustomHashtable;
 import org.eclipse.jface.viewers.internal.ExpandableNode;
 import org.eclipse.pde.api.tools.annotations.NoExtend;
 import org.eclipse.swt.SWT;
@@ -199,6 +200,12 @@ public class TableViewer extends AbstractTableViewer {
 		return getViewerRowFromItem(item);
 	}
 
+	@Override
+	Item getTopItem() {
+		int count = table.getItemCount();
+		return count == 0 ? null : table.getItem(Math.min(table.getTopIndex(), count - 1));
+	}
+
 	@Override
 	protected Item getItemAt(Point p) {
 		TableItem[] selection = table.getSelection();
@@ -371,6 +378,9 @@ public class TableViewer extends AbstractTableViewer {
 			cancelEditing();
 		}
 
+		if (updateLabels) {
+			invalidateRefreshedSortKeys(element);
+		}
 		preservingSelection(() -> internalRefresh(element, updateLabels), reveal);
 	}
 
@@ -102,6 +102,12 @@ public class TreePathViewerSorter extends ViewerSorter {
 	 * @param elements the elements to sort
 	 */
 	public void sort(final Viewer viewer, final TreePath parentPath, Object[] elements) {
-		Arrays.sort(elements, (a, b) -> TreePathViewerSorter.this.compare(viewer, parentPath, a, b));
+		if (canSortByKeys(elements)) {
+			// like the default compare(Viewer, TreePath, Object, Object), which
+			// calls compare(Viewer, Object, Object) and thus category(Object)
+			sortByKeys(viewer, elements, this::category);
+		} else {
+			Arrays.sort(elements, (a, b) -> TreePathViewerSorter.this.compare(viewer, parentPath, a, b));
+		}
 	}
 }
@@ -20,10 +20,14 @@
 package org.eclipse.jface.viewers;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
+import org.eclipse.core.runtime.Assert;
 import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.viewers.internal.ExpandableNode;
 import org.eclipse.pde.api.tools.annotations.NoExtend;
@@ -31,6 +35,7 @@ import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.TreeEvent;
 import org.eclipse.swt.events.TreeListener;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Item;
@@ -97,6 +102,29 @@ public class TreeViewer extends AbstractTreeViewer {
 	 */
 	private boolean insidePreservingSelection;
 
+	/**
+	 * The number of materialized items to keep in a virtual tree with a lazy
+	 * content provider, or <code>0</code> to keep all of them.
+	 */
+	private int materializedItemLimit;
+
+	/**
+	 * The items materialized by {@link #replace(Object, int, Object)}, least
+	 * recently materialized first, or <code>null</code> if no limit is set.
+	 */
+	private Set<TreeItem> materializedItems;
+
+	/**
+	 * Whether releasing materialized items has been scheduled.
+	 */
+	private boolean releasePending;
+
+	/**
+	 * The collapsed items whose children are to be released, or
+	 * <code>null</code> if releasing them has not been scheduled.
+	 */
+	private Set<TreeItem> collapsedItems;
+
 	/**
 	 * Creates a tree viewer on a newly-created tree control under the given
 	 * parent. The tree control is created using the SWT style bits
@@ -177,6 +205,11 @@ public class TreeViewer extends AbstractTreeViewer {
 		return ((TreeItem) item).getExpanded();
 	}
 
+	@Override
+	Item getTopItem() {
+		return tree.getItemCount() == 0 ? null : tree.getTopItem();
+	}
+
 	@Override
 	protected Item getItemAt(Point p) {
 		TreeItem[] selection = tree.getSelection();
@@ -294,6 +327,9 @@ public class TreeViewer extends AbstractTreeViewer {
 		TreeItem treeItem = (TreeItem) node;
 		if (!treeItem.isDisposed()) {
 			treeItem.setExpanded(expand);
+			if (!expand) {
+				scheduleReleaseChildren(treeItem);
+			}
 		}
 		if (contentProviderIsLazy) {
 			// force repaints to happen
@@ -398,6 +434,145 @@ public class TreeViewer extends AbstractTreeViewer {
 		});
 	}
 
+	/**
+	 * For a TreeViewer with a tree with the VIRTUAL style bit set and a lazy
+	 * content provider, limits the number of items that hold an element.
+	 * <p>
+	 * If a limit is set, the items of collapsed subtrees are released, and once
+	 * more than <code>limit</code> items have been materialized by
+	 * {@link #replace(Object, int, Object)}, the least recently materialized
+	 * items that are far from the visible area of the tree are cleared. Items
+	 * which are expanded or selected are kept. Released items give up their
+	 * element and element map entry; they are materialized again through the
+	 * content provider when they become visible. As a consequence, the expanded
+	 * state of the descendants of a collapsed item is not retained.
+	 * </p>
+	 *
+	 * @param limit
+	 *            the number of materialized items to keep, or <code>0</code>
+	 *            to keep all items (the default)
+	 *
+	 * @since 3.37
+	 */
+	public void setMaterializedItemLimit(int limit) {
+		Assert.isTrue(limit >= 0);
+		materializedItemLimit = limit;
+		materializedItems = limit > 0 ? new LinkedHashSet<>() : null;
+	}
+
+	/**
+	 * Returns the number of materialized items kept in a virtual tree.
+	 *
+	 * @return the number of materialized items to keep, or <code>0</code> if
+	 *         all items are kept
+	 * @see #setMaterializedItemLimit(int)
+	 *
+	 * @since 3.37
+	 */
+	public int getMaterializedItemLimit() {
+		return materializedItemLimit;
+	}
+
+	private void trackMaterializedItem(TreeItem item) {
+		if (materializedItems == null) {
+			return;
+		}
+		materializedItems.remove(item);
+		materializedItems.add(item);
+		if (materializedItems.size() > materializedItemLimit && !releasePending) {
+			releasePending = true;
+			getControl().getDisplay().asyncExec(this::releaseMaterializedItems);
+		}
+	}
+
+	/**
+	 * Clears the least recently materialized items until the limit is
+	 * satisfied, keeping the items near the visible area.
+	 */
+	private void releaseMaterializedItems() {
+		releasePending = false;
+		if (treeIsDisposed || materializedItems == null) {
+			return;
+		}
+		Rectangle area = tree.getClientArea();
+		int top = area.y - area.height;
+		int bottom = area.y + 2 * area.height;
+		Set<TreeItem> selection = new HashSet<>(Arrays.asList(tree.getSelection()));
+		int excess = materializedItems.size() - materializedItemLimit;
+		Iterator<TreeItem> iterator = materializedItems.iterator();
+		while (excess > 0 && iterator.hasNext()) {
+			TreeItem item = iterator.next();
+			if (item.isDisposed() || item.getData() == null) {
+				iterator.remove();
+				excess--;
+				continue;
+			}
+			if (item.getExpanded() || selection.contains(item)) {
+				continue;
+			}
+			Rectangle bounds = item.getBounds();
+			if (bounds.y + bounds.height >= top && bounds.y <= bottom) {
+				continue;
+			}
+			iterator.remove();
+			excess--;
+			releaseItem(item);
+		}
+	}
+
+	private void releaseItem(TreeItem item) {
+		if (item.getItemCount() > 0) {
+			releaseChildren(item);
+		}
+		disassociate(item);
+		TreeItem parentItem = item.getParentItem();
+		if (parentItem == null) {
+			tree.clear(tree.indexOf(item), false);
+		} else {
+			parentItem.clear(parentItem.indexOf(item), false);
+		}
+	}
+
+	private void scheduleReleaseChildren(TreeItem item) {
+		if (materializedItems == null || !contentProviderIsLazy) {
+			return;
+		}
+		if (collapsedItems == null) {
+			collapsedItems = new LinkedHashSet<>();
+			// the items may still be collapsing
+			getControl().getDisplay().asyncExec(this::releaseCollapsedItems);
+		}
+		collapsedItems.add(item);
+	}
+
+	private void releaseCollapsedItems() {
+		Set<TreeItem> items = collapsedItems;
+		collapsedItems = null;
+		if (treeIsDisposed || items == null) {
+			return;
+		}
+		for (TreeItem item : items) {
+			if (!item.isDisposed() && !item.getExpanded() && item.getData() != null && item.getItemCount() > 0) {
+				releaseChildren(item);
+			}
+		}
+	}
+
+	/**
+	 * Replaces the children of the given collapsed item by a dummy child so
+	 * that they are requested again when the item is expanded.
+	 */
+	private void releaseChildren(TreeItem item) {
+		// disposing the items unmaps their elements
+		item.setItemCount(1);
+		TreeItem child = item.getItem(0);
+		child.setItemCount(0);
+		if (child.getData() != null) {
+			disassociate(child);
+		}
+		item.clear(0, true);
+	}
+
 	/**
 	 * For a TreeViewer with a tree with the VIRTUAL style bit set, replace the
 	 * given parent's child at index with the given element. If the given parent
@@ -461,6 +636,7 @@ public class TreeViewer extends AbstractTreeViewer {
 				if (!TreeViewer.this.equals(oldData, element)) {
 					item.clearAll(true);
 				}
+				trackMaterializedItem(item);
 			}
 		} else {
 			Widget[] parentItems = internalFindItems(parentElementOrTreePath);
@@ -490,6 +666,7 @@ public class TreeViewer extends AbstractTreeViewer {
 					if (!TreeViewer.this.equals(oldData, element)) {
 						item.clearAll(true);
 					}
+					trackMaterializedItem(item);
 				}
 			}
 		}
@@ -913,6 +1090,9 @@ public class TreeViewer extends AbstractTreeViewer {
 		}
 
 		super.handleTreeCollapse(event);
+		if (event.item instanceof TreeItem item) {
+			scheduleReleaseChildren(item);
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2016 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,11 +16,18 @@
 
 package org.eclipse.jface.viewers;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.text.CollationKey;
+import java.text.RuleBasedCollator;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.ToIntFunction;
 
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.util.Policy;
+import org.eclipse.jface.viewers.internal.CustomHashtable;
 
 /**
  * A viewer comparator is used by a {@link StructuredViewer} to
@@ -52,6 +59,146 @@ public class ViewerComparator {
 	 */
 	private Comparator<? super String> comparator;
 
+	/**
+	 * Whether a class does not override the default <code>compare</code>
+	 * methods, which allows sorting by precomputed keys.
+	 */
+	private static final ClassValue<Boolean> DEFAULT_COMPARE = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				if (type.getMethod("compare", Viewer.class, Object.class, Object.class) //$NON-NLS-1$
+						.getDeclaringClass() != ViewerComparator.class) {
+					return Boolean.FALSE;
+				}
+				if (TreePathViewerSorter.class.isAssignableFrom(type)) {
+					return Boolean.valueOf(type
+							.getMethod("compare", Viewer.class, TreePath.class, Object.class, Object.class) //$NON-NLS-1$
+							.getDeclaringClass() == TreePathViewerSorter.class);
+				}
+				return Boolean.TRUE;
+			} catch (NoSuchMethodException | SecurityException e) {
+				return Boolean.FALSE;
+			}
+		}
+	};
+
+	/**
+	 * The sort keys computed for the elements of the last viewer sorted, or
+	 * <code>null</code>.
+	 */
+	private SortKeyCache sortKeyCache;
+
+	/**
+	 * Sort keys of elements, valid as long as the viewer's input, label provider,
+	 * element comparer and string comparator are unchanged and the viewer does
+	 * not report a label change. Elements are looked up through the viewer's
+	 * element comparer. The viewer, its input, its label provider and the
+	 * elements are only referenced weakly, as comparators may outlive the
+	 * viewers they are used in, and elements removed from the viewer are not
+	 * reported.
+	 */
+	private static final class SortKeyCache implements IElementComparer {
+		final WeakReference<Viewer> viewer;
+		final WeakReference<Object> input;
+		final WeakReference<IBaseLabelProvider> labelProvider;
+		final IElementComparer comparer;
+		final Comparator<?> stringComparator;
+
+		/**
+		 * Keys by {@link ElementReference}, looked up with the elements
+		 * themselves; guarded by <code>this</code>.
+		 */
+		private final CustomHashtable keys = new CustomHashtable(this);
+		private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+		SortKeyCache(Viewer viewer, Object input, IBaseLabelProvider labelProvider, IElementComparer comparer,
+				Comparator<?> stringComparator) {
+			this.viewer = new WeakReference<>(viewer);
+			this.input = new WeakReference<>(input);
+			this.labelProvider = new WeakReference<>(labelProvider);
+			this.comparer = comparer;
+			this.stringComparator = stringComparator;
+		}
+
+		boolean isValidFor(Viewer v, Object i, IBaseLabelProvider l, IElementComparer e, Comparator<?> c) {
+			return viewer.get() == v && input.get() == i && labelProvider.get() == l && comparer == e
+					&& stringComparator == c;
+		}
+
+		synchronized Object get(Object element) {
+			expungeCollected();
+			return keys.get(element);
+		}
+
+		synchronized void put(Object element, Object key) {
+			expungeCollected();
+			keys.put(new ElementReference(element, hashCode(element), collected), key);
+		}
+
+		synchronized void remove(Object element) {
+			keys.remove(element);
+		}
+
+		private void expungeCollected() {
+			Reference<?> reference;
+			while ((reference = collected.poll()) != null) {
+				keys.remove(reference);
+			}
+		}
+
+		@Override
+		public boolean equals(Object a, Object b) {
+			if (a == b) {
+				return true;
+			}
+			Object elementA = a instanceof ElementReference reference ? reference.get() : a;
+			Object elementB = b instanceof ElementReference reference ? reference.get() : b;
+			if (elementA == null || elementB == null) {
+				// a collected element equals nothing but its own reference
+				return false;
+			}
+			return comparer == null ? elementA.equals(elementB) : comparer.equals(elementA, elementB);
+		}
+
+		@Override
+		public int hashCode(Object element) {
+			if (element instanceof ElementReference reference) {
+				return reference.hash;
+			}
+			return comparer == null ? element.hashCode() : comparer.hashCode(element);
+		}
+	}
+
+	/**
+	 * A weak reference to an element remembering the element's hash code, so
+	 * that it can be removed from the {@link SortKeyCache} once the element has
+	 * been collected.
+	 */
+	private static final class ElementReference extends WeakReference<Object> {
+		final int hash;
+
+		ElementReference(Object element, int hash, ReferenceQueue<Object> queue) {
+			super(element, queue);
+			this.hash = hash;
+		}
+	}
+
+	/**
+	 * An element with its category and the key to compare its label with.
+	 */
+	private static final class SortKey {
+		final Object element;
+		final int category;
+		final Object key;
+
+		SortKey(Object element, int category, Object key) {
+			this.element = element;
+			this.category = category;
+			this.key = key;
+		}
+	}
+
 	/**
 	 * Creates a new {@link ViewerComparator}, which uses the default comparator
 	 * to sort strings.
@@ -190,7 +337,11 @@ public class ViewerComparator {
 	 * The default implementation of this method uses the
 	 * {@link java.util.Arrays#sort(Object[], Comparator)} algorithm on the
 	 * given array, calling {@link #compare(Viewer, Object, Object)} to compare
-	 * elements.
+	 * elements. If <code>compare</code> is not overridden, the category and the
+	 * label of each element are only computed once, and labels are compared by
+	 * their collation keys if the string comparator is a collator. The label
+	 * keys are reused by later sorts in the same viewer until the viewer's
+	 * labels may have changed.
 	 * </p>
 	 * <p>
 	 * Subclasses may reimplement this method to provide a more optimized implementation.
@@ -201,7 +352,11 @@ public class ViewerComparator {
 	 */
 	public void sort(final Viewer viewer, Object[] elements) {
 		try {
-			Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			if (canSortByKeys(elements)) {
+				sortByKeys(viewer, elements, this::category);
+			} else {
+				Arrays.sort(elements, (a, b) -> ViewerComparator.this.compare(viewer, a, b));
+			}
 		} catch (IllegalArgumentException e) {
 			String msg = e
 					+ "\nWorkaround for comparator violation:\n\tSet system property -Djava.util.Arrays.useLegacyMergeSort=true" //$NON-NLS-1$
@@ -226,4 +381,96 @@ public class ViewerComparator {
 			throw e;
 		}
 	}
+
+	/**
+	 * Returns whether the given elements can be sorted by
+	 * {@link #sortByKeys(Viewer, Object[], ToIntFunction)} with the same result
+	 * as by calling the <code>compare</code> methods.
+	 */
+	boolean canSortByKeys(Object[] elements) {
+		return elements.length > 1 && DEFAULT_COMPARE.get(getClass()).booleanValue();
+	}
+
+	/**
+	 * Sorts the given elements the same way the default implementation of
+	 * {@link #compare(Viewer, Object, Object)} does, but computes the category
+	 * and the label of each element only once. If the string comparator is a
+	 * collator, the labels are compared by their collation keys. The label
+	 * keys are cached for the viewer until its labels may have changed.
+	 *
+	 * @param viewer
+	 *            the viewer
+	 * @param elements
+	 *            the elements to sort
+	 * @param categories
+	 *            computes the category of an element
+	 */
+	void sortByKeys(Viewer viewer, Object[] elements, ToIntFunction<Object> categories) {
+		Comparator<? super String> stringComparator = getComparator();
+		RuleBasedCollator collator = stringComparator instanceof RuleBasedCollator c ? c : null;
+		SortKeyCache cache = getSortKeyCache(viewer, stringComparator);
+		SortKey[] keys = new SortKey[elements.length];
+		for (int i = 0; i < elements.length; i++) {
+			Object element = elements[i];
+			Object key = cache != null ? cache.get(element) : null;
+			if (key == null) {
+				String label = getLabel(viewer, element);
+				key = collator != null ? collator.getCollationKey(label) : label;
+				if (cache != null) {
+					cache.put(element, key);
+				}
+			}
+			keys[i] = new SortKey(element, categories.applyAsInt(element), key);
+		}
+		Comparator<SortKey> keyComparator;
+		if (collator != null) {
+			keyComparator = (k1, k2) -> k1.category != k2.category ? k1.category - k2.category
+					: ((CollationKey) k1.key).compareTo((CollationKey) k2.key);
+		} else {
+			keyComparator = (k1, k2) -> k1.category != k2.category ? k1.category - k2.category
+					: stringComparator.compare((String) k1.key, (String) k2.key);
+		}
+		Arrays.sort(keys, keyComparator);
+		for (int i = 0; i < keys.length; i++) {
+			elements[i] = keys[i].element;
+		}
+	}
+
+	private synchronized SortKeyCache getSortKeyCache(Viewer viewer, Comparator<?> stringComparator) {
+		if (!(viewer instanceof StructuredViewer structuredViewer)) {
+			// only structured viewers report label changes
+			return null;
+		}
+		Object input = structuredViewer.getInput();
+		IBaseLabelProvider labelProvider = structuredViewer.getLabelProvider();
+		IElementComparer comparer = structuredViewer.getComparer();
+		SortKeyCache cache = sortKeyCache;
+		if (cache == null || !cache.isValidFor(viewer, input, labelProvider, comparer, stringComparator)) {
+			cache = new SortKeyCache(viewer, input, labelProvider, comparer, stringComparator);
+			sortKeyCache = cache;
+		}
+		return cache;
+	}
+
+	/**
+	 * Discards the cached sort keys of the given element, or of all elements,
+	 * because their labels may have changed. The element is compared with the
+	 * cached elements through the viewer's element comparer.
+	 *
+	 * @param viewer
+	 *            the viewer whose labels changed
+	 * @param element
+	 *            the element, or <code>null</code> for all elements
+	 */
+	synchronized void invalidateSortKeys(Viewer viewer, Object element) {
+		SortKeyCache cache = sortKeyCache;
+		if (cache == null || cache.viewer.get() != viewer) {
+			return;
+		}
+		if (element == null) {
+			sortKeyCache = null;
+		} else {
+			cache.remove(element);
+		}
+	}
 }
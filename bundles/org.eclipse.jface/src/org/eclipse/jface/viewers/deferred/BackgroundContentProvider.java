@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,14 +13,22 @@
  *******************************************************************************/
 package org.eclipse.jface.viewers.deferred;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.util.Policy;
 import org.eclipse.jface.viewers.AcceptAllFilter;
 import org.eclipse.jface.viewers.IFilter;
+import org.eclipse.jface.viewers.deferred.internal.AbstractVirtualTable;
+import org.eclipse.jface.viewers.deferred.internal.ChangeQueue;
+import org.eclipse.jface.viewers.deferred.internal.ConcurrentTableUpdator;
 
 /**
  * Contains the algorithm for performing background sorting and filtering in a virtual
@@ -50,7 +58,9 @@ import org.eclipse.jface.viewers.IFilter;
  * allows the content provider to locate and sort the visible range without fully sorting
  * all elements in the table. It also supports fast cancellation, allowing the visible range
  * to change in the middle of a sort without discarding partially-sorted information from
- * the previous range.
+ * the previous range. The collection is kept between sort runs, so only the visible range
+ * is sorted and sent to the table after a change; rows that are scrolled into view later
+ * are sorted on demand.
  * </p>
  *
  * @since 3.1
@@ -87,6 +97,16 @@ import org.eclipse.jface.viewers.IFilter;
 	 */
 	private ChangeQueue changeQueue = new ChangeQueue();
 
+	/**
+	 * Elements that pass the filter, in sort order. Only accessed by the sort thread.
+	 */
+	private LazySortedCollection collection;
+
+	/**
+	 * Filter that has been applied to the collection. Only accessed by the sort thread.
+	 */
+	private IFilter collectionFilter;
+
 	/**
 	 * Listener that gets callbacks from the model
 	 */
@@ -136,6 +156,9 @@ import org.eclipse.jface.viewers.IFilter;
 		updator = new ConcurrentTableUpdator(table);
 		this.model = model;
 		this.sortOrder = sortOrder;
+		collection = new LazySortedCollection(sortOrder);
+		collectionFilter = filter;
+		updator.setVisibleRangeListener(this::makeDirty);
 		model.addListener(listener);
 	}
 
@@ -177,25 +200,21 @@ import org.eclipse.jface.viewers.IFilter;
 
 		mon.beginTask(SORTING, 100);
 
-		// Create a LazySortedCollection
-		Comparator order = sortOrder;
-		IFilter f = filter;
-		LazySortedCollection collection = new LazySortedCollection(order);
-
-		// Fill it in with all existing known objects
-		Object[] knownObjects = updator.getKnownObjects();
-		for (Object object : knownObjects) {
-			if (object != null) {
-				collection.add(object);
-			}
-		}
+		Comparator order = collection.getComparator();
+		IFilter f = collectionFilter;
 
 		boolean dirty = false;
-		int prevSize = knownObjects.length;
-		updator.setTotalItems(prevSize);
+		int prevSize = updator.getKnownObjects().length;
+		ConcurrentTableUpdator.Range sortedRange = null;
 
 		// Start processing changes
 		while(true) {
+			// Stop if the table has been disposed. Any remaining changes are
+			// processed by the next run.
+			if (mon.isCanceled() || updator.isDisposed()) {
+				break;
+			}
+
 			// If the sort order has changed, build a new LazySortedCollection with
 			// the new comparator
 			if (order != sortOrder) {
@@ -223,6 +242,7 @@ import org.eclipse.jface.viewers.IFilter;
 			if (f != filter) {
 				dirty = true;
 				f = filter;
+				collectionFilter = f;
 
 				Object[] items = collection.getItems(false);
 
@@ -232,6 +252,7 @@ import org.eclipse.jface.viewers.IFilter;
 
 					if (!f.select(toTest)) {
 						collection.remove(toTest);
+						updator.remove(toTest);
 					}
 				}
 				continue;
@@ -250,7 +271,7 @@ import org.eclipse.jface.viewers.IFilter;
 					case ChangeQueue.REMOVE: {
 						Object[] toRemove = next.getElements();
 
-						flush(toRemove, collection);
+						flush(toRemove);
 						collection.removeAll(toRemove);
 
 						break;
@@ -271,6 +292,18 @@ import org.eclipse.jface.viewers.IFilter;
 					}
 					case ChangeQueue.SET: {
 						Object[] items = next.getElements();
+
+						// Forget the rows of elements that are no longer contained
+						Object[] oldItems = collection.getItems(false);
+						if (oldItems.length > 0) {
+							Set<Object> newItems = new HashSet<>(Arrays.asList(items));
+							for (Object oldItem : oldItems) {
+								if (!newItems.contains(oldItem)) {
+									updator.remove(oldItem);
+								}
+							}
+						}
+
 						collection.clear();
 						filteredAdd(collection, items, f);
 
@@ -297,12 +330,15 @@ import org.eclipse.jface.viewers.IFilter;
 				dirty = true;
 			}
 
-			// Terminate loop
-			if (!dirty) {
+			ConcurrentTableUpdator.Range updateRange = updator.getVisibleRange();
+
+			// Terminate loop if neither the contents nor the visible range have changed
+			if (!dirty && sortedRange != null && updateRange.start == sortedRange.start
+					&& updateRange.length == sortedRange.length) {
 				break;
 			}
+			sortedRange = updateRange;
 
-			ConcurrentTableUpdator.Range updateRange = updator.getVisibleRange();
 			int sortStart = updateRange.start;
 			int sortLength = updateRange.length;
 
@@ -317,22 +353,13 @@ import org.eclipse.jface.viewers.IFilter;
 
 			collection.getRange(objectsOfInterest, sortStart, true);
 
-			// Send the new elements to the table
+			// Send the new elements to the table. Rows outside the visible range
+			// are sent once they become visible.
 			for (int i = 0; i < sortLength; i++) {
 				Object object = objectsOfInterest[i];
 				updator.replace(object, sortStart + i);
 			}
 
-			objectsOfInterest = new Object[collection.size()];
-
-			collection.getFirst(objectsOfInterest, true);
-
-			// Send the new elements to the table
-			for (int i = 0; i < totalElements; i++) {
-				Object object = objectsOfInterest[i];
-				updator.replace(object, i);
-			}
-
 			dirty = false;
 		}
 
@@ -435,7 +462,11 @@ import org.eclipse.jface.viewers.IFilter;
 					// this is the main work
 					doSort(sortingProgressMonitor);
 				} catch (Exception ex) {
-					// ignore
+					Policy.getLog().log(Status.error("Exception while sorting the table contents", ex)); //$NON-NLS-1$
+					// The collection may be inconsistent, so start over with the complete contents
+					collection = new LazySortedCollection(sortOrder);
+					collectionFilter = filter;
+					refresh();
 				}
 				synchronized (lock) {
 					if (sortScheduled) {
@@ -509,16 +540,13 @@ import org.eclipse.jface.viewers.IFilter;
 	}
 
 	/**
-	 * Notifies the updator that the given elements have changed
+	 * Notifies the updator that the given elements have been removed
 	 *
-	 * @param toFlush changed elements
-	 * @param collection collection of currently-known elements
+	 * @param toFlush removed elements
 	 */
-	private void flush(Object[] toFlush, LazySortedCollection collection) {
+	private void flush(Object[] toFlush) {
 		for (Object item : toFlush) {
-			if (collection.contains(item)) {
-				updator.clear(item);
-			}
+			updator.remove(item);
 		}
 	}
 
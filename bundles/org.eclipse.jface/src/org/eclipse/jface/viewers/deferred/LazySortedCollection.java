@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.jface.viewers.deferred.internal.IntHashMap;
 
 /**
  * This object maintains a collection of elements, sorted by a comparator
@@ -53,8 +54,6 @@ public class LazySortedCollection {
 	private int lastNode = 0;
 	private int firstUnusedNode = -1;
 
-	private static final float loadFactor = 0.75f;
-
 	private IntHashMap objectIndices;
 	private Comparator comparator;
 	private static int counter = 0;
@@ -496,7 +495,7 @@ public class LazySortedCollection {
 		if (objectIndices == null) {
 			int result = -1;
 
-			objectIndices = new IntHashMap((int)(contents.length / loadFactor) + 1, loadFactor);
+			objectIndices = new IntHashMap(contents.length);
 
 			for (int i = 0; i < lastNode; i++) {
 				Object element = contents[i];
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -11,7 +11,7 @@
  * Contributors:
  *     IBM Corporation - initial API and implementation
  *******************************************************************************/
-package org.eclipse.jface.viewers.deferred;
+package org.eclipse.jface.viewers.deferred.internal;
 
 import org.eclipse.swt.widgets.Control;
 
@@ -28,14 +28,14 @@ import org.eclipse.swt.widgets.Control;
  * </p>
  *
  * <p>
- * This is package visiblity by design. It would only need to be made public if there was
+ * This is internal by design. It would only need to be made API if there was
  * a demand to use the deferred content provider algorithms like
  * <code>BackgroundContentProvider</code> with non-JFace viewers.
  * </p>
  *
  * @since 3.1
  */
-abstract class AbstractVirtualTable {
+public abstract class AbstractVirtualTable {
 	/**
 	 * Tells the receiver that the item at given row has changed. This may indicate
 	 * that a different element is now at this row, but does not necessarily indicate
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2017 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -11,15 +11,18 @@
  * Contributors:
  *     IBM Corporation - initial API and implementation
  *******************************************************************************/
-package org.eclipse.jface.viewers.deferred;
+package org.eclipse.jface.viewers.deferred.internal;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 
 /**
  * Holds a queue of additions, removals, updates, and SET calls for a
  * BackgroundContentProvider
  */
-final class ChangeQueue {
+public final class ChangeQueue {
 	/**
 	 * Represents the addition of an item
 	 * @since 3.1
@@ -49,6 +52,12 @@ final class ChangeQueue {
 		private int type;
 		private Object[] elements;
 
+		/**
+		 * Elements of subsequent changes of the same type merged into this one,
+		 * or null
+		 */
+		private List<Object[]> merged;
+
 		/**
 		 * Create a change of the specified type that affects the given elements.
 		 *
@@ -79,11 +88,33 @@ final class ChangeQueue {
 		 * @since 3.1
 		 */
 		public Object[] getElements() {
+			if (merged != null) {
+				int length = elements.length;
+				for (Object[] next : merged) {
+					length += next.length;
+				}
+				Object[] result = new Object[length];
+				System.arraycopy(elements, 0, result, 0, elements.length);
+				int pos = elements.length;
+				for (Object[] next : merged) {
+					System.arraycopy(next, 0, result, pos, next.length);
+					pos += next.length;
+				}
+				elements = result;
+				merged = null;
+			}
 			return elements;
 		}
+
+		private void merge(Object[] toMerge) {
+			if (merged == null) {
+				merged = new ArrayList<>();
+			}
+			merged.add(toMerge);
+		}
 	}
 
-	private LinkedList<Change> queue = new LinkedList<>();
+	private Deque<Change> queue = new ArrayDeque<>();
 
 	/**
 	 * Create a change of the given type and elements and enqueue it.
@@ -103,15 +134,14 @@ final class ChangeQueue {
 		// A SET event makes all previous adds, removes, and sets redundant... so remove
 		// them from the queue
 		if (toQueue.type == SET) {
-			LinkedList<Change> newQueue = new LinkedList<>();
-			for (Change next : queue) {
-				if (next.getType() == ADD || next.getType() == REMOVE || next.getType() == SET) {
-					continue;
-				}
-
-				newQueue.add(next);
+			queue.removeIf(next -> next.getType() == ADD || next.getType() == REMOVE || next.getType() == SET);
+		} else {
+			// Consecutive changes of the same type are processed as one batch
+			Change last = queue.peekLast();
+			if (last != null && last.type == toQueue.type) {
+				last.merge(toQueue.getElements());
+				return;
 			}
-			queue = newQueue;
 		}
 
 		queue.add(toQueue);
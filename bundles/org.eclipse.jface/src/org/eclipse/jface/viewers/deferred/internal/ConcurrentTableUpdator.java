@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -11,7 +11,7 @@
  * Contributors:
  *     IBM Corporation - initial API and implementation
  *******************************************************************************/
-package org.eclipse.jface.viewers.deferred;
+package org.eclipse.jface.viewers.deferred.internal;
 
 
 
@@ -24,7 +24,7 @@ package org.eclipse.jface.viewers.deferred;
  *
  * @since 3.1
  */
-/* package */ final class ConcurrentTableUpdator {
+public final class ConcurrentTableUpdator {
 	/**
 	 * Wrapper for the real table. May only be accessed in the UI thread.
 	 */
@@ -81,13 +81,18 @@ package org.eclipse.jface.viewers.deferred;
 	 */
 	private volatile boolean disposed = false;
 
+	/**
+	 * Notified in the UI thread whenever the visible range changes, or null
+	 */
+	private volatile Runnable rangeListener;
+
 	/**
 	 * Object that holds a start index and length. Allows
 	 * the visible range to be returned as an atomic operation.
 	 */
 	public static final class Range {
-		int start = 0;
-		int length = 0;
+		public final int start;
+		public final int length;
 
 		public Range(int s, int l) {
 			start = s;
@@ -99,7 +104,7 @@ package org.eclipse.jface.viewers.deferred;
 	 * Runnable that can be posted with an asyncExec to schedule
 	 * an update to the real table.
 	 */
-	Runnable uiRunnable = () -> {
+	private final Runnable uiRunnable = () -> {
 		updateScheduled = false;
 		if(!table.getControl().isDisposed()) {
 			updateTable();
@@ -131,6 +136,17 @@ package org.eclipse.jface.viewers.deferred;
 		return disposed;
 	}
 
+	/**
+	 * Sets the runnable to be notified in the UI thread whenever the visible
+	 * range changes. Allows the background thread to sort a newly visible range
+	 * on demand rather than sending every row of the table in advance.
+	 *
+	 * @param listener runnable to notify or null
+	 */
+	public void setVisibleRangeListener(Runnable listener) {
+		rangeListener = listener;
+	}
+
 	/**
 	 * Returns the currently visible range
 	 *
@@ -158,6 +174,25 @@ package org.eclipse.jface.viewers.deferred;
 
 	}
 
+	/**
+	 * Forgets the given object, which is no longer part of the table. Will
+	 * cause its row to be cleared in the table.
+	 */
+	public void remove(Object toRemove) {
+		synchronized(this) {
+			int currentIdx = knownIndices.get(toRemove, -1);
+
+			if (currentIdx == -1) {
+				return;
+			}
+
+			knownIndices.remove(toRemove);
+			knownObjects[currentIdx] = null;
+			pushClear(currentIdx);
+			scheduleUIUpdate();
+		}
+	}
+
 	/**
 	 * Sets the size of the table. Called from a background thread.
 	 */
@@ -207,7 +242,7 @@ package org.eclipse.jface.viewers.deferred;
 		sentObjects[toClear] = null;
 
 		if (lastClear >= pendingClears.length) {
-			int newCapacity = Math.min(MIN_FLUSHLENGTH, lastClear * 2);
+			int newCapacity = Math.max(MIN_FLUSHLENGTH, lastClear * 2);
 			int[] newPendingClears = new int[newCapacity];
 			System.arraycopy(pendingClears, 0, newPendingClears, 0, lastClear);
 			pendingClears = newPendingClears;
@@ -290,13 +325,14 @@ package org.eclipse.jface.viewers.deferred;
 	 * Must be called from the UI thread.
 	 */
 	private void updateTable() {
+		boolean rangeChanged;
 
 		synchronized(this) {
 
 			// Resize the table if necessary
 			if (sentObjects.length != knownObjects.length) {
 				Object[] newSentObjects = new Object[knownObjects.length];
-				System.arraycopy(newSentObjects, 0, sentObjects, 0,
+				System.arraycopy(sentObjects, 0, newSentObjects, 0,
 						Math.min(newSentObjects.length, sentObjects.length));
 				sentObjects = newSentObjects;
 				table.setItemCount(newSentObjects.length);
@@ -315,6 +351,7 @@ package org.eclipse.jface.viewers.deferred;
 			// cause another table update if the visible range is different from
 			// the stored values -- this could cause infinite recursion.
 			lastRange = new Range(start, length);
+			rangeChanged = start != oldStart || length != oldLen;
 
 			// Re-clear any items in the old range that were never filled in
 			for(int idx = 0; idx < oldLen; idx++) {
@@ -354,13 +391,18 @@ package org.eclipse.jface.viewers.deferred;
 				int row = idx + start;
 
 				Object obj = knownObjects[row];
-				if (obj != null && obj != sentObjects[idx]) {
+				if (obj != null && obj != sentObjects[row]) {
 					table.replace(obj, row);
-					sentObjects[idx] = obj;
+					sentObjects[row] = obj;
 				}
 			}
 
 		}
+
+		Runnable listener = rangeListener;
+		if (rangeChanged && listener != null) {
+			listener.run();
+		}
 	}
 
 	/**
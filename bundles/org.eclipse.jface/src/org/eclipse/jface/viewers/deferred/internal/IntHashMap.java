@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers.deferred.internal;
+
+import org.eclipse.jface.viewers.internal.OpenHashtable;
+
+/**
+ * Represents a map of objects onto ints. The values are stored as int
+ * primitives in an array parallel to the keys of the {@link OpenHashtable}, so
+ * that neither the entries nor the values require additional object
+ * allocations. Keys are compared using {@link Object#equals(Object)};
+ * <code>null</code> keys are not supported.
+ *
+ * @since 3.1
+ */
+public final class IntHashMap extends OpenHashtable {
+
+	private int[] values;
+
+	/**
+	 * @param capacity the number of keys that can be added without rehashing
+	 */
+	public IntHashMap(int capacity) {
+		super(capacity, null);
+	}
+
+	public IntHashMap() {
+		this(16);
+	}
+
+	@Override
+	protected Object allocateValues(int slots) {
+		int[] oldValues = values;
+		values = new int[slots];
+		return oldValues;
+	}
+
+	@Override
+	protected void copyValue(Object oldValues, int from, int to) {
+		values[to] = ((int[]) oldValues)[from];
+	}
+
+	@Override
+	protected void moveValue(int from, int to) {
+		values[to] = values[from];
+	}
+
+	@Override
+	protected void clearValue(int slot) {
+		// int values don't hold on to anything
+	}
+
+	public void remove(Object key) {
+		if (key == null) {
+			return;
+		}
+		int i = indexOf(key, hashCode(key));
+		if (i >= 0) {
+			removeIndex(i);
+		}
+	}
+
+	public void put(Object key, int value) {
+		int hash = hashCode(key);
+		int i = indexOf(key, hash);
+		if (i < 0) {
+			i = add(key, hash, i);
+		}
+		values[i] = value;
+	}
+
+	/**
+	 * @return the int value at the given key
+	 */
+	public int get(Object key) {
+		return get(key, 0);
+	}
+
+	/**
+	 * @return the int value at the given key, or the default value if this map does not contain the given key
+	 */
+	public int get(Object key, int defaultValue) {
+		if (key == null) {
+			return defaultValue;
+		}
+		int i = indexOf(key, hashCode(key));
+		return i < 0 ? defaultValue : values[i];
+	}
+}
@@ -0,0 +1,279 @@
+/*******************************************************************************
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Peter Shipton - original hashtable implementation
+ *     Nick Edgar - added element comparer support
+ *******************************************************************************/
+
+package org.eclipse.jface.viewers.internal;
+
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jface.viewers.IElementComparer;
+
+/**
+ * CustomHashtable associates keys with values. Keys and values cannot be null.
+ * The size of the Hashtable is the number of key/value pairs it contains.
+ * The capacity is the number of key/value pairs the Hashtable can hold.
+ * <p>
+ * The values are kept in an array parallel to the keys of the
+ * {@link OpenHashtable}, so adding a pair doesn't allocate an entry object.
+ * <p>
+ * CustomHashtable allows a custom comparator and hash code provider.
+ */
+public final class CustomHashtable extends OpenHashtable {
+
+	private static final class EmptyEnumerator implements Enumeration {
+		@Override
+		public boolean hasMoreElements() {
+			return false;
+		}
+
+		@Override
+		public Object nextElement() {
+			throw new NoSuchElementException();
+		}
+	}
+
+	private class HashEnumerator implements Enumeration {
+		boolean key;
+
+		int index;
+
+		HashEnumerator(boolean isKey) {
+			key = isKey;
+		}
+
+		@Override
+		public boolean hasMoreElements() {
+			while (index < keyTable.length) {
+				if (keyTable[index] != null) {
+					return true;
+				}
+				index++;
+			}
+			return false;
+		}
+
+		@Override
+		public Object nextElement() {
+			if (hasMoreElements()) {
+				Object result = key ? keyTable[index] : valueTable[index];
+				index++;
+				return result;
+			}
+			throw new NoSuchElementException();
+		}
+	}
+
+	private Object[] valueTable;
+
+	private static final EmptyEnumerator emptyEnumerator = new EmptyEnumerator();
+
+	/**
+	 * The default capacity used when not specified in the constructor.
+	 */
+	public static final int DEFAULT_CAPACITY = 13;
+
+	/**
+	 * Constructs a new Hashtable using the default capacity.
+	 */
+	public CustomHashtable() {
+		this(13);
+	}
+
+	/**
+	 * Constructs a new Hashtable using the specified capacity.
+	 *
+	 * @param capacity the initial capacity
+	 */
+	public CustomHashtable(int capacity) {
+		this(capacity, null);
+	}
+
+	/**
+	 * Constructs a new hash table with the default capacity and the given
+	 * element comparer.
+	 *
+	 * @param comparer the element comparer to use to compare keys and obtain
+	 *   hash codes for keys, or <code>null</code>  to use the normal
+	 *   <code>equals</code> and <code>hashCode</code> methods
+	 */
+	public CustomHashtable(IElementComparer comparer) {
+		this(DEFAULT_CAPACITY, comparer);
+	}
+
+	/**
+	 * Constructs a new hash table with the given capacity and the given
+	 * element comparer.
+	 *
+	 * @param capacity the maximum number of elements that can be added without
+	 *   rehashing
+	 * @param comparer the element comparer to use to compare keys and obtain
+	 *   hash codes for keys, or <code>null</code>  to use the normal
+	 *   <code>equals</code> and <code>hashCode</code> methods
+	 */
+	public CustomHashtable(int capacity, IElementComparer comparer) {
+		super(capacity, comparer);
+	}
+
+	/**
+	 * Constructs a new hash table with enough capacity to hold all keys in the
+	 * given hash table, then adds all key/value pairs in the given hash table
+	 * to the new one, using the given element comparer.
+	 * @param table the original hash table to copy from
+	 *
+	 * @param comparer the element comparer to use to compare keys and obtain
+	 *   hash codes for keys, or <code>null</code>  to use the normal
+	 *   <code>equals</code> and <code>hashCode</code> methods
+	 */
+	public CustomHashtable(CustomHashtable table, IElementComparer comparer) {
+		this(table.size(), comparer);
+		for (int i = table.keyTable.length; --i >= 0;) {
+			Object key = table.keyTable[i];
+			if (key != null) {
+				put(key, table.valueTable[i]);
+			}
+		}
+	}
+
+	@Override
+	protected Object allocateValues(int slots) {
+		Object[] oldValues = valueTable;
+		valueTable = new Object[slots];
+		return oldValues;
+	}
+
+	@Override
+	protected void copyValue(Object oldValues, int from, int to) {
+		valueTable[to] = ((Object[]) oldValues)[from];
+	}
+
+	@Override
+	protected void moveValue(int from, int to) {
+		valueTable[to] = valueTable[from];
+	}
+
+	@Override
+	protected void clearValue(int slot) {
+		valueTable[slot] = null;
+	}
+
+	/**
+	 * Answers an Enumeration on the values of this Hashtable. The
+	 * results of the Enumeration may be affected if the contents
+	 * of this Hashtable are modified.
+	 *
+	 * @return		an Enumeration of the values of this Hashtable
+	 */
+	public Enumeration elements() {
+		if (elementCount == 0) {
+			return emptyEnumerator;
+		}
+		return new HashEnumerator(false);
+	}
+
+	/**
+	 * Answers the value associated with the specified key in
+	 * this Hashtable.
+	 *
+	 * @param		key	the key of the value returned
+	 * @return		the value associated with the specified key, null if the specified key
+	 *				does not exist
+	 */
+	public Object get(Object key) {
+		int index = indexOf(key, hashCode(key));
+		return index >= 0 ? valueTable[index] : null;
+	}
+
+	/**
+	 * Answers an Enumeration on the keys of this Hashtable. The
+	 * results of the Enumeration may be affected if the contents
+	 * of this Hashtable are modified.
+	 *
+	 * @return		an Enumeration of the keys of this Hashtable
+	 */
+	public Enumeration keys() {
+		if (elementCount == 0) {
+			return emptyEnumerator;
+		}
+		return new HashEnumerator(true);
+	}
+
+	/**
+	 * Associate the specified value with the specified key in this Hashtable.
+	 * If the key already exists, the old value is replaced. The key and value
+	 * cannot be null.
+	 *
+	 * @param		key	the key to add
+	 * @param		value	the value to add
+	 * @return		the old value associated with the specified key, null if the key did
+	 *				not exist
+	 */
+	public Object put(Object key, Object value) {
+		if (key != null && value != null) {
+			int hash = hashCode(key);
+			int index = indexOf(key, hash);
+			if (index < 0) {
+				index = add(key, hash, index);
+				valueTable[index] = value;
+				return null;
+			}
+			Object result = valueTable[index];
+			keyTable[index] = key; // important to avoid hanging onto keys that are equal but "old" -- see bug 30607
+			valueTable[index] = value;
+			return result;
+		}
+		throw new NullPointerException();
+	}
+
+	/**
+	 * Remove the key/value pair with the specified key from this Hashtable.
+	 *
+	 * @param		key	the key to remove
+	 * @return		the value associated with the specified key, null if the specified key
+	 *				did not exist
+	 */
+	public Object remove(Object key) {
+		int index = indexOf(key, hashCode(key));
+		if (index < 0) {
+			return null;
+		}
+		Object result = valueTable[index];
+		removeIndex(index);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		if (size() == 0) {
+			return "{}"; //$NON-NLS-1$
+		}
+
+		StringBuilder buffer = new StringBuilder();
+		buffer.append('{');
+		for (int i = keyTable.length; --i >= 0;) {
+			if (keyTable[i] != null) {
+				buffer.append(keyTable[i]);
+				buffer.append('=');
+				buffer.append(valueTable[i]);
+				buffer.append(", "); //$NON-NLS-1$
+			}
+		}
+		// Remove the last ", "
+		if (elementCount > 0) {
+			buffer.setLength(buffer.length() - 2);
+		}
+		buffer.append('}');
+		return buffer.toString();
+	}
+}
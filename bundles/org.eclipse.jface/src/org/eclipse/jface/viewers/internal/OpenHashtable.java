@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.viewers.internal;
+
+import org.eclipse.jface.viewers.IElementComparer;
+
+/**
+ * Keys of a hash table using open addressing with linear probing. The keys and
+ * their hash codes are kept in parallel arrays, so that adding a key doesn't
+ * allocate an entry object, and neither rehashing nor removing needs to ask
+ * the comparer again. Keys with a different hash code are never compared.
+ * <p>
+ * Subclasses keep the values in a parallel array of their choice and move them
+ * along with the keys when asked to. If the number of keys exceeds three
+ * quarters of the number of slots, the number of slots is doubled.
+ * </p>
+ */
+public abstract class OpenHashtable {
+
+	private static final int MIN_SLOTS = 4;
+
+	/**
+	 * Multiplier spreading the hash codes over the slots (Fibonacci hashing), so
+	 * that hash codes differing only in the high bits don't collide.
+	 */
+	private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+	/** Number of keys in the table. */
+	protected int elementCount;
+
+	/** Keys by slot, <code>null</code> for free slots. */
+	protected Object[] keyTable;
+
+	private int[] hashTable;
+
+	/** Number of keys after which the number of slots is doubled. */
+	private int threshold;
+
+	/** <code>32 - log2(number of slots)</code> */
+	private int shift;
+
+	private final IElementComparer comparer;
+
+	/**
+	 * Creates a table that can hold the given number of keys without rehashing.
+	 *
+	 * @param capacity the initial capacity
+	 * @param comparer the element comparer to use to compare keys and obtain
+	 *                 hash codes for keys, or <code>null</code> to use the normal
+	 *                 <code>equals</code> and <code>hashCode</code> methods
+	 */
+	protected OpenHashtable(int capacity, IElementComparer comparer) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.comparer = comparer;
+		allocate(slotsFor(capacity));
+	}
+
+	/**
+	 * Replaces the values by an array with the given number of slots. This is
+	 * called by the constructor as well, so the field holding the values must
+	 * not have an initializer.
+	 *
+	 * @param slots the number of slots
+	 * @return the previous values, or <code>null</code> when called for the
+	 *         first time
+	 */
+	protected abstract Object allocateValues(int slots);
+
+	/**
+	 * Copies a value from the array returned by {@link #allocateValues(int)}
+	 * while rehashing.
+	 *
+	 * @param oldValues the previous values
+	 * @param from      the slot in the previous values
+	 * @param to        the slot in the current values
+	 */
+	protected abstract void copyValue(Object oldValues, int from, int to);
+
+	/**
+	 * Moves a value to another slot while removing a key.
+	 *
+	 * @param from the slot of the value to move
+	 * @param to   the free slot
+	 */
+	protected abstract void moveValue(int from, int to);
+
+	/**
+	 * Releases the value of a slot that has become free.
+	 *
+	 * @param slot the free slot
+	 */
+	protected abstract void clearValue(int slot);
+
+	/**
+	 * Returns the element comparer used to compare keys and to obtain hash codes
+	 * for keys, or <code>null</code> if no comparer has been provided.
+	 *
+	 * @return the element comparer or <code>null</code>
+	 */
+	public final IElementComparer getComparer() {
+		return comparer;
+	}
+
+	/**
+	 * Returns the number of slots needed to hold the given number of keys.
+	 */
+	private static int slotsFor(int capacity) {
+		int slots = MIN_SLOTS;
+		while (slots - (slots >> 2) < capacity && slots < (1 << 30)) {
+			slots <<= 1;
+		}
+		return slots;
+	}
+
+	private Object allocate(int slots) {
+		keyTable = new Object[slots];
+		hashTable = new int[slots];
+		threshold = slots - (slots >> 2);
+		shift = Integer.numberOfLeadingZeros(slots) + 1;
+		return allocateValues(slots);
+	}
+
+	/**
+	 * Makes sure that the given number of keys can be held without rehashing.
+	 *
+	 * @param capacity the number of keys
+	 */
+	public final void ensureCapacity(int capacity) {
+		if (capacity > threshold) {
+			rehash(slotsFor(capacity));
+		}
+	}
+
+	/**
+	 * Answers if this table contains the specified key.
+	 *
+	 * @param key the key to look for, may be <code>null</code>
+	 * @return true if the key is in this table, false otherwise
+	 */
+	public final boolean containsKey(Object key) {
+		return key != null && indexOf(key, hashCode(key)) >= 0;
+	}
+
+	/**
+	 * Answers the number of keys in this table.
+	 *
+	 * @return the number of keys in this table
+	 */
+	public final int size() {
+		return elementCount;
+	}
+
+	/**
+	 * Answers the hash code for the given key.
+	 *
+	 * @param key the key, not <code>null</code>
+	 * @return the hash code of the key
+	 */
+	protected final int hashCode(Object key) {
+		if (comparer == null) {
+			return key.hashCode();
+		}
+		return comparer.hashCode(key);
+	}
+
+	/**
+	 * Compares two keys for equality.
+	 */
+	private boolean keyEquals(Object a, Object b) {
+		if (comparer == null) {
+			return a == b || a.equals(b);
+		}
+		return comparer.equals(a, b);
+	}
+
+	/**
+	 * Returns the slot of the key, or <code>-(slot + 1)</code> of the free slot
+	 * where it would be added.
+	 *
+	 * @param key  the key, not <code>null</code>
+	 * @param hash the {@link #hashCode(Object) hash code} of the key
+	 * @return the slot of the key or the encoded free slot
+	 */
+	protected final int indexOf(Object key, int hash) {
+		int mask = keyTable.length - 1;
+		int index = slot(hash);
+		Object candidate;
+		while ((candidate = keyTable[index]) != null) {
+			if (hashTable[index] == hash && keyEquals(key, candidate)) {
+				return index;
+			}
+			index = (index + 1) & mask;
+		}
+		return -(index + 1);
+	}
+
+	private int slot(int hash) {
+		return (hash * HASH_MULTIPLIER) >>> shift;
+	}
+
+	/**
+	 * Adds a key that is not in the table yet. The caller stores the value in
+	 * the returned slot.
+	 *
+	 * @param key      the key, not <code>null</code>
+	 * @param hash     the {@link #hashCode(Object) hash code} of the key
+	 * @param freeSlot the encoded free slot returned by
+	 *                 {@link #indexOf(Object, int)}
+	 * @return the slot of the added key
+	 */
+	protected final int add(Object key, int hash, int freeSlot) {
+		if (++elementCount > threshold) {
+			rehash(keyTable.length << 1);
+			freeSlot = indexOf(key, hash);
+		}
+		int index = -(freeSlot + 1);
+		keyTable[index] = key;
+		hashTable[index] = hash;
+		return index;
+	}
+
+	/**
+	 * Moves all keys and values to a table with the given number of slots.
+	 */
+	private void rehash(int slots) {
+		Object[] oldKeys = keyTable;
+		int[] oldHashes = hashTable;
+		Object oldValues = allocate(slots);
+		int mask = slots - 1;
+		for (int i = oldKeys.length; --i >= 0;) {
+			Object key = oldKeys[i];
+			if (key != null) {
+				int index = slot(oldHashes[i]);
+				while (keyTable[index] != null) {
+					index = (index + 1) & mask;
+				}
+				keyTable[index] = key;
+				hashTable[index] = oldHashes[i];
+				copyValue(oldValues, i, index);
+			}
+		}
+	}
+
+	/**
+	 * Removes the key of the given slot. The caller must have read its value
+	 * before, as the slot may be reused by a following key.
+	 *
+	 * @param index the slot of the key to remove
+	 */
+	protected final void removeIndex(int index) {
+		elementCount--;
+		// move back the following keys of the cluster that can't be found any
+		// more once the slot is free
+		int mask = keyTable.length - 1;
+		int gap = index;
+		int next = index;
+		while (true) {
+			next = (next + 1) & mask;
+			Object candidate = keyTable[next];
+			if (candidate == null) {
+				break;
+			}
+			int home = slot(hashTable[next]);
+			boolean reachable = gap <= next ? (gap < home && home <= next) : (gap < home || home <= next);
+			if (!reachable) {
+				keyTable[gap] = candidate;
+				hashTable[gap] = hashTable[next];
+				moveValue(next, gap);
+				gap = next;
+			}
+		}
+		keyTable[gap] = null;
+		clearValue(gap);
+	}
+}
@@ -21,6 +21,8 @@ import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 
 import org.eclipse.search.internal.core.text.DirtyFileProvider;
+import org.eclipse.search.internal.core.text.FileClassificationCache;
+import org.eclipse.search.internal.core.text.FilesOfScopeCache;
 import org.eclipse.search.internal.core.text.TextSearchEngineRegistry;
 
 public class SearchCorePlugin extends Plugin {
@@ -36,6 +38,8 @@ public class SearchCorePlugin extends Plugin {
 	private TextSearchEngineRegistry fTextSearchEngineRegistry;
 	private DirtyFileProvider fDirtyFileSearchParticipant;
 	private DirtyFileSearchParticipantServiceTracker fDirtyFileSearchParticipantTracker;
+	private FilesOfScopeCache fFilesOfScopeCache;
+	private FileClassificationCache fFileClassificationCache;
 
 	/**
 	 * @return Returns the search plugin instance.
@@ -58,7 +62,16 @@ public class SearchCorePlugin extends Plugin {
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
-		// do nothing
+		synchronized (this) {
+			if (fFilesOfScopeCache != null) {
+				fFilesOfScopeCache.dispose();
+				fFilesOfScopeCache= null;
+			}
+			if (fFileClassificationCache != null) {
+				fFileClassificationCache.dispose();
+				fFileClassificationCache= null;
+			}
+		}
 	}
 
 	public TextSearchEngineRegistry getTextSearchEngineRegistry() {
@@ -68,6 +81,26 @@ public class SearchCorePlugin extends Plugin {
 		return fTextSearchEngineRegistry;
 	}
 
+	/**
+	 * @return the cache for the files of search scopes
+	 */
+	public synchronized FilesOfScopeCache getFilesOfScopeCache() {
+		if (fFilesOfScopeCache == null) {
+			fFilesOfScopeCache= new FilesOfScopeCache();
+		}
+		return fFilesOfScopeCache;
+	}
+
+	/**
+	 * @return the cache for the charset and binary classification of files
+	 */
+	public synchronized FileClassificationCache getFileClassificationCache() {
+		if (fFileClassificationCache == null) {
+			fFileClassificationCache= new FileClassificationCache();
+		}
+		return fFileClassificationCache;
+	}
+
 	public DirtyFileProvider getDirtyFileDiscovery() {
 		if (fDirtyFileSearchParticipant == null) {
 			this.fDirtyFileSearchParticipantTracker.open();
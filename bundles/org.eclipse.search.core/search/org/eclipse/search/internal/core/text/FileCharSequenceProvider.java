@@ -39,22 +39,35 @@ public class FileCharSequenceProvider {
 	private FileCharSequence fReused= null;
 
 	public CharSequence newCharSequence(IFile file) throws CoreException, IOException {
-		String string = toShortString(file);
+		return newCharSequence(file, file.getCharset());
+	}
+
+	/**
+	 * Returns the contents of the file decoded with the given charset.
+	 *
+	 * @param file the file
+	 * @param charset the charset of the file, as returned by {@link IFile#getCharset()}
+	 * @return the contents of the file
+	 * @throws CoreException if the file could not be read
+	 * @throws IOException if the file could not be read
+	 */
+	public CharSequence newCharSequence(IFile file, String charset) throws CoreException, IOException {
+		String string = toShortString(file, charset);
 		if (string != null) {
 			return string;
 		}
-		FileCharSequence charSequence = getCharSequence(file);
+		FileCharSequence charSequence = getCharSequence(file, charset);
 		// File too large for String
 		return charSequence;
 	}
 
-	private FileCharSequence getCharSequence(IFile file) throws CoreException, IOException {
+	private FileCharSequence getCharSequence(IFile file, String charset) throws CoreException, IOException {
 		if (fReused == null) {
-			return new FileCharSequence(file);
+			return new FileCharSequence(file, charset);
 		}
 		FileCharSequence curr= fReused;
 		fReused= null;
-		curr.reset(file);
+		curr.reset(file, charset);
 		return curr;
 	}
 
@@ -245,14 +258,16 @@ public class FileCharSequenceProvider {
 		private int fNumberOfBuffers;
 
 		private IFile fFile;
+		private String fCharset;
 
-		public FileCharSequence(IFile file) throws CoreException, IOException {
+		public FileCharSequence(IFile file, String charset) throws CoreException, IOException {
 			fNumberOfBuffers= 0;
-			reset(file);
+			reset(file, charset);
 		}
 
-		public void reset(IFile file) throws CoreException, IOException {
+		public void reset(IFile file, String charset) throws CoreException, IOException {
 			fFile= file;
+			fCharset= charset;
 			fLength= null; // only calculated on demand
 
 			Buffer curr= fMostCurrentBuffer;
@@ -269,8 +284,7 @@ public class FileCharSequenceProvider {
 			if (fReader != null) {
 				fReader.close();
 			}
-			String charset= fFile.getCharset();
-			fReader= new InputStreamReader(getInputStream(charset), charset);
+			fReader= new InputStreamReader(getInputStream(fCharset), fCharset);
 			fReaderPos= 0;
 		}
 
@@ -490,14 +504,13 @@ public class FileCharSequenceProvider {
 	 * Try to get a content as String. Avoids to scanning whole InputStream to
 	 * get length
 	 */
-	private static String toShortString(IFile file) {
+	private static String toShortString(IFile file, String charset) {
 		try {
 			byte[] content = file.readNBytes(MAX_BUFFER_LENGTH);
 			int length = content.length;
 			if (length >= MAX_BUFFER_LENGTH) {
 				return null;
 			}
-			String charset = file.getCharset();
 			int offset = 0;
 			if (StandardCharsets.UTF_8.name().equals(charset)) {
 				if (startsWith(content, IContentDescription.BOM_UTF_8)) {
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.content.IContentTypeManager.ContentTypeChangeEvent;
+import org.eclipse.core.runtime.content.IContentTypeManager.IContentTypeChangeListener;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+/**
+ * Remembers the charset of files and whether they have binary content, so that repeated searches
+ * neither open binary files again nor compute the charset of each file again.
+ * <p>
+ * Entries are only valid as long as the modification stamp of the file doesn't change. Charset
+ * changes don't change the modification stamp, the affected entries are removed when the resource
+ * delta reports an encoding change. As the charset of a file also depends on the content types
+ * and the workspace default charset, all entries are removed when content types or the workspace
+ * encoding preference change. The least recently used entries are evicted when the cache is
+ * full.
+ * </p>
+ * <p>
+ * Line delimiters are not cached. They are only determined by Replace All for files that are
+ * about to be modified, which invalidates their entries anyway.
+ * </p>
+ */
+public class FileClassificationCache implements IResourceChangeListener, IContentTypeChangeListener, IPreferenceChangeListener {
+
+	/** Default upper bound for the number of entries. */
+	private static final int MAX_ENTRIES= 500_000;
+
+	private static final class Classification {
+		final long fModificationStamp;
+		final String fCharset;
+		final Boolean fBinary;
+
+		Classification(long modificationStamp, String charset, Boolean binary) {
+			fModificationStamp= modificationStamp;
+			fCharset= charset;
+			fBinary= binary;
+		}
+	}
+
+	private final int fMaxEntries;
+
+	private final Map<IFile, Classification> fClassifications= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IFile, Classification> eldest) {
+			return size() > fMaxEntries;
+		}
+	};
+
+	/**
+	 * Incremented whenever all entries are invalidated, so that a charset computed before is not
+	 * put into the cache afterwards.
+	 */
+	private long fGeneration;
+
+	public FileClassificationCache() {
+		this(MAX_ENTRIES);
+	}
+
+	/**
+	 * @param maxEntries the maximum number of files to remember
+	 */
+	public FileClassificationCache(int maxEntries) {
+		fMaxEntries= maxEntries;
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+		Platform.getContentTypeManager().addContentTypeChangeListener(this);
+		getEncodingPreferences().addPreferenceChangeListener(this);
+	}
+
+	private static IEclipsePreferences getEncodingPreferences() {
+		return InstanceScope.INSTANCE.getNode(ResourcesPlugin.PI_RESOURCES);
+	}
+
+	/**
+	 * Returns the charset of the file, see {@link IFile#getCharset()}.
+	 *
+	 * @param file the file
+	 * @return the charset of the file
+	 * @throws CoreException if the charset could not be computed
+	 */
+	public String getCharset(IFile file) throws CoreException {
+		long stamp= file.getModificationStamp();
+		Classification classification;
+		long generation;
+		synchronized (this) {
+			classification= fClassifications.get(file);
+			generation= fGeneration;
+		}
+		if (classification != null && classification.fModificationStamp == stamp && classification.fCharset != null) {
+			return classification.fCharset;
+		}
+		String charset= file.getCharset();
+		put(file, new Classification(stamp, charset, classification != null && classification.fModificationStamp == stamp ? classification.fBinary : null), generation);
+		return charset;
+	}
+
+	/**
+	 * Returns whether the file has been classified as binary file.
+	 *
+	 * @param file the file
+	 * @return whether the file is binary or <code>null</code> if that is not known for the current
+	 *         contents of the file
+	 */
+	public Boolean isBinary(IFile file) {
+		long stamp= file.getModificationStamp();
+		Classification classification;
+		synchronized (this) {
+			classification= fClassifications.get(file);
+		}
+		if (classification != null && classification.fModificationStamp == stamp) {
+			return classification.fBinary;
+		}
+		return null;
+	}
+
+	/**
+	 * Remembers whether the current contents of the file are binary.
+	 *
+	 * @param file the file
+	 * @param binary whether the file is binary
+	 */
+	public void setBinary(IFile file, boolean binary) {
+		long stamp= file.getModificationStamp();
+		if (stamp == IResource.NULL_STAMP) {
+			return;
+		}
+		synchronized (this) {
+			Classification classification= fClassifications.get(file);
+			String charset= classification != null && classification.fModificationStamp == stamp ? classification.fCharset : null;
+			fClassifications.put(file, new Classification(stamp, charset, Boolean.valueOf(binary)));
+		}
+	}
+
+	private synchronized void put(IFile file, Classification classification, long generation) {
+		if (classification.fModificationStamp == IResource.NULL_STAMP || generation != fGeneration) {
+			return;
+		}
+		fClassifications.put(file, classification);
+	}
+
+	private synchronized void clear() {
+		fGeneration++;
+		fClassifications.clear();
+	}
+
+	public void dispose() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		Platform.getContentTypeManager().removeContentTypeChangeListener(this);
+		getEncodingPreferences().removePreferenceChangeListener(this);
+		clear();
+	}
+
+	@Override
+	public void contentTypeChanged(ContentTypeChangeEvent event) {
+		// file associations or default charsets of content types have changed
+		clear();
+	}
+
+	@Override
+	public void preferenceChange(PreferenceChangeEvent event) {
+		if (ResourcesPlugin.PREF_ENCODING.equals(event.getKey())) {
+			clear();
+		}
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		synchronized (this) {
+			if (delta == null || fClassifications.isEmpty()) {
+				return;
+			}
+		}
+		try {
+			delta.accept(child -> {
+				IResource resource= child.getResource();
+				boolean removed= child.getKind() == IResourceDelta.REMOVED;
+				boolean encodingChanged= (child.getFlags() & IResourceDelta.ENCODING) != 0;
+				if (resource.getType() == IResource.FILE) {
+					if (removed || encodingChanged) {
+						synchronized (this) {
+							fClassifications.remove(resource);
+						}
+					}
+					return false;
+				}
+				if (resource.getType() == IResource.ROOT && encodingChanged) {
+					clear();
+					return false;
+				}
+				if (resource.getType() != IResource.ROOT && (removed || encodingChanged)) {
+					// the encoding of all members may have changed
+					IPath path= resource.getFullPath();
+					synchronized (this) {
+						fGeneration++;
+						fClassifications.keySet().removeIf(file -> path.isPrefixOf(file.getFullPath()));
+					}
+					return false;
+				}
+				return true;
+			});
+		} catch (CoreException e) {
+			clear();
+		}
+	}
+}
@@ -17,13 +17,16 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.MultiStatus;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceProxy;
 
@@ -74,6 +77,20 @@ public class FileNamePatternSearchScope extends TextSearchScope {
 		return fRootElements;
 	}
 
+	@Override
+	public IFile[] evaluateFilesInScope(MultiStatus status) {
+		List<Object> key= new ArrayList<>();
+		key.add(FileNamePatternSearchScope.class);
+		key.add(Boolean.valueOf(fVisitDerived));
+		Pattern pattern= getFileNamePattern();
+		key.add(pattern.pattern());
+		key.add(Integer.valueOf(pattern.flags()));
+		for (IResource root : fRootElements) {
+			key.add(root.getFullPath());
+		}
+		return new FilesOfScopeCalculator(this, status).process(key);
+	}
+
 	@Override
 	public boolean contains(IResourceProxy proxy) {
 		if (!fVisitDerived && proxy.isDerived()) {
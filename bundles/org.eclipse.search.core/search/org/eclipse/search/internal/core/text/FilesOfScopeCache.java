@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.search.core.text.TextSearchScope;
+
+/**
+ * Caches the files of recently evaluated search scopes, so that repeated searches in the same
+ * scope don't have to traverse the resource tree again. See
+ * {@link FilesOfScopeCalculator#process(Object)}.
+ * <p>
+ * The cache listens to resource changes. Added and removed files are recorded and applied when a
+ * scope is requested the next time. Changes to containers, such as added, removed or closed
+ * folders and projects or changed derived flags, invalidate the affected scopes, they are
+ * evaluated again on the next request.
+ * </p>
+ */
+public class FilesOfScopeCache implements IResourceChangeListener {
+
+	private static final int MAX_ENTRIES= 8;
+
+	/**
+	 * Maximum number of recorded file changes per scope. If there are more changes, the scope is
+	 * invalidated instead.
+	 */
+	private static final int MAX_PENDING_CHANGES= 10_000;
+
+	private static final int RELEVANT_FLAGS= IResourceDelta.OPEN | IResourceDelta.DERIVED_CHANGED | IResourceDelta.REPLACED | IResourceDelta.TYPE;
+
+	private static class Entry {
+		final IResource[] fRoots;
+		IFile[] fFiles;
+		Set<IFile> fAdded= new HashSet<>();
+		Set<IFile> fRemoved= new HashSet<>();
+
+		Entry(IResource[] roots, IFile[] files) {
+			fRoots= roots;
+			fFiles= files;
+		}
+
+		boolean isAffectedBy(IPath path) {
+			for (IResource root : fRoots) {
+				IPath rootPath= root.getFullPath();
+				if (rootPath.isPrefixOf(path) || path.isPrefixOf(rootPath)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private final Map<Object, Entry> fEntries= new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private boolean fListening;
+
+	/** Incremented on every relevant resource change. */
+	private long fModificationStamp;
+
+	/**
+	 * Returns the cached files of the scope.
+	 *
+	 * @param key the cache key of the scope
+	 * @param scope the scope, used to evaluate added files
+	 * @return a copy of the cached files or <code>null</code> if the scope is not cached
+	 */
+	public synchronized IFile[] getFiles(Object key, TextSearchScope scope) {
+		Entry entry= fEntries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (!entry.fAdded.isEmpty() || !entry.fRemoved.isEmpty()) {
+			applyChanges(entry, scope);
+		}
+		return entry.fFiles.clone();
+	}
+
+	/**
+	 * Returns a stamp to be passed to {@link #putFiles(Object, TextSearchScope, IFile[], long)}
+	 * when the evaluation of a scope is started.
+	 *
+	 * @return the current modification stamp
+	 */
+	public synchronized long getModificationStamp() {
+		if (!fListening) {
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+			fListening= true;
+		}
+		return fModificationStamp;
+	}
+
+	/**
+	 * Stores the files of a scope. The files are not stored if resources have changed since the
+	 * evaluation was started.
+	 *
+	 * @param key the cache key of the scope
+	 * @param scope the scope
+	 * @param files the files in the scope
+	 * @param modificationStamp the stamp from before the evaluation was started
+	 */
+	public synchronized void putFiles(Object key, TextSearchScope scope, IFile[] files, long modificationStamp) {
+		if (fListening && modificationStamp == fModificationStamp) {
+			fEntries.put(key, new Entry(scope.getRoots(), files.clone()));
+		}
+	}
+
+	public synchronized void clear() {
+		fEntries.clear();
+	}
+
+	public synchronized void dispose() {
+		if (fListening) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+			fListening= false;
+		}
+		fEntries.clear();
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		List<IFile> added= new ArrayList<>();
+		List<IFile> removed= new ArrayList<>();
+		List<IPath> invalidated= new ArrayList<>();
+		try {
+			delta.accept(new IResourceDeltaVisitor() {
+				@Override
+				public boolean visit(IResourceDelta child) {
+					IResource resource= child.getResource();
+					int kind= child.getKind();
+					if (resource.getType() == IResource.FILE) {
+						if (kind == IResourceDelta.ADDED) {
+							added.add((IFile) resource);
+						} else if (kind == IResourceDelta.REMOVED) {
+							removed.add((IFile) resource);
+						} else if ((child.getFlags() & RELEVANT_FLAGS) != 0) {
+							// evaluate again
+							removed.add((IFile) resource);
+							added.add((IFile) resource);
+						}
+						return false;
+					}
+					if (resource.getType() != IResource.ROOT && (kind == IResourceDelta.ADDED || kind == IResourceDelta.REMOVED
+							|| (child.getFlags() & RELEVANT_FLAGS) != 0)) {
+						invalidated.add(resource.getFullPath());
+						return false;
+					}
+					return true;
+				}
+			});
+		} catch (CoreException e) {
+			synchronized (this) {
+				fModificationStamp++;
+				fEntries.clear();
+			}
+			return;
+		}
+		if (added.isEmpty() && removed.isEmpty() && invalidated.isEmpty()) {
+			return;
+		}
+		synchronized (this) {
+			fModificationStamp++;
+			Iterator<Entry> iter= fEntries.values().iterator();
+			while (iter.hasNext()) {
+				Entry entry= iter.next();
+				if (!recordChanges(entry, added, removed, invalidated)) {
+					iter.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return <code>false</code> if the entry has to be evaluated again
+	 */
+	private static boolean recordChanges(Entry entry, List<IFile> added, List<IFile> removed, List<IPath> invalidated) {
+		for (IPath path : invalidated) {
+			if (entry.isAffectedBy(path)) {
+				return false;
+			}
+		}
+		for (IFile file : removed) {
+			if (entry.isAffectedBy(file.getFullPath()) && !entry.fAdded.remove(file)) {
+				entry.fRemoved.add(file);
+			}
+		}
+		for (IFile file : added) {
+			if (entry.isAffectedBy(file.getFullPath())) {
+				entry.fAdded.add(file);
+			}
+		}
+		return entry.fAdded.size() + entry.fRemoved.size() <= MAX_PENDING_CHANGES;
+	}
+
+	private static void applyChanges(Entry entry, TextSearchScope scope) {
+		List<IFile> files= new ArrayList<>(entry.fFiles.length + entry.fAdded.size());
+		for (IFile file : entry.fFiles) {
+			if (!entry.fRemoved.contains(file) && !entry.fAdded.contains(file)) {
+				files.add(file);
+			}
+		}
+		for (IFile file : entry.fAdded) {
+			if (isInScope(file, entry.fRoots, scope)) {
+				files.add(file);
+			}
+		}
+		entry.fFiles= files.toArray(new IFile[files.size()]);
+		entry.fAdded.clear();
+		entry.fRemoved.clear();
+	}
+
+	/**
+	 * Tests whether the file and all its containers up to the root are contained in the scope, the
+	 * same way the resource tree is traversed by {@link FilesOfScopeCalculator}.
+	 */
+	private static boolean isInScope(IFile file, IResource[] roots, TextSearchScope scope) {
+		if (!file.isAccessible()) {
+			return false;
+		}
+		for (IResource root : roots) {
+			if (root.getFullPath().isPrefixOf(file.getFullPath())) {
+				IResource resource= file;
+				while (resource != null) {
+					if (!isContained(resource, scope)) {
+						return false;
+					}
+					if (resource.equals(root)) {
+						return true;
+					}
+					resource= resource.getParent();
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean isContained(IResource resource, TextSearchScope scope) {
+		boolean[] contained= new boolean[1];
+		try {
+			resource.accept(proxy -> {
+				contained[0]= scope.contains(proxy);
+				return false;
+			}, IResource.DEPTH_ZERO, 0);
+		} catch (CoreException e) {
+			return false;
+		}
+		return contained[0];
+	}
+}
@@ -24,6 +24,7 @@ import org.eclipse.core.resources.IResourceProxy;
 import org.eclipse.core.resources.IResourceProxyVisitor;
 
 import org.eclipse.search.core.text.TextSearchScope;
+import org.eclipse.search.internal.core.SearchCorePlugin;
 
 public class FilesOfScopeCalculator implements IResourceProxyVisitor {
 
@@ -47,6 +48,41 @@ public class FilesOfScopeCalculator implements IResourceProxyVisitor {
 	}
 
 	public IFile[] process() {
+		return evaluateFiles();
+	}
+
+	/**
+	 * Evaluates the files of the scope using the {@link FilesOfScopeCache}. Scopes may only use
+	 * the cache if {@link TextSearchScope#contains(org.eclipse.core.resources.IResourceProxy)}
+	 * depends on nothing but the resource itself, so that the files can be updated from resource
+	 * deltas.
+	 *
+	 * @param cacheKey a key describing the roots and the filter of the scope. Scopes with equal
+	 *            keys must contain the same files.
+	 * @return the files in the scope
+	 */
+	public IFile[] process(Object cacheKey) {
+		SearchCorePlugin plugin= SearchCorePlugin.getDefault();
+		FilesOfScopeCache cache= plugin != null ? plugin.getFilesOfScopeCache() : null;
+		if (cache == null) {
+			return evaluateFiles();
+		}
+		IFile[] files= cache.getFiles(cacheKey, fScope);
+		if (files != null) {
+			return files;
+		}
+		long stamp= cache.getModificationStamp();
+		int severity= fStatus.getSeverity();
+		int errors= fStatus.getChildren().length;
+		files= evaluateFiles();
+		if (fStatus.getSeverity() == severity && fStatus.getChildren().length == errors) {
+			// only cache complete results
+			cache.putFiles(cacheKey, fScope, files, stamp);
+		}
+		return files;
+	}
+
+	private IFile[] evaluateFiles() {
 		fFiles= new ArrayList<>();
 		try {
 			IResource[] roots= fScope.getRoots();
@@ -205,14 +205,25 @@ public class TextSearchVisitor {
 				} else {
 					try {
 						boolean reportTextOnly = !fCollector.reportBinaryFile(file);
-						if (reportTextOnly && hasBinaryContentType(file)) {
+						Boolean binary = fClassificationCache != null ? fClassificationCache.isBinary(file) : null;
+						if (reportTextOnly && binary == null && hasBinaryContentType(file)) {
 							// fail fast for binary file types without opening the file
+							setBinary(file, true);
 							return Status.OK_STATUS;
 						}
-						charsequence = fileCharSequenceProvider.newCharSequence(file);
-						if (reportTextOnly && hasBinaryContent(charsequence)) {
+						if (reportTextOnly && Boolean.TRUE.equals(binary)) {
+							// known to be binary since the last search, don't open the file again
 							return Status.OK_STATUS;
 						}
+						String charset = fClassificationCache != null ? fClassificationCache.getCharset(file) : file.getCharset();
+						charsequence = fileCharSequenceProvider.newCharSequence(file, charset);
+						if (reportTextOnly && binary == null) {
+							boolean binaryContent = hasBinaryContent(charsequence);
+							setBinary(file, binaryContent);
+							if (binaryContent) {
+								return Status.OK_STATUS;
+							}
+						}
 						occurences = locateMatches(file, charsequence, matcher, monitor);
 					} catch (FileCharSequenceProvider.FileCharSequenceException e) {
 						if (e.getCause() instanceof RuntimeException runtimeEx) {
@@ -300,6 +311,7 @@ public class TextSearchVisitor {
 
 	private volatile boolean fIsLightweightAutoRefresh;
 	private DirtyFileProvider fDirtyDiscovery;
+	private final FileClassificationCache fClassificationCache; // null if the plug-in is not running
 
 	public TextSearchVisitor(TextSearchRequestor collector, Pattern searchPattern, DirtyFileProvider dirtyDiscovery) {
 		fCollector= collector;
@@ -309,6 +321,9 @@ public class TextSearchVisitor {
 
 		fSearchPattern= searchPattern;
 
+		SearchCorePlugin plugin= SearchCorePlugin.getDefault();
+		fClassificationCache= plugin != null ? plugin.getFileClassificationCache() : null;
+
 		fIsLightweightAutoRefresh= Platform.getPreferencesService().getBoolean(ResourcesPlugin.PI_RESOURCES, ResourcesPlugin.PREF_LIGHTWEIGHT_AUTO_REFRESH, false, null);
 		fileBatches = new ConcurrentLinkedQueue<>();
 	}
@@ -454,6 +469,12 @@ public class TextSearchVisitor {
 		return false; // unknown
 	}
 
+	private void setBinary(IFile file, boolean binary) {
+		if (fClassificationCache != null) {
+			fClassificationCache.setBinary(file, binary);
+		}
+	}
+
 	private boolean hasBinaryContent(CharSequence seq) {
 		if (seq instanceof String s) {
 			return (s.contains("\0")); //$NON-NLS-1$
@@ -17,13 +17,16 @@ package org.eclipse.search.ui.text;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.content.IContentType;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceProxy;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -31,6 +34,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.ui.IWorkingSet;
 
 import org.eclipse.search.core.text.TextSearchScope;
+import org.eclipse.search.internal.core.text.FilesOfScopeCalculator;
 import org.eclipse.search.internal.core.text.PatternConstructor;
 import org.eclipse.search.internal.ui.Messages;
 import org.eclipse.search.internal.ui.SearchMessages;
@@ -210,6 +214,23 @@ public final class FileTextSearchScope extends TextSearchScope {
 		return fRootElements;
 	}
 
+	@Override
+	public IFile[] evaluateFilesInScope(MultiStatus status) {
+		// the scope only depends on the roots, the file name patterns and the derived flag
+		List<Object> key= new ArrayList<>();
+		key.add(FileTextSearchScope.class);
+		key.add(Boolean.valueOf(fVisitDerived));
+		if (fFileNamePatterns != null) {
+			String[] patterns= fFileNamePatterns.clone();
+			Arrays.sort(patterns);
+			key.add(Arrays.asList(patterns));
+		}
+		for (IResource root : fRootElements) {
+			key.add(root.getFullPath());
+		}
+		return new FilesOfScopeCalculator(this, status).process(key);
+	}
+
 	@Override
 	public boolean contains(IResourceProxy proxy) {
 		if (!fVisitDerived && proxy.isDerived()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,13 +13,19 @@
  *******************************************************************************/
 package org.eclipse.search2.internal.ui.text;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.swt.custom.StyledText;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -28,7 +34,11 @@ import org.eclipse.core.filebuffers.IFileBuffer;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.IViewportListener;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.source.Annotation;
 import org.eclipse.jface.text.source.IAnnotationModel;
@@ -42,30 +52,90 @@ import org.eclipse.search2.internal.ui.SearchMessages;
 
 
 public class AnnotationHighlighter extends Highlighter {
+	/**
+	 * Number of annotations above which matches outside of the visible region are only
+	 * annotated once they are scrolled into view.
+	 */
+	private static final int LAZY_THRESHOLD= 1000;
+
 	private IAnnotationModel fModel;
 	private IDocument fDocument;
 	private Map<Match, Annotation> fMatchesToAnnotations;
 
+	private ITextViewer fViewer;
+	private IViewportListener fViewportListener;
+	private IDocumentListener fDocumentListener;
+	/** The matches which are not annotated yet, mapped to their offset in the pending index. */
+	private Map<Match, Integer> fPendingMatches;
+	/** The matches which are not annotated yet, indexed by their character offset. */
+	private TreeMap<Integer, List<Match>> fPendingIndex;
+	private int fMaxPendingLength;
+	private volatile boolean fPendingIndexStale;
+	private volatile int fVisibleStart= -1;
+	private volatile int fVisibleEnd= -1;
+
 	public AnnotationHighlighter(IAnnotationModel model, IDocument document) {
+		this(model, document, null);
+	}
+
+	/**
+	 * Creates a highlighter that only annotates the matches around the visible region of the
+	 * given viewer if there are too many matches to annotate all of them.
+	 *
+	 * @param model the annotation model to add the annotations to
+	 * @param document the document, can be <code>null</code>
+	 * @param viewer the viewer showing the document or <code>null</code> to annotate all matches
+	 */
+	public AnnotationHighlighter(IAnnotationModel model, IDocument document, ITextViewer viewer) {
 		fModel= model;
 		fDocument= document;
 		fMatchesToAnnotations= new HashMap<>();
+		fPendingMatches= new LinkedHashMap<>();
+		fPendingIndex= new TreeMap<>();
+		if (viewer != null && viewer.getTextWidget() != null && !viewer.getTextWidget().isDisposed()) {
+			fViewer= viewer;
+			fViewportListener= verticalOffset -> handleViewportChanged();
+			fViewer.addViewportListener(fViewportListener);
+			if (fDocument != null) {
+				// the offsets in the pending index move with the edits of the document
+				fDocumentListener= new IDocumentListener() {
+					@Override
+					public void documentAboutToBeChanged(DocumentEvent event) {
+					}
+
+					@Override
+					public void documentChanged(DocumentEvent event) {
+						fPendingIndexStale= true;
+					}
+				};
+				fDocument.addDocumentListener(fDocumentListener);
+			}
+			StyledText widget= fViewer.getTextWidget();
+			if (widget.getDisplay().getThread() == Thread.currentThread()) {
+				updateVisibleRegion();
+			} else {
+				widget.getDisplay().asyncExec(this::handleViewportChanged);
+			}
+		}
 	}
 
 	@Override
-	public void addHighlights(Match[] matches) {
+	public synchronized void addHighlights(Match[] matches) {
 		HashMap<Annotation, Position> map= new HashMap<>(matches.length);
+		boolean lazy= fViewer != null && fMatchesToAnnotations.size() + fPendingMatches.size() + matches.length > LAZY_THRESHOLD;
 		for (Match match : matches) {
 			int offset= match.getOffset();
 			int length= match.getLength();
 			if (offset >= 0 && length >= 0) {
 				Position position= createPosition(match);
 				if (position != null) {
-					Annotation annotation= match.isFiltered()
-						? new Annotation(SearchPlugin.FILTERED_SEARCH_ANNOTATION_TYPE, true, null)
-						: new Annotation(SearchPlugin.SEARCH_ANNOTATION_TYPE, true, null);
-					fMatchesToAnnotations.put(match, annotation);
-					map.put(annotation, position);
+					if (lazy && !isVisible(position)) {
+						addPending(match, position);
+					} else {
+						Annotation annotation= createAnnotation(match);
+						fMatchesToAnnotations.put(match, annotation);
+						map.put(annotation, position);
+					}
 				}
 			}
 		}
@@ -73,13 +143,114 @@ public class AnnotationHighlighter extends Highlighter {
 
 	}
 
+	private static Annotation createAnnotation(Match match) {
+		return match.isFiltered()
+			? new Annotation(SearchPlugin.FILTERED_SEARCH_ANNOTATION_TYPE, true, null)
+			: new Annotation(SearchPlugin.SEARCH_ANNOTATION_TYPE, true, null);
+	}
+
+	private boolean isVisible(Position position) {
+		int start= fVisibleStart;
+		int end= fVisibleEnd;
+		return start >= 0 && position.getOffset() <= end && position.getOffset() + position.getLength() >= start;
+	}
+
+	private void updateVisibleRegion() {
+		StyledText widget= fViewer.getTextWidget();
+		if (widget == null || widget.isDisposed())
+			return;
+		int start= fViewer.getTopIndexStartOffset();
+		int end= fViewer.getBottomIndexEndOffset();
+		// annotate one screen above and below, too
+		int margin= Math.max(end - start, 0);
+		fVisibleStart= Math.max(start - margin, 0);
+		fVisibleEnd= end + margin;
+	}
+
+	private void handleViewportChanged() {
+		if (fViewer == null)
+			return;
+		int oldStart= fVisibleStart;
+		int oldEnd= fVisibleEnd;
+		updateVisibleRegion();
+		if (oldStart != fVisibleStart || oldEnd != fVisibleEnd) {
+			addVisiblePendingHighlights();
+		}
+	}
+
+	private synchronized void addVisiblePendingHighlights() {
+		if (fPendingMatches.isEmpty() || fVisibleStart < 0)
+			return;
+		if (fPendingIndexStale) {
+			rebuildPendingIndex();
+		}
+		List<Match> candidates= new ArrayList<>();
+		int from= Math.max(fVisibleStart - fMaxPendingLength, 0);
+		for (List<Match> matches : fPendingIndex.subMap(from, true, fVisibleEnd, true).values()) {
+			candidates.addAll(matches);
+		}
+		HashMap<Annotation, Position> map= new HashMap<>();
+		for (Match match : candidates) {
+			Position position= createPosition(match);
+			if (position == null) {
+				removePending(match);
+			} else if (isVisible(position)) {
+				removePending(match);
+				Annotation annotation= createAnnotation(match);
+				fMatchesToAnnotations.put(match, annotation);
+				map.put(annotation, position);
+			}
+		}
+		addAnnotations(map);
+	}
+
+	private void addPending(Match match, Position position) {
+		removePending(match);
+		int offset= position.getOffset();
+		fPendingMatches.put(match, Integer.valueOf(offset));
+		fPendingIndex.computeIfAbsent(Integer.valueOf(offset), o -> new ArrayList<>(1)).add(match);
+		fMaxPendingLength= Math.max(fMaxPendingLength, position.getLength());
+	}
+
+	private void removePending(Match match) {
+		Integer offset= fPendingMatches.remove(match);
+		if (offset != null) {
+			List<Match> matches= fPendingIndex.get(offset);
+			matches.remove(match);
+			if (matches.isEmpty()) {
+				fPendingIndex.remove(offset);
+			}
+		}
+	}
+
+	private void clearPending() {
+		fPendingMatches.clear();
+		fPendingIndex.clear();
+		fMaxPendingLength= 0;
+	}
+
+	/**
+	 * Re-indexes the pending matches at their current positions after the document has been
+	 * changed.
+	 */
+	private void rebuildPendingIndex() {
+		fPendingIndexStale= false;
+		List<Match> matches= new ArrayList<>(fPendingMatches.keySet());
+		clearPending();
+		for (Match match : matches) {
+			Position position= createPosition(match);
+			if (position != null) {
+				addPending(match, position);
+			}
+		}
+	}
+
 	private Position createPosition(Match match) {
+		// the tracker returns a new snapshot that is not registered with the document, so it can
+		// be handed to the annotation model as is
 		Position position= InternalSearchUI.getInstance().getPositionTracker().getCurrentPosition(match);
 		if (position == null)
 			position= new Position(match.getOffset(), match.getLength());
-		else
-			// need to clone position, can't have it twice in a document.
-			position= new Position(position.getOffset(), position.getLength());
 		if (match.getBaseUnit() == Match.UNIT_LINE) {
 			if (fDocument != null) {
 				try {
@@ -97,9 +268,10 @@ public class AnnotationHighlighter extends Highlighter {
 	}
 
 	@Override
-	public void removeHighlights(Match[] matches) {
+	public synchronized void removeHighlights(Match[] matches) {
 		HashSet<Annotation> annotations= new HashSet<>(matches.length);
 		for (Match match : matches) {
+			removePending(match);
 			Annotation annotation= fMatchesToAnnotations.remove(match);
 			if (annotation != null) {
 				annotations.add(annotation);
@@ -109,10 +281,24 @@ public class AnnotationHighlighter extends Highlighter {
 	}
 
 	@Override
-	public  void removeAll() {
+	public synchronized void removeAll() {
 		Collection<Annotation> matchSet= fMatchesToAnnotations.values();
 		removeAnnotations(matchSet);
 		fMatchesToAnnotations.clear();
+		clearPending();
+	}
+
+	@Override
+	public void dispose() {
+		if (fViewer != null) {
+			fViewer.removeViewportListener(fViewportListener);
+			fViewer= null;
+		}
+		if (fDocumentListener != null) {
+			fDocument.removeDocumentListener(fDocumentListener);
+			fDocumentListener= null;
+		}
+		super.dispose();
 	}
 
 	private void addAnnotations(Map<Annotation, Position> annotationToPositionMap) {
@@ -147,13 +333,14 @@ public class AnnotationHighlighter extends Highlighter {
 	}
 
 	@Override
-	protected void handleContentReplaced(IFileBuffer buffer) {
+	protected synchronized void handleContentReplaced(IFileBuffer buffer) {
 		if (!(buffer instanceof ITextFileBuffer))
 			return;
 
 		ITextFileBuffer textBuffer= (ITextFileBuffer) buffer;
 		if (fDocument != null && fDocument.equals(textBuffer.getDocument())) {
-			Set<Match> allMatches= fMatchesToAnnotations.keySet();
+			List<Match> allMatches= new ArrayList<>(fMatchesToAnnotations.keySet());
+			allMatches.addAll(fPendingMatches.keySet());
 			Match[] matchesCopy= allMatches.toArray(new Match[allMatches.size()]);
 			removeAll();
 			addHighlights(matchesCopy);
@@ -0,0 +1,431 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search2.internal.ui.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IPositionUpdater;
+import org.eclipse.jface.text.Position;
+
+import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
+
+/**
+ * Tracks the character ranges of the matches contained in one document without registering a
+ * {@link Position} per match with the document.
+ * <p>
+ * The ranges are kept in arrays sorted by offset. A document change only touches the ranges
+ * overlapping the change; all ranges behind it are moved by a pending shift that is applied
+ * lazily, so consecutive edits at nearby locations cost time proportional to the distance
+ * between them rather than to the number of tracked matches. The ranges are adapted the same
+ * way the <code>DefaultPositionUpdater</code> adapts positions; the offset of a deleted range
+ * is not specified.
+ * </p>
+ */
+public class MatchOffsetTable implements IPositionUpdater {
+
+	private static final int INITIAL_CAPACITY= 16;
+
+	private final IDocument fDocument;
+
+	private Match[] fMatches= new Match[INITIAL_CAPACITY];
+	private AbstractTextSearchResult[] fResults= new AbstractTextSearchResult[INITIAL_CAPACITY];
+	private int[] fOffsets= new int[INITIAL_CAPACITY];
+	private int[] fLengths= new int[INITIAL_CAPACITY];
+	private boolean[] fDeleted= new boolean[INITIAL_CAPACITY];
+
+	/** Number of used slots, including removed ones. */
+	private int fSize;
+	/** Number of slots whose match has been removed. */
+	private int fRemoved;
+	/** Upper bound of all tracked lengths. */
+	private int fMaxLength;
+
+	/** All slots at or behind this index are to be moved by {@link #fShift}. */
+	private int fShiftStart;
+	private int fShift;
+
+	private Map<Match, Integer> fIndices= new HashMap<>();
+
+	public MatchOffsetTable(IDocument document) {
+		fDocument= document;
+	}
+
+	public IDocument getDocument() {
+		return fDocument;
+	}
+
+	/**
+	 * Starts tracking the given character range for the match.
+	 *
+	 * @param match the match
+	 * @param result the search result the match belongs to
+	 * @param offset the character offset in the document
+	 * @param length the character length
+	 */
+	public synchronized void add(Match match, AbstractTextSearchResult result, int offset, int length) {
+		int index= upperBound(offset);
+		if (index < fSize) {
+			flushShift();
+			ensureCapacity(fSize + 1);
+			int tail= fSize - index;
+			System.arraycopy(fMatches, index, fMatches, index + 1, tail);
+			System.arraycopy(fResults, index, fResults, index + 1, tail);
+			System.arraycopy(fOffsets, index, fOffsets, index + 1, tail);
+			System.arraycopy(fLengths, index, fLengths, index + 1, tail);
+			System.arraycopy(fDeleted, index, fDeleted, index + 1, tail);
+			fIndices= null;
+		} else {
+			ensureCapacity(fSize + 1);
+			if (fIndices != null)
+				fIndices.put(match, Integer.valueOf(index));
+		}
+		fMatches[index]= match;
+		fResults[index]= result;
+		fOffsets[index]= offset - shiftAt(index);
+		fLengths[index]= length;
+		fDeleted[index]= false;
+		fSize++;
+		fMaxLength= Math.max(fMaxLength, length);
+	}
+
+	/**
+	 * Stops tracking the given match.
+	 *
+	 * @param match the match
+	 * @return whether the match was tracked by this table
+	 */
+	public synchronized boolean remove(Match match) {
+		int index= indexOf(match);
+		if (index < 0)
+			return false;
+		removeAt(index);
+		compactIfNeeded();
+		return true;
+	}
+
+	/**
+	 * Stops tracking all matches of the given search result.
+	 *
+	 * @param result the search result
+	 * @return the matches that are no longer tracked
+	 */
+	public synchronized List<Match> removeAll(AbstractTextSearchResult result) {
+		List<Match> removed= new ArrayList<>();
+		for (int i= 0; i < fSize; i++) {
+			if (fMatches[i] != null && result.equals(fResults[i])) {
+				removed.add(fMatches[i]);
+				removeAt(i);
+			}
+		}
+		compactIfNeeded();
+		return removed;
+	}
+
+	public synchronized boolean isEmpty() {
+		return fSize == fRemoved;
+	}
+
+	/**
+	 * @return all tracked matches, in document order
+	 */
+	public synchronized Match[] getMatches() {
+		Match[] matches= new Match[fSize - fRemoved];
+		int j= 0;
+		for (int i= 0; i < fSize; i++) {
+			if (fMatches[i] != null)
+				matches[j++]= fMatches[i];
+		}
+		return matches;
+	}
+
+	/**
+	 * @param match the match
+	 * @return the search result the match was added with or <code>null</code> if not tracked
+	 */
+	public synchronized AbstractTextSearchResult getResult(Match match) {
+		int index= indexOf(match);
+		return index < 0 ? null : fResults[index];
+	}
+
+	/**
+	 * Returns a new position describing the current character range of the match. The position
+	 * is a snapshot, it is not updated on later document changes. It is marked as deleted if
+	 * the range has been removed from the document.
+	 *
+	 * @param match the match
+	 * @return the current range or <code>null</code> if the match is not tracked
+	 */
+	public synchronized Position getPosition(Match match) {
+		int index= indexOf(match);
+		if (index < 0)
+			return null;
+		Position position= new Position(offsetAt(index), fLengths[index]);
+		if (fDeleted[index])
+			position.delete();
+		return position;
+	}
+
+	@Override
+	public synchronized void update(DocumentEvent event) {
+		if (fSize == 0)
+			return;
+
+		int eventOffset= event.getOffset();
+		int eventLength= event.getLength();
+		int eventEnd= eventOffset + eventLength;
+		String text= event.getText();
+		int textLength= text == null ? 0 : text.length();
+
+		// everything starting at or behind the end of the replaced range is only moved
+		int first= lowerBound(eventEnd);
+
+		int start= first;
+		for (int i= first - 1; i >= 0; i--) {
+			int offset= offsetAt(i);
+			if (offset + fMaxLength < eventOffset)
+				break;
+			start= i;
+			if (!fDeleted[i]) {
+				adapt(i, eventOffset, eventLength, textLength);
+			} else if (offset >= eventOffset) {
+				// deleted ranges are no longer adapted, only kept in order
+				setOffsetAt(i, eventOffset + textLength);
+			}
+		}
+		sort(start, first);
+
+		shift(first, textLength - eventLength);
+	}
+
+	/**
+	 * Adapts the range of the given slot to a replace of the document range that starts in front
+	 * of its end. Follows <code>DefaultPositionUpdater</code>: a range strictly inside the
+	 * replaced range is deleted, a replace inside the range changes its length, otherwise the
+	 * removal and the insertion are applied one after the other.
+	 */
+	private void adapt(int index, int eventOffset, int eventLength, int textLength) {
+		int offset= offsetAt(index);
+		int length= fLengths[index];
+		int eventEnd= eventOffset + eventLength;
+
+		if (eventOffset < offset && offset + length < eventEnd) {
+			fDeleted[index]= true;
+			setOffsetAt(index, eventOffset + textLength);
+			return;
+		}
+
+		if (eventLength > 0 && offset <= eventOffset && eventEnd <= offset + length) {
+			length+= textLength - eventLength;
+		} else {
+			if (eventLength > 0 && Math.max(offset, offset + length - 1) >= eventOffset) {
+				if (offset <= eventOffset) {
+					length-= Math.min(eventLength, Math.max(offset, offset + length - 1) - eventOffset + 1);
+				} else if (eventEnd <= offset) {
+					offset-= eventLength;
+				} else {
+					length-= eventEnd - offset;
+					offset= eventOffset;
+				}
+				offset= Math.max(offset, 0);
+				length= Math.max(length, 0);
+			}
+			if (textLength > 0 && Math.max(offset, offset + length - 1) >= eventOffset) {
+				if (offset < eventOffset)
+					length+= textLength;
+				else
+					offset+= textLength;
+			}
+		}
+		setOffsetAt(index, offset);
+		fLengths[index]= length;
+		fMaxLength= Math.max(fMaxLength, length);
+	}
+
+	/**
+	 * Restores the offset order of the slots between the given indices after they have been
+	 * adapted. An adapted range either keeps its offset or is moved to the start or the end of
+	 * the replacing text, so only ranges starting at the same place can have swapped.
+	 */
+	private void sort(int from, int to) {
+		for (int i= from + 1; i < to; i++) {
+			for (int j= i; j > from && offsetAt(j - 1) > offsetAt(j); j--)
+				swap(j - 1, j);
+		}
+	}
+
+	private void swap(int i, int j) {
+		int offset= offsetAt(i);
+		setOffsetAt(i, offsetAt(j));
+		setOffsetAt(j, offset);
+		Match match= fMatches[i];
+		fMatches[i]= fMatches[j];
+		fMatches[j]= match;
+		AbstractTextSearchResult result= fResults[i];
+		fResults[i]= fResults[j];
+		fResults[j]= result;
+		int length= fLengths[i];
+		fLengths[i]= fLengths[j];
+		fLengths[j]= length;
+		boolean deleted= fDeleted[i];
+		fDeleted[i]= fDeleted[j];
+		fDeleted[j]= deleted;
+		fIndices= null;
+	}
+
+	private int offsetAt(int index) {
+		return fOffsets[index] + shiftAt(index);
+	}
+
+	private void setOffsetAt(int index, int offset) {
+		fOffsets[index]= offset - shiftAt(index);
+	}
+
+	private int shiftAt(int index) {
+		return index >= fShiftStart ? fShift : 0;
+	}
+
+	/**
+	 * Moves all slots at or behind <code>from</code> by <code>delta</code>. Merges the new shift
+	 * with the pending one by applying the difference to the slots between both start indices.
+	 */
+	private void shift(int from, int delta) {
+		if (delta == 0 || from >= fSize)
+			return;
+		if (fShift == 0) {
+			fShiftStart= from;
+		} else if (from < fShiftStart) {
+			for (int i= from; i < fShiftStart; i++)
+				fOffsets[i]+= delta;
+		} else {
+			for (int i= fShiftStart; i < from; i++)
+				fOffsets[i]+= fShift;
+			fShiftStart= from;
+		}
+		fShift+= delta;
+	}
+
+	private void flushShift() {
+		if (fShift != 0) {
+			for (int i= fShiftStart; i < fSize; i++)
+				fOffsets[i]+= fShift;
+		}
+		fShift= 0;
+		fShiftStart= 0;
+	}
+
+	/**
+	 * @return the first index whose offset is greater than or equal to the given offset
+	 */
+	private int lowerBound(int offset) {
+		int low= 0;
+		int high= fSize;
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			if (offsetAt(mid) < offset)
+				low= mid + 1;
+			else
+				high= mid;
+		}
+		return low;
+	}
+
+	/**
+	 * @return the first index whose offset is greater than the given offset
+	 */
+	private int upperBound(int offset) {
+		int low= 0;
+		int high= fSize;
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			if (offsetAt(mid) <= offset)
+				low= mid + 1;
+			else
+				high= mid;
+		}
+		return low;
+	}
+
+	private int indexOf(Match match) {
+		if (fIndices == null) {
+			fIndices= new HashMap<>();
+			for (int i= 0; i < fSize; i++) {
+				if (fMatches[i] != null)
+					fIndices.put(fMatches[i], Integer.valueOf(i));
+			}
+		}
+		Integer index= fIndices.get(match);
+		return index == null ? -1 : index.intValue();
+	}
+
+	private void removeAt(int index) {
+		if (fIndices != null)
+			fIndices.remove(fMatches[index]);
+		fMatches[index]= null;
+		fResults[index]= null;
+		fRemoved++;
+	}
+
+	private void compactIfNeeded() {
+		if (fRemoved == fSize) {
+			clear();
+		} else if (fRemoved > INITIAL_CAPACITY && fRemoved > fSize / 2) {
+			flushShift();
+			int j= 0;
+			for (int i= 0; i < fSize; i++) {
+				if (fMatches[i] != null) {
+					fMatches[j]= fMatches[i];
+					fResults[j]= fResults[i];
+					fOffsets[j]= fOffsets[i];
+					fLengths[j]= fLengths[i];
+					fDeleted[j]= fDeleted[i];
+					j++;
+				}
+			}
+			Arrays.fill(fMatches, j, fSize, null);
+			Arrays.fill(fResults, j, fSize, null);
+			fSize= j;
+			fRemoved= 0;
+			fIndices= null;
+		}
+	}
+
+	private void clear() {
+		Arrays.fill(fMatches, 0, fSize, null);
+		Arrays.fill(fResults, 0, fSize, null);
+		fSize= 0;
+		fRemoved= 0;
+		fMaxLength= 0;
+		fShift= 0;
+		fShiftStart= 0;
+		fIndices= new HashMap<>();
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= fMatches.length)
+			return;
+		int newCapacity= Math.max(capacity, fMatches.length * 2);
+		fMatches= Arrays.copyOf(fMatches, newCapacity);
+		fResults= Arrays.copyOf(fResults, newCapacity);
+		fOffsets= Arrays.copyOf(fOffsets, newCapacity);
+		fLengths= Arrays.copyOf(fLengths, newCapacity);
+		fDeleted= Arrays.copyOf(fDeleted, newCapacity);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,9 @@
 package org.eclipse.search2.internal.ui.text;
 
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
+import java.util.Map.Entry;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
@@ -50,12 +50,11 @@ import org.eclipse.search.ui.text.RemoveAllEvent;
 
 public class PositionTracker implements IQueryListener, ISearchResultListener, IFileBufferListener {
 
-	private Map<Match, Position> fMatchesToPositions= new HashMap<>();
-	private Map<Match, AbstractTextSearchResult> fMatchesToSearchResults= new HashMap<>();
-	private Map<ITextFileBuffer, Set<Match>> fFileBuffersToMatches= new HashMap<>();
+	private Map<Match, MatchOffsetTable> fMatchesToTables= new HashMap<>();
+	private Map<ITextFileBuffer, MatchOffsetTable> fFileBuffersToTables= new HashMap<>();
 
 	private interface IFileBufferMatchOperation {
-		void run(ITextFileBuffer buffer, Match match);
+		void run(ITextFileBuffer buffer, MatchOffsetTable table, Match match);
 	}
 
 	public PositionTracker() {
@@ -110,25 +109,28 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 	}
 
 	private void untrackAll(AbstractTextSearchResult result) {
-		Set<Match> matchSet= new HashSet<>(fMatchesToPositions.keySet());
-		for (Match match : matchSet) {
-			AbstractTextSearchResult matchContainer= fMatchesToSearchResults.get(match);
-			if (result.equals(matchContainer)) {
-				ITextFileBuffer fb= getTrackedFileBuffer(result, match.getElement());
-				if (fb != null) {
-					untrackPosition(fb, match);
-				}
+		Iterator<Entry<ITextFileBuffer, MatchOffsetTable>> iter= fFileBuffersToTables.entrySet().iterator();
+		while (iter.hasNext()) {
+			Entry<ITextFileBuffer, MatchOffsetTable> entry= iter.next();
+			MatchOffsetTable table= entry.getValue();
+			for (Match match : table.removeAll(result)) {
+				fMatchesToTables.remove(match);
+			}
+			if (table.isEmpty()) {
+				entry.getKey().getDocument().removePositionUpdater(table);
+				iter.remove();
 			}
 		}
 	}
 
 	private void untrackPosition(ITextFileBuffer fb, Match match) {
-		Position position= fMatchesToPositions.get(match);
-		if (position != null) {
-			removeFileBufferMapping(fb, match);
-			fMatchesToSearchResults.remove(match);
-			fMatchesToPositions.remove(match);
-			fb.getDocument().removePosition(position);
+		MatchOffsetTable table= fMatchesToTables.remove(match);
+		if (table != null) {
+			table.remove(match);
+			if (table.isEmpty() && fFileBuffersToTables.get(fb) == table) {
+				fFileBuffersToTables.remove(fb);
+				table.getDocument().removePositionUpdater(table);
+			}
 		}
 	}
 
@@ -140,14 +142,24 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 
 		try {
 			IDocument doc= fb.getDocument();
-			Position position= new Position(offset, length);
 			if (match.getBaseUnit() == Match.UNIT_LINE) {
-				position= convertToCharacterPosition(position, doc);
+				Position position= convertToCharacterPosition(new Position(offset, length), doc);
+				offset= position.getOffset();
+				length= position.getLength();
+			} else if (offset + length > doc.getLength()) {
+				throw new BadLocationException();
+			}
+			MatchOffsetTable previous= fMatchesToTables.get(match);
+			if (previous != null)
+				previous.remove(match);
+			MatchOffsetTable table= fFileBuffersToTables.get(fb);
+			if (table == null) {
+				table= new MatchOffsetTable(doc);
+				doc.addPositionUpdater(table);
+				fFileBuffersToTables.put(fb, table);
 			}
-			doc.addPosition(position);
-			fMatchesToSearchResults.put(match, result);
-			fMatchesToPositions.put(match, position);
-			addFileBufferMapping(fb, match);
+			table.add(match, result, offset, length);
+			fMatchesToTables.put(match, table);
 		} catch (BadLocationException e) {
 			// the match is outside the document
 			result.removeMatch(match);
@@ -168,24 +180,6 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 		return new Position(charOffset, charLength);
 	}
 
-	private void addFileBufferMapping(ITextFileBuffer fb, Match match) {
-		Set<Match> matches= fFileBuffersToMatches.get(fb);
-		if (matches == null) {
-			matches= new HashSet<>();
-			fFileBuffersToMatches.put(fb, matches);
-		}
-		matches.add(match);
-	}
-
-	private void removeFileBufferMapping(ITextFileBuffer fb, Match match) {
-		Set<Match> matches= fFileBuffersToMatches.get(fb);
-		if (matches != null) {
-			matches.remove(match);
-			if (matches.isEmpty())
-				fFileBuffersToMatches.remove(fb);
-		}
-	}
-
 	private ITextFileBuffer getTrackedFileBuffer(AbstractTextSearchResult result, Object element) {
 		IFileMatchAdapter adapter= result.getFileMatchAdapter();
 		if (adapter == null)
@@ -198,20 +192,23 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 		return FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
 	}
 
+	/**
+	 * Returns the current position of a match in an open document. The returned position is a
+	 * snapshot that is not updated on later document changes.
+	 *
+	 * @param match the match
+	 * @return the current position or <code>null</code> if the match is not tracked
+	 */
 	public Position getCurrentPosition(Match match) {
-		Position pos= fMatchesToPositions.get(match);
-		if (pos == null)
-			return pos;
-		AbstractTextSearchResult result= fMatchesToSearchResults.get(match);
-		if (match.getBaseUnit() == Match.UNIT_LINE && result != null) {
-			ITextFileBuffer fb= getTrackedFileBuffer(result, match.getElement());
-			if (fb != null) {
-				IDocument doc= fb.getDocument();
-				try {
-					pos= convertToLinePosition(pos, doc);
-				} catch (BadLocationException e) {
+		MatchOffsetTable table= fMatchesToTables.get(match);
+		if (table == null)
+			return null;
+		Position pos= table.getPosition(match);
+		if (pos != null && match.getBaseUnit() == Match.UNIT_LINE) {
+			try {
+				pos= convertToLinePosition(pos, table.getDocument());
+			} catch (BadLocationException e) {
 
-				}
 			}
 		}
 
@@ -269,11 +266,10 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 	private void doForExistingMatchesIn(IFileBuffer buffer, IFileBufferMatchOperation operation) {
 		if (!(buffer instanceof ITextFileBuffer))
 			return;
-		Set<Match> matches= fFileBuffersToMatches.get(buffer);
-		if (matches != null) {
-			Set<Match> matchSet= new HashSet<>(matches);
-			for (Match element : matchSet) {
-				operation.run((ITextFileBuffer) buffer, element);
+		MatchOffsetTable table= fFileBuffersToTables.get(buffer);
+		if (table != null) {
+			for (Match element : table.getMatches()) {
+				operation.run((ITextFileBuffer) buffer, table, element);
 			}
 		}
 	}
@@ -282,7 +278,7 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 	@Override
 	public void bufferDisposed(IFileBuffer buffer) {
 		final int[] trackCount= new int[1];
-		doForExistingMatchesIn(buffer, (textBuffer, match) -> {
+		doForExistingMatchesIn(buffer, (textBuffer, table, match) -> {
 			trackCount[0]++;
 			untrackPosition(textBuffer, match);
 		});
@@ -296,11 +292,13 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 	@Override
 	public void bufferContentReplaced(IFileBuffer buffer) {
 		final int[] trackCount= new int[1];
-		doForExistingMatchesIn(buffer, (textBuffer, match) -> {
+		doForExistingMatchesIn(buffer, (textBuffer, table, match) -> {
 			trackCount[0]++;
-			AbstractTextSearchResult result= fMatchesToSearchResults.get(match);
+			AbstractTextSearchResult result= table.getResult(match);
 			untrackPosition(textBuffer, match);
-			trackPosition(result, textBuffer, match);
+			if (result != null) {
+				trackPosition(result, textBuffer, match);
+			}
 		});
 	}
 
@@ -314,12 +312,12 @@ public class PositionTracker implements IQueryListener, ISearchResultListener, I
 		if (isDirty)
 			return;
 		final int[] trackCount= new int[1];
-		doForExistingMatchesIn(buffer, (textBuffer, match) -> {
+		doForExistingMatchesIn(buffer, (textBuffer, table, match) -> {
 			trackCount[0]++;
-			Position pos= fMatchesToPositions.get(match);
+			Position pos= table.getPosition(match);
 			if (pos != null) {
 				if (pos.isDeleted()) {
-					AbstractTextSearchResult result= fMatchesToSearchResults.get(match);
+					AbstractTextSearchResult result= table.getResult(match);
 					// might be that the containing element has been removed.
 					if (result != null) {
 						result.removeMatch(match);
@@ -51,6 +51,7 @@ public final class SearchMessages extends NLS {
 	public static String ReplaceRefactoring_composite_change_name;
 	public static String ReplaceRefactoring_error_access_file;
 	public static String ReplaceRefactoring_error_accessing_file_buffer;
+	public static String ReplaceRefactoring_error_file_changed;
 	public static String ReplaceRefactoring_error_illegal_search_string;
 	public static String ReplaceRefactoring_error_match_content_changed;
 	public static String ReplaceRefactoring_error_no_changes;
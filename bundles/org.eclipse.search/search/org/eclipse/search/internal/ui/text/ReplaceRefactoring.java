@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2023 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.search.internal.ui.text;
 
+import java.io.IOException;
 import java.net.URI;
 import java.text.Collator;
 import java.util.ArrayList;
@@ -21,12 +22,16 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import org.eclipse.swt.widgets.Display;
+
 import org.eclipse.core.filesystem.EFS;
 
 import org.eclipse.core.runtime.Assert;
@@ -34,7 +39,10 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
@@ -43,21 +51,23 @@ import org.eclipse.core.resources.ResourcesPlugin;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
-import org.eclipse.core.filebuffers.ITextFileBufferManager;
 import org.eclipse.core.filebuffers.LocationKind;
 
 import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEditGroup;
 
-import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.TextUtilities;
 
+import org.eclipse.search.internal.core.text.DocumentCharSequence;
+import org.eclipse.search.internal.core.text.FileCharSequenceProvider;
+import org.eclipse.search.internal.core.text.FileCharSequenceProvider.FileCharSequenceException;
 import org.eclipse.search.internal.core.text.PatternConstructor;
 import org.eclipse.search.internal.ui.Messages;
 import org.eclipse.search.internal.ui.SearchMessages;
+import org.eclipse.search.internal.ui.SearchPlugin;
 import org.eclipse.search.ui.text.Match;
 
 import org.eclipse.search2.internal.ui.InternalSearchUI;
@@ -130,20 +140,7 @@ public class ReplaceRefactoring extends Refactoring {
 				ArrayList<FileMatch> matches= new ArrayList<>();
 				for (MatchGroup curr : fMatchGroups) {
 					if (curr.group.isEnabled()) {
-						FileMatch match= curr.match;
-						matches.add(match);
-
-						if (fIgnoredMatches == null)
-							continue;
-
-						// Add matches that we removed before starting the refactoring
-						IFile file= match.getFile();
-						URI uri= file.getLocationURI();
-						if (uri != null) {
-							ArrayList<FileMatch> ignoredMatches= fIgnoredMatches.get(uri);
-							if (ignoredMatches != null)
-								matches.addAll(ignoredMatches);
-						}
+						addMatch(matches, curr.match, fIgnoredMatches);
 					}
 				}
 				fMatches= matches.toArray(new Match[matches.size()]);
@@ -152,6 +149,22 @@ public class ReplaceRefactoring extends Refactoring {
 			return fMatches;
 		}
 
+		private static void addMatch(List<FileMatch> matches, FileMatch match, Map<URI, ArrayList<FileMatch>> ignoredMatches) {
+			matches.add(match);
+
+			if (ignoredMatches == null)
+				return;
+
+			// Add matches that we removed before starting the refactoring
+			IFile file= match.getFile();
+			URI uri= file.getLocationURI();
+			if (uri != null) {
+				ArrayList<FileMatch> ignored= ignoredMatches.get(uri);
+				if (ignored != null)
+					matches.addAll(ignored);
+			}
+		}
+
 		@Override
 		public Change perform(IProgressMonitor pm) throws CoreException {
 			Match[] matches= getMatches();
@@ -167,6 +180,9 @@ public class ReplaceRefactoring extends Refactoring {
 
 
 
+	/** Number of files whose changes are created and applied together by Replace All. */
+	private static final int PERFORM_BATCH_SIZE= 100;
+
 	private final FileSearchResult fResult;
 	private final Object[] fSelection;
 
@@ -368,42 +384,282 @@ public class ReplaceRefactoring extends Refactoring {
 			return resultingStatus;
 		}
 		progress.setWorkRemaining(workSize);
-		CompositeChange compositeChange= new CompositeChange(SearchMessages.ReplaceRefactoring_composite_change_name);
-		compositeChange.markAsSynthetic();
 
-		ArrayList<MatchGroup> matchGroups= new ArrayList<>();
-		boolean hasChanges= false;
-		try {
-			for (IFile file : allFiles) {
-				progress.checkCanceled();
-				Set<FileMatch> bucket= fMatches.get(file);
-				if (!bucket.isEmpty()) {
-					try {
-						TextChange change = createFileChange(file, pattern, bucket, resultingStatus, matchGroups,
-								progress);
+		// only validate the matches here, the file changes are created again when needed
+		Map<FileMatch, Position> currentPositions= getCurrentPositions(allFiles);
+		FileChangeCreator creator= new FileChangeCreator(allFiles, pattern, currentPositions, false);
+		creator.run(progress);
+
+		List<IFile> changedFiles= new ArrayList<>();
+		for (int i= 0; i < allFiles.length; i++) {
+			Exception exception= creator.fExceptions[i];
+			if (exception instanceof PatternSyntaxException) {
+				String message= Messages.format(SearchMessages.ReplaceRefactoring_error_replacement_expression, exception.getLocalizedMessage());
+				return RefactoringStatus.createFatalErrorStatus(message);
+			} else if (exception != null) {
+				String message= Messages.format(SearchMessages.ReplaceRefactoring_error_access_file, new Object[] { allFiles[i].getName(), exception.getLocalizedMessage() });
+				return RefactoringStatus.createFatalErrorStatus(message);
+			}
+			if (creator.fStatus[i] != null) {
+				resultingStatus.merge(creator.fStatus[i]);
+			}
+			if (creator.fHasEdits[i]) {
+				changedFiles.add(allFiles[i]);
+			}
+		}
+		if (changedFiles.isEmpty() && resultingStatus.isOK()) {
+			return RefactoringStatus.createFatalErrorStatus(SearchMessages.ReplaceRefactoring_error_no_changes);
+		}
+
+		fChange= new ReplaceAllChange(changedFiles.toArray(new IFile[changedFiles.size()]), pattern, currentPositions);
+		return resultingStatus;
+	}
+
+	/**
+	 * Takes a snapshot of the current positions of the matches in the given files. The position
+	 * tracker is updated in the UI thread, so the snapshot is taken there as well.
+	 *
+	 * @param files the files
+	 * @return the current position by match, for the matches in open documents
+	 */
+	private Map<FileMatch, Position> getCurrentPositions(IFile[] files) {
+		Map<FileMatch, Position> currentPositions= new HashMap<>();
+		Display.getDefault().syncExec(() -> {
+			PositionTracker tracker= InternalSearchUI.getInstance().getPositionTracker();
+			for (IFile file : files) {
+				for (FileMatch match : fMatches.get(file)) {
+					Position position= tracker.getCurrentPosition(match);
+					if (position != null) {
+						currentPositions.put(match, position);
+					}
+				}
+			}
+		});
+		return currentPositions;
+	}
+
+	/**
+	 * Replaces the matches in all files. The file changes are only created when the change is
+	 * performed, in batches of {@link #PERFORM_BATCH_SIZE} files that are applied and released
+	 * one after the other, so at most the text edits of one batch are kept in memory. All file
+	 * changes are created up front only if the children are requested, for the preview.
+	 */
+	private class ReplaceAllChange extends CompositeChange {
+		private final IFile[] fFiles;
+		private final Pattern fPattern;
+		private final Map<FileMatch, Position> fCurrentPositions;
+		private long[] fModificationStamps;
+		private boolean fChildrenCreated;
+		private Change fUndoUntilException;
+
+		ReplaceAllChange(IFile[] files, Pattern pattern, Map<FileMatch, Position> currentPositions) {
+			super(SearchMessages.ReplaceRefactoring_composite_change_name);
+			markAsSynthetic();
+			fFiles= files;
+			fPattern= pattern;
+			fCurrentPositions= currentPositions;
+		}
+
+		@Override
+		public Change[] getChildren() {
+			if (!fChildrenCreated) {
+				fChildrenCreated= true;
+				createChildren();
+			}
+			return super.getChildren();
+		}
+
+		private void createChildren() {
+			FileChangeCreator creator= new FileChangeCreator(fFiles, fPattern, fCurrentPositions, true);
+			creator.run(SubMonitor.convert(null));
+			ArrayList<MatchGroup> matchGroups= new ArrayList<>();
+			for (int i= 0; i < fFiles.length; i++) {
+				if (creator.fExceptions[i] != null) {
+					// the file has been readable when the matches were checked
+					SearchPlugin.log(creator.fExceptions[i]);
+				} else if (creator.fChanges[i] != null) {
+					TextChange change= creator.fChanges[i];
+					if (fModificationStamps != null) {
+						change.initializeValidationData(null);
+					}
+					add(change);
+					matchGroups.addAll(creator.fMatchGroups[i]);
+				}
+			}
+			add(new SearchResultUpdateChange(fResult, matchGroups.toArray(new MatchGroup[matchGroups.size()]), fIgnoredMatches));
+		}
+
+		@Override
+		public void initializeValidationData(IProgressMonitor pm) {
+			super.initializeValidationData(pm);
+			fModificationStamps= new long[fFiles.length];
+			for (int i= 0; i < fFiles.length; i++) {
+				fModificationStamps[i]= fFiles[i].getModificationStamp();
+			}
+		}
+
+		@Override
+		public RefactoringStatus isValid(IProgressMonitor pm) throws CoreException, OperationCanceledException {
+			if (fChildrenCreated) {
+				return super.isValid(pm);
+			}
+			RefactoringStatus result= new RefactoringStatus();
+			for (int i= 0; i < fFiles.length; i++) {
+				if (!fFiles[i].exists() || fModificationStamps != null && fModificationStamps[i] != fFiles[i].getModificationStamp()) {
+					result.addFatalError(Messages.format(SearchMessages.ReplaceRefactoring_error_file_changed, fFiles[i].getName()));
+				}
+			}
+			return result;
+		}
+
+		@Override
+		public Change perform(IProgressMonitor pm) throws CoreException {
+			if (fChildrenCreated) {
+				return super.perform(pm);
+			}
+			SubMonitor progress= SubMonitor.convert(pm, getName(), fFiles.length * 2);
+			List<Change> undos= new ArrayList<>();
+			List<FileMatch> replacedMatches= new ArrayList<>();
+			try {
+				for (int start= 0; start < fFiles.length; start+= PERFORM_BATCH_SIZE) {
+					IFile[] batch= Arrays.copyOfRange(fFiles, start, Math.min(fFiles.length, start + PERFORM_BATCH_SIZE));
+					FileChangeCreator creator= new FileChangeCreator(batch, fPattern, fCurrentPositions, true);
+					creator.run(progress.split(batch.length));
+					for (int i= 0; i < batch.length; i++) {
+						if (creator.fExceptions[i] != null) {
+							String message= Messages.format(SearchMessages.ReplaceRefactoring_error_access_file, new Object[] { batch[i].getName(), creator.fExceptions[i].getLocalizedMessage() });
+							throw new CoreException(new Status(IStatus.ERROR, SearchPlugin.getID(), message, creator.fExceptions[i]));
+						}
+						TextChange change= creator.fChanges[i];
 						if (change != null) {
-							compositeChange.add(change);
-							hasChanges= true;
+							undos.add(0, change.perform(progress.split(1)));
+							change.dispose();
+							for (MatchGroup group : creator.fMatchGroups[i]) {
+								SearchResultUpdateChange.addMatch(replacedMatches, group.match, fIgnoredMatches);
+							}
+						} else {
+							progress.worked(1);
 						}
-					} catch (CoreException e) {
-						String message= Messages.format(SearchMessages.ReplaceRefactoring_error_access_file, new Object[] { file.getName(), e.getLocalizedMessage() });
-						return RefactoringStatus.createFatalErrorStatus(message);
 					}
 				}
-				progress.worked(1);
+				Match[] matches= replacedMatches.toArray(new Match[replacedMatches.size()]);
+				undos.add(0, new SearchResultUpdateChange(fResult, matches, fIgnoredMatches, true).perform(progress));
+			} catch (CoreException | RuntimeException e) {
+				fUndoUntilException= createUndoChange(undos.toArray(new Change[undos.size()]));
+				throw e;
 			}
-		} catch (PatternSyntaxException e) {
-			String message= Messages.format(SearchMessages.ReplaceRefactoring_error_replacement_expression, e.getLocalizedMessage());
-			return RefactoringStatus.createFatalErrorStatus(message);
+			return createUndoChange(undos.toArray(new Change[undos.size()]));
 		}
-		if (!hasChanges && resultingStatus.isOK()) {
-			return RefactoringStatus.createFatalErrorStatus(SearchMessages.ReplaceRefactoring_error_no_changes);
+
+		@Override
+		public Change getUndoUntilException() {
+			return fChildrenCreated ? super.getUndoUntilException() : fUndoUntilException;
+		}
+
+		@Override
+		public Object[] getAffectedObjects() {
+			return fChildrenCreated ? super.getAffectedObjects() : fFiles.clone();
 		}
+	}
 
-		compositeChange.add(new SearchResultUpdateChange(fResult, matchGroups.toArray(new MatchGroup[matchGroups.size()]), fIgnoredMatches));
+	/**
+	 * Creates the file changes for a set of files in parallel. The number of files being read
+	 * at the same time is bounded by the number of workers. Files that are not open in an editor
+	 * are read without connecting a file buffer. The results are stored by file index, so that
+	 * they can be assembled in a deterministic order. If the changes are not kept, only whether
+	 * a file change has edits is recorded.
+	 */
+	private class FileChangeCreator {
+		private final IFile[] fFiles;
+		private final Pattern fPattern;
+		private final Map<FileMatch, Position> fCurrentPositions;
+		private final boolean fKeepChanges;
+		private final AtomicInteger fNextFile= new AtomicInteger();
+		private final AtomicInteger fProcessedFiles= new AtomicInteger();
+		private volatile boolean fCanceled;
+
+		final TextChange[] fChanges;
+		final List<MatchGroup>[] fMatchGroups;
+		final boolean[] fHasEdits;
+		final RefactoringStatus[] fStatus;
+		final Exception[] fExceptions;
+
+		@SuppressWarnings("unchecked")
+		FileChangeCreator(IFile[] files, Pattern pattern, Map<FileMatch, Position> currentPositions, boolean keepChanges) {
+			fFiles= files;
+			fPattern= pattern;
+			fCurrentPositions= currentPositions;
+			fKeepChanges= keepChanges;
+			fChanges= new TextChange[files.length];
+			fMatchGroups= new List[files.length];
+			fHasEdits= new boolean[files.length];
+			fStatus= new RefactoringStatus[files.length];
+			fExceptions= new Exception[files.length];
+		}
 
-		fChange= compositeChange;
-		return resultingStatus;
+		void run(SubMonitor progress) {
+			int jobCount= Math.max(1, Math.min(fFiles.length, Runtime.getRuntime().availableProcessors()));
+			JobGroup jobGroup= new JobGroup("Replace", jobCount, 1) { //$NON-NLS-1$
+				// Always continue processing all other files, errors are reported per file.
+				@Override
+				protected boolean shouldCancel(IStatus lastCompletedJobResult, int numberOfFailedJobs, int numberOfCancelledJobs) {
+					return false;
+				}
+			};
+			for (int i= 0; i < jobCount; i++) {
+				Job job= Job.create("Replace Worker", this::processFiles); //$NON-NLS-1$
+				job.setSystem(true);
+				job.setJobGroup(jobGroup);
+				job.schedule();
+			}
+			int reported= 0;
+			try {
+				while (!jobGroup.join(100, null)) {
+					if (progress.isCanceled()) {
+						fCanceled= true;
+						jobGroup.cancel();
+					}
+					int processed= fProcessedFiles.get();
+					progress.worked(processed - reported);
+					reported= processed;
+				}
+			} catch (InterruptedException e) {
+				fCanceled= true;
+				jobGroup.cancel();
+			}
+			if (fCanceled) {
+				throw new OperationCanceledException();
+			}
+			progress.worked(fFiles.length - reported);
+		}
+
+		private IStatus processFiles(IProgressMonitor monitor) {
+			FileCharSequenceProvider provider= new FileCharSequenceProvider();
+			int index;
+			while (!fCanceled && !monitor.isCanceled() && (index= fNextFile.getAndIncrement()) < fFiles.length) {
+				IFile file= fFiles[index];
+				Set<FileMatch> bucket= fMatches.get(file);
+				if (!bucket.isEmpty()) {
+					RefactoringStatus status= new RefactoringStatus();
+					List<MatchGroup> matchGroups= new ArrayList<>();
+					try {
+						TextChange change= createFileChange(file, fPattern, bucket, fCurrentPositions, status, matchGroups, provider, monitor);
+						fHasEdits[index]= change.getEdit().hasChildren();
+						if (fKeepChanges && fHasEdits[index]) {
+							fChanges[index]= change;
+							fMatchGroups[index]= matchGroups;
+						}
+					} catch (PatternSyntaxException | CoreException | IOException e) {
+						fExceptions[index]= e;
+					} catch (OperationCanceledException e) {
+						fCanceled= true;
+					}
+					fStatus[index]= status;
+				}
+				fProcessedFiles.incrementAndGet();
+			}
+			return fCanceled || monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
 	}
 
 	private void checkFilesToBeChanged(IFile[] filesToBeChanged, RefactoringStatus resultingStatus, SubMonitor pm)
@@ -428,29 +684,31 @@ public class ReplaceRefactoring extends Refactoring {
 	}
 
 	private TextChange createFileChange(IFile file, Pattern pattern, Set<FileMatch> matches,
-			RefactoringStatus resultingStatus, Collection<MatchGroup> matchGroups, SubMonitor pm)
-			throws PatternSyntaxException, CoreException {
-		PositionTracker tracker= InternalSearchUI.getInstance().getPositionTracker();
-
+			Map<FileMatch, Position> currentPositions, RefactoringStatus resultingStatus,
+			Collection<MatchGroup> matchGroups, FileCharSequenceProvider provider, IProgressMonitor pm)
+			throws PatternSyntaxException, CoreException, IOException {
 		TextFileChange change= new TextFileChange(Messages.format(SearchMessages.ReplaceRefactoring_group_label_change_for_file, file.getName()), file);
 		change.setEdit(new MultiTextEdit());
 
-		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
-		manager.connect(file.getFullPath(), LocationKind.IFILE, null);
+		ITextFileBuffer textFileBuffer= FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+		IDocument document= textFileBuffer != null ? textFileBuffer.getDocument() : null;
+		CharSequence content;
 		try {
-			ITextFileBuffer textFileBuffer= manager.getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
-			if (textFileBuffer == null) {
-				resultingStatus.addError(Messages.format(SearchMessages.ReplaceRefactoring_error_accessing_file_buffer, file.getName()));
-				return null;
-			}
-			IDocument document= textFileBuffer.getDocument();
-			String lineDelimiter= TextUtilities.getDefaultLineDelimiter(document);
+			// files not open in an editor are only read, there is no need for a file buffer
+			content= document != null ? new DocumentCharSequence(document) : provider.newCharSequence(file);
+		} catch (FileCharSequenceException e) {
+			throw unwrap(e);
+		}
+		try {
+			String lineDelimiter= null; // lazily computed, only needed for regular expressions
 
 			for (FileMatch match : matches) {
-				pm.checkCanceled();
+				if (pm.isCanceled()) {
+					throw new OperationCanceledException();
+				}
 				int offset= match.getOffset();
 				int length= match.getLength();
-				Position currentPosition= tracker.getCurrentPosition(match);
+				Position currentPosition= currentPositions.get(match);
 				if (currentPosition != null) {
 					offset= currentPosition.offset;
 					if (length != currentPosition.length) {
@@ -459,12 +717,15 @@ public class ReplaceRefactoring extends Refactoring {
 					}
 				}
 
-				String originalText= getOriginalText(document, offset, length);
+				String originalText= getOriginalText(content, offset, length);
 				if (originalText == null) {
 					resultingStatus.addError(Messages.format(SearchMessages.ReplaceRefactoring_error_match_content_changed, file.getName()));
 					continue;
 				}
 
+				if (pattern != null && lineDelimiter == null) {
+					lineDelimiter= document != null ? TextUtilities.getDefaultLineDelimiter(document) : getLineDelimiter(content);
+				}
 				String replacementString= computeReplacementString(pattern, originalText, fReplaceString, lineDelimiter);
 				if (replacementString == null) {
 					resultingStatus.addError(Messages.format(SearchMessages.ReplaceRefactoring_error_match_content_changed, file.getName()));
@@ -477,20 +738,50 @@ public class ReplaceRefactoring extends Refactoring {
 				change.addTextEditChangeGroup(textEditChangeGroup);
 				matchGroups.add(new MatchGroup(textEditChangeGroup, match));
 			}
+		} catch (FileCharSequenceException e) {
+			throw unwrap(e);
 		} finally {
-			manager.disconnect(file.getFullPath(), LocationKind.IFILE, null);
+			if (document == null) {
+				provider.releaseCharSequence(content);
+			}
 		}
 		return change;
 	}
 
-	private static String getOriginalText(IDocument doc, int offset, int length) {
+	private static CoreException unwrap(FileCharSequenceException e) throws IOException {
+		if (e.getCause() instanceof CoreException coreException) {
+			return coreException;
+		}
+		if (e.getCause() instanceof IOException ioException) {
+			throw ioException;
+		}
+		throw e;
+	}
+
+	private static String getOriginalText(CharSequence content, int offset, int length) {
 		try {
-			return doc.get(offset, length);
-		} catch (BadLocationException e) {
+			String text= content.subSequence(offset, offset + length).toString();
+			// a file read from disk may end before the match
+			return text.length() == length ? text : null;
+		} catch (IndexOutOfBoundsException e) {
 			return null;
 		}
 	}
 
+	private static String getLineDelimiter(CharSequence content) {
+		int length= content.length();
+		for (int i= 0; i < length; i++) {
+			char ch= content.charAt(i);
+			if (ch == '\n') {
+				return "\n"; //$NON-NLS-1$
+			} else if (ch == '\r') {
+				return i + 1 < length && content.charAt(i + 1) == '\n' ? "\r\n" : "\r"; //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		// no line delimiter in the file
+		return System.lineSeparator();
+	}
+
 	private Pattern createSearchPattern(FileSearchQuery query) {
 		return PatternConstructor.createPattern(query.getSearchString(), true, true, query.isCaseSensitive(), false);
 	}
@@ -32,6 +32,8 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.search.internal.core.SearchCorePlugin;
+import org.eclipse.search.internal.core.text.FileClassificationCache;
 import org.eclipse.text.quicksearch.internal.core.pathmatch.ResourceMatcher;
 import org.eclipse.text.quicksearch.internal.core.pathmatch.ResourceMatchers;
 import org.eclipse.text.quicksearch.internal.core.priority.PriorityFunction;
@@ -160,7 +162,10 @@ public class QuickTextSearcher {
 			if (canceled.getAsBoolean()) {
 				return false;
 			}
-			try (LineReader lr = new LineReader(getReader(f),
+			// only the charset is taken from the cache, whether a file has been classified as
+			// binary depends on earlier file searches and must not change the results
+			FileClassificationCache cache = getClassificationCache();
+			try (LineReader lr = new LineReader(getReader(f, cache),
 					maxLineLength)) {
 				String line;
 				int lineIndex = 1;
@@ -184,15 +189,22 @@ public class QuickTextSearcher {
 			return true;
 		}
 
-		private static Reader getReader(IFile f) throws UnsupportedEncodingException, CoreException {
-			String shortString = toShortString(f);
+		private static Reader getReader(IFile f, FileClassificationCache cache)
+				throws UnsupportedEncodingException, CoreException {
+			String charset = cache != null ? cache.getCharset(f) : f.getCharset();
+			String shortString = toShortString(f, charset);
 			if (shortString != null) {
 				return new StringReader(shortString);
 			} else {
-				return new InputStreamReader(f.getContents(true), f.getCharset());
+				return new InputStreamReader(f.getContents(true), charset);
 			}
 		}
 
+		private static FileClassificationCache getClassificationCache() {
+			SearchCorePlugin plugin = SearchCorePlugin.getDefault();
+			return plugin != null ? plugin.getFileClassificationCache() : null;
+		}
+
 		@Override
 		public void resume() {
 			//Only resume if we don't already exceed the maxResult limit.
@@ -205,7 +217,7 @@ public class QuickTextSearcher {
 	/**
 	 * Try to get a content as String. Avoids Streaming.
 	 */
-	private static String toShortString(IFile file) {
+	private static String toShortString(IFile file, String charset) {
 		/**
 		 * Just any number such that the most source files will fit in. And not too
 		 * big to avoid out of memory.
@@ -216,7 +228,6 @@ public class QuickTextSearcher {
 			if (length >= MAX_BUFFER_LENGTH) {
 				return null;
 			}
-			String charset = file.getCharset();
 			return new String(content, charset);
 		} catch (Exception e) {
 			return null;
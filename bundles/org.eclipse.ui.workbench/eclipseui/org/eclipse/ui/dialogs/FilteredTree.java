@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2025 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.viewers.AbstractFilteredViewerComposite;
 import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
@@ -101,6 +102,12 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 	 */
 	private boolean quickSelectionMode = false;
 
+	/**
+	 * Whether the tree is being refreshed by the refresh job, to apply a new
+	 * filter pattern rather than changed content.
+	 */
+	private boolean refreshingFilter;
+
 	/**
 	 * Maximum time spent expanding the tree after the filter text has been updated
 	 * (this is only used if we were able to at least expand the visible nodes)
@@ -415,7 +422,12 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 							}
 						}
 					}
-					treeViewer.refresh(true);
+					refreshingFilter = true;
+					try {
+						treeViewer.refresh(true);
+					} finally {
+						refreshingFilter = false;
+					}
 
 					if (text.length() > 0 && !initial) {
 						/*
@@ -731,7 +743,13 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 
 		@Override
 		public void refresh(boolean updateLabels) {
-			getPatternFilter().clearCaches();
+			// the pattern filter keeps the visibility of elements when only the
+			// pattern changed, but the labels are updated
+			if (refreshingFilter) {
+				getPatternFilter().clearLabelCache();
+			} else {
+				getPatternFilter().clearCaches();
+			}
 			super.refresh(updateLabels);
 		}
 
@@ -789,6 +807,24 @@ public class FilteredTree extends AbstractFilteredViewerComposite<PatternFilter>
 			super.setHasChildren(elementOrTreePath, hasChildren);
 		}
 
+		@Override
+		public void update(Object element, String[] properties) {
+			getPatternFilter().clearCaches();
+			super.update(element, properties);
+		}
+
+		@Override
+		public void update(Object[] elements, String[] properties) {
+			getPatternFilter().clearCaches();
+			super.update(elements, properties);
+		}
+
+		@Override
+		protected void handleLabelProviderChanged(LabelProviderChangedEvent event) {
+			getPatternFilter().clearCaches();
+			super.handleLabelProviderChanged(event);
+		}
+
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015, 2017 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,31 @@ public class PatternFilter extends ViewerFilter {
 	 */
 	private Map foundAnyCache = new HashMap();
 
+	/*
+	 * Maps elements to TRUE or FALSE depending on whether they are visible with
+	 * the current pattern
+	 */
+	private Map<Object, Boolean> visibleCache = new HashMap<>();
+
+	/*
+	 * The visibleCache of the previous pattern if the current pattern refines
+	 * it, null otherwise. Elements which were not visible before are not visible
+	 * with the refined pattern either.
+	 */
+	private Map<Object, Boolean> previousVisibleCache;
+
+	/*
+	 * Cache of element labels, independent of the pattern
+	 */
+	private Map<Object, String> labelCache = new HashMap<>();
+
+	/*
+	 * The pattern string last set, or null
+	 */
+	private String patternString;
+
+	private boolean patternIncludesLeadingWildcard;
+
 	private boolean useCache = false;
 
 	/**
@@ -128,14 +153,40 @@ public class PatternFilter extends ViewerFilter {
 		boolean elementFound = false;
 		for (int i = 0; i < elements.length && !elementFound; i++) {
 			Object element = elements[i];
-			elementFound = isElementVisible(viewer, element);
+			elementFound = isVisible(viewer, element);
 		}
 		return elementFound;
 	}
 
 	@Override
 	public final boolean select(Viewer viewer, Object parentElement, Object element) {
-		return isElementVisible(viewer, element);
+		return isVisible(viewer, element);
+	}
+
+	/**
+	 * Returns whether the element is visible. This method uses caching if
+	 * enabled; the computation is done in isElementVisible.
+	 *
+	 * @param viewer  the viewer
+	 * @param element the element to test
+	 * @return <code>true</code> if the element makes it through the filter
+	 */
+	private boolean isVisible(Viewer viewer, Object element) {
+		if (!useCache || matcher == null) {
+			return isElementVisible(viewer, element);
+		}
+		Boolean visible = visibleCache.get(element);
+		if (visible == null) {
+			Boolean previous = previousVisibleCache == null ? null : previousVisibleCache.get(element);
+			if (previous != null && !previous.booleanValue()) {
+				// a refined pattern does not match more elements
+				visible = Boolean.FALSE;
+			} else {
+				visible = isElementVisible(viewer, element) ? Boolean.TRUE : Boolean.FALSE;
+			}
+			visibleCache.put(element, visible);
+		}
+		return visible.booleanValue();
 	}
 
 	/**
@@ -150,6 +201,11 @@ public class PatternFilter extends ViewerFilter {
 	/**
 	 * The pattern string for which this filter should select elements in the
 	 * viewer.
+	 * <p>
+	 * If caching is enabled by the filtered tree, the pattern extends the previous
+	 * one and {@link #isRefinementNarrowing()} returns <code>true</code>, only
+	 * elements which were visible with the previous pattern are tested again.
+	 * </p>
 	 *
 	 * @param patternString the pattern string.
 	 */
@@ -163,7 +219,12 @@ public class PatternFilter extends ViewerFilter {
 			useEarlyReturnIfMatcherIsNull = false;
 			return;
 		}
-		clearCaches();
+		boolean refines = isRefinement(patternString);
+		Map<Object, Boolean> previous = visibleCache;
+		clearPatternCaches();
+		previousVisibleCache = refines ? previous : null;
+		this.patternString = patternString;
+		patternIncludesLeadingWildcard = includeLeadingWildcard;
 		if (patternString == null || patternString.isEmpty()) {
 			matcher = null;
 		} else {
@@ -177,13 +238,76 @@ public class PatternFilter extends ViewerFilter {
 		}
 	}
 
+	/**
+	 * Returns whether an element which is not visible with a pattern is not
+	 * visible with a pattern refining it either, that is, a pattern which only
+	 * appends characters other than whitespace. If so, the filtered tree only
+	 * tests the elements which were visible with the previous pattern when the
+	 * pattern is refined while typing.
+	 * <p>
+	 * This holds for the matching implemented by this class, but not necessarily
+	 * for subclasses overriding the matching methods. The default implementation
+	 * returns <code>false</code>. Subclasses may override to opt in.
+	 * </p>
+	 *
+	 * @return <code>true</code> if refining the pattern only narrows the visible
+	 *         elements
+	 * @since 3.136
+	 */
+	protected boolean isRefinementNarrowing() {
+		return false;
+	}
+
 	/**
 	 * Clears the caches used for optimizing this filter. Needs to be called
 	 * whenever the tree content changes.
 	 */
 	/* package */ void clearCaches() {
+		clearPatternCaches();
+		previousVisibleCache = null;
+		patternString = null;
+		labelCache.clear();
+	}
+
+	/**
+	 * Clears the cached labels of the elements. Needs to be called whenever the
+	 * tree is refreshed, as the labels may have changed.
+	 */
+	/* package */ void clearLabelCache() {
+		labelCache.clear();
+	}
+
+	private void clearPatternCaches() {
 		cache.clear();
 		foundAnyCache.clear();
+		visibleCache = new HashMap<>();
+	}
+
+	/**
+	 * Returns whether every element matching the given pattern also matches the
+	 * current pattern. This is the case if characters other than whitespace have
+	 * been appended to the current pattern, since all patterns are matched with a
+	 * trailing wildcard unless they end with whitespace. A trailing backslash
+	 * escapes that wildcard, so appending to it changes the meaning of the
+	 * current pattern instead.
+	 */
+	private boolean isRefinement(String newPattern) {
+		String oldPattern = patternString;
+		if (!useCache || matcher == null || oldPattern == null || newPattern == null || !isRefinementNarrowing()
+				|| includeLeadingWildcard != patternIncludesLeadingWildcard || !newPattern.startsWith(oldPattern)
+				|| oldPattern.isEmpty()) {
+			return false;
+		}
+		char last = oldPattern.charAt(oldPattern.length() - 1);
+		if (Character.isWhitespace(last) || last == '\\') {
+			return false;
+		}
+		for (int i = oldPattern.length(); i < newPattern.length(); i++) {
+			if (Character.isWhitespace(newPattern.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -263,7 +387,13 @@ public class PatternFilter extends ViewerFilter {
 	 * @return true if the given element's label matches the filter text
 	 */
 	protected boolean isLeafMatch(Viewer viewer, Object element) {
-		String labelText = ((ILabelProvider) ((ContentViewer) viewer).getLabelProvider()).getText(element);
+		String labelText;
+		if (useCache) {
+			labelText = labelCache.computeIfAbsent(element,
+					e -> ((ILabelProvider) ((ContentViewer) viewer).getLabelProvider()).getText(e));
+		} else {
+			labelText = ((ILabelProvider) ((ContentViewer) viewer).getLabelProvider()).getText(element);
+		}
 
 		if (labelText == null) {
 			return false;
@@ -90,6 +90,7 @@ import org.eclipse.e4.core.di.InjectionException;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.E4Workbench;
 import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
+import org.eclipse.e4.ui.internal.workbench.ResourceHandler;
 import org.eclipse.e4.ui.internal.workbench.renderers.swt.IUpdateService;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.internal.workbench.swt.IEventLoopAdvisor;
@@ -1298,28 +1299,49 @@ public final class Workbench extends EventManager implements IWorkbench, org.ecl
 
 	/**
 	 * Copy the model, clean it up and write it out to workbench.xmi. Called as part
-	 * of persist(false) during auto-save.
+	 * of persist(false) during auto-save. If only the changes since the model was
+	 * last written out have to be saved, they are journaled instead.
 	 */
 	private void persistWorkbenchModel() {
+		final IModelResourceHandler handler = e4Context.get(IModelResourceHandler.class);
+		if (handler instanceof ResourceHandler) {
+			try {
+				if (((ResourceHandler) handler).saveChanges()) {
+					return;
+				}
+			} catch (IOException e) {
+				WorkbenchPlugin.log("Unable to journal the changes of the workbench model", e); //$NON-NLS-1$
+			}
+		}
 		if (Job.getJobManager().find(WORKBENCH_AUTO_SAVE_JOB).length > 0) {
 			return;
 		}
-		final MApplication appCopy = (MApplication) EcoreUtil.copy((EObject) application);
+		final EcoreUtil.Copier copier = new EcoreUtil.Copier();
+		final MApplication appCopy = (MApplication) copier.copy((EObject) application);
+		copier.copyReferences();
 		if (detectWorkbenchCorruption(appCopy)) {
 			return;
 		}
-		final IModelResourceHandler handler = e4Context.get(IModelResourceHandler.class);
+		final Map<EObject, String> ids = handler instanceof ResourceHandler
+				? ((ResourceHandler) handler).snapshotStarted(copier)
+				: Collections.emptyMap();
 
 		Job cleanAndSaveJob = new Job(WORKBENCH_AUTO_SAVE_BACKGROUND_JOB) {
 			@Override
 			protected IStatus run(IProgressMonitor monitor) {
 				final Resource res = handler.createResourceWithApp(appCopy);
+				if (res instanceof E4XMIResource) {
+					ids.forEach(((E4XMIResource) res)::setID);
+				}
 				cleanUpCopy(appCopy);
 				try {
 					if (!detectWorkbenchCorruption((MApplication) res.getContents().get(0))) {
 						Map<String, Object> options = new HashMap<>();
 						options.put(E4XMIResource.OPTION_FILTER_PERSIST_STATE, Boolean.TRUE);
 						res.save(options);
+						if (handler instanceof ResourceHandler) {
+							((ResourceHandler) handler).snapshotSaved();
+						}
 					}
 				} catch (IOException e) {
 					// Just auto-save, we don't really care
@@ -16,8 +16,13 @@ package org.eclipse.e4.ui.tests.application;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
@@ -25,7 +30,10 @@ import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.model.application.MApplicationFactory;
 import org.eclipse.e4.ui.model.application.ui.basic.MBasicFactory;
+import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
+import org.eclipse.e4.ui.workbench.IWorkbench;
 import org.eclipse.emf.ecore.EObject;
 import org.junit.Test;
 
@@ -68,4 +76,113 @@ public class E4ResourceTest {
 			assertSame(e.getValue(), eObject);
 		}
 	}
+
+	@Test
+	public void testBinaryFormat() throws IOException {
+		E4XMIResource r = new E4XMIResource();
+		MApplication a = createApplication();
+		r.getContents().add((EObject) a);
+
+		E4XMIResource binary = saveAndLoad(r, true);
+		assertSameModel(r, binary);
+
+		// the format is detected when loading, so models can be migrated
+		E4XMIResource xmi = saveAndLoad(binary, false);
+		assertSameModel(r, xmi);
+		assertSameModel(r, saveAndLoad(xmi, true));
+	}
+
+	@Test
+	public void testBinaryFormatFiltersElements() throws IOException {
+		E4XMIResource r = new E4XMIResource();
+		MApplication a = createApplication();
+		r.getContents().add((EObject) a);
+
+		MPartStack stack = (MPartStack) a.getChildren().get(0).getChildren().get(0);
+		MPart dynamicPart = (MPart) stack.getChildren().get(1);
+		dynamicPart.getPersistedState().put(IWorkbench.PERSIST_STATE, "false");
+		stack.setSelectedElement(dynamicPart);
+
+		Map<String, Object> options = new HashMap<>();
+		options.put(E4XMIResource.OPTION_BINARY_FORMAT, Boolean.TRUE);
+		options.put(E4XMIResource.OPTION_FILTER_PERSIST_STATE, Boolean.TRUE);
+		E4XMIResource loaded = load(save(r, options));
+
+		MApplication loadedApplication = (MApplication) loaded.getContents().get(0);
+		MPartStack loadedStack = (MPartStack) loadedApplication.getChildren().get(0).getChildren().get(0);
+		assertEquals(1, loadedStack.getChildren().size());
+		assertEquals("part1", loadedStack.getChildren().get(0).getElementId());
+		assertNull(loadedStack.getSelectedElement());
+		assertEquals(r.getID((EObject) stack.getChildren().get(0)),
+				loaded.getID((EObject) loadedStack.getChildren().get(0)));
+	}
+
+	private MApplication createApplication() {
+		MApplication a = MApplicationFactory.INSTANCE.createApplication();
+		a.setElementId("application");
+
+		MTrimmedWindow w = MBasicFactory.INSTANCE.createTrimmedWindow();
+		w.setElementId("window");
+		w.setLabel("Window");
+		w.getTags().add("tag");
+		a.getChildren().add(w);
+
+		MPartStack stack = MBasicFactory.INSTANCE.createPartStack();
+		w.getChildren().add(stack);
+
+		for (int i = 1; i <= 2; i++) {
+			MPart part = MBasicFactory.INSTANCE.createPart();
+			part.setElementId("part" + i);
+			part.getPersistedState().put("key", "value" + i);
+			stack.getChildren().add(part);
+		}
+		stack.setSelectedElement(stack.getChildren().get(0));
+		return a;
+	}
+
+	private E4XMIResource saveAndLoad(E4XMIResource r, boolean binary) throws IOException {
+		Map<String, Object> options = new HashMap<>();
+		options.put(E4XMIResource.OPTION_BINARY_FORMAT, Boolean.valueOf(binary));
+		return load(save(r, options));
+	}
+
+	private byte[] save(E4XMIResource r, Map<String, Object> options) throws IOException {
+		try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+			r.save(output, options);
+			return output.toByteArray();
+		}
+	}
+
+	private E4XMIResource load(byte[] bytes) throws IOException {
+		E4XMIResource r = new E4XMIResource();
+		try (ByteArrayInputStream input = new ByteArrayInputStream(bytes)) {
+			r.load(input, null);
+		}
+		return r;
+	}
+
+	private void assertSameModel(E4XMIResource expected, E4XMIResource actual) {
+		MApplication expectedApplication = (MApplication) expected.getContents().get(0);
+		MApplication actualApplication = (MApplication) actual.getContents().get(0);
+		assertEquals(expected.getID((EObject) expectedApplication), actual.getID((EObject) actualApplication));
+
+		MTrimmedWindow expectedWindow = (MTrimmedWindow) expectedApplication.getChildren().get(0);
+		MTrimmedWindow actualWindow = (MTrimmedWindow) actualApplication.getChildren().get(0);
+		assertEquals(expected.getID((EObject) expectedWindow), actual.getID((EObject) actualWindow));
+		assertEquals(expectedWindow.getElementId(), actualWindow.getElementId());
+		assertEquals(expectedWindow.getLabel(), actualWindow.getLabel());
+		assertEquals(expectedWindow.getTags(), actualWindow.getTags());
+
+		MPartStack expectedStack = (MPartStack) expectedWindow.getChildren().get(0);
+		MPartStack actualStack = (MPartStack) actualWindow.getChildren().get(0);
+		assertEquals(expectedStack.getChildren().size(), actualStack.getChildren().size());
+		for (int i = 0; i < expectedStack.getChildren().size(); i++) {
+			MPart expectedPart = (MPart) expectedStack.getChildren().get(i);
+			MPart actualPart = (MPart) actualStack.getChildren().get(i);
+			assertEquals(expected.getID((EObject) expectedPart), actual.getID((EObject) actualPart));
+			assertEquals(expectedPart.getElementId(), actualPart.getElementId());
+			assertEquals(new HashMap<>(expectedPart.getPersistedState()), new HashMap<>(actualPart.getPersistedState()));
+		}
+		assertSame(actualStack.getChildren().get(0), actualStack.getSelectedElement());
+	}
 }
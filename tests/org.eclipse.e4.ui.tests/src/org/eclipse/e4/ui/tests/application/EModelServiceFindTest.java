@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,14 +15,18 @@
 package org.eclipse.e4.ui.tests.application;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.List;
+import org.eclipse.e4.core.contexts.ContextInjectionFactory;
 import org.eclipse.e4.core.contexts.IEclipseContext;
+import org.eclipse.e4.ui.internal.workbench.ModelServiceImpl;
 import org.eclipse.e4.ui.internal.workbench.swt.E4Application;
 import org.eclipse.e4.ui.model.application.MAddon;
 import org.eclipse.e4.ui.model.application.MApplication;
@@ -46,6 +50,8 @@ import org.eclipse.e4.ui.model.application.ui.menu.MToolBar;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolBarElement;
 import org.eclipse.e4.ui.model.application.ui.menu.MToolControl;
 import org.eclipse.e4.ui.workbench.modeling.EModelService;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.ecore.EObject;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -431,4 +437,157 @@ public class EModelServiceFindTest {
 		assertEquals(1, elements.size());
 		assertEquals(part, elements.get(0));
 	}
+
+	@Test
+	public void testFindElementsAfterModelChanges() {
+		MApplication application = createApplication();
+		EModelService modelService = application.getContext().get(EModelService.class);
+
+		assertEquals(0, modelService.findElements(application, "newId", null).size());
+		assertNull(modelService.find("newId", application));
+		List<String> newTag = new ArrayList<>();
+		newTag.add("newTag");
+		assertEquals(0, modelService.findElements(application, null, null, newTag).size());
+
+		MPart part = modelService.createModelElement(MPart.class);
+		part.setElementId("newId");
+		MWindow window = (MWindow) modelService.find("singleValidId", application);
+		((MPartSashContainer) window.getChildren().get(0)).getChildren().add(part);
+		assertSame(part, modelService.find("newId", application));
+
+		part.setElementId("renamedId");
+		assertNull(modelService.find("newId", application));
+		assertSame(part, modelService.find("renamedId", application));
+
+		part.getTags().add("newTag");
+		assertEquals(1, modelService.findElements(application, null, null, newTag).size());
+		part.getTags().clear();
+		assertEquals(0, modelService.findElements(application, null, null, newTag).size());
+
+		part.getParent().getChildren().remove(part);
+		assertNull(modelService.find("renamedId", application));
+
+		MPartSashContainer psc = (MPartSashContainer) modelService.find("twoValidIds", application);
+		psc.getParent().getChildren().remove(psc);
+		assertNull(modelService.find("twoValidIds", application));
+		assertEquals(0, modelService.findElements(application, null, MToolControl.class).size());
+		window.getChildren().add(psc);
+		assertSame(psc, modelService.find("twoValidIds", application));
+		assertEquals(2, modelService.findElements(application, null, MToolControl.class).size());
+	}
+
+	@Test
+	public void testFindReturnsFirstElementInSearchOrder() {
+		MApplication application = createApplication();
+		EModelService modelService = application.getContext().get(EModelService.class);
+
+		List<MUIElement> elements = modelService.findElements(application, "twoValidIds", MUIElement.class);
+		assertEquals(2, elements.size());
+		assertSame(elements.get(0), modelService.find("twoValidIds", application));
+	}
+
+	@Test
+	public void testFindElementsThroughPlaceholderOutsideApplication() {
+		MApplication application = createApplication();
+		EModelService modelService = application.getContext().get(EModelService.class);
+
+		MPart externalPart = modelService.createModelElement(MPart.class);
+		externalPart.setElementId("externalId");
+		MPlaceholder placeholder = modelService.createModelElement(MPlaceholder.class);
+		placeholder.setRef(externalPart);
+		MPartSashContainer psc = (MPartSashContainer) modelService.find("twoValidIds", application);
+		psc.getChildren().add(placeholder);
+
+		assertSame(externalPart, modelService.find("externalId", application));
+	}
+
+	@Test
+	public void testFindByIdHonoursSearchFlags() {
+		MApplication application = createApplication();
+		EModelService modelService = application.getContext().get(EModelService.class);
+
+		assertEquals(0, modelService.findElements(application, "menuItem1Id", null, null,
+				EModelService.IN_ANY_PERSPECTIVE).size());
+		assertEquals(1, modelService.findElements(application, "menuItem1Id", null, null,
+				EModelService.IN_ANY_PERSPECTIVE | EModelService.IN_PART).size());
+
+		assertEquals(0, modelService.findElements(application, "toolControl2Id", null, null,
+				EModelService.IN_ANY_PERSPECTIVE).size());
+		assertEquals(1, modelService.findElements(application, "toolControl2Id", null, null,
+				EModelService.IN_ANY_PERSPECTIVE | EModelService.IN_PART).size());
+
+		MWindow window = (MWindow) modelService.find("singleValidId", application);
+		window.getMainMenu().getChildren().get(0).setElementId("mainMenuItemId");
+		assertEquals(0, modelService.findElements(application, "mainMenuItemId", null, null,
+				EModelService.IN_ANY_PERSPECTIVE).size());
+		assertEquals(1, modelService.findElements(application, "mainMenuItemId", null, null,
+				EModelService.IN_ANY_PERSPECTIVE | EModelService.IN_MAIN_MENU).size());
+		assertEquals(0, modelService.findElements(application, "mainMenuItemId", MPart.class, null,
+				EModelService.ANYWHERE).size());
+	}
+
+	@Test
+	public void testFindByIdHonoursSearchRoot() {
+		MApplication application = createApplication();
+		EModelService modelService = application.getContext().get(EModelService.class);
+
+		MWindow window = modelService.createModelElement(MWindow.class);
+		application.getChildren().add(window);
+		MPerspectiveStack perspectiveStack = modelService.createModelElement(MPerspectiveStack.class);
+		window.getChildren().add(perspectiveStack);
+		MPerspective activePerspective = modelService.createModelElement(MPerspective.class);
+		perspectiveStack.getChildren().add(activePerspective);
+		MPerspective otherPerspective = modelService.createModelElement(MPerspective.class);
+		perspectiveStack.getChildren().add(otherPerspective);
+		perspectiveStack.setSelectedElement(activePerspective);
+
+		MPart activePart = modelService.createModelElement(MPart.class);
+		activePart.setElementId("perspectivePartId");
+		activePerspective.getChildren().add(activePart);
+		MPart otherPart = modelService.createModelElement(MPart.class);
+		otherPart.setElementId("perspectivePartId");
+		otherPerspective.getChildren().add(otherPart);
+
+		assertEquals(List.of(activePart, otherPart),
+				modelService.findElements(window, "perspectivePartId", MPart.class, null, EModelService.ANYWHERE));
+		assertEquals(List.of(activePart), modelService.findElements(window, "perspectivePartId", MPart.class,
+				null, EModelService.IN_ACTIVE_PERSPECTIVE));
+		assertSame(otherPart, modelService.find("perspectivePartId", otherPerspective));
+		assertNull(modelService.find("perspectivePartId", modelService.find("singleValidId", application)));
+		assertNull(modelService.find("twoValidIds", window));
+
+		MPart sharedPart = modelService.createModelElement(MPart.class);
+		sharedPart.setElementId("sharedPartId");
+		window.getSharedElements().add(sharedPart);
+		MPlaceholder placeholder = modelService.createModelElement(MPlaceholder.class);
+		placeholder.setRef(sharedPart);
+		otherPerspective.getChildren().add(placeholder);
+
+		assertSame(sharedPart, modelService.find("sharedPartId", otherPerspective));
+		assertNull(modelService.find("sharedPartId", activePerspective));
+		assertEquals(List.of(sharedPart), modelService.findElements(window, "sharedPartId", MPart.class, null,
+				EModelService.IN_SHARED_ELEMENTS));
+
+		placeholder.setRef(null);
+		assertNull(modelService.find("sharedPartId", otherPerspective));
+	}
+
+	@Test
+	public void testDisposeDetachesIndex() {
+		MApplication application = createApplication();
+		IEclipseContext serviceContext = applicationContext.createChild();
+		EModelService modelService = ContextInjectionFactory.make(ModelServiceImpl.class, serviceContext);
+
+		List<Adapter> adapters = new ArrayList<>(((EObject) application).eAdapters());
+		EObject toolControl = (EObject) modelService.find("toolControl1Id", application);
+		assertNotNull(toolControl);
+		List<Adapter> indexes = new ArrayList<>(((EObject) application).eAdapters());
+		indexes.removeAll(adapters);
+		assertEquals(1, indexes.size());
+		assertTrue(toolControl.eAdapters().contains(indexes.get(0)));
+
+		serviceContext.dispose();
+		assertEquals(adapters, ((EObject) application).eAdapters());
+		assertFalse(toolControl.eAdapters().contains(indexes.get(0)));
+	}
 }
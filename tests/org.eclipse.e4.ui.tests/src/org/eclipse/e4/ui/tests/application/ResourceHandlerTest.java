@@ -16,6 +16,7 @@
 package org.eclipse.e4.ui.tests.application;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -78,11 +79,15 @@ public class ResourceHandlerTest {
 	}
 
 	private ResourceHandler createHandler(URI uri) {
+		return createHandler(uri, true);
+	}
+
+	private ResourceHandler createHandler(URI uri, boolean clearPersistedState) {
 		IEclipseContext appContext = E4Application.createDefaultContext();
 		IEclipseContext localContext = appContext.createChild();
 		localContext.set(E4Workbench.INSTANCE_LOCATION, getInstanceLocation());
 		localContext.set(IWorkbench.PERSIST_STATE, Boolean.TRUE);
-		localContext.set(IWorkbench.CLEAR_PERSISTED_STATE, Boolean.TRUE);
+		localContext.set(IWorkbench.CLEAR_PERSISTED_STATE, Boolean.valueOf(clearPersistedState));
 
 		localContext.set(E4Workbench.INITIAL_WORKBENCH_MODEL_URI, uri);
 
@@ -233,4 +238,33 @@ public class ResourceHandlerTest {
 		MApplication unchangedApplication = (MApplication) verifyResource.getContents().get(0);
 		assertEquals(2, unchangedApplication.getChildren().size());
 	}
+
+	@Test
+	public void testJournaledChangesAreRestored() throws IOException {
+		URI uri = URI.createPlatformPluginURI("org.eclipse.e4.ui.tests/xmi/modelprocessor/base.e4xmi", true);
+
+		ResourceHandler handler = createHandler(uri);
+		Resource resource = handler.loadMostRecentModel();
+		MApplication application = (MApplication) resource.getContents().get(0);
+		// nothing has been saved yet, so changes cannot be journaled
+		assertFalse(handler.saveChanges());
+		handler.save();
+
+		MWindow window = application.getChildren().get(0);
+		window.setLabel("Journaled label");
+		window.getPersistedState().put("journaledKey", "journaledValue");
+		assertTrue(handler.saveChanges());
+
+		ResourceHandler restoreHandler = createHandler(uri, false);
+		MApplication restoredApplication = (MApplication) restoreHandler.loadMostRecentModel().getContents().get(0);
+		MWindow restoredWindow = restoredApplication.getChildren().get(0);
+		assertEquals("Journaled label", restoredWindow.getLabel());
+		assertEquals("journaledValue", restoredWindow.getPersistedState().get("journaledKey"));
+
+		// adding elements requires a complete save
+		application.getChildren().add(MBasicFactory.INSTANCE.createWindow());
+		assertFalse(handler.saveChanges());
+		handler.save();
+		assertTrue(handler.saveChanges());
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2021 EclipseSource Muenchen GmbH and others.
+ * Copyright (c) 2016, 2026 EclipseSource Muenchen GmbH and others.
  *
  *
  * This program and the accompanying materials
@@ -49,6 +49,8 @@ import org.eclipse.e4.ui.model.application.ui.MUIElement;
 import org.eclipse.e4.ui.model.application.ui.advanced.MArea;
 import org.eclipse.e4.ui.model.application.ui.advanced.MPlaceholder;
 import org.eclipse.e4.ui.model.application.ui.basic.MPart;
+import org.eclipse.e4.ui.model.application.ui.basic.MPartStack;
+import org.eclipse.e4.ui.model.application.ui.basic.MStackElement;
 import org.eclipse.e4.ui.model.application.ui.basic.MTrimmedWindow;
 import org.eclipse.e4.ui.model.application.ui.basic.MWindow;
 import org.eclipse.e4.ui.model.fragment.MFragmentFactory;
@@ -386,6 +388,73 @@ public class ModelAssemblerTests {
 		assertEquals(0, logMessages.size());
 	}
 
+	/**
+	 * Tests that fragments contributed through the extension registry are loaded
+	 * into the resource set of the application, so that they can be unloaded
+	 * again.
+	 */
+	@Test
+	public void testFragments_loadedIntoApplicationResourceSet() throws Exception {
+		MTrimmedWindow trimmedWindow = modelService.createModelElement(MTrimmedWindow.class);
+		application.getChildren().add(trimmedWindow);
+		MPart part = modelService.createModelElement(MPart.class);
+		part.setElementId("testModelProcessingOrder-part");
+		trimmedWindow.getChildren().add(part);
+		MArea area = modelService.createModelElement(MArea.class);
+		area.setElementId("testModelProcessingOrder-area");
+		trimmedWindow.getChildren().add(area);
+
+		IContributor contributor = ContributorFactorySimple.createContributor(BUNDLE_SYMBOLIC_NAME);
+		IExtensionRegistry registry = createTestExtensionRegistry();
+		assembler.setExtensionRegistry(registry);
+		String dataFilePath = "org.eclipse.e4.ui.tests/data/ModelAssembler/modelProcessingOrder.xml";
+		registry.addContribution(getContentsAsInputStream(dataFilePath), contributor, false, null, null, null);
+
+		assembler.processModel(true);
+
+		URI fragmentURI = URI.createPlatformPluginURI(
+				BUNDLE_SYMBOLIC_NAME + "/data/ModelAssembler/modelProcessingOrder-fragment.e4xmi", false);
+		Resource fragmentResource = resourceSet.getResource(fragmentURI, false);
+		assertTrue(fragmentResource != null && fragmentResource.isLoaded());
+		assertEquals(2, resourceSet.getResources().size());
+
+		MPlaceholder placeholder = (MPlaceholder) modelService.find("testModelProcessingOrder-placeholder",
+				application);
+		assertEquals(area, placeholder.getParent());
+		assertEquals(part, placeholder.getRef());
+		assertEquals(0, logMessages.size());
+	}
+
+	/**
+	 * Tests that fragments which are parsed in parallel are merged in the order
+	 * they are contributed in.
+	 */
+	@Test
+	public void testFragments_parsedInParallelMergedInContributionOrder() throws Exception {
+		MTrimmedWindow trimmedWindow = modelService.createModelElement(MTrimmedWindow.class);
+		application.getChildren().add(trimmedWindow);
+		MPartStack stack = modelService.createModelElement(MPartStack.class);
+		stack.setElementId("parallelFragments-stack");
+		trimmedWindow.getChildren().add(stack);
+
+		IContributor contributor = ContributorFactorySimple.createContributor(BUNDLE_SYMBOLIC_NAME);
+		IExtensionRegistry registry = createTestExtensionRegistry();
+		assembler.setExtensionRegistry(registry);
+		String dataFilePath = "org.eclipse.e4.ui.tests/data/ModelAssembler/parallelFragments.xml";
+		registry.addContribution(getContentsAsInputStream(dataFilePath), contributor, false, null, null, null);
+
+		assembler.processModel(true);
+
+		assertEquals(5, resourceSet.getResources().size());
+		List<String> ids = new ArrayList<>();
+		for (MStackElement element : stack.getChildren()) {
+			ids.add(element.getElementId());
+		}
+		assertEquals(List.of("parallelFragments-part1", "parallelFragments-part2", "parallelFragments-part3",
+				"parallelFragments-part4"), ids);
+		assertEquals(0, logMessages.size());
+	}
+
 	/**
 	 * Tests that pre-processors running from a non-persisted state that are
 	 * marked as "always" are executed.
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.core.databinding.observable.BackgroundRealm;
+import org.eclipse.core.databinding.observable.Observables;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.core.databinding.util.ILogger;
+import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.runtime.IStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BackgroundRealmTest {
+
+	/**
+	 * A value which tells whether any listeners other than dispose listeners
+	 * are attached.
+	 */
+	private static class ListenedValue extends WritableValue<Integer> {
+		ListenedValue() {
+			super(0, Integer.class);
+		}
+
+		boolean isListened() {
+			return hasListeners();
+		}
+	}
+
+	/**
+	 * A list which tells whether any listeners other than dispose listeners
+	 * are attached.
+	 */
+	private static class ListenedList extends WritableList<Integer> {
+		ListenedList() {
+			super(new ArrayList<>(), Integer.class);
+		}
+
+		boolean isListened() {
+			return hasListeners();
+		}
+	}
+
+	private BackgroundRealm source;
+
+	private BackgroundRealm target;
+
+	@Before
+	public void setUp() {
+		source = new BackgroundRealm("source");
+		target = new BackgroundRealm("target");
+	}
+
+	@After
+	public void tearDown() {
+		source.dispose();
+		target.dispose();
+	}
+
+	@Test
+	public void testRunnablesRunInRealm() throws Exception {
+		assertFalse(source.isCurrent());
+		assertTrue(call(source, () -> source.isCurrent() && Realm.getDefault() == source));
+	}
+
+	@Test
+	public void testBridgeObservableValue() throws Exception {
+		WritableValue<String> value = call(source, () -> new WritableValue<>("a", String.class));
+		IObservableValue<String> bridged = call(target, () -> Observables.bridgeObservableValue(target, value));
+		awaitHandOff();
+		List<String> newValues = new ArrayList<>();
+		call(target, () -> bridged.addValueChangeListener(event -> newValues.add(event.diff.getNewValue())));
+
+		assertEquals(String.class, bridged.getValueType());
+		assertEquals("a", call(target, bridged::getValue));
+		assertFalse(call(target, bridged::isStale));
+
+		call(source, () -> value.setValue("b"));
+		assertEquals("b", call(target, bridged::getValue));
+		assertEquals(List.of("b"), call(target, () -> new ArrayList<>(newValues)));
+	}
+
+	@Test
+	public void testBridgeObservableValueCoalescesChanges() throws Exception {
+		WritableValue<Integer> value = call(source, () -> new WritableValue<>(0, Integer.class));
+		IObservableValue<Integer> bridged = call(target, () -> Observables.bridgeObservableValue(target, value));
+		awaitHandOff();
+		List<Integer> newValues = new ArrayList<>();
+		call(target, () -> bridged.addValueChangeListener(event -> newValues.add(event.diff.getNewValue())));
+
+		CountDownLatch release = blockRealm(target);
+		call(source, () -> {
+			for (int i = 1; i <= 100; i++) {
+				value.setValue(i);
+			}
+		});
+		release.countDown();
+
+		assertEquals(Integer.valueOf(100), call(target, bridged::getValue));
+		assertEquals(List.of(100), call(target, () -> new ArrayList<>(newValues)));
+	}
+
+	@Test
+	public void testBridgeObservableListCoalescesChanges() throws Exception {
+		WritableList<String> list = call(source, () -> new WritableList<>(new ArrayList<>(List.of("a", "b")), String.class));
+		IObservableList<String> bridged = call(target, () -> Observables.bridgeObservableList(target, list));
+		awaitHandOff();
+		List<String> copy = new ArrayList<>();
+		int[] events = new int[1];
+		call(target, () -> {
+			copy.addAll(bridged);
+			bridged.addListChangeListener(event -> {
+				events[0]++;
+				event.diff.applyTo(copy);
+			});
+		});
+		assertEquals(List.of("a", "b"), copy);
+
+		CountDownLatch release = blockRealm(target);
+		call(source, () -> {
+			list.remove("a");
+			for (int i = 0; i < 100; i++) {
+				list.add(Integer.toString(i));
+			}
+		});
+		awaitHandOff();
+		release.countDown();
+
+		List<String> expected = call(source, () -> new ArrayList<>(list));
+		assertEquals(expected, call(target, () -> new ArrayList<>(bridged)));
+		assertEquals(expected, copy);
+		assertEquals(1, events[0]);
+	}
+
+	@Test
+	public void testDisposeSourceDisposesBridge() throws Exception {
+		WritableValue<String> value = call(source, () -> new WritableValue<>("a", String.class));
+		IObservableValue<String> bridged = call(target, () -> Observables.bridgeObservableValue(target, value));
+		awaitHandOff();
+		call(target, bridged::getValue);
+
+		call(source, value::dispose);
+		assertTrue(call(target, bridged::isDisposed));
+	}
+
+	@Test
+	public void testConcurrentDispose() throws Exception {
+		List<IStatus> errors = Collections.synchronizedList(new ArrayList<>());
+		ILogger oldLog = Policy.getLog();
+		Policy.setLog(errors::add);
+		try {
+			for (int i = 0; i < 50; i++) {
+				boolean disposeSources = i % 2 == 1;
+				ListenedValue value = call(source, ListenedValue::new);
+				ListenedList list = call(source, ListenedList::new);
+				IObservableValue<Integer> bridgedValue = call(target,
+						() -> Observables.bridgeObservableValue(target, value));
+				IObservableList<Integer> bridgedList = call(target,
+						() -> Observables.bridgeObservableList(target, list));
+
+				// change or dispose the sources while the bridges are disposed
+				source.asyncExec(() -> {
+					for (int j = 0; j < 20; j++) {
+						value.setValue(j);
+						list.add(j);
+					}
+					if (disposeSources) {
+						value.dispose();
+						list.dispose();
+					}
+				});
+				target.asyncExec(() -> {
+					bridgedValue.dispose();
+					bridgedList.dispose();
+				});
+
+				// wait for the hand-offs in both directions
+				awaitHandOff();
+				call(target, () -> null);
+				awaitHandOff();
+
+				assertFalse(call(source, value::isListened));
+				assertFalse(call(source, list::isListened));
+				assertTrue(call(target, bridgedValue::isDisposed));
+				assertTrue(call(target, bridgedList::isDisposed));
+			}
+		} finally {
+			Policy.setLog(oldLog);
+		}
+		assertEquals(List.of(), errors);
+	}
+
+	/**
+	 * Waits until the runnables queued in the source realm have run, so that
+	 * the pending hand-off to the target realm has been queued.
+	 */
+	private void awaitHandOff() throws Exception {
+		call(source, () -> null);
+	}
+
+	private static CountDownLatch blockRealm(Realm realm) {
+		CountDownLatch release = new CountDownLatch(1);
+		realm.asyncExec(() -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		return release;
+	}
+
+	private static void call(Realm realm, Runnable runnable) throws Exception {
+		call(realm, () -> {
+			runnable.run();
+			return null;
+		});
+	}
+
+	private static <T> T call(Realm realm, Supplier<T> supplier) throws Exception {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		realm.asyncExec(() -> result.complete(supplier.get()));
+		return result.get(5, TimeUnit.SECONDS);
+	}
+}
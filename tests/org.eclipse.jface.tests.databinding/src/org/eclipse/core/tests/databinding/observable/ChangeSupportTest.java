@@ -23,10 +23,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.core.databinding.observable.ChangeEvent;
 import org.eclipse.core.databinding.observable.ChangeSupport;
+import org.eclipse.core.databinding.observable.IChangeListener;
 import org.eclipse.core.databinding.observable.IDisposeListener;
 import org.eclipse.core.databinding.observable.IStaleListener;
 import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.WritableValue;
 import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
 import org.junit.Before;
 import org.junit.Test;
@@ -71,6 +74,57 @@ public class ChangeSupportTest extends AbstractDefaultRealmTestCase {
 		assertEquals(Arrays.asList(new Object[] { ADD_FIRST, REMOVE_LAST }), changeSupport.log);
 	}
 
+	@Test
+	public void testHasListenersOfType() {
+		Object listenerType = new Object();
+		IStaleListener staleListener = staleEvent -> {
+		};
+
+		assertFalse(changeSupport.hasListeners(listenerType));
+		changeSupport.addListener(listenerType, staleListener);
+		assertTrue(changeSupport.hasListeners(listenerType));
+		assertFalse(changeSupport.hasListeners(new Object()));
+		changeSupport.removeListener(listenerType, staleListener);
+		assertFalse(changeSupport.hasListeners(listenerType));
+	}
+
+	@Test
+	public void testAddListenerTwice() {
+		List<Object> events = new ArrayList<>();
+		IChangeListener listener = events::add;
+
+		changeSupport.addChangeListener(listener);
+		changeSupport.addChangeListener(listener);
+		changeSupport.fireEvent(new ChangeEvent(new WritableValue<>()));
+		assertEquals(1, events.size());
+
+		changeSupport.removeChangeListener(listener);
+		assertFalse(changeSupport.hasListeners());
+		assertEquals(Arrays.asList(new Object[] { ADD_FIRST, REMOVE_LAST }), changeSupport.log);
+	}
+
+	@Test
+	public void testRemoveListenersDuringFireEvent() {
+		List<String> notified = new ArrayList<>();
+		IChangeListener[] listeners = new IChangeListener[2];
+		listeners[0] = event -> {
+			notified.add("first");
+			changeSupport.removeChangeListener(listeners[0]);
+			changeSupport.removeChangeListener(listeners[1]);
+		};
+		listeners[1] = event -> notified.add("second");
+		changeSupport.addChangeListener(listeners[0]);
+		changeSupport.addChangeListener(listeners[1]);
+
+		// the event is dispatched to the listeners at the time it was fired
+		changeSupport.fireEvent(new ChangeEvent(new WritableValue<>()));
+		assertEquals(Arrays.asList("first", "second"), notified);
+
+		changeSupport.fireEvent(new ChangeEvent(new WritableValue<>()));
+		assertEquals(Arrays.asList("first", "second"), notified);
+		assertEquals(Arrays.asList(new Object[] { ADD_FIRST, REMOVE_LAST }), changeSupport.log);
+	}
+
 	private static final String ADD_FIRST = "firstListenerAdded";
 	private static final String REMOVE_LAST = "lastListenerRemoved";
 
@@ -19,7 +19,9 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.list.ListDiff;
@@ -268,6 +270,102 @@ public class Diffs_ListDiffTests {
 		checkComputedListDiff(List.of("a", "b", "c"), List.of("c", "a", "b"));
 	}
 
+	@Test
+	public void testComputeListDiff_LargeInsertAndRemove() {
+		List<Object> oldList = createList(5000);
+		List<Object> newList = new ArrayList<>(oldList);
+		newList.subList(1000, 1500).clear();
+		newList.addAll(3000, createList(800));
+		newList.remove(4000);
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeMove() {
+		List<Object> oldList = createList(5000);
+		List<Object> newList = new ArrayList<>(oldList);
+		newList.add(4000, newList.remove(100));
+
+		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
+		assertEquals(2, diff.getDifferences().length);
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeReverse() {
+		List<Object> oldList = createList(5000);
+		List<Object> newList = new ArrayList<>(oldList);
+		Collections.reverse(newList.subList(10, 4990));
+
+		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
+		assertEquals(2 * 4979, diff.getDifferences().length);
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeShuffle() {
+		List<Object> oldList = createList(5000);
+		List<Object> newList = new ArrayList<>(oldList);
+		Collections.shuffle(newList, new Random(42));
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeWithDuplicates() {
+		Random random = new Random(42);
+		List<Object> oldList = new ArrayList<>();
+		for (int i = 0; i < 3000; i++) {
+			oldList.add(random.nextInt(3) == 0 ? null : "e" + random.nextInt(5));
+		}
+		List<Object> newList = new ArrayList<>(oldList);
+		for (int i = 0; i < 200; i++) {
+			int index = random.nextInt(newList.size());
+			switch (random.nextInt(3)) {
+			case 0 -> newList.remove(index);
+			case 1 -> newList.add(index, "e" + random.nextInt(5));
+			default -> Collections.swap(newList, index, random.nextInt(newList.size()));
+			}
+		}
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeWithFewDistinctElements() {
+		List<Object> oldList = new ArrayList<>();
+		for (int i = 0; i < 20000; i++) {
+			oldList.add(i % 2 == 0 ? "a" : "b");
+		}
+		List<Object> newList = new ArrayList<>(oldList);
+		newList.subList(15000, 15002).clear();
+		newList.addAll(5000, List.of("b", "a"));
+
+		// shifting the range in between by one element
+		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
+		assertEquals(2, diff.getDifferences().length);
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeWithManyDuplicates() {
+		// no unique elements and an edit distance too large to search for
+		Random random = new Random(42);
+		List<Object> oldList = new ArrayList<>();
+		List<Object> newList = new ArrayList<>();
+		for (int i = 0; i < 20000; i++) {
+			oldList.add(random.nextBoolean() ? "a" : "b");
+			newList.add(random.nextBoolean() ? "a" : "b");
+		}
+		checkComputedListDiff(oldList, newList);
+	}
+
+	private static List<Object> createList(int size) {
+		List<Object> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(new Object());
+		}
+		return list;
+	}
+
 	private static void checkComputedListDiff(List<Object> oldList, List<Object> newList) {
 		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
 
@@ -145,6 +145,21 @@ public class WritableListTest {
 		});
 	}
 
+	@Test
+	public void testAddAllAndClearDiffs() throws Exception {
+		WritableList<String> list = new WritableList<>();
+		list.add("a");
+		List<String> copy = new ArrayList<>(list);
+		list.addListChangeListener(event -> event.diff.applyTo(copy));
+
+		list.addAll(1, Arrays.asList("b", "c"));
+		list.addAll(Arrays.asList("d", "e"));
+		assertEquals(Arrays.asList("a", "b", "c", "d", "e"), copy);
+
+		list.clear();
+		assertEquals(Collections.emptyList(), copy);
+	}
+
 	@Test
 	public void testNullElementType() throws Exception {
 		RealmTester.setDefault(DisplayRealm.getRealm(Display.getDefault()));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2007 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.value.ComputedValue;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.WritableValue;
@@ -158,4 +159,88 @@ public class ComputedValueTest extends AbstractDefaultRealmTestCase {
 
 		assertThrows(UnsupportedOperationException.class, () -> cv.setValue(new Object()));
 	}
+
+	@Test
+	public void testBatchRecomputesDiamondOnce() throws Exception {
+		WritableValue<Integer> a = new WritableValue<>(Integer.valueOf(1), Integer.TYPE);
+		WritableValue<Integer> b = new WritableValue<>(Integer.valueOf(1), Integer.TYPE);
+		IObservableValue<Integer> sum = ComputedValue.create(() -> a.getValue() + b.getValue());
+		IObservableValue<Integer> product = ComputedValue.create(() -> a.getValue() * b.getValue());
+		int[] calculations = new int[1];
+		IObservableValue<Integer> total = ComputedValue.create(() -> {
+			calculations[0]++;
+			return sum.getValue() + product.getValue();
+		});
+		List<Integer> seen = new ArrayList<>();
+		total.addValueChangeListener(event -> seen.add(event.diff.getNewValue()));
+		assertEquals(Integer.valueOf(3), total.getValue());
+		calculations[0] = 0;
+
+		Realm.getDefault().batch(() -> {
+			a.setValue(Integer.valueOf(2));
+			b.setValue(Integer.valueOf(3));
+			assertTrue("notifications must be deferred", seen.isEmpty());
+		});
+
+		assertEquals(List.of(Integer.valueOf(11)), seen);
+		assertEquals(1, calculations[0]);
+	}
+
+	@Test
+	public void testBatchLargeGraph() throws Exception {
+		int size = 1000;
+		WritableValue<Integer> a = new WritableValue<>(Integer.valueOf(0), Integer.TYPE);
+		WritableValue<Integer> b = new WritableValue<>(Integer.valueOf(0), Integer.TYPE);
+		int[] calculations = new int[1];
+		List<IObservableValue<Integer>> nodes = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			int weight = i;
+			nodes.add(ComputedValue.create(() -> {
+				calculations[0]++;
+				return a.getValue() + weight * b.getValue();
+			}));
+		}
+		IObservableValue<Integer> top = ComputedValue.create(() -> {
+			calculations[0]++;
+			int result = 0;
+			for (IObservableValue<Integer> node : nodes) {
+				result += node.getValue();
+			}
+			return result;
+		});
+		List<Integer> seen = new ArrayList<>();
+		top.addValueChangeListener(event -> seen.add(event.diff.getNewValue()));
+		assertEquals(Integer.valueOf(0), top.getValue());
+		calculations[0] = 0;
+
+		Realm.getDefault().batch(() -> {
+			a.setValue(Integer.valueOf(1));
+			b.setValue(Integer.valueOf(2));
+		});
+
+		int expected = size + size * (size - 1);
+		assertEquals(List.of(Integer.valueOf(expected)), seen);
+		assertEquals("each node must be computed once", size + 1, calculations[0]);
+	}
+
+	@Test
+	public void testBatchFailureSuppressesListenerFailure() throws Exception {
+		WritableValue<Integer> a = new WritableValue<>(Integer.valueOf(1), Integer.TYPE);
+		IObservableValue<Integer> doubled = ComputedValue.create(() -> a.getValue() * 2);
+		IllegalStateException listenerFailure = new IllegalStateException("listener");
+		doubled.addValueChangeListener(event -> {
+			throw listenerFailure;
+		});
+		assertEquals(Integer.valueOf(2), doubled.getValue());
+
+		IllegalArgumentException failure = assertThrows(IllegalArgumentException.class,
+				() -> Realm.getDefault().batch(() -> {
+					a.setValue(Integer.valueOf(2));
+					throw new IllegalArgumentException("batch");
+				}));
+
+		assertEquals("batch", failure.getMessage());
+		assertEquals(List.of(listenerFailure), List.of(failure.getSuppressed()));
+		assertEquals(Integer.valueOf(4), doubled.getValue());
+	}
 }
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.internal.databinding.beans;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.eclipse.core.internal.databinding.beans.BeanPropertyHelper;
+import org.eclipse.core.internal.databinding.beans.PropertyAccessor;
+import org.junit.Test;
+
+public class PropertyAccessorTest {
+
+	public static class PrimitiveBean {
+		private int count;
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public String getFailing() {
+			throw new IllegalStateException();
+		}
+
+		public void setFailing(String value) {
+			throw new IllegalStateException();
+		}
+	}
+
+	@Test
+	public void testReadAndWrite() {
+		PropertyAccessor accessor = new PropertyAccessor(BeanPropertyHelper.getPropertyDescriptor(Bean.class, "value"));
+		Bean bean = new Bean("old");
+
+		assertEquals("old", accessor.read(bean));
+		accessor.write(bean, "new");
+		assertEquals("new", bean.getValue());
+		accessor.write(bean, null);
+		assertNull(accessor.read(bean));
+	}
+
+	@Test
+	public void testInterfaceProperty() {
+		PropertyAccessor accessor = new PropertyAccessor(
+				BeanPropertyHelper.getPropertyDescriptor(IBeanExtension.class, "value"));
+		Bean bean = new Bean("old");
+
+		assertEquals("old", accessor.read(bean));
+		accessor.write(bean, "new");
+		assertEquals("new", bean.getValue());
+	}
+
+	@Test
+	public void testPrimitiveProperty() {
+		PropertyAccessor accessor = new PropertyAccessor(
+				BeanPropertyHelper.getPropertyDescriptor(PrimitiveBean.class, "count"));
+		PrimitiveBean bean = new PrimitiveBean();
+
+		accessor.write(bean, Integer.valueOf(3));
+		assertEquals(Integer.valueOf(3), accessor.read(bean));
+		// like reflective access, null is rejected and logged
+		accessor.write(bean, null);
+		assertEquals(3, bean.getCount());
+	}
+
+	@Test
+	public void testSourceOfOtherType() {
+		PropertyAccessor accessor = new PropertyAccessor(BeanPropertyHelper.getPropertyDescriptor(Bean.class, "value"));
+
+		assertNull(accessor.read(new PrimitiveBean()));
+	}
+
+	@Test
+	public void testExceptionsAreWrapped() {
+		PropertyAccessor accessor = new PropertyAccessor(
+				BeanPropertyHelper.getPropertyDescriptor(PrimitiveBean.class, "failing"));
+		PrimitiveBean bean = new PrimitiveBean();
+
+		RuntimeException e = assertThrows(RuntimeException.class, () -> accessor.read(bean));
+		assertSame(IllegalStateException.class, e.getCause().getClass());
+		e = assertThrows(RuntimeException.class, () -> accessor.write(bean, "value"));
+		assertSame(IllegalStateException.class, e.getCause().getClass());
+	}
+}
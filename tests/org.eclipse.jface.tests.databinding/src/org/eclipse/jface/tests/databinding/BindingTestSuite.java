@@ -46,6 +46,7 @@ import org.eclipse.core.tests.databinding.beans.SetOnlyJavaBeanTest;
 import org.eclipse.core.tests.databinding.conversion.NumberToStringConverterTest;
 import org.eclipse.core.tests.databinding.conversion.StringToNumberConverterTest;
 import org.eclipse.core.tests.databinding.observable.AbstractObservableTest;
+import org.eclipse.core.tests.databinding.observable.BackgroundRealmTest;
 import org.eclipse.core.tests.databinding.observable.ChangeSupportTest;
 import org.eclipse.core.tests.databinding.observable.DecoratingObservableTest;
 import org.eclipse.core.tests.databinding.observable.DiffsTest;
@@ -89,6 +90,7 @@ import org.eclipse.core.tests.internal.databinding.beans.BeanPropertyHelperTest;
 import org.eclipse.core.tests.internal.databinding.beans.BeanPropertyListenerSupportTest;
 import org.eclipse.core.tests.internal.databinding.beans.BeanPropertyListenerTest;
 import org.eclipse.core.tests.internal.databinding.beans.BeanValuePropertyTest;
+import org.eclipse.core.tests.internal.databinding.beans.PropertyAccessorTest;
 import org.eclipse.core.tests.internal.databinding.conversion.DateConversionSupportTest;
 import org.eclipse.core.tests.internal.databinding.conversion.IdentityConverterTest;
 import org.eclipse.core.tests.internal.databinding.conversion.IntegerToStringConverterTest;
@@ -196,7 +198,7 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({ AbstractObservableListTest.class, AbstractObservableMapTest.class, AbstractObservableTest.class,
 		AbstractObservableValueTest.class, AbstractStringToNumberValidatorTest.class, AbstractVetoableValueTest.class,
 		AggregateValidationStatusTest.class, AnonymousBeanValuePropertyTest.class, AnonymousPojoValuePropertyTest.class,
-		BeanPropertiesTest.class,
+		BackgroundRealmTest.class, BeanPropertiesTest.class,
 		BeanPropertyHelperTest.class, BeanPropertyListenerSupportTest.class, BeanPropertyListenerTest.class,
 		BeansObservablesTest.class, BeanValuePropertyTest.class, BidiObservableMapTest.class, BindingMessagesTest.class,
 		BindingScenariosTestSuite.class, BindingStatusTest.class, BindingTest.class, ConformanceTestSuite.class,
@@ -232,7 +234,8 @@ import org.junit.runners.Suite.SuiteClasses;
 		ObservableMapTest.class, ObservableSetContentProviderTest.class, ObservableSetTreeContentProviderTest.class,
 		ObservablesManagerTest.class, ObservablesTest.class, ObservableTrackerTest.class,
 		ObservableValueEditingSupportTest.class, PojoPropertiesTest.class, PolicyTest.class,
-		PreferencePageSupportTest.class, QueueTest.class, RealmTest.class, ScaleObservableValueMaxTest.class,
+		PreferencePageSupportTest.class, PropertyAccessorTest.class, QueueTest.class, RealmTest.class,
+		ScaleObservableValueMaxTest.class,
 		ScaleObservableValueMinTest.class, ScaleObservableValueSelectionTest.class,
 		SetOnlyJavaBeanTest.class, SetSimpleValueObservableMapTest.class,
 		SideEffectTest.class, SpinnerObservableValueMaxTest.class, SpinnerObservableValueMinTest.class,
@@ -17,9 +17,11 @@ package org.eclipse.jface.tests.databinding.viewers;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.databinding.observable.Observables;
@@ -126,6 +128,33 @@ public class ObservableListContentProviderTest extends AbstractDefaultRealmTestC
 		assertEquals(Collections.EMPTY_SET, realizedElements);
 	}
 
+	@Test
+	public void testViewerUpdate_LargeDiffs() {
+		List<Object> elements = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			elements.add(Integer.valueOf(i));
+		}
+
+		input.add("first");
+		input.addAll(elements);
+		assertViewerItems();
+
+		input.removeAll(elements);
+		assertViewerItems();
+
+		// neither appended nor removed, the viewer is refreshed
+		input.addAll(0, elements);
+		assertViewerItems();
+		assertEquals(new HashSet<>(input), contentProvider.getKnownElements());
+	}
+
+	private void assertViewerItems() {
+		assertEquals(input.size(), viewer.getTable().getItemCount());
+		for (int i = 0; i < input.size(); i++) {
+			assertSame(input.get(i), viewer.getElementAt(i));
+		}
+	}
+
 	static class Mutable {
 		public int id;
 
@@ -20,12 +20,16 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.jface.dialogs.Dialog;
+import org.eclipse.jface.resource.DeviceResourceManager;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.ImageRegistry;
 import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.resource.LazyResourceManager;
+import org.eclipse.jface.resource.ResourceLocator;
 import org.eclipse.jface.viewers.DecorationOverlayIcon;
 import org.eclipse.jface.viewers.IDecoration;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -158,4 +162,31 @@ public class DecorationOverlayIconTest {
 		assertTrue(equalButDifferentIcon1.equals(equalButDifferentIcon2));
 		assertEquals(equalButDifferentIcon1.hashCode(), equalButDifferentIcon2.hashCode());
 	}
+
+	@Test
+	public void testCachedOnlyIfAllPartsAreCachable() {
+		ImageDescriptor cachable = ResourceLocator
+				.imageDescriptorFromBundle("org.eclipse.jface.tests", "icons/anything.gif").orElseThrow();
+		ImageDescriptor uncachable = ImageDescriptor.createFromImageData(cachable.getImageData(100));
+		DeviceResourceManager device = new DeviceResourceManager(Display.getDefault());
+		try {
+			LazyResourceManager mgr = new LazyResourceManager(10, device);
+			DecorationOverlayIcon icon = new DecorationOverlayIcon(cachable, cachable, IDecoration.TOP_LEFT);
+			mgr.create(icon);
+			mgr.destroy(icon);
+			assertEquals(1, mgr.getCachedCount());
+
+			icon = new DecorationOverlayIcon(uncachable, cachable, IDecoration.TOP_LEFT);
+			mgr.create(icon);
+			mgr.destroy(icon);
+			assertEquals("uncachable base image", 1, mgr.getCachedCount());
+
+			icon = new DecorationOverlayIcon(cachable, uncachable, IDecoration.TOP_LEFT);
+			mgr.create(icon);
+			mgr.destroy(icon);
+			assertEquals("uncachable overlay image", 1, mgr.getCachedCount());
+		} finally {
+			device.dispose();
+		}
+	}
 }
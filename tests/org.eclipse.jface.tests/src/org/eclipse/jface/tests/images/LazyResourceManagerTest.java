@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.jface.tests.images;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
@@ -25,13 +26,16 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.jface.resource.DeviceResourceDescriptor;
+import org.eclipse.jface.resource.DeviceResourceManager;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.ImageRegistry;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.resource.LazyResourceManager;
+import org.eclipse.jface.resource.ResourceLocator;
 import org.eclipse.jface.resource.ResourceManager;
 import org.eclipse.swt.graphics.Device;
 import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
 import org.junit.Test;
 
 @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -387,4 +391,58 @@ public class LazyResourceManagerTest {
 		assertNotNull(created);
 		mgr.destroy(nullDescriptor);
 	}
+
+	@Test
+	public void testStatistics() {
+		TestResourceManager tst = new TestResourceManager();
+		LazyResourceManager mgr = new LazyResourceManager(2, tst);
+		DeviceResourceDescriptor descriptor1 = new CachableTestDescriptor();
+		DeviceResourceDescriptor descriptor2 = new CachableTestDescriptor();
+
+		mgr.create(descriptor1); // miss
+		mgr.create(descriptor1); // hit, still referenced
+		mgr.create(descriptor2); // miss
+		assertEquals(2, mgr.getAllocatedCount());
+		assertEquals(0, mgr.getCachedCount());
+
+		mgr.destroy(descriptor1);
+		mgr.destroy(descriptor1);
+		assertEquals(2, mgr.getAllocatedCount());
+		assertEquals(1, mgr.getCachedCount());
+
+		mgr.create(descriptor1); // hit, cached
+		assertEquals(0, mgr.getCachedCount());
+		assertEquals(2, mgr.getMissCount());
+		assertEquals(2, mgr.getHitCount());
+
+		mgr.destroy(descriptor1);
+		mgr.destroy(descriptor2);
+		assertEquals(2, mgr.getCachedCount());
+		assertEquals("no images cached", 0, mgr.getCachedBytes());
+	}
+
+	@Test
+	public void testByteLimit() {
+		ImageDescriptor descriptor = ResourceLocator
+				.imageDescriptorFromBundle("org.eclipse.jface.tests", "icons/anything.gif").orElseThrow();
+		DeviceResourceManager device = new DeviceResourceManager(Display.getDefault());
+		try {
+			LazyResourceManager unlimited = new LazyResourceManager(2, 0, device);
+			Image image = unlimited.create(descriptor);
+			unlimited.destroy(descriptor);
+			assertEquals(1, unlimited.getCachedCount());
+			assertEquals(4L * image.getBounds().width * image.getBounds().height, unlimited.getCachedBytes());
+			assertSame(image, unlimited.create(descriptor));
+			unlimited.destroy(descriptor);
+
+			LazyResourceManager limited = new LazyResourceManager(2, 1, device);
+			Image image2 = limited.create(descriptor);
+			limited.destroy(descriptor);
+			assertEquals("image exceeds the byte limit", 0, limited.getCachedCount());
+			assertEquals(0, limited.getCachedBytes());
+			assertSame(image, image2);
+		} finally {
+			device.dispose();
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Christoph Läubrich and others.
+ * Copyright (c) 2020, 2026 Christoph Läubrich and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,20 +16,28 @@
 package org.eclipse.jface.tests.images;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 
 import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.jface.internal.PrefetchedImageData;
 import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.resource.ImageRegistry;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.ImageFileNameProvider;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -164,4 +172,69 @@ public class UrlImageDescriptorTest {
 		assertEquals(imageDataOrig200.height, imageDataURL200.height);
 	}
 
+	@Test
+	public void testPrefetchedImageData() {
+		URL url = FileImageDescriptorTest.class.getResource("/icons/imagetests/zoomIn.png");
+		ImageDescriptor descriptor = ImageDescriptor.createFromURL(url);
+		String key = PrefetchedImageData.getKey(url.toExternalForm(), 100);
+		ImageRegistry registry = new ImageRegistry(Display.getDefault());
+		try {
+			registry.put("zoomIn", descriptor);
+			registry.prefetch("zoomIn", "unknown");
+			assertTrue("image data not decoded in advance",
+					DisplayHelper.waitForCondition(Display.getDefault(), 5000, () -> PrefetchedImageData.peek(key) != null));
+			ImageData prefetched = PrefetchedImageData.peek(key);
+
+			assertSame("prefetched image data not used", prefetched, descriptor.getImageData(100));
+			assertFalse("prefetched image data must only be used once", PrefetchedImageData.contains(key));
+		} finally {
+			registry.dispose();
+		}
+	}
+
+	@Test
+	public void testPrefetchedImageIsCreated() {
+		ImageDescriptor descriptor = ImageDescriptor
+				.createFromURL(FileImageDescriptorTest.class.getResource("/icons/imagetests/zoomIn.png"));
+		ImageData expected = descriptor.getImageData(100);
+		ImageRegistry registry = new ImageRegistry(Display.getDefault());
+		try {
+			registry.put("zoomIn", descriptor);
+			registry.prefetch("zoomIn");
+			// the image may be created before the data has been decoded
+			Image image = registry.get("zoomIn");
+			assertNotNull(image);
+			assertEquals(expected.width, image.getBounds().width);
+			assertEquals(expected.height, image.getBounds().height);
+		} finally {
+			registry.dispose();
+		}
+	}
+
+	@Test
+	public void testPrefetchedImageDataIsBounded() throws Exception {
+		URL url = FileImageDescriptorTest.class.getResource("/icons/imagetests/zoomIn.png");
+		ImageDescriptor descriptor = ImageDescriptor.createFromURL(url);
+		ImageRegistry registry = new ImageRegistry(Display.getDefault());
+		try {
+			// images which are prefetched but never used
+			File folder = tempFolder.newFolder();
+			String[] keys = new String[1000];
+			for (int i = 0; i < keys.length; i++) {
+				keys[i] = "unused" + i;
+				registry.put(keys[i], ImageDescriptor.createFromURL(new File(folder, i + ".png").toURI().toURL()));
+			}
+			registry.prefetch(keys);
+			assertTrue("too many prefetched images: " + PrefetchedImageData.size(),
+					PrefetchedImageData.size() <= PrefetchedImageData.MAX_PREFETCHED);
+
+			registry.put("zoomIn", descriptor);
+			registry.prefetch("zoomIn");
+			assertTrue("prefetching must not stop",
+					PrefetchedImageData.contains(PrefetchedImageData.getKey(url.toExternalForm(), 100)));
+			assertNotNull(registry.get("zoomIn"));
+		} finally {
+			registry.dispose();
+		}
+	}
 }
@@ -19,11 +19,13 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.jface.viewers.AbstractTreeViewer;
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.swt.widgets.Item;
 import org.eclipse.swt.widgets.Tree;
@@ -462,6 +464,35 @@ public abstract class AbstractTreeViewerTest extends StructuredItemViewerTest {
 		assertEquals("Same element added to parent twice.", 3, tree.getItems().length);
 	}
 
+	/**
+	 * Inserting an element in front of its siblings must not reassign the items
+	 * of the siblings.
+	 */
+	@Test
+	public void testRefreshKeepsItemsOfSiblings() {
+		assumeFalse("lazy trees clear all items on refresh",
+				fTreeViewer.getContentProvider() instanceof ILazyTreeContentProvider);
+		fTreeViewer.setComparator(new TestLabelComparator());
+		TestElement[] children = fRootElement.getChildren();
+		Widget[] items = new Widget[children.length];
+		for (int i = 0; i < children.length; i++) {
+			items[i] = fViewer.testFindItem(children[i]);
+			assertNotNull(items[i]);
+		}
+
+		TestElement added = fRootElement.basicAddChild();
+		added.setLabel("z");
+		fTreeViewer.refresh();
+
+		Tree tree = (Tree) fTreeViewer.getControl();
+		assertEquals(children.length + 1, tree.getItemCount());
+		assertEquals(added, tree.getItem(0).getData());
+		for (int i = 0; i < children.length; i++) {
+			assertTrue("item of sibling was kept", items[i] == fViewer.testFindItem(children[i]));
+			assertFalse(items[i].isDisposed());
+		}
+	}
+
 	@Test
 	public void testContains() {
 		// some random element.
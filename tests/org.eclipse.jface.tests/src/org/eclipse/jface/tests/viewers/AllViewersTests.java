@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,13 +26,14 @@ import org.junit.runners.Suite;
 		ListViewerTest.class, CheckboxTableViewerTest.class, CheckboxTableViewerTest.DeprecatedConstructor.class,
 		CheckboxTableViewerTest.FactoryMethod.class, CheckboxTreeViewerTest.class, ComboViewerTest.class,
 		CComboViewerTest.class, TreeViewerComparatorTest.class, ListViewerComparatorTest.class,
-		TableViewerComparatorTest.class, Bug138608Test.class, ComboViewerComparerTest.class,
+		TableViewerComparatorTest.class, ViewerComparatorSortKeyTest.class, Bug138608Test.class, ComboViewerComparerTest.class,
 		ListViewerRefreshTest.class, Bug200558Test.class, Bug201002TableViewerTest.class, Bug201002TreeViewerTest.class,
 		Bug200337TableViewerTest.class, //
 		Bug205700TreeViewerTest.class, Bug180504TableViewerTest.class, Bug180504TreeViewerTest.class,
 		Bug256889TableViewerTest.class, Bug287765Test.class, Bug242231Test.class, StyledStringBuilderTest.class,
 		TreeViewerWithLimitTest.class, TreeViewerWithLimitCompatibilityTest.class, TableViewerWithLimitTest.class,
-		TableViewerWithLimitCompatibilityTest.class })
+		TableViewerWithLimitCompatibilityTest.class, AsyncCellLabelProviderTest.class, CustomHashtableTest.class,
+		IntHashMapTest.class, ChangeQueueTest.class, DeferredContentProviderTest.class })
 public class AllViewersTests {
 
 	public static void main(String[] args) {
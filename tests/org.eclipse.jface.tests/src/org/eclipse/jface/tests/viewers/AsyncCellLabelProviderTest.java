@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.AsyncCellLabelProvider;
+import org.eclipse.jface.viewers.IElementComparer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.jface.viewers.ViewerCell;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncCellLabelProviderTest {
+
+	private Shell shell;
+
+	private TableViewer viewer;
+
+	private volatile boolean computedInUIThread;
+
+	/**
+	 * An element that is only equal to its copies by {@link #BY_ID}.
+	 */
+	private static final class Element {
+		final int id;
+		final String name;
+
+		Element(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	private static final IElementComparer BY_ID = new IElementComparer() {
+		@Override
+		public boolean equals(Object a, Object b) {
+			if (a instanceof Element e1 && b instanceof Element e2) {
+				return e1.id == e2.id;
+			}
+			return a.equals(b);
+		}
+
+		@Override
+		public int hashCode(Object element) {
+			return element instanceof Element e ? e.id : element.hashCode();
+		}
+	};
+
+	private final class TestAsyncCellLabelProvider extends AsyncCellLabelProvider<String> {
+		volatile String prefix;
+
+		/**
+		 * Blocks the computations until counted down.
+		 */
+		volatile CountDownLatch gate = new CountDownLatch(0);
+
+		final AtomicInteger computations = new AtomicInteger();
+
+		TestAsyncCellLabelProvider(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		protected String computeLabelData(Object element) {
+			if (Display.getCurrent() != null) {
+				computedInUIThread = true;
+			}
+			try {
+				gate.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			computations.incrementAndGet();
+			return prefix + " " + element;
+		}
+
+		@Override
+		protected void update(ViewerCell cell, String data) {
+			cell.setText(data);
+		}
+	}
+
+	private TestAsyncCellLabelProvider labelProvider;
+
+	@Before
+	public void setUp() {
+		shell = new Shell();
+		shell.setSize(400, 200);
+		shell.setLayout(new FillLayout());
+		viewer = new TableViewer(shell, SWT.BORDER);
+		labelProvider = new TestAsyncCellLabelProvider("computed");
+		createColumn(labelProvider);
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+		shell.open();
+	}
+
+	private TableViewerColumn createColumn(AsyncCellLabelProvider<String> provider) {
+		TableViewerColumn column = new TableViewerColumn(viewer, SWT.NONE);
+		column.getColumn().setWidth(200);
+		column.setLabelProvider(provider);
+		return column;
+	}
+
+	private List<String> createInput() {
+		List<String> input = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			input.add("item " + i);
+		}
+		return input;
+	}
+
+	private void assertColumnText(int column, String prefix, List<String> input) {
+		DisplayHelper.waitAndAssertCondition(shell.getDisplay(), () -> {
+			for (int i = 0; i < input.size(); i++) {
+				assertEquals(prefix + " " + input.get(i), viewer.getTable().getItem(i).getText(column));
+			}
+		});
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	@Test
+	public void testLabelsAreComputedInBackground() {
+		List<String> input = createInput();
+		viewer.setInput(input);
+		assertEquals("placeholder expected", "", viewer.getTable().getItem(0).getText());
+
+		assertColumnText(0, "computed", input);
+		assertFalse("label data must not be computed in the UI thread", computedInUIThread);
+	}
+
+	@Test
+	public void testApplyingDoesNotUpdateOtherAsyncColumns() {
+		TestAsyncCellLabelProvider other = new TestAsyncCellLabelProvider("other");
+		createColumn(other);
+		List<String> input = createInput();
+		viewer.setInput(input);
+
+		assertColumnText(0, "computed", input);
+		assertColumnText(1, "other", input);
+		DisplayHelper.sleep(shell.getDisplay(), 500);
+		assertEquals(input.size(), labelProvider.computations.get());
+		assertEquals(input.size(), other.computations.get());
+		assertColumnText(0, "computed", input);
+		assertColumnText(1, "other", input);
+	}
+
+	@Test
+	public void testProviderSharedByColumns() {
+		TableColumn second = createColumn(labelProvider).getColumn();
+		List<String> input = createInput();
+		viewer.setInput(input);
+		assertColumnText(1, "computed", input);
+
+		// disposing one column must not stop the provider for the other one
+		second.dispose();
+		viewer.refresh();
+		assertColumnText(0, "computed", input);
+	}
+
+	@Test
+	public void testProviderCanBeReattached() {
+		List<String> input = createInput();
+		viewer.setInput(input);
+		assertColumnText(0, "computed", input);
+
+		TableColumn column = viewer.getTable().getColumn(0);
+		column.dispose();
+		createColumn(labelProvider);
+		viewer.refresh();
+		assertColumnText(0, "computed", input);
+	}
+
+	@Test
+	public void testRefreshKeepsPreviousLabel() {
+		List<String> input = createInput();
+		viewer.setInput(input);
+		assertColumnText(0, "computed", input);
+
+		labelProvider.prefix = "changed";
+		viewer.refresh();
+		// no placeholder while the label is computed again
+		assertEquals("computed item 0", viewer.getTable().getItem(0).getText());
+		assertColumnText(0, "changed", input);
+		assertEquals(2 * input.size(), labelProvider.computations.get());
+	}
+
+	@Test
+	public void testReplacedElementsAreNotRetained() {
+		labelProvider.gate = new CountDownLatch(1);
+		List<Object> input = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			input.add(new Element(i, "old " + i));
+		}
+		WeakReference<Object> first = new WeakReference<>(input.get(0));
+		viewer.setInput(input);
+		// replace the elements while their labels are still placeholders
+		List<String> newInput = createInput();
+		viewer.setInput(newInput);
+		input = null;
+		labelProvider.gate.countDown();
+		assertColumnText(0, "computed", newInput);
+
+		DisplayHelper.waitAndAssertCondition(shell.getDisplay(), () -> {
+			System.gc();
+			assertNull("replaced element is still referenced", first.get());
+		});
+	}
+
+	@Test
+	public void testRequestsUseComparer() {
+		viewer.setComparer(BY_ID);
+		labelProvider.gate = new CountDownLatch(1);
+		List<Object> input = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			input.add(new Element(i, "item " + i));
+		}
+		viewer.setInput(input);
+		// a copy which is equal by the comparer only must not be computed again
+		viewer.update(new Element(0, "item 0"), null);
+		labelProvider.gate.countDown();
+		assertColumnText(0, "computed", createInput());
+		DisplayHelper.sleep(shell.getDisplay(), 500);
+		assertEquals(input.size(), labelProvider.computations.get());
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.eclipse.jface.viewers.deferred.internal.ChangeQueue.ADD;
+import static org.eclipse.jface.viewers.deferred.internal.ChangeQueue.REMOVE;
+import static org.eclipse.jface.viewers.deferred.internal.ChangeQueue.SET;
+import static org.eclipse.jface.viewers.deferred.internal.ChangeQueue.UPDATE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.jface.viewers.deferred.internal.ChangeQueue;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ChangeQueue} of the deferred content provider.
+ */
+public class ChangeQueueTest {
+
+	/**
+	 * Dequeues the next change and asserts its type and elements.
+	 */
+	private static void assertNext(ChangeQueue queue, int type, Object... elements) {
+		assertFalse(queue.isEmpty());
+		ChangeQueue.Change change = queue.dequeue();
+		assertEquals(type, change.getType());
+		assertArrayEquals(elements, change.getElements());
+	}
+
+	@Test
+	public void testConsecutiveChangesAreMerged() {
+		ChangeQueue queue = new ChangeQueue();
+		queue.enqueue(ADD, new Object[] { "a" });
+		queue.enqueue(ADD, new Object[] { "b", "c" });
+		queue.enqueue(ADD, new Object[] { "d" });
+		assertNext(queue, ADD, "a", "b", "c", "d");
+		assertTrue(queue.isEmpty());
+	}
+
+	@Test
+	public void testChangesOfOtherTypesAreKeptInOrder() {
+		ChangeQueue queue = new ChangeQueue();
+		queue.enqueue(ADD, new Object[] { "a" });
+		queue.enqueue(REMOVE, new Object[] { "b" });
+		queue.enqueue(REMOVE, new Object[] { "c" });
+		queue.enqueue(ADD, new Object[] { "d" });
+		queue.enqueue(UPDATE, new Object[] { "a" });
+		assertNext(queue, ADD, "a");
+		assertNext(queue, REMOVE, "b", "c");
+		assertNext(queue, ADD, "d");
+		assertNext(queue, UPDATE, "a");
+		assertTrue(queue.isEmpty());
+	}
+
+	@Test
+	public void testSetDropsPreviousContentChanges() {
+		ChangeQueue queue = new ChangeQueue();
+		queue.enqueue(ADD, new Object[] { "a" });
+		queue.enqueue(UPDATE, new Object[] { "b" });
+		queue.enqueue(REMOVE, new Object[] { "c" });
+		queue.enqueue(SET, new Object[] { "d" });
+		queue.enqueue(SET, new Object[] { "e" });
+		queue.enqueue(ADD, new Object[] { "f" });
+		assertNext(queue, UPDATE, "b");
+		assertNext(queue, SET, "e");
+		assertNext(queue, ADD, "f");
+		assertTrue(queue.isEmpty());
+	}
+
+	@Test
+	public void testDequeuedChangeIsNotMerged() {
+		ChangeQueue queue = new ChangeQueue();
+		queue.enqueue(ADD, new Object[] { "a" });
+		assertNext(queue, ADD, "a");
+		queue.enqueue(ADD, new Object[] { "b" });
+		queue.enqueue(ADD, new Object[] { "c" });
+		assertNext(queue, ADD, "b", "c");
+		assertTrue(queue.isEmpty());
+	}
+}
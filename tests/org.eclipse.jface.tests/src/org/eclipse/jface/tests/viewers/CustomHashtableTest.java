@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.jface.viewers.IElementComparer;
+import org.eclipse.jface.viewers.internal.CustomHashtable;
+import org.junit.Test;
+
+/**
+ * Tests the {@link CustomHashtable} used by the structured viewers.
+ */
+public class CustomHashtableTest {
+
+	/**
+	 * Compares strings ignoring case and gives all of them one of only three
+	 * hash codes, so that most keys collide.
+	 */
+	private static final IElementComparer COLLIDING_COMPARER = new IElementComparer() {
+		@Override
+		public boolean equals(Object a, Object b) {
+			return ((String) a).equalsIgnoreCase((String) b);
+		}
+
+		@Override
+		public int hashCode(Object element) {
+			return ((String) element).length() % 3;
+		}
+	};
+
+	private static Set<Object> keys(CustomHashtable table) {
+		Set<Object> keys = new HashSet<>();
+		Enumeration<?> enumeration = table.keys();
+		while (enumeration.hasMoreElements()) {
+			assertTrue(keys.add(enumeration.nextElement()));
+		}
+		return keys;
+	}
+
+	@Test
+	public void testPutReplacesEqualKey() {
+		CustomHashtable table = new CustomHashtable(1, COLLIDING_COMPARER);
+		String key = "key";
+		String equalKey = "KEY";
+		assertNull(table.put(key, "a"));
+		assertEquals("a", table.put(equalKey, "b"));
+		assertEquals(1, table.size());
+		assertEquals("b", table.get(key));
+		// the newer key is kept, see bug 30607
+		assertSame(equalKey, keys(table).iterator().next());
+	}
+
+	@Test
+	public void testCollisions() {
+		CustomHashtable table = new CustomHashtable(1, COLLIDING_COMPARER);
+		for (int i = 0; i < 1000; i++) {
+			table.put("k" + i, Integer.valueOf(i));
+		}
+		assertEquals(1000, table.size());
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(Integer.valueOf(i), table.get("K" + i));
+		}
+		assertFalse(table.containsKey("k1000"));
+		assertNull(table.get("k1000"));
+	}
+
+	@Test
+	public void testRemove() {
+		CustomHashtable table = new CustomHashtable(1, COLLIDING_COMPARER);
+		for (int i = 0; i < 100; i++) {
+			table.put("k" + i, Integer.valueOf(i));
+		}
+		// remove from the middle of the collision clusters
+		for (int i = 0; i < 100; i += 2) {
+			assertEquals(Integer.valueOf(i), table.remove("K" + i));
+		}
+		assertNull(table.remove("k0"));
+		assertEquals(50, table.size());
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), table.get("k" + i));
+		}
+		for (int i = 1; i < 100; i += 2) {
+			table.remove("k" + i);
+		}
+		assertEquals(0, table.size());
+		assertTrue(keys(table).isEmpty());
+	}
+
+	@Test
+	public void testRehashKeepsPairs() {
+		CustomHashtable table = new CustomHashtable(0, COLLIDING_COMPARER);
+		Map<String, Integer> expected = new HashMap<>();
+		for (int i = 0; i < 500; i++) {
+			String key = "k" + i;
+			table.put(key, Integer.valueOf(i));
+			expected.put(key, Integer.valueOf(i));
+			// every addition crossing the threshold rehashes
+			assertEquals(Integer.valueOf(i), table.get(key.toUpperCase()));
+		}
+		table.ensureCapacity(10_000);
+		assertEquals(expected.keySet(), keys(table));
+		for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+			assertEquals(entry.getValue(), table.get(entry.getKey()));
+		}
+	}
+
+	@Test
+	public void testRandomOperationsMatchHashMap() {
+		Random random = new Random(42);
+		CustomHashtable table = new CustomHashtable(4, null);
+		Map<Integer, Integer> expected = new HashMap<>();
+		for (int i = 0; i < 20_000; i++) {
+			// multiples of 64 collide in the low bits
+			Integer key = Integer.valueOf(random.nextInt(300) * 64);
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key), table.remove(key));
+			} else {
+				Integer value = Integer.valueOf(i);
+				assertEquals(expected.put(key, value), table.put(key, value));
+			}
+			assertEquals(expected.size(), table.size());
+		}
+		for (int key = 0; key < 300 * 64; key += 64) {
+			assertEquals(expected.get(Integer.valueOf(key)), table.get(Integer.valueOf(key)));
+		}
+	}
+}
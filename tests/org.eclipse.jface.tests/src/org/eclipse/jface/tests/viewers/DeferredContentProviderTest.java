@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.jface.viewers.ILazyContentProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.deferred.DeferredContentProvider;
+import org.eclipse.jface.viewers.deferred.SetModel;
+import org.eclipse.jface.viewers.deferred.internal.AbstractVirtualTable;
+import org.eclipse.jface.viewers.deferred.internal.ConcurrentTableUpdator;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link DeferredContentProvider} and its
+ * {@link ConcurrentTableUpdator}.
+ */
+public class DeferredContentProviderTest {
+
+	private static final int SIZE = 1000;
+
+	/** Records the rows sent to and cleared in the table. */
+	private static final class RecordingTableViewer extends TableViewer {
+		final List<Integer> replacedRows = new ArrayList<>();
+		final Map<Integer, Object> replacedElements = new HashMap<>();
+		final List<Integer> clearedRows = new ArrayList<>();
+
+		RecordingTableViewer(Composite parent) {
+			super(parent, SWT.VIRTUAL | SWT.BORDER);
+		}
+
+		@Override
+		public void replace(Object element, int index) {
+			replacedRows.add(Integer.valueOf(index));
+			replacedElements.put(Integer.valueOf(index), element);
+			super.replace(element, index);
+		}
+
+		@Override
+		public void clear(int index) {
+			clearedRows.add(Integer.valueOf(index));
+			super.clear(index);
+		}
+
+		void reset() {
+			replacedRows.clear();
+			replacedElements.clear();
+			clearedRows.clear();
+		}
+	}
+
+	/** Adapts the viewer like the private adapter of the content provider. */
+	private static final class TableViewerAdapter extends AbstractVirtualTable {
+		private final TableViewer viewer;
+
+		TableViewerAdapter(TableViewer viewer) {
+			this.viewer = viewer;
+		}
+
+		@Override
+		public void clear(int index) {
+			viewer.clear(index);
+		}
+
+		@Override
+		public void replace(Object element, int itemIndex) {
+			viewer.replace(element, itemIndex);
+		}
+
+		@Override
+		public void setItemCount(int total) {
+			viewer.setItemCount(total);
+		}
+
+		@Override
+		public int getItemCount() {
+			return viewer.getTable().getItemCount();
+		}
+
+		@Override
+		public int getTopIndex() {
+			return Math.max(viewer.getTable().getTopIndex() - 1, 0);
+		}
+
+		@Override
+		public int getVisibleItemCount() {
+			Table table = viewer.getTable();
+			Rectangle rect = table.getClientArea();
+			int itemHeight = table.getItemHeight();
+			int headerHeight = table.getHeaderHeight();
+			return (rect.height - headerHeight + itemHeight - 1) / (itemHeight + table.getGridLineWidth());
+		}
+
+		@Override
+		public Control getControl() {
+			return viewer.getControl();
+		}
+	}
+
+	private Shell shell;
+
+	private RecordingTableViewer viewer;
+
+	@Before
+	public void setUp() {
+		shell = new Shell();
+		shell.setSize(300, 200);
+		shell.setLayout(new FillLayout());
+		viewer = new RecordingTableViewer(shell);
+		shell.open();
+	}
+
+	@After
+	public void tearDown() {
+		shell.dispose();
+	}
+
+	private void processEvents() {
+		Display display = shell.getDisplay();
+		while (display.readAndDispatch()) {
+			// loop until there are no more events to dispatch
+		}
+	}
+
+	private ConcurrentTableUpdator createUpdator() {
+		viewer.setContentProvider((ILazyContentProvider) index -> {
+			// rows are only filled in by the updator
+		});
+		ConcurrentTableUpdator updator = new ConcurrentTableUpdator(new TableViewerAdapter(viewer));
+		updator.setTotalItems(SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			updator.replace("e" + i, i);
+		}
+		processEvents();
+		return updator;
+	}
+
+	private void assertOnlyRowsBelow(int limit) {
+		assertFalse("visible rows should have been sent", viewer.replacedRows.isEmpty());
+		for (Integer row : viewer.replacedRows) {
+			assertTrue("row " + row + " is not visible", row.intValue() < limit);
+		}
+	}
+
+	@Test
+	public void testUpdatorSendsVisibleRange() {
+		ConcurrentTableUpdator updator = createUpdator();
+		try {
+			assertEquals(SIZE, viewer.getTable().getItemCount());
+			assertOnlyRowsBelow(SIZE / 10);
+			assertEquals("e0", viewer.replacedElements.get(Integer.valueOf(0)));
+		} finally {
+			updator.dispose();
+		}
+	}
+
+	@Test
+	public void testResizeKeepsSentRows() {
+		ConcurrentTableUpdator updator = createUpdator();
+		try {
+			viewer.reset();
+			updator.setTotalItems(SIZE * 2);
+			processEvents();
+			assertEquals(SIZE * 2, viewer.getTable().getItemCount());
+			assertTrue("sent rows must not be sent again after a resize", viewer.replacedRows.isEmpty());
+		} finally {
+			updator.dispose();
+		}
+	}
+
+	@Test
+	public void testClearResendsScrolledRow() {
+		ConcurrentTableUpdator updator = createUpdator();
+		try {
+			Table table = viewer.getTable();
+			table.setTopIndex(SIZE / 2);
+			processEvents();
+			int row = table.getTopIndex();
+			updator.checkVisibleRange(row);
+			processEvents();
+			assertEquals("e" + row, viewer.replacedElements.get(Integer.valueOf(row)));
+
+			viewer.reset();
+			updator.clear("e" + row);
+			// removing an element schedules an update of the table
+			updator.remove("e0");
+			processEvents();
+			assertTrue(viewer.clearedRows.contains(Integer.valueOf(0)));
+			assertTrue(viewer.clearedRows.contains(Integer.valueOf(row)));
+			assertEquals("e" + row, viewer.replacedElements.get(Integer.valueOf(row)));
+		} finally {
+			updator.dispose();
+		}
+	}
+
+	@Test
+	public void testSortsVisibleRangeOnDemand() {
+		List<Integer> elements = new ArrayList<>();
+		for (int i = 0; i < SIZE; i++) {
+			elements.add(Integer.valueOf(i));
+		}
+		Collections.shuffle(elements, new Random(42));
+		SetModel model = new SetModel();
+		model.addAll(elements);
+		viewer.setContentProvider(new DeferredContentProvider(Comparator.naturalOrder()));
+		viewer.setInput(model);
+
+		DisplayHelper.waitAndAssertCondition(shell.getDisplay(), () -> {
+			assertEquals(SIZE, viewer.getTable().getItemCount());
+			assertEquals(Integer.valueOf(0), viewer.replacedElements.get(Integer.valueOf(0)));
+		});
+		assertOnlyRowsBelow(SIZE / 10);
+
+		Table table = viewer.getTable();
+		table.setTopIndex(SIZE / 2);
+		DisplayHelper.waitAndAssertCondition(shell.getDisplay(), () -> {
+			int row = table.getTopIndex();
+			assertEquals(Integer.valueOf(row), viewer.replacedElements.get(Integer.valueOf(row)));
+		});
+		assertFalse("rows between the visible ranges must not be sent",
+				viewer.replacedElements.containsKey(Integer.valueOf(SIZE / 4)));
+	}
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.jface.viewers.deferred.internal.IntHashMap;
+import org.junit.Test;
+
+/**
+ * Tests the {@link IntHashMap} used by the deferred content provider.
+ */
+public class IntHashMapTest {
+
+	/** A key whose hash code collides with all keys of the same group. */
+	private static final class CollidingKey {
+		private final int group;
+		private final int id;
+
+		CollidingKey(int group, int id) {
+			this.group = group;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof CollidingKey other && other.group == group && other.id == id;
+		}
+
+		@Override
+		public int hashCode() {
+			return group;
+		}
+	}
+
+	@Test
+	public void testPutAndGet() {
+		IntHashMap map = new IntHashMap(16);
+		assertEquals(-1, map.get("a", -1));
+		assertFalse(map.containsKey("a"));
+		map.put("a", 1);
+		map.put("b", 0);
+		assertEquals(1, map.get("a", -1));
+		// a stored zero is different from a missing key
+		assertEquals(0, map.get("b", -1));
+		assertTrue(map.containsKey("b"));
+		map.put(new String("a"), 2);
+		assertEquals(2, map.get("a", -1));
+		assertEquals(2, map.size());
+		assertFalse(map.containsKey(null));
+	}
+
+	@Test
+	public void testRemoveWithCollisions() {
+		IntHashMap map = new IntHashMap(16);
+		for (int i = 0; i < 10; i++) {
+			map.put(new CollidingKey(1, i), i);
+			map.put(new CollidingKey(2, i), 100 + i);
+		}
+		// remove from the start and the middle of the probe sequences
+		for (int i = 0; i < 10; i += 3) {
+			map.remove(new CollidingKey(1, i));
+		}
+		map.remove(new CollidingKey(3, 0));
+		assertEquals(16, map.size());
+		for (int i = 0; i < 10; i++) {
+			assertEquals(i % 3 == 0 ? -1 : i, map.get(new CollidingKey(1, i), -1));
+			assertEquals(100 + i, map.get(new CollidingKey(2, i), -1));
+		}
+	}
+
+	@Test
+	public void testRehashKeepsPairs() {
+		IntHashMap map = new IntHashMap(0);
+		for (int i = 0; i < 1000; i++) {
+			map.put(new CollidingKey(i % 7, i), i);
+			assertEquals(i + 1, map.size());
+		}
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(i, map.get(new CollidingKey(i % 7, i), -1));
+		}
+	}
+
+	@Test
+	public void testRandomOperationsMatchHashMap() {
+		Random random = new Random(42);
+		IntHashMap map = new IntHashMap(4);
+		Map<Integer, Integer> expected = new HashMap<>();
+		for (int i = 0; i < 20_000; i++) {
+			// multiples of 64 collide in the low bits
+			Integer key = Integer.valueOf(random.nextInt(300) * 64);
+			if (random.nextInt(3) == 0) {
+				expected.remove(key);
+				map.remove(key);
+			} else {
+				expected.put(key, Integer.valueOf(i));
+				map.put(key, i);
+			}
+			assertEquals(expected.size(), map.size());
+		}
+		for (int key = 0; key < 300 * 64; key += 64) {
+			Integer value = expected.get(Integer.valueOf(key));
+			assertEquals(value == null ? -1 : value.intValue(), map.get(Integer.valueOf(key), -1));
+		}
+	}
+}
@@ -420,6 +420,24 @@ public class LazySortedCollectionTest {
 		assertContentsValid();
 	}
 
+	/**
+	 * Remove many elements one at a time from a collection that has grown
+	 * several times, after the positions of all elements have been tracked.
+	 */
+	@Test
+	public void testRemoveManyAfterGrowing() {
+		String[] added = new String[500];
+		for (int i = 0; i < added.length; i++) {
+			added[i] = "w" + i;
+			add(added[i]);
+		}
+		queryRange(0, comparisonCollection.size(), true);
+		for (int i = 0; i < added.length; i += 3) {
+			remove(added[i]);
+		}
+		assertContentsValid();
+	}
+
 	/**
 	 * Test boundary conditions:
 	 *
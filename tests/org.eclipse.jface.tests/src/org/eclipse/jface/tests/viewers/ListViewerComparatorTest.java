@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -64,6 +64,32 @@ public class ListViewerComparatorTest extends ViewerComparatorTest {
 		assertSortedResult(TEAM1_SORTED_WITH_INSERT);
 	}
 
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testViewerSorterRefreshAfterRename() {
+		fViewer.setSorter(new ViewerSorter());
+		team1.members[6].name = "Zora";
+		fViewer.refresh();
+		assertSortedResult(TEAM1_SORTED_WITH_RENAME);
+	}
+
+	@Test
+	public void testViewerComparatorUpdateAfterRename() {
+		fViewer.setComparator(new ViewerComparator());
+		team1.members[6].name = "Zora";
+		fViewer.update(team1.members[6], null);
+		fViewer.refresh(false);
+		assertSortedResult(TEAM1_SORTED_WITH_RENAME);
+	}
+
+	@Test
+	public void testViewerComparatorSetSameInputAfterRename() {
+		fViewer.setComparator(new ViewerComparator());
+		team1.members[6].name = "Zora";
+		fViewer.setInput(fViewer.getInput());
+		assertSortedResult(TEAM1_SORTED_WITH_RENAME);
+	}
+
 	private void assertSortedResult(String[] expected) {
 		String[] items = getListViewer().getList().getItems();
 		for (int i = 0; i < items.length; i++) {
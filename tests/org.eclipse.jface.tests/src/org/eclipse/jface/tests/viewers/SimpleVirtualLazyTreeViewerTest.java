@@ -16,6 +16,7 @@
 package org.eclipse.jface.tests.viewers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeFalse;
 
@@ -160,6 +161,49 @@ public class SimpleVirtualLazyTreeViewerTest extends ViewerTestCase {
 		// interact();
 	}
 
+	@Test
+	public void testCollapseReleasesChildren() {
+		getTreeViewer().setMaterializedItemLimit(NUM_ROOTS);
+		processEvents();
+		Tree tree = getTreeViewer().getTree();
+		getTreeViewer().expandToLevel("R-0", 1);
+		processEvents();
+		TreeItem treeItem = tree.getItem(0);
+		assertEquals(NUM_CHILDREN, treeItem.getItemCount());
+
+		getTreeViewer().collapseToLevel("R-0", 1);
+		processEvents();
+		assertEquals("children should be released", 1, treeItem.getItemCount());
+		assertNull("dummy child should not hold an element", treeItem.getItem(0).getData());
+		assertEquals("R-0", treeItem.getData());
+
+		getTreeViewer().expandToLevel("R-0", 1);
+		processEvents();
+		assertEquals(NUM_CHILDREN, treeItem.getItemCount());
+		assertEquals("R-0-0", treeItem.getItem(0).getData());
+	}
+
+	@Test
+	public void testCollapseReleasesChildrenOfAllItems() {
+		getTreeViewer().setMaterializedItemLimit(NUM_ROOTS);
+		processEvents();
+		Tree tree = getTreeViewer().getTree();
+		for (int i = 0; i < 3; i++) {
+			getTreeViewer().expandToLevel("R-" + i, 1);
+		}
+		processEvents();
+		// collapse all items before the released children are processed
+		for (int i = 0; i < 3; i++) {
+			getTreeViewer().collapseToLevel("R-" + i, 1);
+		}
+		processEvents();
+		for (int i = 0; i < 3; i++) {
+			TreeItem treeItem = tree.getItem(i);
+			assertEquals("children should be released", 1, treeItem.getItemCount());
+			assertNull("dummy child should not hold an element", treeItem.getItem(0).getData());
+		}
+	}
+
 	private static void expandAndNotify(TreeItem treeItem) {
 		// callbacksEnabled = false;
 		Tree tree = treeItem.getParent();
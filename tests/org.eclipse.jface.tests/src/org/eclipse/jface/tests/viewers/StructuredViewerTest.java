@@ -549,6 +549,47 @@ public abstract class StructuredViewerTest extends ViewerTestCase {
 		assertEquals("unsorted", lastLabel, getItemText(size - 1));
 	}
 
+	@Test
+	public void testRefreshInBackground() {
+		fViewer.setComparator(new TestLabelComparator());
+		TestElement first = fRootElement.getFirstChild();
+		TestElement added = fRootElement.basicAddChild();
+		int size = fRootElement.getChildCount();
+
+		fViewer.refreshInBackground(fRootElement, false);
+		new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return fViewer.testFindItem(added) != null;
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000);
+		assertNotNull("added element is visible", fViewer.testFindItem(added));
+		assertEquals("element count", size, getItemCount());
+		assertEquals("reverse sorted", first.toString(), getItemText(size - 2));
+		assertEquals("reverse sorted", added.toString(), getItemText(size - 1));
+	}
+
+	@Test
+	public void testRefreshInBackgroundSupersedesEarlierRequest() {
+		fViewer.setComparator(new TestLabelComparator());
+		TestElement first = fRootElement.basicAddChild();
+		fViewer.refreshInBackground(fRootElement, false);
+		TestElement second = fRootElement.basicAddChild();
+		fViewer.refreshInBackground(fRootElement, false);
+		int size = fRootElement.getChildCount();
+
+		new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				return fViewer.testFindItem(second) != null;
+			}
+		}.waitForCondition(fViewer.getControl().getDisplay(), 3000);
+		assertNotNull("first added element is visible", fViewer.testFindItem(first));
+		assertNotNull("second added element is visible", fViewer.testFindItem(second));
+		assertEquals("element count", size, getItemCount());
+		assertEquals("reverse sorted", second.toString(), getItemText(size - 1));
+	}
+
 	@Test
 	public void testWorldChanged() {
 		bulkChange(new TestModelChange(TestModelChange.STRUCTURE_CHANGE, null));
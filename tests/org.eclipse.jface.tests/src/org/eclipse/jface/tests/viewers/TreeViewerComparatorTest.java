@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2023 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ import java.util.List;
 
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TreePath;
+import org.eclipse.jface.viewers.TreePathViewerSorter;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerComparator;
@@ -131,6 +133,32 @@ public class TreeViewerComparatorTest extends ViewerComparatorTest {
 		assertSortedResult(expected);
 	}
 
+	@Test
+	public void testViewerComparatorRefreshParentAfterRename() {
+		fViewer.setComparator(new ViewerComparator());
+		getTreeViewer().expandAll();
+		team1.members[6].name = "Zora";
+		// refreshing the team updates the labels of its members
+		fViewer.refresh(team1);
+		String[][] expected = { TEAM3_SORTED, TEAM2_SORTED, TEAM1_SORTED_WITH_RENAME };
+		assertSortedResult(expected);
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testTreePathViewerSorterWithPathCategory() {
+		fViewer.setSorter(new TreePathViewerSorter() {
+			@Override
+			public int category(TreePath parentPath, Object element) {
+				// not used by the default compare methods, which call category(Object)
+				return -element.hashCode();
+			}
+		});
+		getTreeViewer().expandAll();
+		String[][] expected = { TEAM3_SORTED, TEAM2_SORTED, TEAM1_SORTED };
+		assertSortedResult(expected);
+	}
+
 	private void assertSortedResult(String[][] resultArrays) {
 		TreeItem[] rootItems = getTreeViewer().getTree().getItems();
 		assertEquals("Number of root items in tree not correct (actual=" + rootItems.length + ")", 3, rootItems.length);
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.viewers;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.text.ParseException;
+import java.text.RuleBasedCollator;
+import java.util.Locale;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.IElementComparer;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.ViewerComparator;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Table;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Counts the sort keys a {@link ViewerComparator} computes, to check that they
+ * are only computed again for elements whose labels may have changed.
+ */
+public class ViewerComparatorSortKeyTest extends ViewerTestCase {
+
+	/**
+	 * An element with an identity that is independent of its name.
+	 */
+	private static class Person {
+		final int id;
+		String name;
+
+		Person(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	/**
+	 * Counts the collation keys computed, which is once per sort key.
+	 */
+	private static class CountingCollator extends RuleBasedCollator {
+		int keys;
+
+		CountingCollator() throws ParseException {
+			super(((RuleBasedCollator) Collator.getInstance(Locale.ENGLISH)).getRules());
+		}
+
+		@Override
+		public synchronized CollationKey getCollationKey(String source) {
+			keys++;
+			return super.getCollationKey(source);
+		}
+	}
+
+	private static final IElementComparer BY_ID = new IElementComparer() {
+		@Override
+		public boolean equals(Object a, Object b) {
+			if (a instanceof Person p && b instanceof Person q) {
+				return p.id == q.id;
+			}
+			return a.equals(b);
+		}
+
+		@Override
+		public int hashCode(Object element) {
+			return element instanceof Person p ? p.id : element.hashCode();
+		}
+	};
+
+	private Person[] persons;
+	private CountingCollator collator;
+
+	@Override
+	protected StructuredViewer createViewer(Composite parent) {
+		TableViewer viewer = new TableViewer(parent);
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+		viewer.setLabelProvider(new LabelProvider() {
+			@Override
+			public String getText(Object element) {
+				return ((Person) element).name;
+			}
+		});
+		viewer.setComparer(BY_ID);
+		return viewer;
+	}
+
+	@Override
+	protected void setInput() {
+		String[] names = { "Karice", "Tod", "Eric", "Paul", "Mike", "Michael", "Andrea", "Kim", "Boris", "Susan" };
+		persons = new Person[names.length];
+		for (int i = 0; i < names.length; i++) {
+			persons[i] = new Person(i, names[i]);
+		}
+		fViewer.setInput(persons);
+	}
+
+	@Before
+	public void setUpComparator() throws ParseException {
+		collator = new CountingCollator();
+		fViewer.setComparator(new ViewerComparator(collator));
+		assertEquals(persons.length, collator.keys);
+		collator.keys = 0;
+	}
+
+	private void assertLabels(String... expected) {
+		Table table = ((TableViewer) fViewer).getTable();
+		String[] labels = new String[table.getItemCount()];
+		for (int i = 0; i < labels.length; i++) {
+			labels[i] = table.getItem(i).getText();
+		}
+		assertArrayEquals(expected, labels);
+	}
+
+	@Test
+	public void testKeysAreReused() {
+		fViewer.refresh(false);
+		assertEquals(0, collator.keys);
+		assertLabels("Andrea", "Boris", "Eric", "Karice", "Kim", "Michael", "Mike", "Paul", "Susan", "Tod");
+	}
+
+	@Test
+	public void testUpdateRecomputesOnlyUpdatedKey() {
+		persons[6].name = "Zora";
+		fViewer.update(persons[6], null);
+		fViewer.refresh(false);
+		assertEquals(1, collator.keys);
+		assertLabels("Boris", "Eric", "Karice", "Kim", "Michael", "Mike", "Paul", "Susan", "Tod", "Zora");
+	}
+
+	@Test
+	public void testUpdateFindsKeyThroughComparer() {
+		persons[6].name = "Zora";
+		// an element that only the comparer considers equal
+		fViewer.update(new Person(6, "Zora"), null);
+		fViewer.refresh(false);
+		assertEquals(1, collator.keys);
+		assertLabels("Boris", "Eric", "Karice", "Kim", "Michael", "Mike", "Paul", "Susan", "Tod", "Zora");
+	}
+
+	@Test
+	public void testRefreshElementRecomputesOnlyItsKey() {
+		persons[6].name = "Zora";
+		fViewer.refresh(persons[6]);
+		fViewer.refresh(false);
+		assertEquals(1, collator.keys);
+		assertLabels("Boris", "Eric", "Karice", "Kim", "Michael", "Mike", "Paul", "Susan", "Tod", "Zora");
+	}
+
+	@Test
+	public void testRefreshRecomputesAllKeys() {
+		fViewer.refresh();
+		assertEquals(persons.length, collator.keys);
+	}
+}
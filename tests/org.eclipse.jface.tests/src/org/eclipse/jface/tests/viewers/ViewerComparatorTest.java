@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2023 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,8 @@ public abstract class ViewerComparatorTest extends ViewerTestCase {
 			"Tod" };
 	protected String[] TEAM1_SORTED_WITH_INSERT = { "Andrea", "Boris", "Duong", "Eric", "Karice", "Kim", "Michael",
 			"Mike", "Paul", "Susan", "Tod" };
+	protected String[] TEAM1_SORTED_WITH_RENAME = { "Boris", "Eric", "Karice", "Kim", "Michael", "Mike", "Paul",
+			"Susan", "Tod", "Zora" };
 
 	protected String RUNTIME = "Runtime";
 	protected String[] TEAM2 = { "Pascal", "DJ", "Jeff", "Andrew", "Oleg" };
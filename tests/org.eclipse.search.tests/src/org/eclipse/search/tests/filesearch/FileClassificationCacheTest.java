@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.content.IContentType;
+import org.eclipse.core.runtime.content.IContentTypeManager;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.search.internal.core.SearchCorePlugin;
+import org.eclipse.search.internal.core.text.FileClassificationCache;
+import org.eclipse.search.tests.ResourceHelper;
+
+public class FileClassificationCacheTest {
+
+	private IProject fProject;
+	private FileClassificationCache fCache;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourceHelper.createProject("classification-project"); //$NON-NLS-1$
+		fCache= SearchCorePlugin.getDefault().getFileClassificationCache();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ResourceHelper.deleteProject("classification-project"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testBinaryInvalidatedByContentChange() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder"));
+		IFile file= ResourceHelper.createFile(folder, "a.txt", "a\0b");
+
+		assertNull(fCache.isBinary(file));
+		fCache.setBinary(file, true);
+		assertEquals(Boolean.TRUE, fCache.isBinary(file));
+
+		file.setContents(new ByteArrayInputStream("ab".getBytes(StandardCharsets.US_ASCII)), true, false, null);
+		assertNull(fCache.isBinary(file));
+	}
+
+	@Test
+	public void testCharsetInvalidatedByEncodingChange() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder"));
+		IFile file= ResourceHelper.createFile(folder, "a.txt", "a", "UTF-8");
+		file.setCharset("UTF-8", null);
+		assertEquals("UTF-8", fCache.getCharset(file));
+
+		fCache.setBinary(file, false);
+		file.setCharset("ISO-8859-1", null);
+		assertEquals("ISO-8859-1", fCache.getCharset(file));
+		assertNull(fCache.isBinary(file));
+
+		folder.setDefaultCharset("UTF-16", null);
+		file.setCharset(null, null);
+		assertEquals("UTF-16", fCache.getCharset(file));
+	}
+
+	@Test
+	public void testInvalidatedByContentTypeChange() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder"));
+		IFile file= ResourceHelper.createFile(folder, "a.classification", "ab");
+		fCache.setBinary(file, false);
+		assertEquals(Boolean.FALSE, fCache.isBinary(file));
+
+		IContentType text= Platform.getContentTypeManager().getContentType(IContentTypeManager.CT_TEXT);
+		text.addFileSpec("classification", IContentType.FILE_EXTENSION_SPEC);
+		try {
+			assertNull(fCache.isBinary(file));
+		} finally {
+			text.removeFileSpec("classification", IContentType.FILE_EXTENSION_SPEC);
+		}
+	}
+
+	@Test
+	public void testInvalidatedByWorkspaceEncodingChange() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder"));
+		IFile file= ResourceHelper.createFile(folder, "a.txt", "ab");
+		fCache.setBinary(file, false);
+		assertEquals(Boolean.FALSE, fCache.isBinary(file));
+
+		// files without an explicit charset may inherit the workspace default
+		IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
+		root.setDefaultCharset("UTF-16", null);
+		try {
+			assertNull(fCache.isBinary(file));
+		} finally {
+			root.setDefaultCharset(null, null);
+		}
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntriesAreEvicted() throws Exception {
+		FileClassificationCache cache= new FileClassificationCache(2);
+		try {
+			IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder"));
+			IFile a= ResourceHelper.createFile(folder, "a.txt", "a");
+			IFile b= ResourceHelper.createFile(folder, "b.txt", "b");
+			IFile c= ResourceHelper.createFile(folder, "c.txt", "c");
+			cache.setBinary(a, false);
+			cache.setBinary(b, false);
+			// accessing a makes b the least recently used entry
+			assertEquals(Boolean.FALSE, cache.isBinary(a));
+			cache.setBinary(c, true);
+
+			assertEquals(Boolean.FALSE, cache.isBinary(a));
+			assertNull(cache.isBinary(b));
+			assertEquals(Boolean.TRUE, cache.isBinary(c));
+		} finally {
+			cache.dispose();
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.MultiStatus;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.search.tests.ResourceHelper;
+import org.eclipse.search.ui.text.FileTextSearchScope;
+
+public class FilesOfScopeCacheTest {
+
+	private IProject fProject;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourceHelper.createProject("cache-project"); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ResourceHelper.deleteProject("cache-project"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testFilesUpdatedFromDeltas() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		IFile a= ResourceHelper.createFile(folder, "a.txt", "a");
+		ResourceHelper.createFile(folder, "b.java", "b");
+
+		assertFiles(a);
+		// served from the cache
+		assertFiles(a);
+
+		IFile c= ResourceHelper.createFile(folder, "c.txt", "c");
+		assertFiles(a, c);
+
+		ResourceHelper.delete(a);
+		assertFiles(c);
+
+		IFolder folder2= ResourceHelper.createFolder(fProject.getFolder("folder2"));
+		IFile d= ResourceHelper.createFile(folder2, "d.txt", "d");
+		assertFiles(c, d);
+
+		folder2.setDerived(true, null);
+		assertFiles(c);
+
+		c.setDerived(true, null);
+		assertFiles();
+	}
+
+	private void assertFiles(IFile... expected) {
+		FileTextSearchScope scope= FileTextSearchScope.newSearchScope(new IResource[] { fProject }, new String[] { "*.txt" }, false);
+		IFile[] files= scope.evaluateFilesInScope(new MultiStatus("org.eclipse.search.tests", 0, "", null)); //$NON-NLS-1$ //$NON-NLS-2$
+		Set<IFile> actual= new HashSet<>(Arrays.asList(files));
+		assertEquals(new HashSet<>(Arrays.asList(expected)), actual);
+		assertEquals(expected.length, files.length);
+	}
+}
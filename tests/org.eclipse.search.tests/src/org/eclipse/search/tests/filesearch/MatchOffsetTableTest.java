@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+
+import org.eclipse.search.internal.ui.text.FileSearchResult;
+import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
+
+import org.eclipse.search2.internal.ui.text.MatchOffsetTable;
+
+/**
+ * Checks the ranges kept by {@link MatchOffsetTable} against the positions adapted by the
+ * document's <code>DefaultPositionUpdater</code>.
+ */
+public class MatchOffsetTableTest {
+
+	private static final int DOCUMENT_LENGTH= 2000;
+
+	private IDocument fDocument;
+	private MatchOffsetTable fTable;
+	private AbstractTextSearchResult fResult;
+	private List<Match> fMatches;
+	private List<Position> fPositions;
+
+	@Before
+	public void setUp() {
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < DOCUMENT_LENGTH; i++)
+			content.append((char) ('a' + i % 26));
+		fDocument= new Document(content.toString());
+		fTable= new MatchOffsetTable(fDocument);
+		fDocument.addPositionUpdater(fTable);
+		fResult= new FileSearchResult(null);
+		fMatches= new ArrayList<>();
+		fPositions= new ArrayList<>();
+	}
+
+	private Match addMatch(AbstractTextSearchResult result, int offset, int length) throws BadLocationException {
+		Match match= new Match(fDocument, offset, length);
+		Position position= new Position(offset, length);
+		fDocument.addPosition(position);
+		fTable.add(match, result, offset, length);
+		fMatches.add(match);
+		fPositions.add(position);
+		return match;
+	}
+
+	private Match addMatch(AbstractTextSearchResult result, Random random) throws BadLocationException {
+		int length= random.nextInt(8);
+		return addMatch(result, random.nextInt(fDocument.getLength() - length + 1), length);
+	}
+
+	private void addMatches(Random random, int count) throws BadLocationException {
+		for (int i= 0; i < count; i++)
+			addMatch(fResult, random);
+	}
+
+	private void replace(Random random) throws BadLocationException {
+		int length= fDocument.getLength();
+		int offset= random.nextInt(length + 1);
+		int replaced= Math.min(random.nextInt(3) == 0 ? 0 : random.nextInt(12), length - offset);
+		int inserted= random.nextInt(3) == 0 ? 0 : random.nextInt(12);
+		fDocument.replace(offset, replaced, "x".repeat(inserted));
+	}
+
+	private void assertSameRanges() {
+		for (int i= 0; i < fMatches.size(); i++) {
+			Match match= fMatches.get(i);
+			if (match == null)
+				continue;
+			Position expected= fPositions.get(i);
+			Position actual= fTable.getPosition(match);
+			assertEquals("deleted state of " + expected, expected.isDeleted(), actual.isDeleted());
+			if (!expected.isDeleted()) {
+				assertEquals("offset of " + expected, expected.getOffset(), actual.getOffset());
+				assertEquals("length of " + expected, expected.getLength(), actual.getLength());
+			}
+		}
+	}
+
+	private void removeMatch(int index) {
+		assertTrue(fTable.remove(fMatches.get(index)));
+		fDocument.removePosition(fPositions.get(index));
+		fMatches.set(index, null);
+	}
+
+	@Test
+	public void testInsertAndDeleteAroundMatch() throws Exception {
+		Match match= addMatch(fResult, 10, 4);
+		Match behind= addMatch(fResult, 20, 2);
+
+		// inserting at the start moves the match, inserting at the end does not extend it
+		fDocument.replace(10, 0, "xx");
+		fDocument.replace(16, 0, "yy");
+		assertEquals(new Position(12, 4), fTable.getPosition(match));
+		// inserting inside extends the match
+		fDocument.replace(13, 0, "z");
+		assertEquals(new Position(12, 5), fTable.getPosition(match));
+		// replacing the whole match only empties it
+		fDocument.replace(12, 5, "");
+		assertEquals(new Position(12, 0), fTable.getPosition(match));
+		assertFalse(fTable.getPosition(match).isDeleted());
+		// replacing a range around the second match deletes it
+		fDocument.replace(18, 6, "ab");
+		assertTrue(fTable.getPosition(behind).isDeleted());
+		assertSameRanges();
+	}
+
+	@Test
+	public void testRandomEdits() throws Exception {
+		Random random= new Random(42);
+		addMatches(random, 300);
+		for (int i= 0; i < 2000; i++) {
+			replace(random);
+			if (i % 50 == 0)
+				assertSameRanges();
+		}
+		assertSameRanges();
+	}
+
+	@Test
+	public void testNearbyEditsMergeShifts() throws Exception {
+		Random random= new Random(7);
+		addMatches(random, 500);
+		// typing moves back and forth around the same place, which merges the pending shifts
+		int offset= DOCUMENT_LENGTH / 2;
+		for (int i= 0; i < 500; i++) {
+			offset= Math.max(0, Math.min(fDocument.getLength(), offset + random.nextInt(41) - 20));
+			if (random.nextBoolean() || offset == fDocument.getLength())
+				fDocument.replace(offset, 0, "x");
+			else
+				fDocument.replace(offset, 1, "");
+			assertSameRanges();
+		}
+	}
+
+	@Test
+	public void testAddDuringEdits() throws Exception {
+		Random random= new Random(11);
+		addMatches(random, 100);
+		for (int i= 0; i < 500; i++) {
+			replace(random);
+			if (i % 5 == 0)
+				addMatch(fResult, random);
+		}
+		assertSameRanges();
+
+		Match[] matches= fTable.getMatches();
+		for (int i= 1; i < matches.length; i++)
+			assertTrue(fTable.getPosition(matches[i - 1]).getOffset() <= fTable.getPosition(matches[i]).getOffset());
+	}
+
+	@Test
+	public void testCompaction() throws Exception {
+		Random random= new Random(3);
+		addMatches(random, 200);
+		for (int i= 0; i < 200; i++) {
+			replace(random);
+			// removing most of the matches compacts the table in between the edits
+			if (i % 3 != 0)
+				removeMatch(i);
+		}
+		assertSameRanges();
+		for (int i= 0; i < 200; i++)
+			replace(random);
+		assertSameRanges();
+
+		for (int i= 0; i < 200; i++) {
+			if (fMatches.get(i) != null)
+				removeMatch(i);
+		}
+		assertTrue(fTable.isEmpty());
+		assertNull(fTable.getPosition(new Match(fDocument, 0, 0)));
+	}
+
+	@Test
+	public void testRemoveAllOfResult() throws Exception {
+		Random random= new Random(5);
+		AbstractTextSearchResult other= new FileSearchResult(null);
+		List<Match> kept= new ArrayList<>();
+		for (int i= 0; i < 100; i++) {
+			if (i % 4 == 0)
+				kept.add(addMatch(other, random));
+			else
+				addMatch(fResult, random);
+			replace(random);
+		}
+		assertEquals(75, fTable.removeAll(fResult).size());
+		for (int i= 0; i < fMatches.size(); i++) {
+			if (!kept.contains(fMatches.get(i))) {
+				fDocument.removePosition(fPositions.get(i));
+				fMatches.set(i, null);
+			}
+		}
+		for (int i= 0; i < 100; i++)
+			replace(random);
+		assertSameRanges();
+		assertEquals(other, fTable.getResult(kept.get(0)));
+		assertEquals(new HashSet<>(kept), new HashSet<>(Arrays.asList(fTable.getMatches())));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,9 @@
 package org.eclipse.search.tests.filesearch;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeFalse;
 
 import org.junit.Before;
@@ -92,6 +94,46 @@ public class PositionTrackerTest {
 		}
 	}
 
+	@Test
+	public void testDeleteMatch() throws Exception {
+		NewSearchUI.runQueryInForeground(null, fQuery1);
+		AbstractTextSearchResult result= (AbstractTextSearchResult) fQuery1.getSearchResult();
+		Object[] elements= result.getElements();
+		try {
+			for (Object element : elements) {
+				checkDeleteFirstMatch(result, (IFile) element);
+			}
+		} finally {
+			SearchPlugin.getActivePage().closeAllEditors(false);
+		}
+	}
+
+	private void checkDeleteFirstMatch(AbstractTextSearchResult result, IFile file) throws PartInitException, BadLocationException {
+		Match[] matches= result.getMatches(file);
+		try {
+			SearchTestUtil.openTextEditor(SearchPlugin.getActivePage(), file);
+			ITextFileBuffer fb= FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+			Job.getJobManager().beginRule(file, null);
+			IDocument doc= fb.getDocument();
+
+			Position first= InternalSearchUI.getInstance().getPositionTracker().getCurrentPosition(matches[0]);
+			assertNotNull("null position for match: " + matches[0], first);
+			doc.replace(first.getOffset(), first.getLength(), "");
+
+			// like the DefaultPositionUpdater, removing exactly the match text only empties its range
+			Position deleted= InternalSearchUI.getInstance().getPositionTracker().getCurrentPosition(matches[0]);
+			assertEquals("position not emptied for match: " + matches[0], 0, deleted.getLength());
+			for (int i= 1; i < matches.length; i++) {
+				Position currentPosition= InternalSearchUI.getInstance().getPositionTracker().getCurrentPosition(matches[i]);
+				assertNotNull("null position for match: " + matches[i], currentPosition);
+				assertFalse(currentPosition.isDeleted());
+				assertEquals(((FileSearchQuery) result.getQuery()).getSearchString(), doc.get(currentPosition.getOffset(), currentPosition.getLength()));
+			}
+		} finally {
+			Job.getJobManager().endRule(file);
+			SearchPlugin.getActivePage().closeAllEditors(false);
+		}
+	}
 
 	private void checkInsertInsideMatch(FileSearchResult result, IFile file) throws PartInitException, BadLocationException {
 		Match[] matches= result.getMatches(file);
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.performance;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.RefactoringStatus;
+
+import org.eclipse.search.core.text.TextSearchEngine;
+import org.eclipse.search.core.text.TextSearchMatchAccess;
+import org.eclipse.search.core.text.TextSearchRequestor;
+import org.eclipse.search.core.text.TextSearchScope;
+import org.eclipse.search.internal.ui.text.FileSearchQuery;
+import org.eclipse.search.internal.ui.text.FileSearchResult;
+import org.eclipse.search.internal.ui.text.ReplaceRefactoring;
+import org.eclipse.search.ui.text.FileTextSearchScope;
+
+import org.eclipse.ui.tests.harness.util.AllocationMeter;
+import org.eclipse.ui.tests.harness.util.SyntheticWorkspace;
+
+/**
+ * Measures file search and Replace All on a {@link SyntheticWorkspace}. Besides the time
+ * recorded by the performance framework, the allocations of each scenario are logged.
+ */
+public class SearchPerformanceTest extends PerformanceTestCase {
+
+	public static final String PROJECT_NAME= "SearchPerformance"; //$NON-NLS-1$
+
+	private static final int WARM_UP_RUNS= 2;
+	private static final int SEARCH_RUNS= 10;
+	private static final int REPLACE_RUNS= 5;
+
+	private IProject fProject;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fProject= SyntheticWorkspace.create(PROJECT_NAME, SyntheticWorkspace.getFileCount());
+	}
+
+	public void testTextSearchEngine() throws Exception {
+		tagAsSummary("File Search", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		measureSearch(Pattern.compile(SyntheticWorkspace.NEEDLE), "TextSearchEngine literal"); //$NON-NLS-1$
+	}
+
+	public void testTextSearchEngineRegex() throws Exception {
+		measureSearch(Pattern.compile("ne+dle\\s+\\p{L}+"), "TextSearchEngine regex"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private void measureSearch(Pattern pattern, String scenario) throws Exception {
+		TextSearchScope scope= TextSearchScope.newSearchScope(new IResource[] { fProject }, Pattern.compile(".*"), false); //$NON-NLS-1$
+		AllocationMeter allocations= new AllocationMeter(scenario);
+		int expected= -1;
+		for (int i= 0; i < WARM_UP_RUNS + SEARCH_RUNS; i++) {
+			boolean measure= i >= WARM_UP_RUNS;
+			AtomicInteger matches= new AtomicInteger();
+			TextSearchRequestor requestor= new TextSearchRequestor() {
+				@Override
+				public boolean acceptPatternMatch(TextSearchMatchAccess matchAccess) throws CoreException {
+					matches.incrementAndGet();
+					return true;
+				}
+
+				@Override
+				public boolean canRunInParallel() {
+					return true;
+				}
+			};
+			if (measure) {
+				allocations.start();
+				startMeasuring();
+			}
+			IStatus status= TextSearchEngine.create().search(scope, requestor, pattern, new NullProgressMonitor());
+			if (measure) {
+				stopMeasuring();
+				allocations.stop();
+			}
+			assertTrue(status.toString(), status.isOK());
+			if (expected == -1) {
+				expected= matches.get();
+				assertTrue(expected > 0);
+			} else {
+				assertEquals(expected, matches.get());
+			}
+		}
+		commitMeasurements();
+		allocations.report();
+		assertPerformance();
+	}
+
+	public void testReplaceAll() throws Exception {
+		FileTextSearchScope scope= FileTextSearchScope.newSearchScope(new IResource[] { fProject }, new String[] { "*.txt" }, false); //$NON-NLS-1$
+		AllocationMeter allocations= new AllocationMeter("Replace All"); //$NON-NLS-1$
+		NullProgressMonitor monitor= new NullProgressMonitor();
+		for (int i= 0; i < WARM_UP_RUNS + REPLACE_RUNS; i++) {
+			boolean measure= i >= WARM_UP_RUNS;
+			FileSearchQuery query= new FileSearchQuery(SyntheticWorkspace.NEEDLE, false, true, scope);
+			query.run(monitor);
+			ReplaceRefactoring refactoring= new ReplaceRefactoring((FileSearchResult) query.getSearchResult(), null);
+			refactoring.setReplaceString("pin"); //$NON-NLS-1$
+			RefactoringStatus initialStatus= refactoring.checkInitialConditions(monitor);
+			assertFalse(initialStatus.toString(), initialStatus.hasFatalError());
+
+			if (measure) {
+				allocations.start();
+				startMeasuring();
+			}
+			RefactoringStatus finalStatus= refactoring.checkFinalConditions(monitor);
+			Change change= refactoring.createChange(monitor);
+			change.initializeValidationData(monitor);
+			Change undo= change.perform(monitor);
+			if (measure) {
+				stopMeasuring();
+				allocations.stop();
+			}
+			assertFalse(finalStatus.toString(), finalStatus.hasFatalError());
+
+			// restore the workspace for the next run
+			undo.initializeValidationData(monitor);
+			undo.perform(monitor);
+			change.dispose();
+			undo.dispose();
+		}
+		commitMeasurements();
+		allocations.report();
+		assertPerformance();
+	}
+}
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests.performance;
+
+import org.eclipse.search.tests.ResourceHelper;
+import org.junit.AfterClass;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+/*
+ * Tests quick search performance (automated). The size of the generated workspace is set by the
+ * system property org.eclipse.ui.tests.performance.files.
+ */
+@RunWith(Suite.class)
+@SuiteClasses({
+		QuickTextSearcherPerformanceTest.class
+})
+public class AllQuickSearchPerformanceTests {
+
+	@AfterClass
+	public static void deleteWorkspace() throws Exception {
+		ResourceHelper.deleteProject(QuickTextSearcherPerformanceTest.PROJECT_NAME);
+	}
+}
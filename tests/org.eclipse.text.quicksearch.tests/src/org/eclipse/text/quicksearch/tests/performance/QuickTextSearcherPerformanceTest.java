@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests.performance;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.IJobChangeListener;
+import org.eclipse.core.runtime.jobs.IJobManager;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.eclipse.text.quicksearch.internal.core.LineItem;
+import org.eclipse.text.quicksearch.internal.core.QuickTextQuery;
+import org.eclipse.text.quicksearch.internal.core.QuickTextSearchRequestor;
+import org.eclipse.text.quicksearch.internal.core.QuickTextSearcher;
+import org.eclipse.text.quicksearch.internal.core.ResourceWalker;
+import org.eclipse.text.quicksearch.internal.core.priority.DefaultPriorityFunction;
+import org.eclipse.ui.tests.harness.util.AllocationMeter;
+import org.eclipse.ui.tests.harness.util.SyntheticWorkspace;
+
+/**
+ * Measures the time of the quick search to the first result and to the completion of a search
+ * over a {@link SyntheticWorkspace}. Besides the time recorded by the performance framework,
+ * the allocations of a search are logged.
+ */
+public class QuickTextSearcherPerformanceTest extends PerformanceTestCase {
+
+	public static final String PROJECT_NAME = "QuickSearchPerformance";
+
+	private static final int WARM_UP_RUNS = 2;
+	private static final int RUNS = 10;
+	private static final int MAX_LINE_LENGTH = 1000;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		SyntheticWorkspace.create(PROJECT_NAME, SyntheticWorkspace.getFileCount());
+	}
+
+	public void testSearch() throws Exception {
+		tagAsSummary("Quick Search", Dimension.ELAPSED_PROCESS);
+		Performance performance = Performance.getDefault();
+		PerformanceMeter firstResultMeter = performance.createPerformanceMeter(performance.getDefaultScenarioId(this, "firstResult"));
+		AllocationMeter allocations = new AllocationMeter("Quick Search");
+		IJobManager jobManager = Job.getJobManager();
+		try {
+			int expected = -1;
+			for (int i = 0; i < WARM_UP_RUNS + RUNS; i++) {
+				boolean measure = i >= WARM_UP_RUNS;
+				CountDownLatch firstResult = new CountDownLatch(1);
+				CountDownLatch done = new CountDownLatch(1);
+				AtomicInteger matches = new AtomicInteger();
+				IJobChangeListener listener = new JobChangeAdapter() {
+					@Override
+					public void done(IJobChangeEvent event) {
+						if (event.getJob() instanceof ResourceWalker) {
+							done.countDown();
+						}
+					}
+				};
+				jobManager.addJobChangeListener(listener);
+				try {
+					if (measure) {
+						allocations.start();
+						firstResultMeter.start();
+						startMeasuring();
+					}
+					QuickTextSearcher searcher = new QuickTextSearcher(new QuickTextQuery(SyntheticWorkspace.NEEDLE, false), new DefaultPriorityFunction(), MAX_LINE_LENGTH, new QuickTextSearchRequestor() {
+						@Override
+						public void add(LineItem match) {
+							matches.incrementAndGet();
+							firstResult.countDown();
+						}
+					});
+					searcher.setMaxResults(Integer.MAX_VALUE);
+					assertTrue(firstResult.await(1, TimeUnit.MINUTES));
+					if (measure) {
+						firstResultMeter.stop();
+					}
+					assertTrue(done.await(10, TimeUnit.MINUTES));
+					if (measure) {
+						stopMeasuring();
+						allocations.stop();
+					}
+					assertTrue(searcher.isDone());
+				} finally {
+					jobManager.removeJobChangeListener(listener);
+				}
+				if (expected == -1) {
+					expected = matches.get();
+				} else {
+					assertEquals(expected, matches.get());
+				}
+			}
+			firstResultMeter.commit();
+			commitMeasurements();
+			allocations.report();
+			performance.assertPerformance(firstResultMeter);
+			assertPerformance();
+		} finally {
+			firstResultMeter.dispose();
+		}
+	}
+}
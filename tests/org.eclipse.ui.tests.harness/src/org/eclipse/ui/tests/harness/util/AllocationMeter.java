@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.harness.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+import org.eclipse.core.runtime.ILog;
+
+/**
+ * Measures the bytes allocated by all live threads of the VM between
+ * {@link #start()} and {@link #stop()}. Work that runs in jobs is allocated by
+ * worker threads, so the allocations of the calling thread alone are not
+ * meaningful. Allocations of threads that end while measuring are not counted.
+ * <p>
+ * Requires a VM that implements <code>com.sun.management.ThreadMXBean</code>;
+ * otherwise nothing is reported.
+ * </p>
+ */
+public class AllocationMeter {
+
+	private final String scenario;
+	private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+	private final Method getThreadAllocatedBytes;
+
+	private long startBytes;
+	private long startNanos;
+	private long bytes;
+	private long nanos;
+	private int runs;
+
+	/**
+	 * @param scenario the name of the measured scenario, used in the report
+	 */
+	public AllocationMeter(String scenario) {
+		this.scenario = scenario;
+		getThreadAllocatedBytes = findGetThreadAllocatedBytes(threadBean);
+	}
+
+	private static Method findGetThreadAllocatedBytes(ThreadMXBean bean) {
+		for (Class<?> type : bean.getClass().getInterfaces()) {
+			try {
+				return type.getMethod("getThreadAllocatedBytes", long[].class);
+			} catch (NoSuchMethodException e) {
+				// try next
+			}
+		}
+		return null;
+	}
+
+	public void start() {
+		startBytes = getAllocatedBytes();
+		startNanos = System.nanoTime();
+	}
+
+	public void stop() {
+		nanos += System.nanoTime() - startNanos;
+		bytes += getAllocatedBytes() - startBytes;
+		runs++;
+	}
+
+	private long getAllocatedBytes() {
+		if (getThreadAllocatedBytes == null) {
+			return 0;
+		}
+		try {
+			long[] allocated = (long[]) getThreadAllocatedBytes.invoke(threadBean, threadBean.getAllThreadIds());
+			long sum = 0;
+			for (long b : allocated) {
+				if (b > 0) {
+					sum += b;
+				}
+			}
+			return sum;
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns the average allocations per run and the allocation rate.
+	 *
+	 * @return the summary or <code>null</code> if nothing was measured
+	 */
+	public String getSummary() {
+		if (getThreadAllocatedBytes == null || runs == 0) {
+			return null;
+		}
+		double mbPerRun = bytes / (1024.0 * 1024.0) / runs;
+		double mbPerSecond = nanos == 0 ? 0 : bytes / (1024.0 * 1024.0) / (nanos / 1e9);
+		return String.format("%s: %.1f MB allocated per run, %.1f MB/s", scenario, Double.valueOf(mbPerRun),
+				Double.valueOf(mbPerSecond));
+	}
+
+	/**
+	 * Logs the {@link #getSummary() summary} as information to the log of the
+	 * test run.
+	 */
+	public void report() {
+		String summary = getSummary();
+		if (summary != null) {
+			ILog.of(AllocationMeter.class).info(summary);
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.harness.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Generates a project with many files of mixed sizes and encodings on disk. The contents are
+ * derived from a fixed seed, so every run works on the same workspace.
+ * <p>
+ * Per thousand files the project contains 20 binary files, one file larger than common read
+ * buffers and otherwise mostly small text files. Every text file contains the word
+ * {@link #NEEDLE} a few times. The folders alternate between the charsets UTF-8, ISO-8859-1 and
+ * UTF-16.
+ * </p>
+ */
+public class SyntheticWorkspace {
+
+	/** System property for the number of files to generate. */
+	public static final String FILE_COUNT_PROPERTY = "org.eclipse.ui.tests.performance.files";
+
+	public static final int DEFAULT_FILE_COUNT = 10_000;
+
+	/** Word contained in every text file. */
+	public static final String NEEDLE = "needle";
+
+	private static final int FILES_PER_FOLDER = 500;
+
+	private static final Charset[] CHARSETS = { StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16 };
+
+	private static final String[] WORDS = { "alpha", "beta", "gamma", "delta", "ärger", "straße", "return", "value", "index", "count", "buffer", "search" };
+
+	public static int getFileCount() {
+		return Integer.getInteger(FILE_COUNT_PROPERTY, DEFAULT_FILE_COUNT).intValue();
+	}
+
+	/**
+	 * Creates the project unless it exists already.
+	 *
+	 * @param projectName the name of the project
+	 * @param fileCount the number of files to generate
+	 * @return the project
+	 * @throws CoreException if the project could not be created
+	 * @throws IOException if a file could not be written
+	 */
+	public static IProject create(String projectName, int fileCount) throws CoreException, IOException {
+		IProject project = FileUtil.createProject(projectName);
+		project.refreshLocal(IResource.DEPTH_INFINITE, null);
+		if (project.getFolder("d0").exists()) {
+			return project;
+		}
+		Path root = project.getLocation().toFile().toPath();
+		Random random = new Random(fileCount);
+		int folderCount = (fileCount + FILES_PER_FOLDER - 1) / FILES_PER_FOLDER;
+		for (int f = 0; f < folderCount; f++) {
+			Path folder = Files.createDirectories(root.resolve("d" + f));
+			Charset charset = CHARSETS[f % CHARSETS.length];
+			int end = Math.min(fileCount, (f + 1) * FILES_PER_FOLDER);
+			for (int i = f * FILES_PER_FOLDER; i < end; i++) {
+				if (i % 1000 < 20) {
+					writeBinary(folder.resolve("f" + i + ".bin"), random);
+				} else {
+					writeText(folder.resolve("f" + i + ".txt"), charset, getTextSize(i, random), random);
+				}
+			}
+		}
+		project.refreshLocal(IResource.DEPTH_INFINITE, null);
+		for (int f = 0; f < folderCount; f++) {
+			IFolder folder = project.getFolder("d" + f);
+			folder.setDefaultCharset(CHARSETS[f % CHARSETS.length].name(), null);
+		}
+		return project;
+	}
+
+	private static int getTextSize(int index, Random random) {
+		if (index % 1000 == 999) {
+			return 2_000_000; // larger than common read buffers, read in chunks
+		}
+		int kind = random.nextInt(100);
+		if (kind < 70) {
+			return 500 + random.nextInt(4_000);
+		} else if (kind < 97) {
+			return 5_000 + random.nextInt(60_000);
+		}
+		return 100_000 + random.nextInt(400_000);
+	}
+
+	private static void writeText(Path path, Charset charset, int size, Random random) throws IOException {
+		StringBuilder buf = new StringBuilder(size + 100);
+		int line = 0;
+		while (buf.length() < size) {
+			if (line++ % 40 == 0) {
+				buf.append(NEEDLE).append(' ');
+			}
+			for (int w = 0; w < 8; w++) {
+				buf.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+			}
+			buf.append('\n');
+		}
+		Files.write(path, buf.toString().getBytes(charset));
+	}
+
+	private static void writeBinary(Path path, Random random) throws IOException {
+		byte[] content = new byte[1_000 + random.nextInt(100_000)];
+		random.nextBytes(content);
+		content[0] = 0;
+		try (OutputStream out = Files.newOutputStream(path)) {
+			out.write(content);
+		}
+	}
+
+	private SyntheticWorkspace() {
+	}
+}
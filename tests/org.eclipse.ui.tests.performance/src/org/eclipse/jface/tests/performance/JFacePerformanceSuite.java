@@ -44,6 +44,7 @@ public class JFacePerformanceSuite extends FilteredTestSuite {
 		addTestSuite(TreeAddTest.class);
 		addTestSuite(ProgressMonitorDialogPerformanceTest.class);
 		addTestSuite(ShrinkingTreeTest.class);
+		addTestSuite(TreeHashLookupTest.class);
 		addTestSuite(CollatorPerformanceTest.class);
 
 	}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.tests.performance;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Measures the operations of a tree viewer with hash lookup that depend on the
+ * element map, on a tree with many expanded items.
+ */
+public class TreeHashLookupTest extends TreeTest {
+
+	static final int FOLDERS = 100;
+
+	static final int FOLDER_SIZE = 1000;
+
+	static final int BATCH_SIZE = 1000;
+
+	public TreeHashLookupTest(String testName, int tagging) {
+		super(testName, tagging);
+	}
+
+	public TreeHashLookupTest(String testName) {
+		super(testName);
+	}
+
+	private TestTreeElement createExpandedInput() {
+		TestTreeElement input = new TestTreeElement(0, null);
+		input.createChildren(FOLDERS);
+		for (TestTreeElement folder : input.children) {
+			folder.createChildren(FOLDER_SIZE);
+		}
+		viewer.setInput(input);
+		viewer.expandAll();
+		processEvents();
+		return input;
+	}
+
+	/**
+	 * Test adding and removing children of an expanded folder.
+	 */
+	public void testAddRemove() throws CoreException {
+		openBrowser();
+		TestTreeElement input = createExpandedInput();
+		TestTreeElement folder = input.children[0];
+		TestTreeElement[] added = new TestTreeElement[BATCH_SIZE];
+		for (int i = 0; i < added.length; i++) {
+			added[i] = new TestTreeElement(FOLDER_SIZE + i, folder);
+		}
+
+		exercise(() -> {
+			startMeasuring();
+			viewer.add(folder, (Object[]) added);
+			viewer.remove((Object[]) added);
+			processEvents();
+			stopMeasuring();
+		}, MIN_ITERATIONS, ITERATIONS, JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test refreshing the whole expanded tree.
+	 */
+	public void testRefresh() throws CoreException {
+		tagIfNecessary("JFace - Refresh TreeViewer with 100000 expanded items", Dimension.ELAPSED_PROCESS);
+		openBrowser();
+		createExpandedInput();
+
+		exercise(() -> {
+			startMeasuring();
+			viewer.refresh();
+			processEvents();
+			stopMeasuring();
+		}, MIN_ITERATIONS, slowGTKIterations(), JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test looking up the items of all elements.
+	 */
+	public void testFindItems() throws CoreException {
+		openBrowser();
+		TestTreeElement input = createExpandedInput();
+
+		exercise(() -> {
+			startMeasuring();
+			for (TestTreeElement folder : input.children) {
+				for (TestTreeElement child : folder.children) {
+					viewer.testFindItems(child);
+				}
+			}
+			stopMeasuring();
+		}, MIN_ITERATIONS, ITERATIONS, JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test setting the input of a large tree, filling the element map from scratch.
+	 */
+	public void testSetInput() throws CoreException {
+		openBrowser();
+
+		exercise(() -> {
+			startMeasuring();
+			createExpandedInput();
+			stopMeasuring();
+		}, MIN_ITERATIONS, slowGTKIterations(), JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.tests.performance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.e4.ui.internal.workbench.E4XMIResource;
+import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * Compares the persisted formats of the workbench model: measures saving the
+ * model of the running workbench the way the workbench does on shutdown, and
+ * loading it again the way the workbench does on startup, once in XMI and once
+ * in the binary format.
+ */
+public class WorkbenchModelFormatTest extends BasicPerformanceTest {
+
+	public WorkbenchModelFormatTest(String testName) {
+		super(testName);
+	}
+
+	public void testSaveXMI() throws Exception {
+		measureSave(false);
+	}
+
+	public void testSaveBinary() throws Exception {
+		measureSave(true);
+	}
+
+	public void testLoadXMI() throws Exception {
+		measureLoad(false);
+	}
+
+	public void testLoadBinary() throws Exception {
+		measureLoad(true);
+	}
+
+	private void measureSave(boolean binary) throws Exception {
+		Resource resource = getModelResource();
+		Map<String, Object> options = getSaveOptions(binary);
+
+		exercise(() -> {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			startMeasuring();
+			save(resource, output, options);
+			stopMeasuring();
+		});
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void measureLoad(boolean binary) throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		save(getModelResource(), output, getSaveOptions(binary));
+		byte[] saved = output.toByteArray();
+
+		exercise(() -> {
+			E4XMIResource resource = new E4XMIResource();
+			startMeasuring();
+			try {
+				resource.load(new ByteArrayInputStream(saved), null);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			stopMeasuring();
+			assertEquals(1, resource.getContents().size());
+			resource.unload();
+		});
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private Resource getModelResource() {
+		MApplication application = fWorkbench.getService(MApplication.class);
+		Resource resource = ((EObject) application).eResource();
+		assertNotNull(resource);
+		return resource;
+	}
+
+	/**
+	 * Returns the options the workbench saves its model with.
+	 */
+	private static Map<String, Object> getSaveOptions(boolean binary) {
+		Map<String, Object> options = new HashMap<>();
+		options.put(E4XMIResource.OPTION_FILTER_PERSIST_STATE, Boolean.TRUE);
+		options.put(E4XMIResource.OPTION_BINARY_FORMAT, Boolean.valueOf(binary));
+		return options;
+	}
+
+	private static void save(Resource resource, ByteArrayOutputStream output, Map<String, Object> options) {
+		try {
+			resource.save(output, options);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2017 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,19 @@
 
 package org.eclipse.ui.tests.filteredtree;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.jface.tests.viewers.TestElement;
 import org.eclipse.jface.tests.viewers.TestModelContentProvider;
+import org.eclipse.jface.viewers.ILabelProvider;
 import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.layout.GridData;
@@ -26,8 +35,10 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.ui.dialogs.FilteredTree;
 import org.eclipse.ui.dialogs.PatternFilter;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
 import org.junit.After;
 import org.junit.Test;
 
@@ -38,6 +49,17 @@ public class FilteredTreeTests {
 	private static int DEPTH = 3;
 	private static int NUM_ITEMS = 20;
 
+	/**
+	 * Opts in to only testing the elements which were visible before when the
+	 * pattern is refined.
+	 */
+	private static class RefiningPatternFilter extends PatternFilter {
+		@Override
+		protected boolean isRefinementNarrowing() {
+			return true;
+		}
+	}
+
 	private class MyFilteredTree extends FilteredTree{
 		public MyFilteredTree(Composite comp, int style) {
 			super(comp);
@@ -132,6 +154,51 @@ public class FilteredTreeTests {
 		dialog.close();
 	}
 
+	/**
+	 * Typing into the filter text refines the pattern, which only tests the
+	 * elements that were visible before. The result must not differ from
+	 * filtering all elements.
+	 */
+	@Test
+	public void testRefinePatternWhileTyping() {
+		Dialog dialog = createFilteredTreeDialog(new RefiningPatternFilter(), new LabelProvider());
+
+		for (String pattern : new String[] { "0-1-1", "0-1-12", "0-1-1", "0-1-1-", "0-1-1-1 name", "0-1-1-1 name-1" }) {
+			typePattern(pattern);
+			List<String> visible = getVisibleLabels();
+			applyPattern(pattern);
+			assertEquals("visible elements for " + pattern, getVisibleLabels(), visible);
+		}
+		assertTrue(getVisibleLabels().contains("0-1-1-1 name-1"));
+
+		dialog.close();
+	}
+
+	/**
+	 * A trailing backslash escapes the wildcard appended to the pattern, so
+	 * appending to such a pattern does not refine it.
+	 */
+	@Test
+	public void testRefinePatternAfterTrailingBackslash() {
+		Dialog dialog = createFilteredTreeDialog(new RefiningPatternFilter(), new LabelProvider() {
+			@Override
+			public String getText(Object element) {
+				return super.getText(element).replace('-', '\\');
+			}
+		});
+
+		typePattern("0\\1\\1\\");
+		assertEquals("no label ends with a star", List.of(), getVisibleLabels());
+
+		typePattern("0\\1\\1\\1");
+		List<String> visible = getVisibleLabels();
+		assertTrue("matching element filtered: " + visible, visible.contains("0\\1\\1\\1 name\\1"));
+		applyPattern("0\\1\\1\\1");
+		assertEquals(getVisibleLabels(), visible);
+
+		dialog.close();
+	}
+
 	private void runFilteredTreeTest(final int treeStyle){
 		Dialog dialog = createFilteredTreeDialog(treeStyle);
 
@@ -146,12 +213,20 @@ public class FilteredTreeTests {
 	}
 
 	private Dialog createFilteredTreeDialog(final int treeStyle) {
+		return createFilteredTreeDialog(treeStyle, new PatternFilter(), new LabelProvider());
+	}
+
+	private Dialog createFilteredTreeDialog(PatternFilter filter, ILabelProvider labelProvider) {
+		return createFilteredTreeDialog(SWT.SINGLE | SWT.H_SCROLL | SWT.V_SCROLL | SWT.BORDER, filter, labelProvider);
+	}
+
+	private Dialog createFilteredTreeDialog(final int treeStyle, PatternFilter filter, ILabelProvider labelProvider) {
 		fRootElement = TestElement.createModel(DEPTH, NUM_ITEMS);
 
 		Dialog dialog = new FilteredTreeDialog((Shell)null, treeStyle){
 			@Override
 			protected FilteredTree doCreateFilteredTree(Composite comp, int style) {
-				return createFilteredTree(comp, treeStyle);
+				return createFilteredTree(comp, treeStyle, filter, labelProvider);
 			}
 		};
 
@@ -159,17 +234,18 @@ public class FilteredTreeTests {
 		return dialog;
 	}
 
-	private FilteredTree createFilteredTree(Composite parent, int style){
+	private FilteredTree createFilteredTree(Composite parent, int style, PatternFilter filter,
+			ILabelProvider labelProvider) {
 		Composite c = new Composite(parent, SWT.NONE);
 		c.setLayout(new GridLayout());
-		FilteredTree fTree = new FilteredTree(c, style, new PatternFilter());
+		FilteredTree fTree = new FilteredTree(c, style, filter);
 
 		GridData gd = new GridData(SWT.FILL, SWT.FILL, true, true);
 		gd.widthHint = 400;
 		gd.heightHint = 500;
 		fTree.setLayoutData(gd);
 		fTree.getViewer().setContentProvider(new TestModelContentProvider());
-		fTree.getViewer().setLabelProvider(new LabelProvider());
+		fTree.getViewer().setLabelProvider(labelProvider);
 
 		return fTree;
 	}
@@ -198,6 +274,26 @@ public class FilteredTreeTests {
 		fTreeViewer.getViewer().refresh();
 	}
 
+	private void typePattern(String pattern) {
+		fTreeViewer.getFilterControl().setText(pattern);
+		DisplayHelper.waitForCondition(fTreeViewer.getDisplay(), 5000, () -> Arrays
+				.stream(Job.getJobManager().find(null)).noneMatch(job -> "Refresh Filter".equals(job.getName())));
+	}
+
+	private List<String> getVisibleLabels() {
+		fTreeViewer.getViewer().expandAll();
+		List<String> labels = new ArrayList<>();
+		collectLabels(fTreeViewer.getViewer().getTree().getItems(), labels);
+		return labels;
+	}
+
+	private void collectLabels(TreeItem[] items, List<String> labels) {
+		for (TreeItem item : items) {
+			labels.add(item.getText());
+			collectLabels(item.getItems(), labels);
+		}
+	}
+
 	private void setInput() {
 		fTreeViewer.getViewer().setInput(fRootElement);
 	}